@@ -0,0 +1,342 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Annotation processor generating an object accessor for every class annotated with <code>CsvDataType</code>,
+ * <code>FlrDataType</code> or <code>XmlDataType</code>.
+ * <p>
+ * The generated accessor for the class <code>a.b.Foo</code> is named <code>a.b.Foo_JSefaAccessor</code> and is
+ * picked up at runtime by <code>org.jsefa.common.accessor.GeneratedObjectAccessorProvider</code> if this provider
+ * is configured (it is not used by default). It creates objects and accesses fields directly whenever this is
+ * allowed from within the package of the class. All other fields (e. g. private ones) are accessed using the
+ * reflection based accessor, so the generated accessor always behaves like the reflection based one.
+ * <p>
+ * Classes which can not be referenced from within their own package (e. g. private nested classes) are skipped.
+ * <p>
+ * The generated accessor finds a field by switching over the hash code of its name. A <code>null</code> value for
+ * a field of a primitive type is passed to the reflection based accessor, so it is treated exactly as without a
+ * generated accessor.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ */
+@SupportedAnnotationTypes({"org.jsefa.csv.annotation.CsvDataType", "org.jsefa.flr.annotation.FlrDataType",
+        "org.jsefa.xml.annotation.XmlDataType"})
+public final class ObjectAccessorProcessor extends AbstractProcessor {
+
+    /**
+     * The suffix appended to the binary name of a class to get the name of its generated object accessor. Must
+     * be the same as <code>GeneratedObjectAccessorProvider.GENERATED_ACCESSOR_SUFFIX</code>.
+     */
+    public static final String GENERATED_ACCESSOR_SUFFIX = "_JSefaAccessor";
+
+    private final Set<String> processedTypeNames = new HashSet<String>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    continue;
+                }
+                TypeElement type = (TypeElement) element;
+                String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+                if (this.processedTypeNames.add(binaryName) && isReferenceable(type)) {
+                    generate(type, binaryName);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type, String binaryName) {
+        PackageElement thePackage = this.processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = thePackage.getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String accessorSimpleName = binaryName.substring(binaryName.lastIndexOf('.') + 1)
+                + GENERATED_ACCESSOR_SUFFIX;
+
+        List<VariableElement> fields = getDirectlyAccessibleFields(type, thePackage);
+
+        StringBuilder code = new StringBuilder();
+        if (packageName.length() > 0) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("/**\n * Object accessor for {@link ").append(typeName).append("}.\n");
+        code.append(" * <p>\n * Generated by ").append(getClass().getName()).append(" - do not edit.\n */\n");
+        code.append("@SuppressWarnings(\"unchecked\")\n");
+        code.append("public final class ").append(accessorSimpleName).append(
+                " implements org.jsefa.common.accessor.ObjectAccessor {\n\n");
+        code.append("    private volatile org.jsefa.common.accessor.ObjectAccessor fallback;\n\n");
+
+        code.append("    public Object createObject() {\n");
+        if (canCreateDirectly(type, thePackage)) {
+            code.append("        return new ").append(typeName).append("();\n");
+        } else {
+            code.append("        return fallback().createObject();\n");
+        }
+        code.append("    }\n\n");
+
+        code.append("    public Object getValue(Object object, String fieldName) {\n");
+        if (!fields.isEmpty()) {
+            code.append("        ").append(typeName).append(" target = (").append(typeName).append(") object;\n");
+            code.append("        switch (fieldName.hashCode()) {\n");
+            for (Map.Entry<Integer, List<VariableElement>> entry : groupByNameHashCode(fields).entrySet()) {
+                code.append("        case ").append(entry.getKey()).append(":\n");
+                for (VariableElement field : entry.getValue()) {
+                    code.append("            if (\"").append(field.getSimpleName()).append("\".equals(fieldName)) {\n");
+                    code.append("                return target.").append(field.getSimpleName()).append(";\n");
+                    code.append("            }\n");
+                }
+                code.append("            break;\n");
+            }
+            code.append("        default:\n");
+            code.append("            break;\n");
+            code.append("        }\n");
+        }
+        code.append("        return fallback().getValue(object, fieldName);\n");
+        code.append("    }\n\n");
+
+        List<VariableElement> writableFields = new ArrayList<VariableElement>();
+        for (VariableElement field : fields) {
+            if (!field.getModifiers().contains(Modifier.FINAL)) {
+                writableFields.add(field);
+            }
+        }
+        code.append("    public void setValue(Object object, String fieldName, Object value) {\n");
+        if (!writableFields.isEmpty()) {
+            code.append("        ").append(typeName).append(" target = (").append(typeName).append(") object;\n");
+            code.append("        switch (fieldName.hashCode()) {\n");
+            for (Map.Entry<Integer, List<VariableElement>> entry : groupByNameHashCode(writableFields).entrySet()) {
+                code.append("        case ").append(entry.getKey()).append(":\n");
+                for (VariableElement field : entry.getValue()) {
+                    String indent = "                ";
+                    code.append("            if (\"").append(field.getSimpleName()).append("\".equals(fieldName)) {\n");
+                    if (field.asType().getKind().isPrimitive()) {
+                        code.append("                if (value != null) {\n");
+                        indent = "                    ";
+                    }
+                    code.append(indent).append("target.").append(field.getSimpleName()).append(" = (").append(
+                            getCastTypeName(field.asType())).append(") value;\n");
+                    code.append(indent).append("return;\n");
+                    if (field.asType().getKind().isPrimitive()) {
+                        code.append("                }\n");
+                        code.append("                break;\n");
+                    }
+                    code.append("            }\n");
+                }
+                code.append("            break;\n");
+            }
+            code.append("        default:\n");
+            code.append("            break;\n");
+            code.append("        }\n");
+        }
+        code.append("        fallback().setValue(object, fieldName, value);\n");
+        code.append("    }\n\n");
+
+        code.append("    private org.jsefa.common.accessor.ObjectAccessor fallback() {\n");
+        code.append("        org.jsefa.common.accessor.ObjectAccessor result = this.fallback;\n");
+        code.append("        if (result == null) {\n");
+        code.append("            result = new org.jsefa.common.accessor.ReflectionBasedObjectAccessorProvider().get(")
+                .append(typeName).append(".class);\n");
+        code.append("            this.fallback = result;\n");
+        code.append("        }\n");
+        code.append("        return result;\n");
+        code.append("    }\n\n");
+        code.append("}\n");
+
+        String accessorName = binaryName + GENERATED_ACCESSOR_SUFFIX;
+        try {
+            Writer writer = this.processingEnv.getFiler().createSourceFile(accessorName, type).openWriter();
+            try {
+                writer.write(code.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Kind.ERROR,
+                    "Could not write the object accessor " + accessorName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Groups the given fields by the hash code of their names, so that the generated accessor can find a field
+     * with a single <code>switch</code> instead of comparing the name with every field name.
+     */
+    private Map<Integer, List<VariableElement>> groupByNameHashCode(List<VariableElement> fields) {
+        Map<Integer, List<VariableElement>> groups = new TreeMap<Integer, List<VariableElement>>();
+        for (VariableElement field : fields) {
+            Integer hashCode = field.getSimpleName().toString().hashCode();
+            List<VariableElement> group = groups.get(hashCode);
+            if (group == null) {
+                group = new ArrayList<VariableElement>();
+                groups.put(hashCode, group);
+            }
+            group.add(field);
+        }
+        return groups;
+    }
+
+    /**
+     * Returns the fields of the given type and its super types which can be accessed directly from within the
+     * given package. Fields whose name is declared more than once within the type hierarchy are omitted.
+     */
+    private List<VariableElement> getDirectlyAccessibleFields(TypeElement type, PackageElement thePackage) {
+        Map<String, VariableElement> fields = new LinkedHashMap<String, VariableElement>();
+        Set<String> ambiguousNames = new HashSet<String>();
+        TypeElement currentType = type;
+        while (currentType != null) {
+            for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                String name = field.getSimpleName().toString();
+                if (fields.containsKey(name) || ambiguousNames.contains(name)) {
+                    fields.remove(name);
+                    ambiguousNames.add(name);
+                } else if (isDirectlyAccessible(field, currentType, thePackage)) {
+                    fields.put(name, field);
+                } else {
+                    ambiguousNames.add(name);
+                }
+            }
+            TypeMirror superType = currentType.getSuperclass();
+            if (superType.getKind() == TypeKind.DECLARED) {
+                currentType = (TypeElement) ((DeclaredType) superType).asElement();
+            } else {
+                currentType = null;
+            }
+        }
+        return new ArrayList<VariableElement>(fields.values());
+    }
+
+    private boolean isDirectlyAccessible(VariableElement field, TypeElement declaringType, PackageElement thePackage) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (!modifiers.contains(Modifier.PUBLIC) && !isInPackage(declaringType, thePackage)) {
+            return false;
+        }
+        return isAccessible(declaringType, thePackage) && isAccessible(field.asType(), thePackage);
+    }
+
+    private boolean canCreateDirectly(TypeElement type, PackageElement thePackage) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return !constructor.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the given type can be referenced from within its own package.
+     */
+    private boolean isReferenceable(TypeElement type) {
+        Element current = type;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            Element enclosing = current.getEnclosingElement();
+            if (enclosing.getKind() != ElementKind.PACKAGE && !current.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return current.getKind() == ElementKind.PACKAGE;
+    }
+
+    private boolean isAccessible(TypeMirror typeMirror, PackageElement thePackage) {
+        TypeMirror erasure = this.processingEnv.getTypeUtils().erasure(typeMirror);
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) erasure).getComponentType(), thePackage);
+        }
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return isAccessible((TypeElement) ((DeclaredType) erasure).asElement(), thePackage);
+        }
+        return erasure.getKind().isPrimitive();
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement thePackage) {
+        Element current = type;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || (!modifiers.contains(Modifier.PUBLIC) && !isInPackage(current, thePackage))) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isInPackage(Element element, PackageElement thePackage) {
+        return this.processingEnv.getElementUtils().getPackageOf(element).equals(thePackage);
+    }
+
+    private String getCastTypeName(TypeMirror typeMirror) {
+        if (typeMirror.getKind().isPrimitive()) {
+            return this.processingEnv.getTypeUtils().boxedClass((PrimitiveType) typeMirror).getQualifiedName()
+                    .toString();
+        }
+        return this.processingEnv.getTypeUtils().erasure(typeMirror).toString();
+    }
+
+}
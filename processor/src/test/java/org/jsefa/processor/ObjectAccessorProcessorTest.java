@@ -0,0 +1,158 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.processor;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.accessor.ObjectAccessor;
+
+/**
+ * Tests to test the {@link ObjectAccessorProcessor} by compiling an annotated class and using the generated
+ * object accessor.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ */
+public class ObjectAccessorProcessorTest extends TestCase {
+
+    private static final String SOURCE = "package p;\n"
+            + "@org.jsefa.csv.annotation.CsvDataType()\n"
+            + "public class Dto {\n"
+            + "    String text;\n"
+            + "    int number;\n"
+            + "    private String hidden;\n"
+            + "    final String constant = \"c\";\n"
+            + "    // the names Aa and BB have the same hash code\n"
+            + "    String Aa;\n"
+            + "    String BB;\n"
+            + "}\n";
+
+    private File directory;
+
+    private ObjectAccessor accessor;
+
+    private Class<?> dtoType;
+
+    @Override
+    protected void setUp() throws Exception {
+        this.directory = File.createTempFile("jsefa-processor", "");
+        this.directory.delete();
+        File sourceDirectory = new File(this.directory, "p");
+        sourceDirectory.mkdirs();
+        File sourceFile = new File(sourceDirectory, "Dto.java");
+        Writer writer = new FileWriter(sourceFile);
+        try {
+            writer.write(SOURCE);
+        } finally {
+            writer.close();
+        }
+        compile(sourceFile);
+        ClassLoader classLoader = new URLClassLoader(new URL[] {this.directory.toURI().toURL()},
+                getClass().getClassLoader());
+        this.dtoType = classLoader.loadClass("p.Dto");
+        this.accessor = (ObjectAccessor) classLoader.loadClass(
+                "p.Dto" + ObjectAccessorProcessor.GENERATED_ACCESSOR_SUFFIX).newInstance();
+    }
+
+    @Override
+    protected void tearDown() {
+        delete(this.directory);
+    }
+
+    /**
+     * Tests that objects are created and fields are set and read.
+     */
+    public void testAccess() {
+        Object dto = this.accessor.createObject();
+        assertSame(this.dtoType, dto.getClass());
+        this.accessor.setValue(dto, "text", "value");
+        this.accessor.setValue(dto, "number", 42);
+        this.accessor.setValue(dto, "Aa", "a");
+        this.accessor.setValue(dto, "BB", "b");
+        assertEquals("value", this.accessor.getValue(dto, "text"));
+        assertEquals(42, this.accessor.getValue(dto, "number"));
+        assertEquals("a", this.accessor.getValue(dto, "Aa"));
+        assertEquals("b", this.accessor.getValue(dto, "BB"));
+        assertEquals("c", this.accessor.getValue(dto, "constant"));
+    }
+
+    /**
+     * Tests that fields which are not accessible directly are accessed using reflection.
+     */
+    public void testFallback() {
+        Object dto = this.accessor.createObject();
+        this.accessor.setValue(dto, "hidden", "secret");
+        assertEquals("secret", this.accessor.getValue(dto, "hidden"));
+    }
+
+    /**
+     * Tests that a null value for a primitive field is treated as by the reflection based accessor.
+     */
+    public void testNullForPrimitiveField() {
+        Object dto = this.accessor.createObject();
+        this.accessor.setValue(dto, "number", 42);
+        try {
+            this.accessor.setValue(dto, "number", null);
+            fail();
+        } catch (NullPointerException e) {
+            fail("The generated accessor must not unbox null");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        assertEquals(42, this.accessor.getValue(dto, "number"));
+    }
+
+    private void compile(File sourceFile) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        try {
+            String classPath = new File(ObjectAccessor.class.getProtectionDomain().getCodeSource().getLocation()
+                    .getPath()).getPath();
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(sourceFile);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, Arrays.asList("-d",
+                    this.directory.getPath(), "-cp", classPath), null, units);
+            task.setProcessors(Collections.singletonList(new ObjectAccessorProcessor()));
+            assertTrue(task.call());
+        } finally {
+            fileManager.close();
+        }
+    }
+
+    private void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.accessor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Implementation of {@link ObjectAccessorProvider} which uses object accessors generated at compile time by the
+ * JSefa annotation processor (module jsefa-processor) if present and falls back to the reflection based ones
+ * otherwise.
+ * <p>
+ * This provider is not used by default. To use it, set it using
+ * {@link org.jsefa.common.config.Configuration#setObjectAccessorProvider} or bind its class to the initial
+ * configuration parameter
+ * {@link org.jsefa.common.config.InitialConfigurationParameters#OBJECT_ACCESSOR_PROVIDER_CLASS}.
+ * <p>
+ * The classes for which no generated accessor exists are remembered process-wide (without preventing them from
+ * being garbage collected), so that the lookup of the generated accessor fails only once per class even if a new
+ * provider is created per configuration.
+ * <p>
+ * The generated accessor for the class <code>a.b.Foo</code> must be named <code>a.b.Foo_JSefaAccessor</code>,
+ * must implement {@link ObjectAccessor} and must have a public default constructor. For a nested class
+ * <code>a.b.Foo.Bar</code> it must be named <code>a.b.Foo$Bar_JSefaAccessor</code>.
+ * <p>
+ * This implementation is thread-safe.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ */
+public final class GeneratedObjectAccessorProvider extends AbstractObjectAccessorProvider {
+
+    /**
+     * The suffix appended to the binary name of a class to get the name of its generated object accessor.
+     */
+    public static final String GENERATED_ACCESSOR_SUFFIX = "_JSefaAccessor";
+
+    private static final Map<Class<?>, Boolean> TYPES_WITHOUT_GENERATED_ACCESSOR = Collections
+            .synchronizedMap(new WeakHashMap<Class<?>, Boolean>());
+
+    private final ReflectionBasedObjectAccessorProvider fallbackProvider = new ReflectionBasedObjectAccessorProvider();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ObjectAccessor create(Class<?> objectType) {
+        ObjectAccessor objectAccessor = createGenerated(objectType);
+        if (objectAccessor == null) {
+            objectAccessor = this.fallbackProvider.create(objectType);
+        }
+        return objectAccessor;
+    }
+
+    private ObjectAccessor createGenerated(Class<?> objectType) {
+        ClassLoader classLoader = objectType.getClassLoader();
+        if (classLoader == null || TYPES_WITHOUT_GENERATED_ACCESSOR.containsKey(objectType)) {
+            return null;
+        }
+        Class<?> accessorType;
+        try {
+            accessorType = Class.forName(objectType.getName() + GENERATED_ACCESSOR_SUFFIX, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            TYPES_WITHOUT_GENERATED_ACCESSOR.put(objectType, Boolean.TRUE);
+            return null;
+        }
+        if (!ObjectAccessor.class.isAssignableFrom(accessorType)) {
+            throw new ObjectAccessException("The generated accessor " + accessorType.getName()
+                    + " does not implement " + ObjectAccessor.class.getName());
+        }
+        try {
+            return (ObjectAccessor) accessorType.newInstance();
+        } catch (Exception e) {
+            throw new ObjectAccessException("Could not instantiate the generated accessor "
+                    + accessorType.getName(), e);
+        }
+    }
+
+}
@@ -59,6 +59,11 @@ public interface AnnotationParameterNames {
      */
     String CONVERTER_TYPE = "converterType";
 
+    /**
+     * Name of the annotation parameter used to denote the size of the cache of converted values.
+     */
+    String CACHE_SIZE = "cacheSize";
+
     /**
      * Name of the annotation parameter used to denote a text mode.
      */
@@ -16,6 +16,7 @@
 
 package org.jsefa.common.annotation;
 
+import static org.jsefa.common.annotation.AnnotationParameterNames.CACHE_SIZE;
 import static org.jsefa.common.annotation.AnnotationParameterNames.CONVERTER_TYPE;
 import static org.jsefa.common.annotation.AnnotationParameterNames.FORMAT;
 import static org.jsefa.common.annotation.AnnotationParameterNames.LIST_ITEM;
@@ -27,6 +28,7 @@ import java.util.Collection;
 import java.util.Map;
 
 import org.jsefa.common.accessor.ObjectAccessorProvider;
+import org.jsefa.common.converter.CachingConverter;
 import org.jsefa.common.converter.SimpleTypeConverter;
 import org.jsefa.common.converter.provider.SimpleTypeConverterProvider;
 import org.jsefa.common.mapping.SimpleTypeMapping;
@@ -148,16 +150,40 @@ public abstract class TypeMappingFactory<N, R extends TypeMappingRegistry<N>> {
     }
 
     /**
-     * Creates a simple type converter.
+     * Creates a simple type converter. If the annotation declares a positive cache size or if the simple type
+     * converter provider has a positive default cache size, the converter is decorated with a
+     * {@link CachingConverter} provided that the values of the object type are cacheable.
      * 
      * @param objectType the object type to create a converter for
      * @param field the field to create a converter for. May be null.
      * @param annotation the annotation providing parameters for constructing the converter. May be null.
      * @return a simple type converter
      */
-    @SuppressWarnings("unchecked")
     protected final SimpleTypeConverter createSimpleTypeConverter(Class<?> objectType, Field field,
             Annotation annotation) {
+        SimpleTypeConverter converter = createUncachedSimpleTypeConverter(objectType, field, annotation);
+        Integer cacheSize = null;
+        if (annotation != null && AnnotationDataProvider.hasParameter(annotation.annotationType(), CACHE_SIZE)) {
+            cacheSize = AnnotationDataProvider.get(annotation, CACHE_SIZE);
+        }
+        if (cacheSize == null || cacheSize < 0) {
+            if (!CachingConverter.isCacheable(objectType)) {
+                return converter;
+            }
+            cacheSize = getSimpleTypeConverterProvider().getConverterCacheSize();
+        } else if (cacheSize > 0 && !CachingConverter.isCacheable(objectType)) {
+            throw new AnnotationException("The values of field " + field.getName() + " of type "
+                    + objectType.getName() + " can not be cached");
+        }
+        if (cacheSize == 0) {
+            return converter;
+        }
+        return CachingConverter.create(converter, objectType, cacheSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SimpleTypeConverter createUncachedSimpleTypeConverter(Class<?> objectType, Field field,
+            Annotation annotation) {
         String[] format = null;
         SimpleTypeConverter itemTypeConverter = null;
         if (annotation != null) {
@@ -35,6 +35,7 @@ import org.jsefa.common.accessor.ObjectAccessor;
 import org.jsefa.common.accessor.ObjectAccessorProvider;
 import org.jsefa.common.util.ReflectionUtil;
 import org.jsefa.common.validator.ValidationError;
+import org.jsefa.common.validator.ValidationErrors;
 import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.common.validator.Validator;
 import org.jsefa.common.validator.provider.ValidatorProvider;
@@ -143,21 +144,21 @@ public final class ValidatorFactory {
 
     private static final class RequiredFieldsValidator implements Validator {
 
-        private List<String> requiredFieldNames;
+        private final String[] requiredFieldNames;
 
-        private ObjectAccessor objectAccessor;
+        private final ObjectAccessor objectAccessor;
 
         private RequiredFieldsValidator(ObjectAccessor objectAccessor, List<String> requiredFieldNames) {
             this.objectAccessor = objectAccessor;
-            this.requiredFieldNames = requiredFieldNames;
+            this.requiredFieldNames = requiredFieldNames.toArray(new String[requiredFieldNames.size()]);
         }
 
         public ValidationResult validate(Object value) {
-            List<ValidationError> errors = new ArrayList<ValidationError>();
+            List<ValidationError> errors = null;
             for (String fieldName : this.requiredFieldNames) {
                 if (this.objectAccessor.getValue(value, fieldName) == null) {
-                    String errorText = "The field " + fieldName + " is required but no value is present";
-                    errors.add(ValidationError.create(MISSING_VALUE, errorText,
+                    Object[] errorText = {"The field ", fieldName, " is required but no value is present"};
+                    errors = ValidationErrors.add(errors, ValidationError.create(MISSING_VALUE, errorText,
                             new ObjectPathElement(value.getClass(), fieldName)));
                 }
             }
@@ -174,9 +175,9 @@ public final class ValidatorFactory {
         }
 
         public ValidationResult validate(Object value) {
-            List<ValidationError> errors = new ArrayList<ValidationError>();
+            List<ValidationError> errors = null;
             for (Object item : (List<?>) value) {
-                errors.addAll(this.itemValidator.validate(item).getErrors());
+                errors = ValidationErrors.addAll(errors, this.itemValidator.validate(item));
             }
             return ValidationResult.create(errors);
         }
@@ -194,10 +195,7 @@ public final class ValidatorFactory {
         }
 
         public ValidationResult validate(Object value) {
-            List<ValidationError> errors = new ArrayList<ValidationError>();
-            errors.addAll(validatorA.validate(value).getErrors());
-            errors.addAll(validatorB.validate(value).getErrors());
-            return ValidationResult.create(errors);
+            return ValidationErrors.combine(validatorA.validate(value), validatorB.validate(value));
         }
 
     }
@@ -17,18 +17,28 @@
 package org.jsefa.common.config;
 
 import static org.jsefa.common.config.Configuration.Defaults.DEFAULT_SIMPLE_TYPE_CONVERTER_PROVIDER_PROVIDER;
+import static org.jsefa.common.config.Configuration.Defaults.DEFAULT_VALIDATION_BATCH_SIZE;
+import static org.jsefa.common.config.Configuration.Defaults.DEFAULT_VALIDATION_ERROR_BUDGET;
+import static org.jsefa.common.config.Configuration.Defaults.DEFAULT_VALIDATION_ERROR_MODE;
 import static org.jsefa.common.config.Configuration.Defaults.DEFAULT_VALIDATION_MODE;
+import static org.jsefa.common.config.Configuration.Defaults.DEFAULT_VALIDATION_TASK_SIZE;
 import static org.jsefa.common.config.Configuration.Defaults.DEFAULT_VALIDATOR_PROVIDER_PROVIDER;
 import static org.jsefa.common.config.InitialConfigurationParameters.OBJECT_ACCESSOR_PROVIDER_CLASS;
 import static org.jsefa.common.config.InitialConfigurationParameters.SIMPLE_TYPE_CONVERTER_PROVIDER;
+import static org.jsefa.common.config.InitialConfigurationParameters.VALIDATION_BATCH_SIZE;
+import static org.jsefa.common.config.InitialConfigurationParameters.VALIDATION_ERROR_BUDGET;
+import static org.jsefa.common.config.InitialConfigurationParameters.VALIDATION_ERROR_MODE;
 import static org.jsefa.common.config.InitialConfigurationParameters.VALIDATION_MODE;
+import static org.jsefa.common.config.InitialConfigurationParameters.VALIDATION_TASK_SIZE;
 import static org.jsefa.common.config.InitialConfigurationParameters.VALIDATOR_PROVIDER;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.jsefa.Deserializer;
 import org.jsefa.IOFactory;
@@ -36,11 +46,18 @@ import org.jsefa.Serializer;
 import org.jsefa.common.accessor.ObjectAccessorProvider;
 import org.jsefa.common.accessor.ReflectionBasedObjectAccessorProvider;
 import org.jsefa.common.converter.BigDecimalConverter;
+import org.jsefa.common.converter.BigIntegerConverter;
 import org.jsefa.common.converter.BooleanConverter;
+import org.jsefa.common.converter.ByteConverter;
+import org.jsefa.common.converter.CharacterConverter;
 import org.jsefa.common.converter.DateConverter;
+import org.jsefa.common.converter.DoubleConverter;
 import org.jsefa.common.converter.EnumConverter;
+import org.jsefa.common.converter.FloatConverter;
 import org.jsefa.common.converter.IntegerConverter;
 import org.jsefa.common.converter.LongConverter;
+import org.jsefa.common.converter.PrimitiveArrayConverter;
+import org.jsefa.common.converter.ShortConverter;
 import org.jsefa.common.converter.SimpleListConverter;
 import org.jsefa.common.converter.SimpleTypeConverter;
 import org.jsefa.common.converter.StringConverter;
@@ -49,6 +66,7 @@ import org.jsefa.common.mapping.EntryPoint;
 import org.jsefa.common.mapping.TypeMappingRegistry;
 import org.jsefa.common.util.OnDemandObjectProvider;
 import org.jsefa.common.util.ReflectionUtil;
+import org.jsefa.common.validator.BatchValidator;
 import org.jsefa.common.validator.BigDecimalValidator;
 import org.jsefa.common.validator.CollectionValidator;
 import org.jsefa.common.validator.IntegerValidator;
@@ -84,6 +102,16 @@ public abstract class Configuration<R extends TypeMappingRegistry<?>, E extends
     
     private ValidationMode validationMode;
 
+    private ValidationErrorMode validationErrorMode;
+
+    private Integer validationErrorBudget;
+
+    private Executor validationExecutor;
+
+    private Integer validationBatchSize;
+
+    private Integer validationTaskSize;
+
     /**
      * Constructs a new <code>Configuration</code>.
      */
@@ -103,6 +131,11 @@ public abstract class Configuration<R extends TypeMappingRegistry<?>, E extends
         setTypeMappingRegistry((R) other.getTypeMappingRegistry().createCopy());
         setEntryPoints(new ArrayList<E>(other.getEntryPoints()));
         setValidationMode(other.getValidationMode());
+        setValidationErrorMode(other.getValidationErrorMode());
+        setValidationErrorBudget(other.getValidationErrorBudget());
+        setValidationExecutor(other.getValidationExecutor());
+        setValidationBatchSize(other.getValidationBatchSize());
+        setValidationTaskSize(other.getValidationTaskSize());
     }
 
     /**
@@ -206,6 +239,82 @@ public abstract class Configuration<R extends TypeMappingRegistry<?>, E extends
         return this.validationMode;
     }
 
+    /**
+     * Returns the validation error mode.
+     * 
+     * @return the validation error mode
+     */
+    public final ValidationErrorMode getValidationErrorMode() {
+        if (this.validationErrorMode == null) {
+            this.validationErrorMode = InitialConfiguration.get(VALIDATION_ERROR_MODE, DEFAULT_VALIDATION_ERROR_MODE);
+        }
+        return this.validationErrorMode;
+    }
+
+    /**
+     * Returns the maximum number of validation errors to collect if the validation error mode is
+     * {@link ValidationErrorMode#ERROR_BUDGET}.
+     * 
+     * @return the validation error budget
+     */
+    public final int getValidationErrorBudget() {
+        if (this.validationErrorBudget == null) {
+            this.validationErrorBudget = InitialConfiguration.get(VALIDATION_ERROR_BUDGET,
+                    DEFAULT_VALIDATION_ERROR_BUDGET);
+        }
+        return this.validationErrorBudget;
+    }
+
+    /**
+     * Returns the maximum number of validation errors to collect for a value according to the validation error
+     * mode.
+     * 
+     * @return the maximum number of validation errors
+     */
+    public final int getValidationErrorLimit() {
+        return getValidationErrorMode().getErrorLimit(getValidationErrorBudget());
+    }
+
+    /**
+     * Returns the executor used for validating deserialized values in parallel.
+     * <p>
+     * If an executor is given and the validation mode includes deserialization, a deserializer reads up to
+     * {@link #getValidationBatchSize()} values ahead and validates them in parallel using a {@link BatchValidator}
+     * before returning them in input order. An invalid value causes a <code>DeserializationException</code>
+     * when it is its turn, so the behavior differs from the inline validation only in that the input position
+     * and the stored lines of the deserializer refer to the values read ahead.
+     * 
+     * @return the validation executor or null if values are validated inline
+     */
+    public final Executor getValidationExecutor() {
+        return this.validationExecutor;
+    }
+
+    /**
+     * Returns the maximum number of values a deserializer reads ahead for validating them together.
+     * 
+     * @return the validation batch size
+     */
+    public final int getValidationBatchSize() {
+        if (this.validationBatchSize == null) {
+            this.validationBatchSize = InitialConfiguration.get(VALIDATION_BATCH_SIZE,
+                    DEFAULT_VALIDATION_BATCH_SIZE);
+        }
+        return this.validationBatchSize;
+    }
+
+    /**
+     * Returns the maximum number of values validated within one task of the validation executor.
+     * 
+     * @return the validation task size
+     */
+    public final int getValidationTaskSize() {
+        if (this.validationTaskSize == null) {
+            this.validationTaskSize = InitialConfiguration.get(VALIDATION_TASK_SIZE, DEFAULT_VALIDATION_TASK_SIZE);
+        }
+        return this.validationTaskSize;
+    }
+
     /**
      * Sets the <code>ObjectAccessorProvider</code>.
      * 
@@ -241,6 +350,52 @@ public abstract class Configuration<R extends TypeMappingRegistry<?>, E extends
         this.validationMode = validationMode;
     }
 
+    /**
+     * Sets the validation error mode.
+     * 
+     * @param validationErrorMode the validation error mode
+     */
+    public final void setValidationErrorMode(ValidationErrorMode validationErrorMode) {
+        this.validationErrorMode = validationErrorMode;
+    }
+
+    /**
+     * Sets the maximum number of validation errors to collect if the validation error mode is
+     * {@link ValidationErrorMode#ERROR_BUDGET}.
+     * 
+     * @param validationErrorBudget the validation error budget
+     */
+    public final void setValidationErrorBudget(int validationErrorBudget) {
+        this.validationErrorBudget = validationErrorBudget;
+    }
+
+    /**
+     * Sets the executor used for validating deserialized values in parallel.
+     * 
+     * @param validationExecutor the validation executor or null if values should be validated inline
+     */
+    public final void setValidationExecutor(Executor validationExecutor) {
+        this.validationExecutor = validationExecutor;
+    }
+
+    /**
+     * Sets the maximum number of values a deserializer reads ahead for validating them together.
+     * 
+     * @param validationBatchSize the validation batch size
+     */
+    public final void setValidationBatchSize(int validationBatchSize) {
+        this.validationBatchSize = validationBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of values validated within one task of the validation executor.
+     * 
+     * @param validationTaskSize the validation task size
+     */
+    public final void setValidationTaskSize(int validationTaskSize) {
+        this.validationTaskSize = validationTaskSize;
+    }
+
     /**
      * Creates a copy of this <code>Configuration</code>.
      * 
@@ -275,6 +430,17 @@ public abstract class Configuration<R extends TypeMappingRegistry<?>, E extends
                 provider.registerConverterType(Long.class, LongConverter.class);
                 provider.registerConverterType(int.class, IntegerConverter.class);
                 provider.registerConverterType(Integer.class, IntegerConverter.class);
+                provider.registerConverterType(short.class, ShortConverter.class);
+                provider.registerConverterType(Short.class, ShortConverter.class);
+                provider.registerConverterType(byte.class, ByteConverter.class);
+                provider.registerConverterType(Byte.class, ByteConverter.class);
+                provider.registerConverterType(double.class, DoubleConverter.class);
+                provider.registerConverterType(Double.class, DoubleConverter.class);
+                provider.registerConverterType(float.class, FloatConverter.class);
+                provider.registerConverterType(Float.class, FloatConverter.class);
+                provider.registerConverterType(char.class, CharacterConverter.class);
+                provider.registerConverterType(Character.class, CharacterConverter.class);
+                provider.registerConverterType(BigInteger.class, BigIntegerConverter.class);
                 provider.registerConverterType(BigDecimal.class, BigDecimalConverter.class);
                 provider.registerConverterType(Date.class, DateConverter.class);
                 if (ReflectionUtil.hasClass("javax.xml.datatype.XMLGregorianCalendar")) {
@@ -289,6 +455,9 @@ public abstract class Configuration<R extends TypeMappingRegistry<?>, E extends
                 }                
                 provider.registerConverterType(Enum.class, EnumConverter.class);
                 provider.registerConverterType(Collection.class, SimpleListConverter.class);
+                provider.registerConverterType(int[].class, PrimitiveArrayConverter.class);
+                provider.registerConverterType(long[].class, PrimitiveArrayConverter.class);
+                provider.registerConverterType(double[].class, PrimitiveArrayConverter.class);
                 return provider;
             }
         };
@@ -316,6 +485,26 @@ public abstract class Configuration<R extends TypeMappingRegistry<?>, E extends
          * The default validation mode.
          */
         ValidationMode DEFAULT_VALIDATION_MODE = ValidationMode.BOTH; 
+
+        /**
+         * The default validation error mode.
+         */
+        ValidationErrorMode DEFAULT_VALIDATION_ERROR_MODE = ValidationErrorMode.ALL;
+
+        /**
+         * The default maximum number of validation errors to collect in the error budget mode.
+         */
+        int DEFAULT_VALIDATION_ERROR_BUDGET = 10;
+
+        /**
+         * The default maximum number of values read ahead for validating them together.
+         */
+        int DEFAULT_VALIDATION_BATCH_SIZE = 256;
+
+        /**
+         * The default maximum number of values validated within one validation task.
+         */
+        int DEFAULT_VALIDATION_TASK_SIZE = 16;
     }
 
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jsefa.IOFactory;
+
+/**
+ * A process-wide cache of {@link IOFactory} instances created with the default configuration for a given list of
+ * annotated object types.
+ * <p>
+ * As <code>IOFactory</code> instances are immutable and thread-safe, they can be shared. The key of a cached
+ * factory consists of the object types (in the given order) and the modification count of the
+ * {@link InitialConfiguration}, so that a factory is never returned after the initial configuration changed.
+ * <p>
+ * Please note that the key contains no fingerprint of the configuration itself. A change which is not made by
+ * binding an initial configuration parameter, e. g. modifying a mutable object (like a converter provider) which
+ * is already bound as a parameter value, is not detected. Factories created before such a change are still
+ * returned, so such changes must be done before the first factory is created.
+ * <p>
+ * The number of cached factories is bounded. If the bound is reached, the cache is cleared.
+ * <p>
+ * A cached factory references its object types and thus their class loaders. To not keep the class loader of
+ * e. g. a redeployed web application alive, factories are only cached if all object types are loaded by the
+ * class loader of JSefa or one of its parents. So the cache lives exactly as long as the JSefa classes do; if
+ * JSefa is shared between applications, factories for the types of these applications are not cached.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ * @param <F> the type of the cached factories
+ */
+public final class IOFactoryCache<F extends IOFactory> {
+
+    private static final int MAX_SIZE = 256;
+
+    private final ConcurrentMap<List<Object>, F> factories = new ConcurrentHashMap<List<Object>, F>();
+
+    /**
+     * Creates a new <code>IOFactoryCache</code>.
+     *
+     * @param <F> the type of the cached factories
+     * @return a cache
+     */
+    public static <F extends IOFactory> IOFactoryCache<F> create() {
+        return new IOFactoryCache<F>();
+    }
+
+    private IOFactoryCache() {
+
+    }
+
+    /**
+     * Returns the factory cached for the given object types or null if none is cached.
+     *
+     * @param objectTypes the object types
+     * @return a factory or null
+     */
+    public F get(Class<?>... objectTypes) {
+        if (!isCacheable(objectTypes)) {
+            return null;
+        }
+        return this.factories.get(createKey(objectTypes));
+    }
+
+    /**
+     * Caches the given factory for the given object types. The factory must have been created with the default
+     * configuration and the current initial configuration. Nothing happens if one of the object types is loaded
+     * by a class loader which is not the one of JSefa or one of its parents.
+     *
+     * @param factory the factory
+     * @param objectTypes the object types
+     */
+    public void put(F factory, Class<?>... objectTypes) {
+        if (!isCacheable(objectTypes)) {
+            return;
+        }
+        if (this.factories.size() >= MAX_SIZE) {
+            this.factories.clear();
+        }
+        this.factories.put(createKey(objectTypes), factory);
+    }
+
+    /**
+     * Removes all cached factories.
+     */
+    public void clear() {
+        this.factories.clear();
+    }
+
+    private boolean isCacheable(Class<?>[] objectTypes) {
+        for (Class<?> objectType : objectTypes) {
+            if (!isVisibleFromJSefa(objectType.getClassLoader())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isVisibleFromJSefa(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return true;
+        }
+        ClassLoader current = IOFactoryCache.class.getClassLoader();
+        while (current != null) {
+            if (current == classLoader) {
+                return true;
+            }
+            current = current.getParent();
+        }
+        return false;
+    }
+
+    private List<Object> createKey(Class<?>[] objectTypes) {
+        List<Object> key = new ArrayList<Object>(objectTypes.length + 1);
+        key.add(InitialConfiguration.getModificationCount());
+        for (Class<?> objectType : objectTypes) {
+            key.add(objectType);
+        }
+        return key;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.jsefa.common.config;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jsefa.common.util.OnDemandObjectProvider;
 
@@ -33,6 +34,8 @@ public final class InitialConfiguration {
 
     private static final ConcurrentMap<String, Object> MAP = new ConcurrentHashMap<String, Object>();
 
+    private static final AtomicInteger MODIFICATION_COUNT = new AtomicInteger();
+
     /**
      * Returns the value of the given parameter. If none is configured for the parameter, the
      * <code>defaultValue</code> retrieved from the <code>OnDemandObjectProvider</code> is registered and
@@ -89,12 +92,25 @@ public final class InitialConfiguration {
      */
     public static void set(String parameter, Object value) {
         Object other = MAP.putIfAbsent(parameter, value);
-        if (other != null && !other.equals(value)) {
+        if (other == null) {
+            MODIFICATION_COUNT.incrementAndGet();
+        } else if (!other.equals(value)) {
             throw new InitialConfigurationException("The configuration parameter " + parameter
                     + " is already bound to " + value);
         }
     }
 
+    /**
+     * Returns the number of parameters bound so far using {@link #set}. Registering a default value on the first
+     * call of a <code>get</code> method is not counted, as it does not change the value any later call returns. As
+     * a bound parameter can not be rebound, two equal counts imply an unchanged initial configuration.
+     * 
+     * @return the modification count
+     */
+    public static int getModificationCount() {
+        return MODIFICATION_COUNT.get();
+    }
+
     private InitialConfiguration() {
 
     }
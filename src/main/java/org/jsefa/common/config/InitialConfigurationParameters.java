@@ -46,4 +46,24 @@ public interface InitialConfigurationParameters {
      */
     String VALIDATION_MODE = "jsefa:common:validationMode";
 
+    /**
+     * Configuration parameter for the validation error mode.
+     */
+    String VALIDATION_ERROR_MODE = "jsefa:common:validationErrorMode";
+
+    /**
+     * Configuration parameter for the maximum number of validation errors to collect in the error budget mode.
+     */
+    String VALIDATION_ERROR_BUDGET = "jsefa:common:validationErrorBudget";
+
+    /**
+     * Configuration parameter for the maximum number of values read ahead for validating them together.
+     */
+    String VALIDATION_BATCH_SIZE = "jsefa:common:validationBatchSize";
+
+    /**
+     * Configuration parameter for the maximum number of values validated within one validation task.
+     */
+    String VALIDATION_TASK_SIZE = "jsefa:common:validationTaskSize";
+
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.config;
+
+/**
+ * Enum for the different modes of collecting validation errors.
+ * <p>
+ * The traversal of an object graph stops as soon as the number of errors allowed by the mode is reached, so
+ * <code>FAIL_FAST</code> is the cheapest mode if only the acceptance or rejection of a value is of interest.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public enum ValidationErrorMode {
+
+    /**
+     * Denotes that all validation errors should be collected.
+     */
+    ALL,
+
+    /**
+     * Denotes that the validation should stop at the first validation error.
+     */
+    FAIL_FAST,
+
+    /**
+     * Denotes that the validation should stop as soon as the number of validation errors reaches the validation
+     * error budget.
+     */
+    ERROR_BUDGET;
+
+    /**
+     * Returns the maximum number of validation errors to collect in this mode.
+     * 
+     * @param errorBudget the validation error budget (values below 1 are treated as 1)
+     * @return the maximum number of validation errors
+     */
+    public int getErrorLimit(int errorBudget) {
+        switch (this) {
+        case FAIL_FAST:
+            return 1;
+        case ERROR_BUDGET:
+            return Math.max(1, errorBudget);
+        default:
+            return Integer.MAX_VALUE;
+        }
+    }
+
+}
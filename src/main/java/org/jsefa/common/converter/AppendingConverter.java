@@ -0,0 +1,41 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+/**
+ * A {@link SimpleTypeConverter} which can append the string representation of a value to a buffer without
+ * creating an intermediate <code>String</code>.
+ * <p>
+ * Serializers use this method instead of {@link #toString(Object)} if available, passing a field buffer they
+ * reuse for every value. For a value not being null the appended characters must be the same as the ones of the
+ * <code>String</code> returned by <code>toString(value)</code>.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public interface AppendingConverter extends SimpleTypeConverter {
+
+    /**
+     * Appends the string representation of the given value to the given buffer.
+     * 
+     * @param value the value to convert (must not be null)
+     * @param target the buffer to append to
+     * @throws ConversionException if the value can not be converted
+     */
+    void appendTo(Object value, StringBuilder target);
+
+}
@@ -19,7 +19,6 @@ package org.jsefa.common.converter;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
-import java.text.FieldPosition;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -28,19 +27,24 @@ import java.util.Locale;
  * The format consists of two <code>String</code>s. The first denotes the {@link Locale} and the second is a
  * pattern as used by {@link DecimalFormat}.<br>
  * <p>
- * It is thread-safe (the access to the non-thread-safe {@link DecimalFormat} is synchronized).
+ * Plain patterns without grouping, exponent, prefixes and suffixes (e. g. "#0.00" or "#0.####") are handled
+ * without the {@link DecimalFormat}: parsing builds the <code>BigDecimal</code> from an unscaled <code>long</code>
+ * and formatting writes the digits directly. The <code>DecimalFormat</code> is used for all other patterns and for
+ * input not being a plain decimal number.
+ * <p>
+ * It is thread-safe and lock-free (each thread uses its own copy of the non-thread-safe {@link DecimalFormat}).
  * 
  * @author Norman Lahme-Huetig
  */
-public class BigDecimalConverter implements SimpleTypeConverter {
+public class BigDecimalConverter implements CharSequenceConverter, AppendingConverter {
     /**
      * The default format which is used when no format is explicitly given.
      */
     private static final String[] DEFAULT_FORMAT = {"en", "#0.00"};
 
-    private static final FieldPosition FIELD_POSITION = new FieldPosition(0);
+    private final ThreadLocal<DecimalFormat> decimalFormats;
 
-    private final DecimalFormat decimalFormat;
+    private final PlainDecimalLayout layout;
 
     /**
      * Creates a <code>BigDecimalConverter</code>.<br>
@@ -63,30 +67,56 @@ public class BigDecimalConverter implements SimpleTypeConverter {
      */
     protected BigDecimalConverter(SimpleTypeConverterConfiguration configuration) {
         String[] format = getFormat(configuration);
+        final DecimalFormat prototype;
         try {
             Locale locale = new Locale(format[0]);
             String pattern = format[1];
-            this.decimalFormat = new DecimalFormat(pattern, new DecimalFormatSymbols(locale));
-            this.decimalFormat.setParseBigDecimal(true);
+            prototype = new DecimalFormat(pattern, new DecimalFormatSymbols(locale));
+            prototype.setParseBigDecimal(true);
         } catch (Exception e) {
             throw new ConversionException("Could not create a " + this.getClass().getName() + " with format "
                     + format[0] + ", " + format[1], e);
         }
+        this.decimalFormats = new ThreadLocal<DecimalFormat>() {
+            @Override
+            protected DecimalFormat initialValue() {
+                return (DecimalFormat) prototype.clone();
+            }
+        };
+        this.layout = PlainDecimalLayout.create(prototype);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final BigDecimal fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        return fromChars(value, 0, value.length());
     }
 
     /**
      * {@inheritDoc}
      */
-    public final synchronized BigDecimal fromString(String value) {
-        if (value == null || value.length() == 0) {
+    public final BigDecimal fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
             return null;
         }
+        if (this.layout != null) {
+            BigDecimal result = this.layout.parse(chars, start, end);
+            if (result != null) {
+                return result;
+            }
+        }
+        String value = chars.subSequence(start, end).toString();
         try {
-            Object result = this.decimalFormat.parseObject(value);
+            DecimalFormat decimalFormat = this.decimalFormats.get();
+            Object result = decimalFormat.parseObject(value);
             if (result instanceof BigDecimal) {
                 return (BigDecimal) result;
             } else {
-                return new BigDecimal(((Double) result).doubleValue()).setScale(this.decimalFormat
+                return new BigDecimal(((Double) result).doubleValue()).setScale(decimalFormat
                         .getMaximumFractionDigits(), BigDecimal.ROUND_HALF_UP);
             }
         } catch (ParseException e) {
@@ -97,11 +127,27 @@ public class BigDecimalConverter implements SimpleTypeConverter {
     /**
      * {@inheritDoc}
      */
-    public final synchronized String toString(Object value) {
+    public final String toString(Object value) {
         if (value == null) {
             return null;
         }
-        return this.decimalFormat.format(value, new StringBuffer(), FIELD_POSITION).toString();
+        if (this.layout != null && value instanceof BigDecimal) {
+            StringBuilder result = new StringBuilder();
+            this.layout.appendTo((BigDecimal) value, result);
+            return result.toString();
+        }
+        return this.decimalFormats.get().format(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final void appendTo(Object value, StringBuilder target) {
+        if (this.layout != null && value instanceof BigDecimal) {
+            this.layout.appendTo((BigDecimal) value, target);
+        } else {
+            target.append(this.decimalFormats.get().format(value));
+        }
     }
 
     /**
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+import java.math.BigInteger;
+
+/**
+ * Converter for <code>BigInteger</code> objects.
+ * <p>
+ * Values with up to 18 digits are parsed directly from the characters.
+ * <p>
+ * It is thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class BigIntegerConverter implements CharSequenceConverter, AppendingConverter {
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final BigIntegerConverter INSTANCE = new BigIntegerConverter();
+
+    /**
+     * Returns the single <code>BigIntegerConverter</code>.
+     * 
+     * @return the single big integer converter.
+     */
+    public static BigIntegerConverter create() {
+        return INSTANCE;
+    }
+
+    private BigIntegerConverter() {
+
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public BigInteger fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public BigInteger fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+        if (end - start <= MAX_LONG_DIGITS) {
+            return BigInteger.valueOf(NumberParser.parseLong(chars, start, end, Long.MIN_VALUE, Long.MAX_VALUE,
+                    "BigInteger"));
+        }
+        String value = chars.subSequence(start, end).toString();
+        try {
+            return new BigInteger(value);
+        } catch (NumberFormatException e) {
+            throw NumberParser.createException(chars, start, end, "BigInteger");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        BigInteger bigInteger = (BigInteger) value;
+        if (bigInteger.bitLength() < 64) {
+            target.append(bigInteger.longValue());
+        } else {
+            target.append(bigInteger.toString());
+        }
+    }
+
+}
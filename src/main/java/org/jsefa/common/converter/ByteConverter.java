@@ -0,0 +1,81 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+/**
+ * Converter for <code>Byte</code> objects. It is used for the primitive type <code>byte</code> as well.
+ * <p>
+ * The value is parsed directly from the characters without creating an intermediate <code>String</code>.
+ * <p>
+ * It is thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class ByteConverter implements CharSequenceConverter, AppendingConverter {
+    private static final ByteConverter INSTANCE = new ByteConverter();
+
+    /**
+     * Returns the single <code>ByteConverter</code>.
+     * 
+     * @return the single byte converter.
+     */
+    public static ByteConverter create() {
+        return INSTANCE;
+    }
+
+    private ByteConverter() {
+
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Byte fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Byte fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+        return Byte.valueOf((byte) NumberParser.parseLong(chars, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE, "Byte"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        target.append(((Byte) value).byteValue());
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jsefa.common.util.CharSequenceUtil;
+
+/**
+ * A {@link SimpleTypeConverter} decorator which memoizes the results of {@link #fromString(String)} in a bounded
+ * cache keyed by the raw characters. This pays off for low cardinality values like status codes, currency codes
+ * or dates which repeat throughout a file.
+ * <p>
+ * The cache is direct-mapped: each key has exactly one slot determined by its hash, and a new key simply replaces
+ * the previous occupant of its slot. A lookup for a range of characters (see {@link #fromChars}) does not create a
+ * <code>String</code> unless it misses.
+ * <p>
+ * Only values of immutable types may be cached (see {@link #isCacheable(Class)}). <code>Date</code> values are
+ * cached as well, but a copy is returned for every hit.
+ * <p>
+ * The hit and miss counts are striped over a fixed number of counters selected by the id of the counting thread,
+ * so that concurrent threads rarely write to the same counter. The stripes are spaced apart to not share a cache
+ * line. Reading the counts sums up all stripes, so the memory used for counting does not grow with the number of
+ * threads.
+ * <p>
+ * It is thread-safe and lock-free.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class CachingConverter implements CharSequenceConverter, AppendingConverter {
+
+    private static final int MAX_CACHE_SIZE = 1 << 16;
+
+    private static final int STRIPE_COUNT = 16;
+
+    private static final int STRIPE_WIDTH = 8;
+
+    private static final int HITS = 0;
+
+    private static final int MISSES = 1;
+
+    private final SimpleTypeConverter delegate;
+
+    private final Entry[] entries;
+
+    private final int mask;
+
+    private final boolean copyDates;
+
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPE_COUNT * STRIPE_WIDTH);
+
+    /**
+     * Creates a new <code>CachingConverter</code>.
+     * 
+     * @param delegate the converter to decorate
+     * @param objectType the type of the objects the converter is intended for. Must be cacheable.
+     * @param cacheSize the maximum number of cached values. It is rounded up to the next power of two.
+     * @return a caching converter
+     * @throws ConversionException if the object type is not cacheable or the cache size is not positive
+     */
+    public static CachingConverter create(SimpleTypeConverter delegate, Class<?> objectType, int cacheSize) {
+        if (!isCacheable(objectType)) {
+            throw new ConversionException("The values of type " + objectType.getName() + " can not be cached");
+        }
+        if (cacheSize <= 0) {
+            throw new ConversionException("The cache size must be positive: " + cacheSize);
+        }
+        return new CachingConverter(delegate, Date.class.isAssignableFrom(objectType), cacheSize);
+    }
+
+    /**
+     * Returns true if and only if the values of the given type may be cached, i. e. if they are immutable or can
+     * be copied.
+     * 
+     * @param objectType the object type
+     * @return true, if the values may be cached; false otherwise.
+     */
+    public static boolean isCacheable(Class<?> objectType) {
+        return objectType.isPrimitive() || objectType.isEnum() || objectType == String.class
+                || objectType == Boolean.class || objectType == Character.class || objectType == Integer.class
+                || objectType == Long.class || objectType == Short.class || objectType == Byte.class
+                || objectType == Double.class || objectType == Float.class || objectType == BigDecimal.class
+                || objectType == BigInteger.class || Date.class.isAssignableFrom(objectType);
+    }
+
+    private CachingConverter(SimpleTypeConverter delegate, boolean copyDates, int cacheSize) {
+        int capacity = 1;
+        while (capacity < cacheSize && capacity < MAX_CACHE_SIZE) {
+            capacity <<= 1;
+        }
+        this.delegate = delegate;
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+        this.copyDates = copyDates;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object fromString(String value) {
+        if (value == null) {
+            return this.delegate.fromString(null);
+        }
+        int index = index(value.hashCode());
+        Entry entry = this.entries[index];
+        if (entry != null && entry.key.equals(value)) {
+            count(HITS);
+            return copy(entry.value);
+        }
+        count(MISSES);
+        Object result = this.delegate.fromString(value);
+        this.entries[index] = new Entry(value, copy(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object fromChars(CharSequence chars, int start, int end) {
+        int index = index(CharSequenceUtil.hashCode(chars, start, end));
+        Entry entry = this.entries[index];
+        if (entry != null && CharSequenceUtil.equals(entry.key, chars, start, end)) {
+            count(HITS);
+            return copy(entry.value);
+        }
+        count(MISSES);
+        String key = chars.subSequence(start, end).toString();
+        Object result;
+        if (this.delegate instanceof CharSequenceConverter) {
+            result = ((CharSequenceConverter) this.delegate).fromChars(chars, start, end);
+        } else {
+            result = this.delegate.fromString(key);
+        }
+        this.entries[index] = new Entry(key, copy(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString(Object value) {
+        return this.delegate.toString(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        if (this.delegate instanceof AppendingConverter) {
+            ((AppendingConverter) this.delegate).appendTo(value, target);
+        } else {
+            target.append(this.delegate.toString(value));
+        }
+    }
+
+    /**
+     * Returns the decorated converter.
+     * 
+     * @return the decorated converter
+     */
+    public SimpleTypeConverter getDelegate() {
+        return this.delegate;
+    }
+
+    /**
+     * Returns the number of conversions answered from the cache.
+     * 
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return sum(HITS);
+    }
+
+    /**
+     * Returns the number of conversions passed to the decorated converter.
+     * 
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return sum(MISSES);
+    }
+
+    /**
+     * Returns the ratio of the hit count to the number of all conversions or 0 if no conversion happened yet.
+     * 
+     * @return the hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        if (total == 0) {
+            return 0;
+        }
+        return (double) hits / total;
+    }
+
+    private int index(int hash) {
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+    private void count(int counter) {
+        int stripe = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+        this.counts.incrementAndGet(stripe * STRIPE_WIDTH + counter);
+    }
+
+    private long sum(int counter) {
+        long sum = 0;
+        for (int stripe = 0; stripe < STRIPE_COUNT; stripe++) {
+            sum += this.counts.get(stripe * STRIPE_WIDTH + counter);
+        }
+        return sum;
+    }
+
+    private Object copy(Object value) {
+        if (this.copyDates && value != null) {
+            return ((Date) value).clone();
+        }
+        return value;
+    }
+
+    /**
+     * An immutable cache entry. As all fields are final, an entry is safely published even without
+     * synchronization.
+     */
+    private static final class Entry {
+        private final String key;
+
+        private final Object value;
+
+        Entry(String key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+}
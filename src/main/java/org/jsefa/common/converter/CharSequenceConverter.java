@@ -0,0 +1,44 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+/**
+ * A {@link SimpleTypeConverter} which can convert a range of characters without creating an intermediate
+ * <code>String</code>.
+ * <p>
+ * Deserializers use this method instead of {@link #fromString(String)} if available, passing the range of their
+ * input buffer holding the field value. For an empty range the result must be the same as for
+ * <code>fromString("")</code>.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public interface CharSequenceConverter extends SimpleTypeConverter {
+
+    /**
+     * Converts the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive) of the given
+     * character sequence into an object with the simple data type this converter is intended for.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the converted value
+     * @throws ConversionException if the characters can not be converted
+     */
+    Object fromChars(CharSequence chars, int start, int end);
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+/**
+ * Converter for <code>Character</code> objects. It is used for the primitive type <code>char</code> as well.
+ * <p>
+ * A value consists of exactly one character.
+ * <p>
+ * It is thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class CharacterConverter implements CharSequenceConverter, AppendingConverter {
+    private static final CharacterConverter INSTANCE = new CharacterConverter();
+
+    /**
+     * Returns the single <code>CharacterConverter</code>.
+     * 
+     * @return the single character converter.
+     */
+    public static CharacterConverter create() {
+        return INSTANCE;
+    }
+
+    private CharacterConverter() {
+
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Character fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Character fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+        if (end - start != 1) {
+            throw new ConversionException("Wrong Character format: " + chars.subSequence(start, end));
+        }
+        return Character.valueOf(chars.charAt(start));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        target.append(((Character) value).charValue());
+    }
+
+}
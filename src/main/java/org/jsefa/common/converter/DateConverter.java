@@ -18,24 +18,34 @@ package org.jsefa.common.converter;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 
 /**
  * Converter for <code>Date</code> objects.<br>
  * The format consists of one String describing the date format as required by {@link SimpleDateFormat},e. g.
  * ""dd.MM.yyyy".<br>
  * <p>
- * It is thread-safe (the access to the non-thread-safe {@link SimpleDateFormat} is synchronized).
+ * Formats consisting of fixed width numeric fields and literals only (e. g. "dd.MM.yyyy", "yyyyMMdd" or
+ * "yyyy-MM-dd'T'HH:mm:ss") are compiled into a layout which parses and formats the digits directly. The
+ * {@link SimpleDateFormat} is used for all other formats and for input not matching the layout exactly.
+ * <p>
+ * It is thread-safe and lock-free (each thread uses its own copy of the non-thread-safe {@link SimpleDateFormat}).
  * 
  * @author Norman Lahme-Huetig
  */
-public class DateConverter implements SimpleTypeConverter {
+public class DateConverter implements CharSequenceConverter, AppendingConverter {
     /**
      * The default format which is used when no format is explicitly given.
      */
     private static final String DEFAULT_FORMAT = "dd.MM.yyyy";
 
-    private final SimpleDateFormat dateFormat;
+    private final ThreadLocal<SimpleDateFormat> dateFormats;
+
+    private final FixedWidthDateLayout layout;
+
+    private final ThreadLocal<Calendar> calendars;
 
     /**
      * Constructs a <code>DateConverter</code>.<br>
@@ -59,23 +69,58 @@ public class DateConverter implements SimpleTypeConverter {
      */
     protected DateConverter(SimpleTypeConverterConfiguration configuration) {
         String format = getFormat(configuration);
+        final SimpleDateFormat prototype;
         try {
-            this.dateFormat = new SimpleDateFormat(format);
+            prototype = new SimpleDateFormat(format);
         } catch (Exception e) {
             throw new ConversionException("Could not create a " + this.getClass().getName() + "  with format "
                     + format, e);
         }
+        this.dateFormats = new ThreadLocal<SimpleDateFormat>() {
+            @Override
+            protected SimpleDateFormat initialValue() {
+                return (SimpleDateFormat) prototype.clone();
+            }
+        };
+        if (prototype.getCalendar() instanceof GregorianCalendar) {
+            this.layout = FixedWidthDateLayout.compile(format);
+        } else {
+            this.layout = null;
+        }
+        this.calendars = new ThreadLocal<Calendar>() {
+            @Override
+            protected Calendar initialValue() {
+                return (Calendar) prototype.getCalendar().clone();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final Date fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        return fromChars(value, 0, value.length());
     }
 
     /**
      * {@inheritDoc}
      */
-    public final synchronized Date fromString(String value) {
-        if (value == null || value.length() == 0) {
+    public final Date fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
             return null;
         }
+        if (this.layout != null) {
+            Date result = this.layout.parse(chars, start, end, this.calendars.get());
+            if (result != null) {
+                return result;
+            }
+        }
+        String value = chars.subSequence(start, end).toString();
         try {
-            return this.dateFormat.parse(value);
+            return this.dateFormats.get().parse(value);
         } catch (ParseException e) {
             throw new ConversionException("Wrong date format: " + value);
         }
@@ -84,11 +129,26 @@ public class DateConverter implements SimpleTypeConverter {
     /**
      * {@inheritDoc}
      */
-    public final synchronized String toString(Object value) {
+    public final String toString(Object value) {
         if (value == null) {
             return null;
         }
-        return this.dateFormat.format((Date) value);
+        if (this.layout != null) {
+            StringBuilder result = new StringBuilder();
+            if (this.layout.appendTo((Date) value, this.calendars.get(), result)) {
+                return result.toString();
+            }
+        }
+        return this.dateFormats.get().format((Date) value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final void appendTo(Object value, StringBuilder target) {
+        if (this.layout == null || !this.layout.appendTo((Date) value, this.calendars.get(), target)) {
+            target.append(this.dateFormats.get().format((Date) value));
+        }
     }
 
     /**
@@ -19,8 +19,8 @@ package org.jsefa.common.converter;
 import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
+import org.jsefa.common.util.CharSequenceUtil;
 import org.jsefa.common.util.ReflectionUtil;
 
 /**
@@ -32,19 +32,26 @@ import org.jsefa.common.util.ReflectionUtil;
  * <p>
  * These mappings override the display name declarations provided by the {@link EnumConstant} annotations.
  * <p>
+ * The representations are precomputed per ordinal for serialization. For deserialization both the new and the
+ * original representations are accepted; they are looked up in an open addressing hash table over the raw
+ * characters, so no intermediate <code>String</code> is needed.
+ * <p>
  * It is thread safe.
  * 
  * @author Norman Lahme-Huetig
  * 
  */
-public final class EnumConverter implements SimpleTypeConverter {
+public final class EnumConverter implements CharSequenceConverter {
+
+    private final Class<? extends Enum<?>> enumType;
 
-    @SuppressWarnings("unchecked")
-    private final Class<? extends Enum> enumType;
+    private final String[] representations;
 
-    private final Map<String, String> nameToAliasMap;
+    private final String[] keys;
 
-    private final Map<String, String> aliasToNameMap;
+    private final Enum<?>[] values;
+
+    private final int mask;
 
     /**
      * Constructs a new <code>EnumConverter</code>.
@@ -71,45 +78,98 @@ public final class EnumConverter implements SimpleTypeConverter {
 
     private EnumConverter(Class<? extends Enum<?>> enumType, Map<String, String> nameToAliasMap) {
         this.enumType = enumType;
-        this.nameToAliasMap = nameToAliasMap;
-        this.aliasToNameMap = new HashMap<String, String>();
+        Enum<?>[] constants = enumType.getEnumConstants();
+        this.representations = new String[constants.length];
+        int capacity = 2;
+        while (capacity < 4 * constants.length) {
+            capacity <<= 1;
+        }
+        this.keys = new String[capacity];
+        this.values = new Enum<?>[capacity];
+        this.mask = capacity - 1;
+        for (Enum<?> constant : constants) {
+            String alias = nameToAliasMap.get(constant.name());
+            if (alias != null) {
+                this.representations[constant.ordinal()] = alias;
+                put(alias, constant);
+            } else {
+                this.representations[constant.ordinal()] = constant.name();
+            }
+        }
+        for (Enum<?> constant : constants) {
+            put(constant.name(), constant);
+        }
+    }
 
-        for (Entry<String, String> entry : this.nameToAliasMap.entrySet()) {
-            this.aliasToNameMap.put(entry.getValue(), entry.getKey());
+    /**
+     * {@inheritDoc}
+     */
+    public Enum<?> fromString(String value) {
+        if (value == null) {
+            return null;
         }
+        return fromChars(value, 0, value.length());
     }
 
     /**
      * {@inheritDoc}
      */
-    @SuppressWarnings("unchecked")
-    public Enum fromString(String value) {
-        if (value == null || value.length() == 0) {
+    public Enum<?> fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
             return null;
         }
-        String name = this.aliasToNameMap.get(value);
-        if (name != null) {
-            return Enum.valueOf(this.enumType, name);
-        } else {
-            return Enum.valueOf(this.enumType, value);
+        Enum<?> value = lookup(chars, start, end);
+        if (value == null) {
+            throw new ConversionException("No enum constant " + this.enumType.getName() + " for "
+                    + chars.subSequence(start, end));
         }
+        return value;
+    }
+
+    /**
+     * Returns the enum constant represented by the characters from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive) of the given character sequence or null if there is none.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the enum constant or null
+     */
+    public Enum<?> lookup(CharSequence chars, int start, int end) {
+        int index = index(CharSequenceUtil.hashCode(chars, start, end));
+        while (this.keys[index] != null) {
+            if (CharSequenceUtil.equals(this.keys[index], chars, start, end)) {
+                return this.values[index];
+            }
+            index = (index + 1) & this.mask;
+        }
+        return null;
     }
 
     /**
      * {@inheritDoc}
      */
-    @SuppressWarnings("unchecked")
     public String toString(Object value) {
         if (value == null) {
             return null;
         }
-        String name = ((Enum) value).name();
-        String alias = this.nameToAliasMap.get(name);
-        if (alias != null) {
-            return alias;
-        } else {
-            return name;
+        return this.representations[((Enum<?>) value).ordinal()];
+    }
+
+    private void put(String key, Enum<?> value) {
+        int index = index(key.hashCode());
+        while (this.keys[index] != null) {
+            if (this.keys[index].equals(key)) {
+                return;
+            }
+            index = (index + 1) & this.mask;
         }
+        this.keys[index] = key;
+        this.values[index] = value;
+    }
+
+    private int index(int hash) {
+        return (hash ^ (hash >>> 16)) & this.mask;
     }
 
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+/**
+ * A date layout compiled from a {@link java.text.SimpleDateFormat} pattern consisting of fixed width numeric
+ * fields and literals only, e. g. "dd.MM.yyyy", "yyyyMMdd" or "yyyy-MM-dd'T'HH:mm:ss".
+ * <p>
+ * Parsing and formatting extract and write the digits directly and use a lenient <code>Calendar</code> for the
+ * date arithmetic only, so that the results are the same as the ones of the <code>SimpleDateFormat</code> with
+ * the same calendar. Input not matching the layout exactly and dates which can not be formatted with the fixed
+ * widths are rejected, so that the caller can fall back to the <code>SimpleDateFormat</code>.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+final class FixedWidthDateLayout {
+
+    private static final int MAX_YEAR = 9999;
+
+    private final char[] template;
+
+    private final int[] literalIndices;
+
+    private final int[] fields;
+
+    private final int[] offsets;
+
+    private final int[] widths;
+
+    /**
+     * Compiles the given pattern.
+     * 
+     * @param pattern a pattern as used by <code>SimpleDateFormat</code>
+     * @return the layout or null if the pattern contains fields which are not numeric or not of fixed width.
+     */
+    static FixedWidthDateLayout compile(String pattern) {
+        StringBuilder template = new StringBuilder();
+        List<Integer> literalIndices = new ArrayList<Integer>();
+        List<int[]> fields = new ArrayList<int[]>();
+        int index = 0;
+        while (index < pattern.length()) {
+            char currentChar = pattern.charAt(index);
+            if (currentChar == '\'') {
+                index++;
+                if (index < pattern.length() && pattern.charAt(index) == '\'') {
+                    literalIndices.add(template.length());
+                    template.append('\'');
+                    index++;
+                    continue;
+                }
+                while (true) {
+                    if (index == pattern.length()) {
+                        return null;
+                    }
+                    currentChar = pattern.charAt(index++);
+                    if (currentChar == '\'') {
+                        if (index < pattern.length() && pattern.charAt(index) == '\'') {
+                            index++;
+                        } else {
+                            break;
+                        }
+                    }
+                    literalIndices.add(template.length());
+                    template.append(currentChar);
+                }
+            } else if ((currentChar >= 'a' && currentChar <= 'z') || (currentChar >= 'A' && currentChar <= 'Z')) {
+                int count = 1;
+                while (index + count < pattern.length() && pattern.charAt(index + count) == currentChar) {
+                    count++;
+                }
+                int[] field = createField(currentChar, count, template.length());
+                if (field == null) {
+                    return null;
+                }
+                fields.add(field);
+                for (int i = 0; i < count; i++) {
+                    template.append('0');
+                }
+                index += count;
+            } else {
+                literalIndices.add(template.length());
+                template.append(currentChar);
+                index++;
+            }
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+        return new FixedWidthDateLayout(template, literalIndices, fields);
+    }
+
+    private static int[] createField(char patternLetter, int count, int offset) {
+        int field;
+        int width;
+        switch (patternLetter) {
+        case 'y':
+            field = Calendar.YEAR;
+            width = 4;
+            break;
+        case 'M':
+            field = Calendar.MONTH;
+            width = 2;
+            break;
+        case 'd':
+            field = Calendar.DAY_OF_MONTH;
+            width = 2;
+            break;
+        case 'H':
+            field = Calendar.HOUR_OF_DAY;
+            width = 2;
+            break;
+        case 'm':
+            field = Calendar.MINUTE;
+            width = 2;
+            break;
+        case 's':
+            field = Calendar.SECOND;
+            width = 2;
+            break;
+        case 'S':
+            field = Calendar.MILLISECOND;
+            width = 3;
+            break;
+        default:
+            return null;
+        }
+        if (count != width) {
+            return null;
+        }
+        return new int[]{field, offset, width};
+    }
+
+    private FixedWidthDateLayout(StringBuilder template, List<Integer> literalIndices, List<int[]> fields) {
+        this.template = template.toString().toCharArray();
+        this.literalIndices = new int[literalIndices.size()];
+        for (int i = 0; i < this.literalIndices.length; i++) {
+            this.literalIndices[i] = literalIndices.get(i);
+        }
+        this.fields = new int[fields.size()];
+        this.offsets = new int[fields.size()];
+        this.widths = new int[fields.size()];
+        for (int i = 0; i < this.fields.length; i++) {
+            int[] field = fields.get(i);
+            this.fields[i] = field[0];
+            this.offsets[i] = field[1];
+            this.widths[i] = field[2];
+        }
+    }
+
+    /**
+     * Parses the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive) into the given
+     * calendar.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @param calendar the lenient calendar to use
+     * @return the date or null if the characters do not match this layout exactly
+     */
+    Date parse(CharSequence chars, int start, int end, Calendar calendar) {
+        if (end - start != this.template.length) {
+            return null;
+        }
+        for (int literalIndex : this.literalIndices) {
+            if (chars.charAt(start + literalIndex) != this.template[literalIndex]) {
+                return null;
+            }
+        }
+        calendar.clear();
+        for (int i = 0; i < this.fields.length; i++) {
+            int value = 0;
+            int fieldEnd = start + this.offsets[i] + this.widths[i];
+            for (int index = start + this.offsets[i]; index < fieldEnd; index++) {
+                int digit = chars.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    return null;
+                }
+                value = value * 10 + digit;
+            }
+            if (this.fields[i] == Calendar.MONTH) {
+                value--;
+            }
+            calendar.set(this.fields[i], value);
+        }
+        return calendar.getTime();
+    }
+
+    /**
+     * Formats the given date using the given calendar and appends the result to the given buffer.
+     * 
+     * @param date the date
+     * @param calendar the calendar to use
+     * @param target the buffer to append to
+     * @return false if the year is outside of the range from 1 to 9999 (nothing is appended then)
+     */
+    boolean appendTo(Date date, Calendar calendar, StringBuilder target) {
+        calendar.setTime(date);
+        if (calendar.get(Calendar.ERA) != GregorianCalendar.AD || calendar.get(Calendar.YEAR) > MAX_YEAR) {
+            return false;
+        }
+        int start = target.length();
+        target.append(this.template);
+        for (int i = 0; i < this.fields.length; i++) {
+            int value = calendar.get(this.fields[i]);
+            if (this.fields[i] == Calendar.MONTH) {
+                value++;
+            }
+            for (int index = start + this.offsets[i] + this.widths[i] - 1; index >= start + this.offsets[i];
+                    index--) {
+                target.setCharAt(index, (char) ('0' + value % 10));
+                value /= 10;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+/**
+ * Converter for <code>Float</code> objects. It is used for the primitive type <code>float</code> as well.
+ * <p>
+ * Plain decimal values with up to 7 significant digits are parsed directly from the characters; all other
+ * values are parsed using <code>Float.parseFloat</code>. Values are formatted using
+ * <code>Float.toString</code>, so they are read back exactly.
+ * <p>
+ * It is thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class FloatConverter implements CharSequenceConverter, AppendingConverter {
+    private static final FloatConverter INSTANCE = new FloatConverter();
+
+    /**
+     * Returns the single <code>FloatConverter</code>.
+     * 
+     * @return the single float converter.
+     */
+    public static FloatConverter create() {
+        return INSTANCE;
+    }
+
+    private FloatConverter() {
+
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Float fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Float fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+        return Float.valueOf(NumberParser.parseFloat(chars, start, end));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        target.append(((Float) value).floatValue());
+    }
+
+}
@@ -23,7 +23,7 @@ package org.jsefa.common.converter;
  * 
  * @author Norman Lahme-Huetig
  */
-public final class IntegerConverter implements SimpleTypeConverter {
+public final class IntegerConverter implements CharSequenceConverter, AppendingConverter {
     private static final IntegerConverter INSTANCE = new IntegerConverter();
 
     /**
@@ -43,17 +43,21 @@ public final class IntegerConverter implements SimpleTypeConverter {
      * {@inheritDoc}
      */
     public Integer fromString(String value) {
-        if (value == null || value.length() == 0) {
+        if (value == null) {
             return null;
         }
-        try {
-            return Integer.valueOf(value);
-        } catch (NumberFormatException e) {
-            if (value.charAt(0) == '+') {
-                return fromString(value.substring(1));
-            }
-            throw new ConversionException("Wrong Integer format: " + value);
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Integer fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
+            return null;
         }
+        long value = NumberParser.parseLong(chars, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE, "Integer");
+        return Integer.valueOf((int) value);
     }
 
     /**
@@ -66,4 +70,11 @@ public final class IntegerConverter implements SimpleTypeConverter {
         return value.toString();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        target.append(((Integer) value).intValue());
+    }
+
 }
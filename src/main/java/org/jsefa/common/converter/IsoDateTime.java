@@ -0,0 +1,329 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * The fields of an ISO 8601 date time value in the lexical form of <code>xs:dateTime</code> or
+ * <code>xs:date</code>, together with a parser and a formatter for the common subset of this form.
+ * <p>
+ * The supported subset is <code>yyyy-MM-dd['T'HH:mm:ss[.S+]][Z|(+|-)HH:mm]</code> with a four digit year.
+ * The parser returns null for all other values (e. g. years with more than four digits, negative years or the
+ * time 24:00:00), which must then be handled by a <code>DatatypeFactory</code>. Fractional seconds are
+ * truncated to milliseconds. All date calculations use the proleptic Gregorian calendar.
+ * <p>
+ * Instances are not thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+final class IsoDateTime {
+
+    /**
+     * The value of <code>timeZoneOffset</code> if no time zone is given.
+     */
+    static final int NO_TIME_ZONE = Integer.MIN_VALUE;
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000L;
+
+    private static final long MILLIS_PER_DAY = 24 * 60 * MILLIS_PER_MINUTE;
+
+    private static final int MAX_YEAR = 9999;
+
+    private static final int MAX_TIME_ZONE_HOURS = 14;
+
+    /**
+     * The first day of the Gregorian calendar as used by <code>GregorianCalendar</code> by default.
+     */
+    private static final long GREGORIAN_CUTOVER = -12219292800000L;
+
+    private int year;
+
+    private int month;
+
+    private int day;
+
+    private boolean hasTime;
+
+    private int hour;
+
+    private int minute;
+
+    private int second;
+
+    private int millisecond;
+
+    private int fractionDigits;
+
+    private int timeZoneOffset = NO_TIME_ZONE;
+
+    /**
+     * Parses the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive).
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the parsed fields or null if the value is not valid or not within the supported subset
+     */
+    static IsoDateTime parse(CharSequence chars, int start, int end) {
+        if (end - start < 10 || chars.charAt(start + 4) != '-' || chars.charAt(start + 7) != '-') {
+            return null;
+        }
+        IsoDateTime result = new IsoDateTime();
+        result.year = parseDigits(chars, start, 4);
+        result.month = parseDigits(chars, start + 5, 2);
+        result.day = parseDigits(chars, start + 8, 2);
+        if (result.year <= 0 || result.month < 1 || result.month > 12 || result.day < 1
+                || result.day > getDaysInMonth(result.year, result.month)) {
+            return null;
+        }
+        int index = start + 10;
+        if (index < end && chars.charAt(index) == 'T') {
+            if (end - index < 9 || chars.charAt(index + 3) != ':' || chars.charAt(index + 6) != ':') {
+                return null;
+            }
+            result.hasTime = true;
+            result.hour = parseDigits(chars, index + 1, 2);
+            result.minute = parseDigits(chars, index + 4, 2);
+            result.second = parseDigits(chars, index + 7, 2);
+            if (result.hour < 0 || result.hour > 23 || result.minute < 0 || result.minute > 59 || result.second < 0
+                    || result.second > 59) {
+                return null;
+            }
+            index += 9;
+            if (index < end && chars.charAt(index) == '.') {
+                index++;
+                int fractionStart = index;
+                while (index < end && chars.charAt(index) >= '0' && chars.charAt(index) <= '9') {
+                    if (index - fractionStart < 3) {
+                        result.millisecond = result.millisecond * 10 + (chars.charAt(index) - '0');
+                    }
+                    index++;
+                }
+                result.fractionDigits = index - fractionStart;
+                if (result.fractionDigits == 0) {
+                    return null;
+                }
+                for (int i = result.fractionDigits; i < 3; i++) {
+                    result.millisecond *= 10;
+                }
+            }
+        }
+        if (index < end) {
+            char c = chars.charAt(index);
+            if (c == 'Z' && index + 1 == end) {
+                result.timeZoneOffset = 0;
+            } else if ((c == '+' || c == '-') && index + 6 == end && chars.charAt(index + 3) == ':') {
+                int hours = parseDigits(chars, index + 1, 2);
+                int minutes = parseDigits(chars, index + 4, 2);
+                if (hours < 0 || minutes < 0 || minutes > 59 || hours > MAX_TIME_ZONE_HOURS
+                        || (hours == MAX_TIME_ZONE_HOURS && minutes > 0)) {
+                    return null;
+                }
+                result.timeZoneOffset = (c == '-' ? -1 : 1) * (hours * 60 + minutes);
+            } else {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Formats the given date as <code>yyyy-MM-dd'T'HH:mm:ss.SSS</code> followed by the offset of the given time
+     * zone (<code>Z</code> for UTC) and appends the result to the given buffer.
+     * 
+     * @param date the date
+     * @param timeZone the time zone
+     * @param result the buffer to append to
+     * @return false if the date is not within the supported range or the offset of the time zone is not a whole
+     *         number of minutes (nothing is appended then)
+     */
+    static boolean appendTo(Date date, TimeZone timeZone, StringBuilder result) {
+        long time = date.getTime();
+        int offset = timeZone.getOffset(time);
+        if (offset % MILLIS_PER_MINUTE != 0) {
+            return false;
+        }
+        long localTime = time + offset;
+        if (localTime < GREGORIAN_CUTOVER) {
+            return false;
+        }
+        long epochDay = floorDiv(localTime, MILLIS_PER_DAY);
+        int millisOfDay = (int) (localTime - epochDay * MILLIS_PER_DAY);
+        if (!appendDate(result, epochDay)) {
+            return false;
+        }
+        result.append('T');
+        appendDigits(result, millisOfDay / 3600000, 2).append(':');
+        appendDigits(result, millisOfDay / 60000 % 60, 2).append(':');
+        appendDigits(result, millisOfDay / 1000 % 60, 2).append('.');
+        appendDigits(result, millisOfDay % 1000, 3);
+        if (offset == 0) {
+            result.append('Z');
+        } else {
+            int offsetMinutes = (int) (offset / MILLIS_PER_MINUTE);
+            result.append(offsetMinutes < 0 ? '-' : '+');
+            offsetMinutes = Math.abs(offsetMinutes);
+            appendDigits(result, offsetMinutes / 60, 2).append(':');
+            appendDigits(result, offsetMinutes % 60, 2);
+        }
+        return true;
+    }
+
+    private IsoDateTime() {
+    }
+
+    int getYear() {
+        return this.year;
+    }
+
+    int getMonth() {
+        return this.month;
+    }
+
+    int getDay() {
+        return this.day;
+    }
+
+    boolean hasTime() {
+        return this.hasTime;
+    }
+
+    int getHour() {
+        return this.hour;
+    }
+
+    int getMinute() {
+        return this.minute;
+    }
+
+    int getSecond() {
+        return this.second;
+    }
+
+    int getMillisecond() {
+        return this.millisecond;
+    }
+
+    /**
+     * Returns the number of digits of the fractional seconds or 0 if none are given.
+     */
+    int getFractionDigits() {
+        return this.fractionDigits;
+    }
+
+    /**
+     * Returns the time zone offset in minutes or <code>NO_TIME_ZONE</code>.
+     */
+    int getTimeZoneOffset() {
+        return this.timeZoneOffset;
+    }
+
+    /**
+     * Returns the date represented by this value. If no time zone is given, the given calendar is used to
+     * interpret the local date and time; it must use the proleptic Gregorian calendar.
+     */
+    Date toDate(Calendar localCalendar) {
+        if (this.timeZoneOffset != NO_TIME_ZONE) {
+            long epochDay = toEpochDay(this.year, this.month, this.day);
+            long millisOfDay = ((this.hour * 60L + this.minute) * 60 + this.second) * 1000 + this.millisecond;
+            return new Date(epochDay * MILLIS_PER_DAY + millisOfDay - this.timeZoneOffset * MILLIS_PER_MINUTE);
+        }
+        localCalendar.clear();
+        localCalendar.set(Calendar.ERA, GregorianCalendar.AD);
+        localCalendar.set(this.year, this.month - 1, this.day, this.hour, this.minute, this.second);
+        localCalendar.set(Calendar.MILLISECOND, this.millisecond);
+        return localCalendar.getTime();
+    }
+
+    private static int parseDigits(CharSequence chars, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = chars.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static StringBuilder appendDigits(StringBuilder builder, int value, int count) {
+        for (int divisor = (count == 4) ? 1000 : (count == 3) ? 100 : 10; divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + value / divisor % 10));
+        }
+        return builder;
+    }
+
+    private static int getDaysInMonth(int year, int month) {
+        if (month == 2) {
+            boolean leapYear = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+            return leapYear ? 29 : 28;
+        }
+        if (month == 4 || month == 6 || month == 9 || month == 11) {
+            return 30;
+        }
+        return 31;
+    }
+
+    /**
+     * Returns the number of days since 1970-01-01 in the proleptic Gregorian calendar.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long y = (month <= 2) ? year - 1 : year;
+        long era = floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Appends the date of the given number of days since 1970-01-01 in the proleptic Gregorian calendar as
+     * <code>yyyy-MM-dd</code>. Returns false without appending anything if the year has more than four digits.
+     */
+    private static boolean appendDate(StringBuilder builder, long epochDay) {
+        long shiftedDay = epochDay + 719468;
+        long era = floorDiv(shiftedDay, 146097);
+        long dayOfEra = shiftedDay - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth + (shiftedMonth < 10 ? 3 : -9));
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year > MAX_YEAR) {
+            return false;
+        }
+        appendDigits(builder, (int) year, 4).append('-');
+        appendDigits(builder, month, 2).append('-');
+        appendDigits(builder, day, 2);
+        return true;
+    }
+
+    private static long floorDiv(long x, long y) {
+        long result = x / y;
+        if ((x % y != 0) && ((x < 0) != (y < 0))) {
+            result--;
+        }
+        return result;
+    }
+
+}
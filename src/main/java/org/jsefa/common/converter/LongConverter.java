@@ -23,7 +23,7 @@ package org.jsefa.common.converter;
  * 
  * @author Norman Lahme-Huetig
  */
-public final class LongConverter implements SimpleTypeConverter {
+public final class LongConverter implements CharSequenceConverter, AppendingConverter {
     private static final LongConverter INSTANCE = new LongConverter();
 
     /**
@@ -43,17 +43,21 @@ public final class LongConverter implements SimpleTypeConverter {
      * {@inheritDoc}
      */
     public Long fromString(String value) {
-        if (value == null || value.length() == 0) {
+        if (value == null) {
             return null;
         }
-        try {
-            return new Long(value);
-        } catch (NumberFormatException e) {
-            if (value.charAt(0) == '+') {
-                return fromString(value.substring(1));
-            }
-            throw new ConversionException("Wrong Long format: " + value);
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Long fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
+            return null;
         }
+        long value = NumberParser.parseLong(chars, start, end, Long.MIN_VALUE, Long.MAX_VALUE, "Long");
+        return Long.valueOf(value);
     }
 
     /**
@@ -66,4 +70,11 @@ public final class LongConverter implements SimpleTypeConverter {
         return value.toString();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        target.append(((Long) value).longValue());
+    }
+
 }
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+/**
+ * Parses decimal numbers directly from character sequences without creating intermediate objects.
+ * <p>
+ * It is thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+final class NumberParser {
+
+    /**
+     * The powers of ten which are exactly representable as <code>double</code>.
+     */
+    private static final double[] DOUBLE_POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * The powers of ten which are exactly representable as <code>float</code>.
+     */
+    private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f,
+            1e9f, 1e10f};
+
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+
+    private static final int MAX_EXACT_FLOAT_DIGITS = 7;
+
+    private static final int EXPONENT_BIAS = 64;
+
+    private static final int EXPONENT_BITS = 7;
+
+    private static final long NOT_EXACT = -1;
+
+    /**
+     * Parses the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive) as a decimal
+     * integer with an optional leading sign.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @param minValue the minimum allowed value
+     * @param maxValue the maximum allowed value
+     * @param typeName the name of the type to use for the error message
+     * @return the parsed value
+     * @throws ConversionException if the characters do not represent an integer in the given range
+     */
+    static long parseLong(CharSequence chars, int start, int end, long minValue, long maxValue, String typeName) {
+        int index = start;
+        boolean negative = false;
+        if (index < end) {
+            char first = chars.charAt(index);
+            if (first == '-' || first == '+') {
+                negative = (first == '-');
+                index++;
+            }
+        }
+        if (index == end) {
+            throw createException(chars, start, end, typeName);
+        }
+        // accumulate negatively to be able to represent the minimum value
+        long limit = negative ? minValue : -maxValue;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = chars.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                if (chars.charAt(index) < 128) {
+                    throw createException(chars, start, end, typeName);
+                }
+                return parseNonAsciiDigits(chars, start, end, minValue, maxValue, typeName);
+            }
+            if (result < multiplicationLimit) {
+                throw createException(chars, start, end, typeName);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw createException(chars, start, end, typeName);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive) as a
+     * <code>double</code>.
+     * <p>
+     * Plain decimal numbers with at most 15 significant digits and a decimal exponent of at most 22 are converted
+     * with a single correctly rounded floating point operation. All other forms are passed to
+     * <code>Double.parseDouble</code>.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the parsed value
+     * @throws ConversionException if the characters do not represent a <code>double</code>
+     */
+    static double parseDouble(CharSequence chars, int start, int end) {
+        long decimal = scanExactDecimal(chars, start, end, MAX_EXACT_DOUBLE_DIGITS, DOUBLE_POWERS_OF_TEN.length - 1);
+        if (decimal != NOT_EXACT) {
+            double value = getMantissa(decimal);
+            int exponent = getExponent(decimal);
+            if (exponent >= 0) {
+                value *= DOUBLE_POWERS_OF_TEN[exponent];
+            } else {
+                value /= DOUBLE_POWERS_OF_TEN[-exponent];
+            }
+            return isNegative(decimal) ? -value : value;
+        }
+        try {
+            return Double.parseDouble(chars.subSequence(start, end).toString());
+        } catch (NumberFormatException e) {
+            throw createException(chars, start, end, "Double");
+        }
+    }
+
+    /**
+     * Parses the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive) as a
+     * <code>float</code>.
+     * <p>
+     * Plain decimal numbers with at most 7 significant digits and a decimal exponent of at most 10 are converted
+     * with a single correctly rounded floating point operation. All other forms are passed to
+     * <code>Float.parseFloat</code>.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the parsed value
+     * @throws ConversionException if the characters do not represent a <code>float</code>
+     */
+    static float parseFloat(CharSequence chars, int start, int end) {
+        long decimal = scanExactDecimal(chars, start, end, MAX_EXACT_FLOAT_DIGITS, FLOAT_POWERS_OF_TEN.length - 1);
+        if (decimal != NOT_EXACT) {
+            float value = getMantissa(decimal);
+            int exponent = getExponent(decimal);
+            if (exponent >= 0) {
+                value *= FLOAT_POWERS_OF_TEN[exponent];
+            } else {
+                value /= FLOAT_POWERS_OF_TEN[-exponent];
+            }
+            return isNegative(decimal) ? -value : value;
+        }
+        try {
+            return Float.parseFloat(chars.subSequence(start, end).toString());
+        } catch (NumberFormatException e) {
+            throw createException(chars, start, end, "Float");
+        }
+    }
+
+    /**
+     * Creates the exception to throw if the given characters can not be converted to the given type.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @param typeName the name of the type
+     * @return an exception
+     */
+    static ConversionException createException(CharSequence chars, int start, int end, String typeName) {
+        return new ConversionException("Wrong " + typeName + " format: " + chars.subSequence(start, end));
+    }
+
+    /**
+     * Handles the rare case of digits outside of the ASCII range which are accepted by <code>Long.parseLong</code>.
+     */
+    private static long parseNonAsciiDigits(CharSequence chars, int start, int end, long minValue, long maxValue,
+            String typeName) {
+        String value = chars.subSequence(start, end).toString();
+        if (value.charAt(0) == '+') {
+            value = value.substring(1);
+        }
+        try {
+            long result = Long.parseLong(value);
+            if (result >= minValue && result <= maxValue) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw createException(chars, start, end, typeName);
+    }
+
+    /**
+     * Scans a plain decimal number of the form [sign]digits[.digits][(e|E)[sign]digits]. If it has at most the
+     * given number of significant digits and its decimal exponent is within the given bound, its mantissa,
+     * exponent and sign are returned packed into a non negative <code>long</code>; otherwise
+     * <code>NOT_EXACT</code> is returned.
+     */
+    private static long scanExactDecimal(CharSequence chars, int start, int end, int maxDigits, int maxExponent) {
+        int index = start;
+        boolean negative = false;
+        if (index < end && (chars.charAt(index) == '-' || chars.charAt(index) == '+')) {
+            negative = chars.charAt(index) == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean fraction = false;
+        for (; index < end; index++) {
+            char c = chars.charAt(index);
+            if (c >= '0' && c <= '9') {
+                hasDigits = true;
+                if (digits > 0 || c != '0') {
+                    if (++digits > maxDigits) {
+                        return NOT_EXACT;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+                if (fraction) {
+                    exponent--;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (!hasDigits) {
+            return NOT_EXACT;
+        }
+        if (index < end && (chars.charAt(index) == 'e' || chars.charAt(index) == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < end && (chars.charAt(index) == '-' || chars.charAt(index) == '+')) {
+                negativeExponent = chars.charAt(index) == '-';
+                index++;
+            }
+            if (index == end) {
+                return NOT_EXACT;
+            }
+            int explicitExponent = 0;
+            for (; index < end; index++) {
+                char c = chars.charAt(index);
+                if (c < '0' || c > '9' || explicitExponent > EXPONENT_BIAS) {
+                    return NOT_EXACT;
+                }
+                explicitExponent = explicitExponent * 10 + (c - '0');
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (index != end) {
+            return NOT_EXACT;
+        }
+        if (mantissa == 0) {
+            exponent = 0;
+        }
+        if (Math.abs(exponent) > maxExponent) {
+            return NOT_EXACT;
+        }
+        return (mantissa << (EXPONENT_BITS + 1)) | ((exponent + EXPONENT_BIAS) << 1) | (negative ? 1 : 0);
+    }
+
+    private static long getMantissa(long decimal) {
+        return decimal >>> (EXPONENT_BITS + 1);
+    }
+
+    private static int getExponent(long decimal) {
+        return (int) ((decimal >>> 1) & ((1 << EXPONENT_BITS) - 1)) - EXPONENT_BIAS;
+    }
+
+    private static boolean isNegative(long decimal) {
+        return (decimal & 1) != 0;
+    }
+
+    private NumberParser() {
+
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+
+/**
+ * A decimal layout derived from a {@link DecimalFormat} with a plain pattern, i. e. one without grouping,
+ * exponent, prefixes or suffixes (besides the minus sign) and multiplier, e. g. "#0.00" or "#0.####".
+ * <p>
+ * Parsing builds the <code>BigDecimal</code> from an unscaled <code>long</code> and a scale and formatting writes
+ * the digits directly, with the same results as the <code>DecimalFormat</code>. Input which is not a plain
+ * decimal number with at most 18 digits is rejected, so that the caller can fall back to the
+ * <code>DecimalFormat</code>.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+final class PlainDecimalLayout {
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final char decimalSeparator;
+
+    private final char minusSign;
+
+    private final int minimumIntegerDigits;
+
+    private final int minimumFractionDigits;
+
+    private final int maximumFractionDigits;
+
+    /**
+     * Creates a layout for the given decimal format.
+     * 
+     * @param format the decimal format
+     * @return the layout or null if the pattern of the decimal format is not plain.
+     */
+    static PlainDecimalLayout create(DecimalFormat format) {
+        char minusSign = format.getDecimalFormatSymbols().getMinusSign();
+        if (format.isGroupingUsed() || format.isDecimalSeparatorAlwaysShown() || format.getMultiplier() != 1
+                || format.getRoundingMode() != RoundingMode.HALF_EVEN
+                || format.getMaximumIntegerDigits() != Integer.MAX_VALUE
+                || format.getPositivePrefix().length() != 0 || format.getPositiveSuffix().length() != 0
+                || !format.getNegativePrefix().equals(String.valueOf(minusSign))
+                || format.getNegativeSuffix().length() != 0
+                || format.toPattern().indexOf('E') >= 0) {
+            return null;
+        }
+        char decimalSeparator = format.getDecimalFormatSymbols().getDecimalSeparator();
+        if (isDigit(decimalSeparator) || isDigit(minusSign) || decimalSeparator == minusSign) {
+            return null;
+        }
+        return new PlainDecimalLayout(decimalSeparator, minusSign, format.getMinimumIntegerDigits(), format
+                .getMinimumFractionDigits(), format.getMaximumFractionDigits());
+    }
+
+    private PlainDecimalLayout(char decimalSeparator, char minusSign, int minimumIntegerDigits,
+            int minimumFractionDigits, int maximumFractionDigits) {
+        this.decimalSeparator = decimalSeparator;
+        this.minusSign = minusSign;
+        this.minimumIntegerDigits = minimumIntegerDigits;
+        this.minimumFractionDigits = minimumFractionDigits;
+        this.maximumFractionDigits = maximumFractionDigits;
+    }
+
+    /**
+     * Parses the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive).
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the value or null if the characters are not a plain decimal number with at most 18 digits
+     */
+    BigDecimal parse(CharSequence chars, int start, int end) {
+        int index = start;
+        boolean negative = false;
+        if (index < end && chars.charAt(index) == this.minusSign) {
+            negative = true;
+            index++;
+        }
+        long unscaledValue = 0;
+        int digitCount = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; index < end; index++) {
+            char currentChar = chars.charAt(index);
+            if (isDigit(currentChar)) {
+                if (++digitCount > MAX_LONG_DIGITS) {
+                    return null;
+                }
+                unscaledValue = unscaledValue * 10 + (currentChar - '0');
+                if (fraction) {
+                    scale++;
+                }
+            } else if (currentChar == this.decimalSeparator && !fraction) {
+                fraction = true;
+            } else {
+                return null;
+            }
+        }
+        if (digitCount == 0) {
+            return null;
+        }
+        if (negative) {
+            unscaledValue = -unscaledValue;
+        }
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    /**
+     * Formats the given value and appends the result to the given buffer.
+     * <p>
+     * The unscaled digits are appended to the buffer first and removed after the result is written behind them,
+     * so that no intermediate <code>String</code> is needed for values with an unscaled value fitting into a
+     * <code>long</code>.
+     * 
+     * @param value the value
+     * @param target the buffer to append to
+     */
+    void appendTo(BigDecimal value, StringBuilder target) {
+        BigDecimal roundedValue = value;
+        if (value.scale() > this.maximumFractionDigits) {
+            roundedValue = value.setScale(this.maximumFractionDigits, RoundingMode.HALF_EVEN);
+        }
+        BigInteger unscaledValue = roundedValue.unscaledValue().abs();
+        int digitsStart = target.length();
+        if (unscaledValue.bitLength() < 63) {
+            target.append(unscaledValue.longValue());
+        } else {
+            target.append(unscaledValue.toString());
+        }
+        int digitCount = target.length() - digitsStart;
+        int scale = roundedValue.scale();
+
+        // split the digits into the integer and the fraction part (without leading zeros)
+        int integerDigitCount = Math.max(digitCount - Math.max(scale, 0), 0);
+        int fractionDigitCount = Math.max(scale, 0);
+        int trailingIntegerZeros = Math.max(-scale, 0);
+        if (unscaledValue.signum() == 0) {
+            // a zero has no significant integer digits whatever its scale is
+            integerDigitCount = 0;
+            trailingIntegerZeros = 0;
+        }
+        int fractionEnd = fractionDigitCount;
+        while (fractionEnd > this.minimumFractionDigits
+                && fractionDigitAt(target, digitsStart, digitCount, fractionDigitCount, fractionEnd - 1) == '0') {
+            fractionEnd--;
+        }
+        int integerLength = Math.max(integerDigitCount + trailingIntegerZeros, this.minimumIntegerDigits);
+        int fractionLength = Math.max(fractionEnd, this.minimumFractionDigits);
+        if (integerLength == 0 && fractionLength == 0) {
+            integerLength = 1;
+        }
+
+        int resultStart = target.length();
+        if (value.signum() < 0) {
+            target.append(this.minusSign);
+        }
+        for (int i = integerDigitCount + trailingIntegerZeros; i < integerLength; i++) {
+            target.append('0');
+        }
+        for (int i = 0; i < integerDigitCount; i++) {
+            target.append(target.charAt(digitsStart + i));
+        }
+        for (int i = 0; i < trailingIntegerZeros; i++) {
+            target.append('0');
+        }
+        if (fractionLength > 0) {
+            target.append(this.decimalSeparator);
+            for (int i = 0; i < fractionLength; i++) {
+                if (i < fractionEnd) {
+                    target.append(fractionDigitAt(target, digitsStart, digitCount, fractionDigitCount, i));
+                } else {
+                    target.append('0');
+                }
+            }
+        }
+        target.delete(digitsStart, resultStart);
+    }
+
+    /**
+     * Returns the fraction digit with the given index where the last <code>fractionDigitCount</code> of the
+     * <code>digitCount</code> digits starting at <code>digitsStart</code> are the fraction digits (missing leading
+     * ones are zeros).
+     */
+    private static char fractionDigitAt(CharSequence digits, int digitsStart, int digitCount,
+            int fractionDigitCount, int index) {
+        int digitIndex = digitCount - fractionDigitCount + index;
+        if (digitIndex < 0) {
+            return '0';
+        }
+        return digits.charAt(digitsStart + digitIndex);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+}
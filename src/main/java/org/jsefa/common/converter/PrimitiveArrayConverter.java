@@ -0,0 +1,190 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+import java.lang.reflect.Array;
+
+import org.jsefa.common.util.CharSequenceUtil;
+
+/**
+ * Converter for arrays of the primitive types <code>int</code>, <code>long</code> and <code>double</code>.<br>
+ * The format consists of one <code>String</code> representing the delimiter for the array items.
+ * <p>
+ * The items are parsed directly from the characters between the delimiters without creating any intermediate
+ * objects (except for <code>double</code> values with more than 15 significant digits). The array is sized by
+ * counting the delimiters first.
+ * <p>
+ * It is thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class PrimitiveArrayConverter implements CharSequenceConverter, AppendingConverter {
+
+    /**
+     * Format <code>String</code> with "," as the array item delimiter.
+     */
+    private static final String[] DEFAULT_FORMAT = {","};
+
+    private final Class<?> componentType;
+
+    private final String delimiter;
+
+    /**
+     * Creates a <code>PrimitiveArrayConverter</code>.<br>
+     * If no format is given, "," is used as the delimiter.
+     * 
+     * @param configuration the configuration
+     * @return a primitive array converter
+     * @throws ConversionException if the given format or the object type is not valid.
+     */
+    public static PrimitiveArrayConverter create(SimpleTypeConverterConfiguration configuration) {
+        return new PrimitiveArrayConverter(configuration);
+    }
+
+    private PrimitiveArrayConverter(SimpleTypeConverterConfiguration configuration) {
+        Class<?> objectType = configuration.getObjectType();
+        if (objectType != int[].class && objectType != long[].class && objectType != double[].class) {
+            throw new ConversionException("Could not create a " + this.getClass().getName() + " for type "
+                    + objectType.getName());
+        }
+        this.componentType = objectType.getComponentType();
+        this.delimiter = getFormat(configuration)[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object fromChars(CharSequence chars, int start, int end) {
+        int size = 0;
+        if (start < end) {
+            size = 1;
+            for (int index = CharSequenceUtil.indexOf(chars, this.delimiter, start, end); index != -1;
+                    index = CharSequenceUtil.indexOf(chars, this.delimiter, index + this.delimiter.length(), end)) {
+                size++;
+            }
+        }
+        if (this.componentType == int.class) {
+            int[] result = new int[size];
+            int itemStart = start;
+            for (int i = 0; i < size; i++) {
+                int itemEnd = getItemEnd(chars, itemStart, end);
+                result[i] = (int) NumberParser.parseLong(chars, itemStart, itemEnd, Integer.MIN_VALUE,
+                        Integer.MAX_VALUE, "Integer");
+                itemStart = itemEnd + this.delimiter.length();
+            }
+            return result;
+        } else if (this.componentType == long.class) {
+            long[] result = new long[size];
+            int itemStart = start;
+            for (int i = 0; i < size; i++) {
+                int itemEnd = getItemEnd(chars, itemStart, end);
+                result[i] = NumberParser.parseLong(chars, itemStart, itemEnd, Long.MIN_VALUE, Long.MAX_VALUE,
+                        "Long");
+                itemStart = itemEnd + this.delimiter.length();
+            }
+            return result;
+        } else {
+            double[] result = new double[size];
+            int itemStart = start;
+            for (int i = 0; i < size; i++) {
+                int itemEnd = getItemEnd(chars, itemStart, end);
+                result[i] = NumberParser.parseDouble(chars, itemStart, itemEnd);
+                itemStart = itemEnd + this.delimiter.length();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        int itemLength;
+        if (this.componentType == int.class) {
+            itemLength = 6;
+        } else {
+            itemLength = 10;
+        }
+        StringBuilder result = new StringBuilder(Array.getLength(value) * (itemLength + this.delimiter.length()));
+        appendTo(value, result);
+        return result.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        if (this.componentType == int.class) {
+            int[] array = (int[]) value;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    target.append(this.delimiter);
+                }
+                target.append(array[i]);
+            }
+        } else if (this.componentType == long.class) {
+            long[] array = (long[]) value;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    target.append(this.delimiter);
+                }
+                target.append(array[i]);
+            }
+        } else {
+            double[] array = (double[]) value;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    target.append(this.delimiter);
+                }
+                target.append(array[i]);
+            }
+        }
+    }
+
+    private int getItemEnd(CharSequence chars, int itemStart, int end) {
+        int itemEnd = CharSequenceUtil.indexOf(chars, this.delimiter, itemStart, end);
+        if (itemEnd == -1) {
+            return end;
+        }
+        return itemEnd;
+    }
+
+    private String[] getFormat(SimpleTypeConverterConfiguration configuration) {
+        if (configuration.getFormat() == null) {
+            return PrimitiveArrayConverter.DEFAULT_FORMAT;
+        }
+        if (configuration.getFormat().length != 1 || configuration.getFormat()[0].length() == 0) {
+            throw new ConversionException(
+                    "The format for a PrimitiveArrayConverter must be an array with 1 non empty entry");
+        }
+        return configuration.getFormat();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.converter;
+
+/**
+ * Converter for <code>Short</code> objects. It is used for the primitive type <code>short</code> as well.
+ * <p>
+ * The value is parsed directly from the characters without creating an intermediate <code>String</code>.
+ * <p>
+ * It is thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class ShortConverter implements CharSequenceConverter, AppendingConverter {
+    private static final ShortConverter INSTANCE = new ShortConverter();
+
+    /**
+     * Returns the single <code>ShortConverter</code>.
+     * 
+     * @return the single short converter.
+     */
+    public static ShortConverter create() {
+        return INSTANCE;
+    }
+
+    private ShortConverter() {
+
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Short fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Short fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+        return Short.valueOf((short) NumberParser.parseLong(chars, start, end, Short.MIN_VALUE, Short.MAX_VALUE,
+                "Short"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void appendTo(Object value, StringBuilder target) {
+        target.append(((Short) value).shortValue());
+    }
+
+}
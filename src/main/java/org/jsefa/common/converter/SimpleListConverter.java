@@ -24,17 +24,21 @@ import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 
+import org.jsefa.common.util.CharSequenceUtil;
 import org.jsefa.common.util.ReflectionUtil;
 
 /**
  * Converter for <code>List</code> objects.<br>
  * The format consists of one <code>String</code> representing the delimiter for the list items.
  * <p>
+ * The collection is sized by counting the delimiters first. If the item type converter is a
+ * {@link CharSequenceConverter}, the items are converted directly from the characters between the delimiters.
+ * <p>
  * It is thread-safe.
  * 
  * @author Norman Lahme-Huetig
  */
-public class SimpleListConverter implements SimpleTypeConverter {
+public class SimpleListConverter implements CharSequenceConverter, AppendingConverter {
 
     /**
      * Format <code>String</code> with "," as the list item delimiter.
@@ -84,21 +88,39 @@ public class SimpleListConverter implements SimpleTypeConverter {
     /**
      * {@inheritDoc}
      */
-    @SuppressWarnings("unchecked")
     public final Object fromString(String value) {
         if (value == null) {
             return null;
         }
-        Collection result = ReflectionUtil.createInstance(this.collectionClass);
-        if (value.length() > 0) {
-            int lastIndex = 0;
-            int index = value.indexOf(this.delimiter);
-            while (index != -1) {
-                result.add(this.itemTypeConverter.fromString(value.substring(lastIndex, index)));
-                lastIndex = index + this.delimiter.length();
-                index = value.indexOf(this.delimiter, lastIndex);
+        return fromChars(value, 0, value.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final Object fromChars(CharSequence chars, int start, int end) {
+        if (start == end) {
+            return createCollection(0);
+        }
+        int size = 1;
+        int index = CharSequenceUtil.indexOf(chars, this.delimiter, start, end);
+        while (index != -1) {
+            size++;
+            index = CharSequenceUtil.indexOf(chars, this.delimiter, index + this.delimiter.length(), end);
+        }
+        Collection<Object> result = createCollection(size);
+        int itemStart = start;
+        for (int i = 0; i < size; i++) {
+            int itemEnd = CharSequenceUtil.indexOf(chars, this.delimiter, itemStart, end);
+            if (itemEnd == -1) {
+                itemEnd = end;
+            }
+            if (this.itemTypeConverter instanceof CharSequenceConverter) {
+                result.add(((CharSequenceConverter) this.itemTypeConverter).fromChars(chars, itemStart, itemEnd));
+            } else {
+                result.add(this.itemTypeConverter.fromString(chars.subSequence(itemStart, itemEnd).toString()));
             }
-            result.add(this.itemTypeConverter.fromString(value.substring(lastIndex)));
+            itemStart = itemEnd + this.delimiter.length();
         }
         return result;
     }
@@ -106,19 +128,29 @@ public class SimpleListConverter implements SimpleTypeConverter {
     /**
      * {@inheritDoc}
      */
-    @SuppressWarnings("unchecked")
     public final String toString(Object value) {
         StringBuilder result = new StringBuilder();
-        Collection list = (Collection) value;
+        appendTo(value, result);
+        return result.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final void appendTo(Object value, StringBuilder target) {
+        Collection<?> list = (Collection<?>) value;
         int listSize = list.size();
         int itemIndex = 0;
         for (Object item : list) {
-            result.append(this.itemTypeConverter.toString(item));
+            if (item != null && this.itemTypeConverter instanceof AppendingConverter) {
+                ((AppendingConverter) this.itemTypeConverter).appendTo(item, target);
+            } else {
+                target.append(this.itemTypeConverter.toString(item));
+            }
             if (++itemIndex < listSize) {
-                result.append(this.delimiter);
+                target.append(this.delimiter);
             }
         }
-        return result.toString();
     }
 
     /**
@@ -150,6 +182,17 @@ public class SimpleListConverter implements SimpleTypeConverter {
         return null;
     }
 
+    @SuppressWarnings("unchecked")
+    private Collection<Object> createCollection(int size) {
+        if (this.collectionClass == ArrayList.class) {
+            return new ArrayList<Object>(size);
+        }
+        if (this.collectionClass == HashSet.class) {
+            return new HashSet<Object>(Math.max(16, (int) (size / .75f) + 1));
+        }
+        return ReflectionUtil.createInstance(this.collectionClass);
+    }
+
     private String[] getFormat(SimpleTypeConverterConfiguration configuration) {
         if (configuration.getFormat() == null) {
             return getDefaultFormat();
@@ -157,6 +200,9 @@ public class SimpleListConverter implements SimpleTypeConverter {
         if (configuration.getFormat().length != 1) {
             throw new ConversionException("The format for a SimpleListConverter must be an array with 1 entry");
         }
+        if (configuration.getFormat()[0].length() == 0) {
+            throw new ConversionException("The delimiter of a SimpleListConverter must not be empty");
+        }
         return configuration.getFormat();
     }
 
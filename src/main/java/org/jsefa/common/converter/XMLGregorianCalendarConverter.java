@@ -17,12 +17,16 @@
 package org.jsefa.common.converter;
 
 import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 /**
  * Converter for <code>XMLGregorianCalendar</code> objects.
  * <p>
+ * Values in the common form <code>yyyy-MM-dd['T'HH:mm:ss[.SSS]][Z|(+|-)HH:mm]</code> are parsed directly and
+ * passed to the <code>DatatypeFactory</code> as fields. All other values are parsed by the factory.
+ * <p>
  * It is thread-safe.
  * 
  * @author Norman Lahme-Huetig
@@ -54,6 +58,23 @@ public final class XMLGregorianCalendarConverter implements SimpleTypeConverter
         if (value == null || value.length() == 0) {
             return null;
         }
+        IsoDateTime dateTime = IsoDateTime.parse(value, 0, value.length());
+        if (dateTime != null && (dateTime.getFractionDigits() == 0 || dateTime.getFractionDigits() == 3)) {
+            int timeZone = dateTime.getTimeZoneOffset();
+            if (timeZone == IsoDateTime.NO_TIME_ZONE) {
+                timeZone = DatatypeConstants.FIELD_UNDEFINED;
+            }
+            if (!dateTime.hasTime()) {
+                return this.factory.newXMLGregorianCalendarDate(dateTime.getYear(), dateTime.getMonth(), dateTime
+                        .getDay(), timeZone);
+            }
+            int millisecond = dateTime.getMillisecond();
+            if (dateTime.getFractionDigits() == 0) {
+                millisecond = DatatypeConstants.FIELD_UNDEFINED;
+            }
+            return this.factory.newXMLGregorianCalendar(dateTime.getYear(), dateTime.getMonth(), dateTime.getDay(),
+                    dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), millisecond, timeZone);
+        }
         return this.factory.newXMLGregorianCalendar(value);
     }
 
@@ -34,11 +34,14 @@ import javax.xml.datatype.XMLGregorianCalendar;
  * Converter for <code>XmlDateTime</code> objects.<br>
  * The format is a single String describing the time zone, e. g. "GMT".
  * <p>
+ * Values in the common form <code>yyyy-MM-dd['T'HH:mm:ss[.S+]][Z|(+|-)HH:mm]</code> are parsed and formatted
+ * directly. A <code>DatatypeFactory</code> is only used for other forms like years with more than four digits.
+ * <p>
  * It is thread safe.
  * 
  * @author Norman Lahme-Huetig
  */
-public class XmlDateTimeConverter implements SimpleTypeConverter {
+public class XmlDateTimeConverter implements AppendingConverter {
     /**
      * The default format which is used when no format is explicitly given.
      */
@@ -50,6 +53,15 @@ public class XmlDateTimeConverter implements SimpleTypeConverter {
 
     private final TimeZone timeZone;
 
+    private final ThreadLocal<GregorianCalendar> localCalendar = new ThreadLocal<GregorianCalendar>() {
+        @Override
+        protected GregorianCalendar initialValue() {
+            GregorianCalendar calendar = new GregorianCalendar(TimeZone.getDefault());
+            calendar.setGregorianChange(PURE_GREGORIAN_CHANGE);
+            return calendar;
+        }
+    };
+
     /**
      * Constructs a <code>XmlDateTimeConverter</code>.<br>
      * If no format is given, the default format (see {@link #getDefaultFormat()}) is used.
@@ -83,6 +95,10 @@ public class XmlDateTimeConverter implements SimpleTypeConverter {
         if (value == null || value.length() == 0) {
             return null;
         }
+        IsoDateTime dateTime = IsoDateTime.parse(value, 0, value.length());
+        if (dateTime != null) {
+            return dateTime.toDate(this.localCalendar.get());
+        }
         try {
             return toGregorianCalendar(this.factory.newXMLGregorianCalendar(value)).getTime();
         } catch (Exception e) {
@@ -97,9 +113,20 @@ public class XmlDateTimeConverter implements SimpleTypeConverter {
         if (value == null) {
             return null;
         }
-        GregorianCalendar cal = new GregorianCalendar(this.timeZone);
-        cal.setTime((Date) value);
-        return this.factory.newXMLGregorianCalendar(cal).toString();
+        StringBuilder result = new StringBuilder(29);
+        if (IsoDateTime.appendTo((Date) value, this.timeZone, result)) {
+            return result.toString();
+        }
+        return formatUsingFactory((Date) value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final void appendTo(Object value, StringBuilder target) {
+        if (!IsoDateTime.appendTo((Date) value, this.timeZone, target)) {
+            target.append(formatUsingFactory((Date) value));
+        }
     }
 
     /**
@@ -121,6 +148,12 @@ public class XmlDateTimeConverter implements SimpleTypeConverter {
         return configuration.getFormat()[0];
     }
 
+    private String formatUsingFactory(Date value) {
+        GregorianCalendar cal = new GregorianCalendar(this.timeZone);
+        cal.setTime(value);
+        return this.factory.newXMLGregorianCalendar(cal).toString();
+    }
+
     /**
      * Creates a new <code>GregorianCalendar</code> from the given <code>XMLGregorianCalendar</code>. The
      * implementation is based on {@link XMLGregorianCalendar#toGregorianCalendar} and improved for better
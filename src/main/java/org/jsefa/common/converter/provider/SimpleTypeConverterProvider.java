@@ -31,6 +31,9 @@ import org.jsefa.common.util.ReflectionUtil;
  * Each <code>SimpleTypeConverter</code> must have a static factory method <code>create</code>, which is
  * either parameterless or has exactly one parameter of type {@link SimpleTypeConverterConfiguration}.
  * <p>
+ * The provider holds the default size of the cache to be used for converters of cacheable types (see
+ * {@link org.jsefa.common.converter.CachingConverter}). It is 0 by default, i. e. no caching takes place.
+ * <p>
  * It is thread-safe.
  * 
  * @author Norman Lahme-Huetig
@@ -39,6 +42,8 @@ import org.jsefa.common.util.ReflectionUtil;
 public final class SimpleTypeConverterProvider {
     private final ConcurrentMap<Class<?>, Class<? extends SimpleTypeConverter>> converterTypeMap;
 
+    private volatile int converterCacheSize;
+
     /**
      * Constructs a <code>SimpleTypeConverterProvider</code>.
      */
@@ -49,6 +54,7 @@ public final class SimpleTypeConverterProvider {
     private SimpleTypeConverterProvider(SimpleTypeConverterProvider other) {
         this.converterTypeMap = new ConcurrentHashMap<Class<?>, Class<? extends SimpleTypeConverter>>(
                 other.converterTypeMap);
+        this.converterCacheSize = other.converterCacheSize;
     }
 
     /**
@@ -157,6 +163,28 @@ public final class SimpleTypeConverterProvider {
         this.converterTypeMap.put(objectType, converterType);
     }
 
+    /**
+     * Returns the default size of the cache for converters of cacheable types.
+     * 
+     * @return the cache size. 0 means that no cache is used.
+     */
+    public int getConverterCacheSize() {
+        return this.converterCacheSize;
+    }
+
+    /**
+     * Sets the default size of the cache for converters of cacheable types. It may be overridden per field
+     * using the <code>cacheSize</code> annotation parameter.
+     * 
+     * @param converterCacheSize the cache size. 0 means that no cache is used.
+     */
+    public void setConverterCacheSize(int converterCacheSize) {
+        if (converterCacheSize < 0) {
+            throw new IllegalArgumentException("The cache size must not be negative: " + converterCacheSize);
+        }
+        this.converterCacheSize = converterCacheSize;
+    }
+
     private Class<? extends SimpleTypeConverter> getConverterType(Class<?> objectType) {
         return ReflectionUtil.getNearest(objectType, this.converterTypeMap);
     }
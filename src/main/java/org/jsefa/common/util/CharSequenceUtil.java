@@ -0,0 +1,98 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.util;
+
+/**
+ * Utility class for ranges of characters within a <code>CharSequence</code>.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public final class CharSequenceUtil {
+
+    /**
+     * Returns the hash code of the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive)
+     * of the given character sequence. It equals the hash code of a <code>String</code> with these characters.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the hash code
+     */
+    public static int hashCode(CharSequence chars, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns true if and only if the given string consists of the characters from <code>start</code>
+     * (inclusive) to <code>end</code> (exclusive) of the given character sequence.
+     * 
+     * @param string the string
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return true, if the string equals the range of characters; false otherwise.
+     */
+    public static boolean equals(String string, CharSequence chars, int start, int end) {
+        if (string.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) != chars.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the given non empty string within the characters from
+     * <code>start</code> (inclusive) to <code>end</code> (exclusive) of the given character sequence.
+     * 
+     * @param chars the character sequence
+     * @param string the string to search for
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the index of the first occurrence or -1 if there is none
+     */
+    public static int indexOf(CharSequence chars, String string, int start, int end) {
+        int lastStart = end - string.length();
+        char first = string.charAt(0);
+        for (int index = start; index <= lastStart; index++) {
+            if (chars.charAt(index) == first && matchesAt(chars, string, index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesAt(CharSequence chars, String string, int index) {
+        for (int i = 1; i < string.length(); i++) {
+            if (chars.charAt(index + i) != string.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CharSequenceUtil() {
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.util;
+
+import org.jsefa.Deserializer;
+import org.jsefa.IOFactory;
+import org.jsefa.Serializer;
+
+/**
+ * The pools of reusable serializers and deserializers of an {@link IOFactory}. Instances are created by the
+ * factory on demand and closed (without closing the underlying stream) when they are given back, so that a pooled
+ * instance neither keeps state of its previous use nor references the writer or reader of its previous user.
+ * <p>
+ * This class is thread-safe and lock-free.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ * @param <S> the type of the serializers
+ * @param <D> the type of the deserializers
+ */
+public final class IOInstancePool<S extends Serializer, D extends Deserializer> {
+
+    private static final int MAX_IDLE_INSTANCES = 32;
+
+    private final InstancePool<S> serializerPool;
+
+    private final InstancePool<D> deserializerPool;
+
+    /**
+     * Creates a new <code>IOInstancePool</code> for the given factory.
+     *
+     * @param <S> the type of the serializers
+     * @param <D> the type of the deserializers
+     * @param factory the factory creating serializers of type <code>S</code> and deserializers of type
+     *            <code>D</code>
+     * @return an <code>IOInstancePool</code>
+     */
+    public static <S extends Serializer, D extends Deserializer> IOInstancePool<S, D> create(IOFactory factory) {
+        return new IOInstancePool<S, D>(factory);
+    }
+
+    private IOInstancePool(final IOFactory factory) {
+        this.serializerPool = new InstancePool<S>(MAX_IDLE_INSTANCES) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected S create() {
+                return (S) factory.createSerializer();
+            }
+
+            @Override
+            protected void reset(S serializer) {
+                serializer.close(false);
+            }
+        };
+        this.deserializerPool = new InstancePool<D>(MAX_IDLE_INSTANCES) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected D create() {
+                return (D) factory.createDeserializer();
+            }
+
+            @Override
+            protected void reset(D deserializer) {
+                deserializer.close(false);
+            }
+        };
+    }
+
+    /**
+     * Returns an idle serializer or a new one if none is idle.
+     *
+     * @return a serializer
+     */
+    public S borrowSerializer() {
+        return this.serializerPool.borrow();
+    }
+
+    /**
+     * Returns an idle deserializer or a new one if none is idle.
+     *
+     * @return a deserializer
+     */
+    public D borrowDeserializer() {
+        return this.deserializerPool.borrow();
+    }
+
+    /**
+     * Gives the given serializer back to the pool. It must not be used by the caller any more.
+     *
+     * @param serializer the serializer
+     */
+    public void release(S serializer) {
+        this.serializerPool.release(serializer);
+    }
+
+    /**
+     * Gives the given deserializer back to the pool. It must not be used by the caller any more.
+     *
+     * @param deserializer the deserializer
+     */
+    public void release(D deserializer) {
+        this.deserializerPool.release(deserializer);
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of reusable instances. Instances are created on demand if the pool is empty. Released instances
+ * are reset and kept for reuse as long as the number of idle instances is below the given maximum; otherwise they
+ * are dropped. An instance which can not be reset is dropped, too.
+ * <p>
+ * The pool keeps track of the instances it handed out (without preventing them from being garbage collected if
+ * they are never released). Releasing an instance which is not borrowed from this pool, e. g. releasing an
+ * instance twice or releasing an instance of another pool, is ignored. So an instance can never be handed out to
+ * two callers at the same time.
+ * <p>
+ * This class is thread-safe and lock-free.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ * @param <T> the type of the pooled instances
+ */
+public abstract class InstancePool<T> {
+
+    private final Queue<T> idleInstances;
+
+    private final AtomicInteger idleCount;
+
+    private final int maxIdleCount;
+
+    private final ConcurrentMap<BorrowedKey, Boolean> borrowedInstances;
+
+    private final ReferenceQueue<Object> collectedInstances;
+
+    /**
+     * Constructs a new <code>InstancePool</code>.
+     *
+     * @param maxIdleCount the maximum number of idle instances to keep
+     */
+    protected InstancePool(int maxIdleCount) {
+        this.idleInstances = new ConcurrentLinkedQueue<T>();
+        this.idleCount = new AtomicInteger();
+        this.maxIdleCount = maxIdleCount;
+        this.borrowedInstances = new ConcurrentHashMap<BorrowedKey, Boolean>();
+        this.collectedInstances = new ReferenceQueue<Object>();
+    }
+
+    /**
+     * Returns an idle instance or a new one if none is idle.
+     *
+     * @return an instance
+     */
+    public final T borrow() {
+        T instance = this.idleInstances.poll();
+        if (instance == null) {
+            instance = create();
+        } else {
+            this.idleCount.decrementAndGet();
+        }
+        expungeCollectedInstances();
+        this.borrowedInstances.put(new BorrowedKey(instance, this.collectedInstances), Boolean.TRUE);
+        return instance;
+    }
+
+    /**
+     * Returns the given instance to the pool. The instance must not be used by the caller any more. Nothing happens
+     * if the instance is not currently borrowed from this pool.
+     *
+     * @param instance the instance to return
+     */
+    public final void release(T instance) {
+        if (instance == null) {
+            return;
+        }
+        expungeCollectedInstances();
+        if (this.borrowedInstances.remove(new BorrowedKey(instance, null)) == null) {
+            return;
+        }
+        try {
+            reset(instance);
+        } catch (RuntimeException e) {
+            return;
+        }
+        if (this.idleCount.incrementAndGet() > this.maxIdleCount) {
+            this.idleCount.decrementAndGet();
+            return;
+        }
+        this.idleInstances.offer(instance);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @return a new instance
+     */
+    protected abstract T create();
+
+    /**
+     * Resets the given instance when it is given back to the pool, so that it does not keep any state of its
+     * previous use. This implementation does nothing.
+     *
+     * @param instance the instance to reset
+     * @throws RuntimeException if the instance can not be reset. It is dropped then.
+     */
+    protected void reset(T instance) {
+    }
+
+    private void expungeCollectedInstances() {
+        Reference<?> key = this.collectedInstances.poll();
+        while (key != null) {
+            this.borrowedInstances.remove(key);
+            key = this.collectedInstances.poll();
+        }
+    }
+
+    private static final class BorrowedKey extends WeakReference<Object> {
+        private final int hashCode;
+
+        BorrowedKey(Object instance, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.hashCode = System.identityHashCode(instance);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof BorrowedKey)) {
+                return false;
+            }
+            Object instance = get();
+            return instance != null && instance == ((BorrowedKey) other).get();
+        }
+    }
+
+}
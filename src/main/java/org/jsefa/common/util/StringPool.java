@@ -0,0 +1,104 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.util;
+
+/**
+ * A bounded pool of canonical <code>String</code> instances used to deduplicate the values read by a
+ * deserializer.
+ * <p>
+ * The pool is direct-mapped: each value has exactly one slot determined by its hash, and a new value replaces the
+ * previous occupant of its slot. A value is looked up by a range of characters, so a <code>String</code> is only
+ * created if the pool does not already contain an equal one.
+ * <p>
+ * This class is thread-safe and lock-free.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class StringPool {
+
+    private static final int MAX_SIZE = 1 << 20;
+
+    private final String[] strings;
+
+    private final int mask;
+
+    /**
+     * Creates a new <code>StringPool</code>.
+     * 
+     * @param size the maximum number of pooled strings. It is rounded up to the next power of two.
+     * @return a string pool
+     */
+    public static StringPool create(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The pool size must be positive: " + size);
+        }
+        return new StringPool(size);
+    }
+
+    private StringPool(int size) {
+        int capacity = 1;
+        while (capacity < size && capacity < MAX_SIZE) {
+            capacity <<= 1;
+        }
+        this.strings = new String[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the canonical <code>String</code> for the characters from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive) of the given character sequence.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return a string equal to the given range of characters
+     */
+    public String get(CharSequence chars, int start, int end) {
+        int index = index(CharSequenceUtil.hashCode(chars, start, end));
+        String candidate = this.strings[index];
+        if (candidate != null && CharSequenceUtil.equals(candidate, chars, start, end)) {
+            return candidate;
+        }
+        String value = chars.subSequence(start, end).toString();
+        this.strings[index] = value;
+        return value;
+    }
+
+    /**
+     * Returns the canonical <code>String</code> equal to the given one.
+     * 
+     * @param value the string. May be null.
+     * @return a string equal to the given one or null if it is null
+     */
+    public String get(String value) {
+        if (value == null) {
+            return null;
+        }
+        int index = index(value.hashCode());
+        String candidate = this.strings[index];
+        if (value.equals(candidate)) {
+            return candidate;
+        }
+        this.strings[index] = value;
+        return value;
+    }
+
+    private int index(int hash) {
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Validates a batch of values in parallel using an {@link Executor}.
+ * <p>
+ * The batch is split into tasks of at most <code>taskSize</code> values. All tasks but the first are passed to
+ * the executor. The calling thread runs the first task and then every task which no worker has started yet
+ * (including the ones rejected by the executor). Only then it waits for the tasks still running on workers. So
+ * the validation does not depend on the executor having a free worker and can not deadlock on a saturated or
+ * shared executor. The results are returned in the order of the values.
+ * <p>
+ * The validators must be thread-safe, which is true for all validators provided by JSefa.
+ * <p>
+ * It is thread-safe and immutable.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public final class BatchValidator {
+
+    private final Executor executor;
+
+    private final int taskSize;
+
+    /**
+     * Creates a new <code>BatchValidator</code>.
+     * 
+     * @param executor the executor to run the validation tasks
+     * @param taskSize the maximum number of values to validate within one task
+     * @return a batch validator
+     */
+    public static BatchValidator create(Executor executor, int taskSize) {
+        return new BatchValidator(executor, taskSize);
+    }
+
+    private BatchValidator(Executor executor, int taskSize) {
+        if (executor == null) {
+            throw new IllegalArgumentException("No executor given");
+        }
+        if (taskSize < 1) {
+            throw new IllegalArgumentException("The task size must be positive: " + taskSize);
+        }
+        this.executor = executor;
+        this.taskSize = taskSize;
+    }
+
+    /**
+     * Validates the given values using the given validator.
+     * 
+     * @param values the values to validate
+     * @param validator the validator
+     * @return the validation results in the order of the values
+     */
+    public List<ValidationResult> validate(List<?> values, Validator validator) {
+        return validate(values, Collections.nCopies(values.size(), validator));
+    }
+
+    /**
+     * Validates each value using the validator at the same index. A value is valid if its validator is null.
+     * <p>
+     * If a validator throws an exception, it is rethrown after all tasks are finished.
+     * 
+     * @param values the values to validate
+     * @param validators the validators
+     * @return the validation results in the order of the values
+     */
+    public List<ValidationResult> validate(List<?> values, List<? extends Validator> validators) {
+        if (values.size() != validators.size()) {
+            throw new IllegalArgumentException("The number of values and validators differ");
+        }
+        Object[] valueArray = values.toArray();
+        Validator[] validatorArray = validators.toArray(new Validator[validators.size()]);
+        ValidationResult[] results = new ValidationResult[valueArray.length];
+        int taskCount = (valueArray.length + this.taskSize - 1) / this.taskSize;
+        if (taskCount > 1) {
+            CountDownLatch latch = new CountDownLatch(taskCount);
+            Task[] tasks = new Task[taskCount];
+            for (int i = 0; i < taskCount; i++) {
+                tasks[i] = new Task(valueArray, validatorArray, results, i * this.taskSize, Math.min(
+                        (i + 1) * this.taskSize, valueArray.length), latch);
+            }
+            for (int i = 1; i < taskCount; i++) {
+                try {
+                    this.executor.execute(tasks[i]);
+                } catch (RejectedExecutionException e) {
+                    break;
+                }
+            }
+            tasks[0].run();
+            // the workers take the tasks from the front, so start with the last one
+            for (int i = taskCount - 1; i > 0; i--) {
+                tasks[i].run();
+            }
+            awaitUninterruptibly(latch);
+            for (Task task : tasks) {
+                task.rethrowFailure();
+            }
+        } else if (taskCount == 1) {
+            Task task = new Task(valueArray, validatorArray, results, 0, valueArray.length, null);
+            task.run();
+            task.rethrowFailure();
+        }
+        List<ValidationResult> resultList = new ArrayList<ValidationResult>(results.length);
+        Collections.addAll(resultList, results);
+        return resultList;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Task implements Runnable {
+        private final Object[] values;
+
+        private final Validator[] validators;
+
+        private final ValidationResult[] results;
+
+        private final int start;
+
+        private final int end;
+
+        private final CountDownLatch latch;
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Throwable failure;
+
+        Task(Object[] values, Validator[] validators, ValidationResult[] results, int start, int end,
+                CountDownLatch latch) {
+            this.values = values;
+            this.validators = validators;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+            this.latch = latch;
+        }
+
+        public void run() {
+            if (!this.claimed.compareAndSet(false, true)) {
+                // already run or running in another thread
+                return;
+            }
+            try {
+                for (int i = this.start; i < this.end; i++) {
+                    Validator validator = this.validators[i];
+                    if (validator == null) {
+                        this.results[i] = ValidationResult.VALID;
+                    } else {
+                        this.results[i] = validator.validate(this.values[i]);
+                    }
+                }
+            } catch (Throwable e) {
+                this.failure = e;
+            } finally {
+                if (this.latch != null) {
+                    this.latch.countDown();
+                }
+            }
+        }
+
+        void rethrowFailure() {
+            if (this.failure instanceof RuntimeException) {
+                throw (RuntimeException) this.failure;
+            } else if (this.failure instanceof Error) {
+                throw (Error) this.failure;
+            } else if (this.failure != null) {
+                throw new IllegalStateException(this.failure);
+            }
+        }
+    }
+
+}
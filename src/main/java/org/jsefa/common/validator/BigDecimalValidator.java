@@ -19,8 +19,7 @@ package org.jsefa.common.validator;
 import static org.jsefa.common.validator.ValidationErrorCodes.OUT_OF_RANGE;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
 
 import org.jsefa.common.converter.BigDecimalConverter;
 import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
@@ -63,24 +62,28 @@ public final class BigDecimalValidator extends NumberValidator<BigDecimal> {
      */
     public ValidationResult validate(Object value) {
         BigDecimal number = (BigDecimal) value;
-        Collection<ValidationError> errors = new ArrayList<ValidationError>(super.validate(number).getErrors());
-        validateMinExclusive(number, errors);
-        validateMaxExclusive(number, errors);
+        List<ValidationError> errors = ValidationErrors.addAll(null, super.validate(number));
+        errors = validateMinExclusive(number, errors);
+        errors = validateMaxExclusive(number, errors);
         return ValidationResult.create(errors);
     }
     
-    private void validateMinExclusive(BigDecimal number, Collection<ValidationError> errors) {
+    private List<ValidationError> validateMinExclusive(BigDecimal number, List<ValidationError> errors) {
         if (this.minExclusive != null && number.compareTo(this.minExclusive) <= 0) {
-            String errorText = "The value " + number + " is not above the minimum exclusive value " + this.minExclusive;
-            errors.add(ValidationError.create(OUT_OF_RANGE, errorText));
+            Object[] errorText = {"The value ", number, " is not above the minimum exclusive value ",
+                this.minExclusive};
+            return ValidationErrors.add(errors, ValidationError.create(OUT_OF_RANGE, errorText));
         }
+        return errors;
     }
     
-    private void validateMaxExclusive(BigDecimal number, Collection<ValidationError> errors) {
+    private List<ValidationError> validateMaxExclusive(BigDecimal number, List<ValidationError> errors) {
         if (this.maxExclusive != null && number.compareTo(this.maxExclusive) >= 0) {
-            String errorText = "The value " + number + " is not below the maximum exclusive value " + this.maxExclusive;
-            errors.add(ValidationError.create(OUT_OF_RANGE, errorText));
+            Object[] errorText = {"The value ", number, " is not below the maximum exclusive value ",
+                this.maxExclusive};
+            return ValidationErrors.add(errors, ValidationError.create(OUT_OF_RANGE, errorText));
         }
+        return errors;
     }    
 
 }
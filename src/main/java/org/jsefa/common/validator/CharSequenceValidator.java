@@ -0,0 +1,43 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.validator;
+
+/**
+ * A {@link Validator} which can check the text of a simple value before it is converted into an object.
+ * <p>
+ * Deserializers may call {@link #validateChars(CharSequence, int, int)} with the range of their input buffer
+ * holding the field value in order to reject an invalid record before its objects are created. The check must be
+ * conservative: if the text is rejected, the converted value would have been rejected by
+ * {@link #validate(Object)}, too. If the text can not be judged without converting it, it must be accepted.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public interface CharSequenceValidator extends Validator {
+
+    /**
+     * Validates the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive) of the given
+     * character sequence, i. e. the text of a value which is not yet converted.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the result of the validation.
+     */
+    ValidationResult validateChars(CharSequence chars, int start, int end);
+
+}
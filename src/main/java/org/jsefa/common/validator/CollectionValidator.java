@@ -18,8 +18,8 @@ package org.jsefa.common.validator;
 
 import static org.jsefa.common.validator.ValidationErrorCodes.WRONG_QUANTITY;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * A validator for <code>Collection</code> values.
@@ -60,27 +60,28 @@ public final class CollectionValidator implements Validator {
      */
     public ValidationResult validate(Object value) {
         Collection<?> collection = (Collection<?>) value;
-        Collection<ValidationError> errors = new ArrayList<ValidationError>();
-        validateMinItems(collection, errors);
-        validateMaxItems(collection, errors);
+        List<ValidationError> errors = validateMinItems(collection, null);
+        errors = validateMaxItems(collection, errors);
         return ValidationResult.create(errors);
     }
 
-    private void validateMinItems(Collection<?> collection, Collection<ValidationError> errors) {
+    private List<ValidationError> validateMinItems(Collection<?> collection, List<ValidationError> errors) {
         int itemCount = collection.size();
         if (this.minItems != null && itemCount < this.minItems) {
-            String errorText = "The collection must have at least " + this.minItems + " items, but has "
-                    + itemCount + " items only";
-            errors.add(ValidationError.create(WRONG_QUANTITY, errorText));
+            Object[] errorText = {"The collection must have at least ", this.minItems, " items, but has ",
+                itemCount, " items only"};
+            return ValidationErrors.add(errors, ValidationError.create(WRONG_QUANTITY, errorText));
         }
+        return errors;
     }
 
-    private void validateMaxItems(Collection<?> collection, Collection<ValidationError> errors) {
+    private List<ValidationError> validateMaxItems(Collection<?> collection, List<ValidationError> errors) {
         int itemCount = collection.size();
         if (this.maxItems != null && itemCount > this.maxItems) {
-            String errorText = "The number of collection items must not exceed " + this.maxItems + ", but is "
-                    + itemCount;
-            errors.add(ValidationError.create(WRONG_QUANTITY, errorText));
+            Object[] errorText = {"The number of collection items must not exceed ", this.maxItems, ", but is ",
+                itemCount};
+            return ValidationErrors.add(errors, ValidationError.create(WRONG_QUANTITY, errorText));
         }
+        return errors;
     }
 }
@@ -20,11 +20,13 @@ import org.jsefa.common.converter.IntegerConverter;
 
 /**
  * A validator for <code>Integer</code> values.
+ * <p>
+ * The text of a value in plain decimal notation can be validated before conversion.
  * 
  * @author Norman Lahme-Huetig
  * 
  */
-public final class IntegerValidator extends NumberValidator<Integer> {
+public final class IntegerValidator extends NumberValidator<Integer> implements CharSequenceValidator {
     /**
      * Constructs a new <code>IntegerValidator</code>.
      * 
@@ -39,4 +41,11 @@ public final class IntegerValidator extends NumberValidator<Integer> {
         super(ConstraintsAccessor.create(configuration, IntegerConverter.create()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public ValidationResult validateChars(CharSequence chars, int start, int end) {
+        return validateIntegralChars(chars, start, end);
+    }
+
 }
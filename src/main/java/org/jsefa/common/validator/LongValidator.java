@@ -20,11 +20,13 @@ import org.jsefa.common.converter.LongConverter;
 
 /**
  * A validator for <code>Long</code> values.
+ * <p>
+ * The text of a value in plain decimal notation can be validated before conversion.
  * 
  * @author Norman Lahme-Huetig
  * 
  */
-public final class LongValidator extends NumberValidator<Long> {
+public final class LongValidator extends NumberValidator<Long> implements CharSequenceValidator {
     /**
      * Constructs a new <code>LongValidator</code>.
      * 
@@ -39,4 +41,11 @@ public final class LongValidator extends NumberValidator<Long> {
         super(ConstraintsAccessor.create(configuration, LongConverter.create()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public ValidationResult validateChars(CharSequence chars, int start, int end) {
+        return validateIntegralChars(chars, start, end);
+    }
+
 }
@@ -18,8 +18,7 @@ package org.jsefa.common.validator;
 
 import static org.jsefa.common.validator.ValidationErrorCodes.WRONG_QUANTITY;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -61,27 +60,28 @@ public final class MapValidator implements Validator {
      */
     public ValidationResult validate(Object value) {
         Map<?, ?> map = (Map<?, ?>) value;
-        Collection<ValidationError> errors = new ArrayList<ValidationError>();
-        validateMinEntries(map, errors);
-        validateMaxEntries(map, errors);
+        List<ValidationError> errors = validateMinEntries(map, null);
+        errors = validateMaxEntries(map, errors);
         return ValidationResult.create(errors);
     }
 
-    private void validateMinEntries(Map<?, ?> map, Collection<ValidationError> errors) {
+    private List<ValidationError> validateMinEntries(Map<?, ?> map, List<ValidationError> errors) {
         int entryCount = map.size();
         if (this.minEntries != null && entryCount < this.minEntries) {
-            String errorText = "The map must have at least " + this.minEntries + " entries, but has "
-                    + entryCount + " entries only";
-            errors.add(ValidationError.create(WRONG_QUANTITY, errorText));
+            Object[] errorText = {"The map must have at least ", this.minEntries, " entries, but has ",
+                entryCount, " entries only"};
+            return ValidationErrors.add(errors, ValidationError.create(WRONG_QUANTITY, errorText));
         }
+        return errors;
     }
 
-    private void validateMaxEntries(Map<?, ?> map, Collection<ValidationError> errors) {
+    private List<ValidationError> validateMaxEntries(Map<?, ?> map, List<ValidationError> errors) {
         int entryCount = map.size();
         if (this.maxEntries != null && entryCount > this.maxEntries) {
-            String errorText = "The number of map entries must not exceed " + this.maxEntries + ", but is "
-                    + entryCount;
-            errors.add(ValidationError.create(WRONG_QUANTITY, errorText));
+            Object[] errorText = {"The number of map entries must not exceed ", this.maxEntries, ", but is ",
+                entryCount};
+            return ValidationErrors.add(errors, ValidationError.create(WRONG_QUANTITY, errorText));
         }
+        return errors;
     }
 }
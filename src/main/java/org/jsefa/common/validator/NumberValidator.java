@@ -18,8 +18,7 @@ package org.jsefa.common.validator;
 
 import static org.jsefa.common.validator.ValidationErrorCodes.OUT_OF_RANGE;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
 
 /**
  * A validator for <code>Number</code> values.
@@ -33,6 +32,10 @@ public abstract class NumberValidator<T extends Number> implements Validator {
     
     private static final String MIN = "min";
     private static final String MAX = "max";
+
+    private static final int MAX_EXACT_DIGITS = 18;
+
+    private static final long EXACT_LIMIT = 1000000000000000000L;
     
     private final T min;
     private final T max;
@@ -56,9 +59,8 @@ public abstract class NumberValidator<T extends Number> implements Validator {
     @SuppressWarnings("unchecked")
     public ValidationResult validate(Object value) {
         T number = (T) value;
-        Collection<ValidationError> errors = new ArrayList<ValidationError>();
-        validateMin(number, errors);
-        validateMax(number, errors);
+        List<ValidationError> errors = validateMin(number, null);
+        errors = validateMax(number, errors);
         return ValidationResult.create(errors);
     }
     
@@ -69,18 +71,81 @@ public abstract class NumberValidator<T extends Number> implements Validator {
         return this.constraintsAccessor;
     }
     
-    private void validateMin(T value, Collection<ValidationError> errors) {
+    /**
+     * Validates the text of an integral value against the minimum and maximum value without converting it.
+     * <p>
+     * Only a text consisting of an optional sign and decimal digits is judged. Values with more than 18
+     * significant digits are judged by their digit count only. Any other text is accepted, so that the converter
+     * reports it.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the result of the validation.
+     */
+    protected final ValidationResult validateIntegralChars(CharSequence chars, int start, int end) {
+        if (this.min == null && this.max == null) {
+            return ValidationResult.VALID;
+        }
+        int index = start;
+        boolean negative = false;
+        if (index < end && (chars.charAt(index) == '-' || chars.charAt(index) == '+')) {
+            negative = chars.charAt(index) == '-';
+            index++;
+        }
+        if (index == end) {
+            return ValidationResult.VALID;
+        }
+        while (index < end - 1 && chars.charAt(index) == '0') {
+            index++;
+        }
+        long magnitude = 0;
+        for (int i = index; i < end; i++) {
+            char c = chars.charAt(i);
+            if (c < '0' || c > '9') {
+                return ValidationResult.VALID;
+            }
+            if (i - index < MAX_EXACT_DIGITS) {
+                magnitude = magnitude * 10 + (c - '0');
+            }
+        }
+        boolean exact = end - index <= MAX_EXACT_DIGITS;
+        if (!exact) {
+            magnitude = EXACT_LIMIT;
+        }
+        long value = negative ? -magnitude : magnitude;
+        List<ValidationError> errors = null;
+        if (this.min != null && (exact || negative) && value < this.min.longValue()) {
+            errors = addBelowMinimumError(chars.subSequence(start, end).toString(), errors);
+        }
+        if (this.max != null && (exact || !negative) && value > this.max.longValue()) {
+            errors = addAboveMaximumError(chars.subSequence(start, end).toString(), errors);
+        }
+        return ValidationResult.create(errors);
+    }
+
+    private List<ValidationError> validateMin(T value, List<ValidationError> errors) {
         if (this.min != null && compare(value, this.min) < 0) {
-            String errorText = "The value " + value + " falls below the minimum value " + this.min;
-            errors.add(ValidationError.create(OUT_OF_RANGE, errorText));
+            return addBelowMinimumError(value, errors);
         }
+        return errors;
     }
     
-    private void validateMax(T value, Collection<ValidationError> errors) {
+    private List<ValidationError> validateMax(T value, List<ValidationError> errors) {
         if (this.max != null && compare(value, this.max) > 0) {
-            String errorText = "The value " + value + " exceeds the maximum value " + this.max;
-            errors.add(ValidationError.create(OUT_OF_RANGE, errorText));
+            return addAboveMaximumError(value, errors);
         }
+        return errors;
+    }
+
+    private List<ValidationError> addBelowMinimumError(Object value, List<ValidationError> errors) {
+        Object[] errorText = {"The value ", value, " falls below the minimum value ", this.min};
+        return ValidationErrors.add(errors, ValidationError.create(OUT_OF_RANGE, errorText));
+    }
+
+    private List<ValidationError> addAboveMaximumError(Object value, List<ValidationError> errors) {
+        Object[] errorText = {"The value ", value, " exceeds the maximum value ", this.max};
+        return ValidationErrors.add(errors, ValidationError.create(OUT_OF_RANGE, errorText));
     }
     
     @SuppressWarnings("unchecked")
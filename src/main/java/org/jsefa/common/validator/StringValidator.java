@@ -19,19 +19,21 @@ package org.jsefa.common.validator;
 import static org.jsefa.common.validator.ValidationErrorCodes.PATTERN_MATCHING_FAILED;
 import static org.jsefa.common.validator.ValidationErrorCodes.WRONG_LENGTH;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
  * A validator for <code>String</code> values.
  * <p>
+ * The text of a value can be validated before conversion as the <code>String</code> value is expected to be the
+ * text itself.
+ * <p>
  * It is thread-safe and immutable.
  * 
  * @author Norman Lahme-Huetig
  * 
  */
-public final class StringValidator implements Validator {
+public final class StringValidator implements CharSequenceValidator {
 
     private static final String PATTERN = "pattern";
 
@@ -72,39 +74,94 @@ public final class StringValidator implements Validator {
      */
     public ValidationResult validate(Object value) {
         String text = (String) value;
-        Collection<ValidationError> errors = new ArrayList<ValidationError>();
-        validatePattern(text, errors);
-        validateLength(text, errors);
-        validateMinLength(text, errors);
-        validateMaxLength(text, errors);
+        return validateChars(text, 0, text.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ValidationResult validateChars(CharSequence chars, int start, int end) {
+        List<ValidationError> errors = validatePattern(chars, start, end, null);
+        errors = validateLength(chars, start, end, errors);
+        errors = validateMinLength(chars, start, end, errors);
+        errors = validateMaxLength(chars, start, end, errors);
         return ValidationResult.create(errors);
     }
     
-    private void validatePattern(String value, Collection<ValidationError> errors) {
-        if (pattern != null && !pattern.matcher(value).matches()) {
-            String errorText = "The value " + value + " does not match the pattern " + pattern.pattern();
-            errors.add(ValidationError.create(PATTERN_MATCHING_FAILED, errorText));
+    private List<ValidationError> validatePattern(CharSequence chars, int start, int end,
+            List<ValidationError> errors) {
+        if (pattern != null && !pattern.matcher(chars).region(start, end).matches()) {
+            Object[] errorText = {"The value ", textPart(chars, start, end), " does not match the pattern ",
+                pattern.pattern()};
+            return ValidationErrors.add(errors, ValidationError.create(PATTERN_MATCHING_FAILED, errorText));
         }
+        return errors;
     }
     
-    private void validateLength(String value, Collection<ValidationError> errors) {
-        if (this.length != null && value.length() != this.length) {
-            String errorText = "The value " + value + " has not the required length of " + this.length;
-            errors.add(ValidationError.create(WRONG_LENGTH, errorText));
+    private List<ValidationError> validateLength(CharSequence chars, int start, int end,
+            List<ValidationError> errors) {
+        if (this.length != null && end - start != this.length) {
+            Object[] errorText = {"The value ", textPart(chars, start, end), " has not the required length of ",
+                this.length};
+            return ValidationErrors.add(errors, ValidationError.create(WRONG_LENGTH, errorText));
+        }
+        return errors;
+    }
+
+    private List<ValidationError> validateMinLength(CharSequence chars, int start, int end,
+            List<ValidationError> errors) {
+        if (this.minLength != null && end - start < this.minLength) {
+            Object[] errorText = {"The value ", textPart(chars, start, end),
+                " is shorter than the minimum length of ", this.minLength};
+            return ValidationErrors.add(errors, ValidationError.create(WRONG_LENGTH, errorText));
+        }
+        return errors;
+    }
+
+    private List<ValidationError> validateMaxLength(CharSequence chars, int start, int end,
+            List<ValidationError> errors) {
+        if (this.maxLength != null && end - start > this.maxLength) {
+            Object[] errorText = {"The value ", textPart(chars, start, end),
+                " is longer than the maximum length of ", this.maxLength};
+            return ValidationErrors.add(errors, ValidationError.create(WRONG_LENGTH, errorText));
         }
+        return errors;
     }
 
-    private void validateMinLength(String value, Collection<ValidationError> errors) {
-        if (this.minLength != null && value.length() < this.minLength) {
-            String errorText = "The value " + value + " is shorter than the minimum length of " + this.minLength;
-            errors.add(ValidationError.create(WRONG_LENGTH, errorText));
+    /**
+     * Returns the value as a part of a lazily built error text. The substring of a <code>String</code> is not
+     * created before the error text is requested. Other character sequences may be changed afterwards (e. g. a
+     * reused buffer), so their characters are copied immediately.
+     */
+    private static Object textPart(CharSequence chars, int start, int end) {
+        if (!(chars instanceof String)) {
+            return chars.subSequence(start, end).toString();
         }
+        if (start == 0 && end == chars.length()) {
+            return chars;
+        }
+        return new Substring((String) chars, start, end);
     }
 
-    private void validateMaxLength(String value, Collection<ValidationError> errors) {
-        if (this.maxLength != null && value.length() > this.maxLength) {
-            String errorText = "The value " + value + " is longer than the maximum length of " + this.maxLength;
-            errors.add(ValidationError.create(WRONG_LENGTH, errorText));
+    /**
+     * A substring which is created not before {@link #toString()} is called.
+     */
+    private static final class Substring {
+        private final String string;
+
+        private final int start;
+
+        private final int end;
+
+        Substring(String string, int start, int end) {
+            this.string = string;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return this.string.substring(this.start, this.end);
         }
     }
 }
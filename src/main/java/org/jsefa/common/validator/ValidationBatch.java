@@ -0,0 +1,195 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsefa.DeserializationException;
+import org.jsefa.common.config.Configuration;
+import org.jsefa.common.lowlevel.InputPosition;
+
+/**
+ * A batch of deserialized values which are validated together by a {@link BatchValidator} before they are
+ * returned in the order they were read.
+ * <p>
+ * A deserializer takes its values using {@link #next(EntryReader)}. If the batch is exhausted, it reads values
+ * ahead using the given {@link EntryReader} and remembers each of them together with the validator of its entry
+ * and its input position until the batch is full or the input ends. An exception thrown while reading ends the
+ * batch; it is thrown after all values read before it are returned. An invalid value causes a
+ * {@link DeserializationException} caused by a {@link ValidationException}.
+ * <p>
+ * Instances of this class are not thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public final class ValidationBatch {
+
+    private final BatchValidator batchValidator;
+
+    private final int capacity;
+
+    private final List<Object> values;
+
+    private final List<Validator> validators;
+
+    private final List<InputPosition> inputPositions;
+
+    private List<ValidationResult> results;
+
+    private RuntimeException failure;
+
+    private int index;
+
+    /**
+     * Creates a new <code>ValidationBatch</code> for a deserializer with the given configuration.
+     * 
+     * @param config the configuration of the deserializer
+     * @param validate true, if the deserializer validates the values
+     * @return a validation batch or null if the values should not be validated in batches, i. e. if
+     *         <code>validate</code> is false or no validation executor is configured
+     */
+    public static ValidationBatch create(Configuration<?, ?> config, boolean validate) {
+        if (!validate || config.getValidationExecutor() == null) {
+            return null;
+        }
+        return new ValidationBatch(BatchValidator.create(config.getValidationExecutor(), config
+                .getValidationTaskSize()), config.getValidationBatchSize());
+    }
+
+    private ValidationBatch(BatchValidator batchValidator, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.batchValidator = batchValidator;
+        this.capacity = capacity;
+        this.values = new ArrayList<Object>(capacity);
+        this.validators = new ArrayList<Validator>(capacity);
+        this.inputPositions = new ArrayList<InputPosition>(capacity);
+    }
+
+    /**
+     * Returns the next value. If the batch is exhausted, it is filled using the given reader and validated first.
+     * 
+     * @param reader the reader of the deserializer
+     * @return the next value or null if the input ends
+     * @throws DeserializationException if the value is not valid or an exception ended the batch
+     */
+    public Object next(EntryReader reader) {
+        if (!hasNext()) {
+            fill(reader);
+            if (!hasNext()) {
+                return null;
+            }
+        }
+        if (this.index < this.values.size()) {
+            int current = this.index++;
+            Object value = this.values.get(current);
+            ValidationResult result = this.results.get(current);
+            InputPosition inputPosition = this.inputPositions.get(current);
+            if (this.index == this.values.size() && this.failure == null) {
+                clear();
+            }
+            if (!result.isValid()) {
+                throw new DeserializationException(new ValidationException(result))
+                        .setInputPosition(inputPosition);
+            }
+            return value;
+        }
+        RuntimeException exception = this.failure;
+        clear();
+        throw exception;
+    }
+
+    /**
+     * Returns true if there is a value or an exception left which was read ahead.
+     * 
+     * @return true if there is a next value or exception; otherwise false
+     */
+    public boolean hasNext() {
+        return this.index < this.values.size() || this.failure != null;
+    }
+
+    /**
+     * Removes all values and the exception.
+     */
+    public void clear() {
+        this.values.clear();
+        this.validators.clear();
+        this.inputPositions.clear();
+        this.results = null;
+        this.failure = null;
+        this.index = 0;
+    }
+
+    private void fill(EntryReader reader) {
+        try {
+            while (this.values.size() < this.capacity && reader.moveToNextEntry()) {
+                Validator validator = reader.getValidator();
+                Object value = reader.readEntry();
+                this.values.add(value);
+                if (value == null) {
+                    this.validators.add(null);
+                } else {
+                    this.validators.add(validator);
+                }
+                this.inputPositions.add(reader.getInputPosition());
+            }
+        } catch (DeserializationException e) {
+            this.failure = e;
+        } catch (Exception e) {
+            this.failure = new DeserializationException(e).setInputPosition(reader.getInputPosition());
+        }
+        this.results = this.batchValidator.validate(this.values, this.validators);
+    }
+
+    /**
+     * Reads the entries of a deserializer for a {@link ValidationBatch}.
+     */
+    public interface EntryReader {
+        /**
+         * Moves to the next entry unless the reader is already positioned on an entry which is not read yet.
+         * 
+         * @return true, if there is an entry to read; false if the input ends
+         */
+        boolean moveToNextEntry();
+
+        /**
+         * Returns the validator of the current entry.
+         * 
+         * @return the validator or null if the entry should not be validated
+         */
+        Validator getValidator();
+
+        /**
+         * Reads the current entry. Afterwards (even if an exception is thrown), the reader is no longer
+         * positioned on it.
+         * 
+         * @return the value of the entry
+         */
+        Object readEntry();
+
+        /**
+         * Returns the current input position.
+         * 
+         * @return the input position or null if it is not available
+         */
+        InputPosition getInputPosition();
+    }
+
+}
@@ -24,6 +24,9 @@ import org.jsefa.ObjectPathElement;
 
 /**
  * A validation error.
+ * <p>
+ * The error text may be given as a sequence of parts which are concatenated not before the text is requested, so
+ * that no text is built for errors which are counted or discarded only.
  * 
  * @author Norman Lahme-Huetig
  */
@@ -31,7 +34,9 @@ public final class ValidationError {
 
     private final String errorCode;
 
-    private final String errorText;
+    private String errorText;
+
+    private final Object[] errorTextParts;
 
     private final List<ObjectPathElement> relativeObjectPath;
 
@@ -44,16 +49,35 @@ public final class ValidationError {
      */
     public static ValidationError create(String errorCode, String errorText,
             ObjectPathElement... relativeObjectPathElements) {
+        return new ValidationError(errorCode, errorText, null, createPath(relativeObjectPathElements));
+    }
+
+    /**
+     * Constructs a new <code>ValidationError</code> with an error text built lazily.
+     * @param errorCode the error code
+     * @param errorTextParts the parts of the error text which are concatenated when the text is requested. They
+     *                must not be changed afterwards.
+     * @param relativeObjectPathElements the relative path to the field this error refers to
+     * @return a <code>ValidationError</code>
+     */
+    public static ValidationError create(String errorCode, Object[] errorTextParts,
+            ObjectPathElement... relativeObjectPathElements) {
+        return new ValidationError(errorCode, null, errorTextParts, createPath(relativeObjectPathElements));
+    }
+
+    private static List<ObjectPathElement> createPath(ObjectPathElement[] relativeObjectPathElements) {
         List<ObjectPathElement> relativeObjectPath = new ArrayList<ObjectPathElement>();
         for (ObjectPathElement objectPathElement : relativeObjectPathElements) {
             relativeObjectPath.add(objectPathElement);
         }
-        return new ValidationError(errorCode, errorText, relativeObjectPath);
+        return relativeObjectPath;
     }
 
-    private ValidationError(String errorCode, String errorText, List<ObjectPathElement> relativeObjectPath) {
+    private ValidationError(String errorCode, String errorText, Object[] errorTextParts,
+            List<ObjectPathElement> relativeObjectPath) {
         this.errorCode = errorCode;
         this.errorText = errorText;
+        this.errorTextParts = errorTextParts;
         this.relativeObjectPath = relativeObjectPath;
     }
 
@@ -68,7 +92,16 @@ public final class ValidationError {
      * @return the error text
      */
     public String getErrorText() {
-        return errorText;
+        String text = this.errorText;
+        if (text == null && this.errorTextParts != null) {
+            StringBuilder builder = new StringBuilder();
+            for (Object part : this.errorTextParts) {
+                builder.append(part);
+            }
+            text = builder.toString();
+            this.errorText = text;
+        }
+        return text;
     }
 
     /**
@@ -78,4 +111,18 @@ public final class ValidationError {
         return Collections.unmodifiableList(relativeObjectPath);
     }
 
+    /**
+     * Returns a copy of this error with the given object path element prepended to its relative object path. The
+     * error text is not built by this.
+     * 
+     * @param prefix the object path element to prepend
+     * @return a validation error
+     */
+    ValidationError withPathPrefix(ObjectPathElement prefix) {
+        List<ObjectPathElement> path = new ArrayList<ObjectPathElement>(this.relativeObjectPath.size() + 1);
+        path.add(prefix);
+        path.addAll(this.relativeObjectPath);
+        return new ValidationError(this.errorCode, this.errorText, this.errorTextParts, path);
+    }
+
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsefa.ObjectPathElement;
+
+/**
+ * Utility methods for collecting validation errors lazily: the list of errors is created when the first error is
+ * added, so that validating a valid value does not allocate anything.
+ * <p>
+ * Each method takes the current list (which may be null) and returns the list to be used from then on.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public final class ValidationErrors {
+
+    /**
+     * Adds the given error.
+     * 
+     * @param errors the errors collected so far or null if none
+     * @param error the error to add
+     * @return the errors
+     */
+    public static List<ValidationError> add(List<ValidationError> errors, ValidationError error) {
+        List<ValidationError> result = errors;
+        if (result == null) {
+            result = new ArrayList<ValidationError>();
+        }
+        result.add(error);
+        return result;
+    }
+
+    /**
+     * Adds the errors of the given result.
+     * 
+     * @param errors the errors collected so far or null if none
+     * @param result the validation result
+     * @return the errors (null if none)
+     */
+    public static List<ValidationError> addAll(List<ValidationError> errors, ValidationResult result) {
+        if (result.isValid()) {
+            return errors;
+        }
+        List<ValidationError> newErrors = errors;
+        if (newErrors == null) {
+            newErrors = new ArrayList<ValidationError>();
+        }
+        newErrors.addAll(result.getErrors());
+        return newErrors;
+    }
+
+    /**
+     * Adds the errors of the given result with the given object path element prepended to their relative
+     * object paths.
+     * 
+     * @param errors the errors collected so far or null if none
+     * @param result the validation result
+     * @param prefix the object path element to prepend
+     * @return the errors (null if none)
+     */
+    public static List<ValidationError> addAll(List<ValidationError> errors, ValidationResult result,
+            ObjectPathElement prefix) {
+        if (result.isValid()) {
+            return errors;
+        }
+        List<ValidationError> newErrors = errors;
+        if (newErrors == null) {
+            newErrors = new ArrayList<ValidationError>();
+        }
+        for (ValidationError error : result.getErrors()) {
+            newErrors.add(error.withPathPrefix(prefix));
+        }
+        return newErrors;
+    }
+
+    /**
+     * Combines the given results.
+     * 
+     * @param resultA the first result
+     * @param resultB the second result
+     * @return a result with the errors of both
+     */
+    public static ValidationResult combine(ValidationResult resultA, ValidationResult resultB) {
+        if (resultA.isValid()) {
+            return resultB;
+        }
+        if (resultB.isValid()) {
+            return resultA;
+        }
+        return ValidationResult.create(addAll(addAll(null, resultA), resultB));
+    }
+
+    /**
+     * Returns true if the given errors reached the given limit.
+     * 
+     * @param errors the errors collected so far or null if none
+     * @param limit the maximum number of errors
+     * @return true if no more errors should be collected; otherwise false
+     */
+    public static boolean isLimitReached(List<ValidationError> errors, int limit) {
+        return errors != null && errors.size() >= limit;
+    }
+
+    /**
+     * Removes the errors exceeding the given limit.
+     * 
+     * @param errors the errors collected so far or null if none
+     * @param limit the maximum number of errors
+     * @return the errors (null if none)
+     */
+    public static List<ValidationError> truncate(List<ValidationError> errors, int limit) {
+        if (errors != null && errors.size() > limit) {
+            errors.subList(limit, errors.size()).clear();
+        }
+        return errors;
+    }
+
+    /**
+     * Returns a result with the errors of the given result not exceeding the given limit.
+     * 
+     * @param result the validation result
+     * @param limit the maximum number of errors
+     * @return the given result if it does not exceed the limit; otherwise a truncated result
+     */
+    public static ValidationResult limit(ValidationResult result, int limit) {
+        if (result.getErrors().size() <= limit) {
+            return result;
+        }
+        return ValidationResult.create(truncate(addAll(null, result), limit));
+    }
+
+    private ValidationErrors() {
+
+    }
+
+}
@@ -16,29 +16,28 @@
 
 package org.jsefa.common.validator.traversal;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.jsefa.common.util.ReflectionUtil;
 import org.jsefa.common.validator.ValidationError;
+import org.jsefa.common.validator.ValidationErrors;
 import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.common.validator.Validator;
 
 
 final class TraversingCollectionValueValidator extends TraversingValidator {
 
-    private final Map<Class<?>, Validator> validatorsByObjectType;
+    private final ValidatorsByObjectType validatorsByObjectType;
 
     @SuppressWarnings("unchecked")
-    TraversingCollectionValueValidator(Map<Class<?>, Validator> validatorsByObjectType) {
+    TraversingCollectionValueValidator(Map<Class<?>, Validator> validatorsByObjectType, int errorLimit) {
+        super(errorLimit);
         if (checkTriviality(validatorsByObjectType.values())) {
-            this.validatorsByObjectType = Collections.EMPTY_MAP;
+            this.validatorsByObjectType = new ValidatorsByObjectType(Collections.EMPTY_MAP);
         } else {
-            this.validatorsByObjectType = new HashMap<Class<?>, Validator>(validatorsByObjectType);
+            this.validatorsByObjectType = new ValidatorsByObjectType(validatorsByObjectType);
         }
     }
 
@@ -52,20 +51,19 @@ final class TraversingCollectionValueValidator extends TraversingValidator {
         if (object == null) {
             return ValidationResult.VALID;
         }
-        List<ValidationError> errors = new ArrayList<ValidationError>();
+        List<ValidationError> errors = null;
         for (Object item : (Collection<?>) object) {
-            Validator itemValidator = getItemValidator(getNormalizedObjectType(item));
+            Validator itemValidator = this.validatorsByObjectType.get(getNormalizedObjectType(item));
             if (itemValidator != null) {
-                errors.addAll(itemValidator.validate(item).getErrors());
+                errors = ValidationErrors.addAll(errors, itemValidator.validate(item));
+                if (ValidationErrors.isLimitReached(errors, getErrorLimit())) {
+                    break;
+                }
             }
         }
-        return ValidationResult.create(errors);
+        return ValidationResult.create(ValidationErrors.truncate(errors, getErrorLimit()));
     }
 
-    private Validator getItemValidator(Class<?> objectType) {
-        return ReflectionUtil.getNearest(objectType, this.validatorsByObjectType);
-    }
-    
     private Class<?> getNormalizedObjectType(Object value) {
         Class<?> objectType = value.getClass();
         if (Collection.class.isAssignableFrom(objectType)) {
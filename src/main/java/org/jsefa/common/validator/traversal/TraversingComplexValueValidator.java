@@ -19,28 +19,52 @@ package org.jsefa.common.validator.traversal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.jsefa.ObjectPathElement;
 import org.jsefa.common.accessor.ObjectAccessor;
 import org.jsefa.common.mapping.FieldDescriptor;
-import org.jsefa.common.util.ReflectionUtil;
 import org.jsefa.common.validator.ValidationError;
+import org.jsefa.common.validator.ValidationErrors;
 import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.common.validator.Validator;
 
+/**
+ * Validator for complex values. On initialization the fields to validate are compiled into arrays, omitting the
+ * fields having trivial validators only. Fields with exactly one validator are validated with it directly; for
+ * the others the validator is looked up by the type of the field value.
+ * <p>
+ * Validating a valid object allocates nothing. The objects on the current path are tracked by identity in order
+ * to stop at cycles. The traversal stops as soon as the error limit is reached.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
 final class TraversingComplexValueValidator extends TraversingValidator {
 
+    private static final ThreadLocal<IdentityHashMap<Object, Object>> OBJECT_PATH
+        = new ThreadLocal<IdentityHashMap<Object, Object>>() {
+            @Override
+            protected IdentityHashMap<Object, Object> initialValue() {
+                return new IdentityHashMap<Object, Object>();
+            }
+        };
+
     private Validator rootValidator;
 
-    private Map<String, ?> validatorsByFieldNameAndType;
+    private String[] fieldNames;
 
-    private List<String> fieldNames;
+    private Validator[] fieldValidators;
+
+    private ValidatorsByObjectType[] fieldValidatorsByObjectType;
 
     private ObjectAccessor objectAccessor;
 
-    private static final ThreadLocal<List<Object>> OBJECT_PATH = new ThreadLocal<List<Object>>();
+    TraversingComplexValueValidator(int errorLimit) {
+        super(errorLimit);
+    }
 
     void init(Validator rootValidator, Map<FieldDescriptor, Validator> fieldValidators, ObjectAccessor objectAccessor) {
         if (checkTriviality(rootValidator, fieldValidators)) {
@@ -48,8 +72,7 @@ final class TraversingComplexValueValidator extends TraversingValidator {
         }
         this.rootValidator = rootValidator;
         this.objectAccessor = objectAccessor;
-        this.validatorsByFieldNameAndType = createValidatorsByFieldNameAndTypeMap(fieldValidators);
-        this.fieldNames = createFieldNamesList(fieldValidators);
+        compile(fieldValidators);
     }
 
     /**
@@ -59,100 +82,82 @@ final class TraversingComplexValueValidator extends TraversingValidator {
         if (isTrivial()) {
             return ValidationResult.VALID;
         }
-        if (onObjectPath(object)) {
+        IdentityHashMap<Object, Object> objectPath = OBJECT_PATH.get();
+        if (objectPath.containsKey(object)) {
             return ValidationResult.VALID;
         }
-        addToObjectPath(object);
+        objectPath.put(object, object);
         try {
-            List<ValidationError> errors = new ArrayList<ValidationError>();
+            List<ValidationError> errors = null;
             if (this.rootValidator != null) {
-                errors.addAll(this.rootValidator.validate(object).getErrors());
+                errors = ValidationErrors.addAll(errors, this.rootValidator.validate(object));
             }
-            for (String fieldName : this.fieldNames) {
-                Object fieldValue = this.objectAccessor.getValue(object, fieldName);
+            for (int i = 0; i < this.fieldNames.length && !ValidationErrors.isLimitReached(errors,
+                    getErrorLimit()); i++) {
+                Object fieldValue = this.objectAccessor.getValue(object, this.fieldNames[i]);
                 if (fieldValue != null) {
-                    Validator fieldValidator = getFieldValidator(fieldName, fieldValue);
+                    Validator fieldValidator = this.fieldValidators[i];
+                    if (fieldValidator == null) {
+                        fieldValidator = this.fieldValidatorsByObjectType[i].get(fieldValue.getClass());
+                    }
                     if (fieldValidator != null) {
-                        for (ValidationError error : fieldValidator.validate(fieldValue).getErrors()) {
-                            errors.add(createValidationError(error, new ObjectPathElement(object.getClass(),
-                                    fieldName)));
+                        ValidationResult result = fieldValidator.validate(fieldValue);
+                        if (!result.isValid()) {
+                            errors = ValidationErrors.addAll(errors, result, new ObjectPathElement(object
+                                    .getClass(), this.fieldNames[i]));
                         }
                     }
                 }
             }
-            return ValidationResult.create(errors);
+            return ValidationResult.create(ValidationErrors.truncate(errors, getErrorLimit()));
         } finally {
-            removeFromObjectPath(object);
+            objectPath.remove(object);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private Validator getFieldValidator(String fieldName, Object fieldValue) {
-        Object value = this.validatorsByFieldNameAndType.get(fieldName);
-        if (value instanceof Validator) {
-            return (Validator) value;
-        } else if (value instanceof Map) {
-            return ReflectionUtil.getNearest(fieldValue.getClass(), (Map<Class<?>, Validator>) value);
-        } else {
-            return null;
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private Map<String, ?> createValidatorsByFieldNameAndTypeMap(
-            Map<FieldDescriptor, Validator> validatorsByFieldDescriptor) {
-        Map<String, Object> result = new HashMap<String, Object>();
+    private void compile(Map<FieldDescriptor, Validator> validatorsByFieldDescriptor) {
+        Map<String, Map<Class<?>, Validator>> validatorsByFieldName
+            = new HashMap<String, Map<Class<?>, Validator>>();
+        List<String> fieldNameList = new ArrayList<String>();
         for (FieldDescriptor fieldDescriptor : validatorsByFieldDescriptor.keySet()) {
-            Map<Class<?>, Validator> map = (Map<Class<?>, Validator>) result.get(fieldDescriptor.getName());
+            Map<Class<?>, Validator> map = validatorsByFieldName.get(fieldDescriptor.getName());
             if (map == null) {
                 map = new HashMap<Class<?>, Validator>();
-                result.put(fieldDescriptor.getName(), map);
+                validatorsByFieldName.put(fieldDescriptor.getName(), map);
+                fieldNameList.add(fieldDescriptor.getName());
             }
             map.put(fieldDescriptor.getObjectType(), validatorsByFieldDescriptor.get(fieldDescriptor));
         }
-        for (String fieldName : result.keySet()) {
-            Map<Class<?>, Validator> map = (Map<Class<?>, Validator>) result.get(fieldName);
+        List<String> compiledFieldNames = new ArrayList<String>();
+        List<Validator> compiledValidators = new ArrayList<Validator>();
+        List<ValidatorsByObjectType> compiledValidatorsByObjectType = new ArrayList<ValidatorsByObjectType>();
+        for (String fieldName : fieldNameList) {
+            Map<Class<?>, Validator> map = validatorsByFieldName.get(fieldName);
+            if (isTrivial(map.values())) {
+                continue;
+            }
+            compiledFieldNames.add(fieldName);
             if (map.size() == 1) {
-                result.put(fieldName, map.values().iterator().next());
+                compiledValidators.add(map.values().iterator().next());
+                compiledValidatorsByObjectType.add(null);
+            } else {
+                compiledValidators.add(null);
+                compiledValidatorsByObjectType.add(new ValidatorsByObjectType(map));
             }
         }
-        return result;
+        this.fieldNames = compiledFieldNames.toArray(new String[compiledFieldNames.size()]);
+        this.fieldValidators = compiledValidators.toArray(new Validator[compiledValidators.size()]);
+        this.fieldValidatorsByObjectType = compiledValidatorsByObjectType
+                .toArray(new ValidatorsByObjectType[compiledValidatorsByObjectType.size()]);
     }
 
-    private List<String> createFieldNamesList(Map<FieldDescriptor, Validator> validators) {
-        List<String> result = new ArrayList<String>();
-        for (FieldDescriptor fieldDescriptor : validators.keySet()) {
-            if (!result.contains(fieldDescriptor.getName())) {
-                result.add(fieldDescriptor.getName());
+    private boolean isTrivial(Collection<Validator> validators) {
+        for (Validator validator : validators) {
+            if (!(validator instanceof TraversingValidator) || !((TraversingValidator) validator).isTrivial()) {
+                return false;
             }
         }
-        return result;
-    }
-
-    private boolean onObjectPath(Object object) {
-        List<Object> path = TraversingComplexValueValidator.OBJECT_PATH.get();
-        return path != null && path.contains(object);
-    }
-
-    private void addToObjectPath(Object object) {
-        List<Object> path = TraversingComplexValueValidator.OBJECT_PATH.get();
-        if (path == null) {
-            path = new ArrayList<Object>();
-            TraversingComplexValueValidator.OBJECT_PATH.set(path);
-        }
-        path.add(object);
-    }
-
-    private void removeFromObjectPath(Object object) {
-        TraversingComplexValueValidator.OBJECT_PATH.get().remove(object);
-    }
-
-    private ValidationError createValidationError(ValidationError validationError, ObjectPathElement prefix) {
-        List<ObjectPathElement> relativeObjectPath = new ArrayList<ObjectPathElement>();
-        relativeObjectPath.add(prefix);
-        relativeObjectPath.addAll(validationError.getRelativeObjectPath());
-        return ValidationError.create(validationError.getErrorCode(), validationError.getErrorText(),
-                relativeObjectPath.toArray(new ObjectPathElement[0]));
+        return true;
     }
 
     private boolean checkTriviality(Validator rootValidator, Map<?, Validator> validators) {
@@ -18,12 +18,11 @@ package org.jsefa.common.validator.traversal;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.jsefa.common.util.ReflectionUtil;
 import org.jsefa.common.validator.ValidationError;
+import org.jsefa.common.validator.ValidationErrors;
 import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.common.validator.Validator;
 
@@ -32,14 +31,16 @@ final class TraversingMapValueValidator extends TraversingValidator {
 
     private Validator keyValidator;
 
-    private Map<Class<?>, Validator> valueValidatorsByObjectType;
+    private ValidatorsByObjectType valueValidatorsByObjectType;
 
-    TraversingMapValueValidator(Validator keyValidator, Map<Class<?>, Validator> valueValidatorsByObjectType) {
+    TraversingMapValueValidator(Validator keyValidator, Map<Class<?>, Validator> valueValidatorsByObjectType,
+            int errorLimit) {
+        super(errorLimit);
         if (checkTriviality(keyValidator, valueValidatorsByObjectType)) {
             return;
         }
         this.keyValidator = keyValidator;
-        this.valueValidatorsByObjectType = new HashMap<Class<?>, Validator>(valueValidatorsByObjectType);
+        this.valueValidatorsByObjectType = new ValidatorsByObjectType(valueValidatorsByObjectType);
     }
 
     /**
@@ -52,21 +53,21 @@ final class TraversingMapValueValidator extends TraversingValidator {
         if (object == null) {
             return ValidationResult.VALID;
         }
-        List<ValidationError> errors = new ArrayList<ValidationError>();
+        List<ValidationError> errors = null;
         for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
             if (this.keyValidator !=  null) {
-                errors.addAll(this.keyValidator.validate(entry.getKey()).getErrors());
+                errors = ValidationErrors.addAll(errors, this.keyValidator.validate(entry.getKey()));
             }
-            Validator valueValidator = getValueValidator(getNormalizedObjectType(entry.getValue()));
-            if (valueValidator != null) {
-                errors.addAll(valueValidator.validate(entry.getValue()).getErrors());
+            Validator valueValidator = this.valueValidatorsByObjectType.get(getNormalizedObjectType(entry
+                    .getValue()));
+            if (valueValidator != null && !ValidationErrors.isLimitReached(errors, getErrorLimit())) {
+                errors = ValidationErrors.addAll(errors, valueValidator.validate(entry.getValue()));
+            }
+            if (ValidationErrors.isLimitReached(errors, getErrorLimit())) {
+                break;
             }
         }
-        return ValidationResult.create(errors);
-    }
-
-    private Validator getValueValidator(Class<?> objectType) {
-        return ReflectionUtil.getNearest(objectType, this.valueValidatorsByObjectType);
+        return ValidationResult.create(ValidationErrors.truncate(errors, getErrorLimit()));
     }
 
     private Class<?> getNormalizedObjectType(Object value) {
@@ -22,7 +22,20 @@ import org.jsefa.common.validator.Validator;
 
 
 abstract class TraversingValidator implements Validator {
+    private final int errorLimit;
+
     private boolean trivial;
+
+    protected TraversingValidator(int errorLimit) {
+        this.errorLimit = errorLimit;
+    }
+
+    /**
+     * @return the maximum number of errors to collect
+     */
+    protected final int getErrorLimit() {
+        return this.errorLimit;
+    }
     
     protected boolean checkTriviality(Collection<Validator> validators) {
         this.trivial = true;
@@ -16,9 +16,7 @@
 
 package org.jsefa.common.validator.traversal;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -31,7 +29,7 @@ import org.jsefa.common.mapping.MapTypeMapping;
 import org.jsefa.common.mapping.NodeMapping;
 import org.jsefa.common.mapping.TypeMapping;
 import org.jsefa.common.mapping.TypeMappingRegistry;
-import org.jsefa.common.validator.ValidationError;
+import org.jsefa.common.validator.ValidationErrors;
 import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.common.validator.Validator;
 
@@ -48,16 +46,31 @@ public class TraversingValidatorFactory<N> {
 
     private ConcurrentMap<N, TraversingComplexValueValidator> traversingComplexValueValidators;
 
+    private final int errorLimit;
+
     /**
-     * Constructs a new <code>TraversingValidatorFactory</code>.
+     * Constructs a new <code>TraversingValidatorFactory</code> for validators collecting all errors.
      * @param typeMappingRegistry the type mapping registry
      * @param objectAccessorProvider the object accessor provider
      */
     public TraversingValidatorFactory(TypeMappingRegistry<N> typeMappingRegistry,
             ObjectAccessorProvider objectAccessorProvider) {
+        this(typeMappingRegistry, objectAccessorProvider, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new <code>TraversingValidatorFactory</code> for validators which stop as soon as the given
+     * number of errors is reached.
+     * @param typeMappingRegistry the type mapping registry
+     * @param objectAccessorProvider the object accessor provider
+     * @param errorLimit the maximum number of errors to collect
+     */
+    public TraversingValidatorFactory(TypeMappingRegistry<N> typeMappingRegistry,
+            ObjectAccessorProvider objectAccessorProvider, int errorLimit) {
         this.typeMappingRegistry = typeMappingRegistry;
         this.objectAccessorProvider = objectAccessorProvider;
         this.traversingComplexValueValidators = new ConcurrentHashMap<N, TraversingComplexValueValidator>();
+        this.errorLimit = errorLimit;
     }
 
     /**
@@ -67,7 +80,11 @@ public class TraversingValidatorFactory<N> {
      * @return a traversing <code>Validator</code>
      */
     public Validator create(N dataTypeName, Validator rootValidator) {
-        return combine(create(this.typeMappingRegistry.get(dataTypeName)), rootValidator);
+        Validator validator = create(this.typeMappingRegistry.get(dataTypeName));
+        if (validator == null && rootValidator != null && this.errorLimit < Integer.MAX_VALUE) {
+            return new LimitingValidator(rootValidator, this.errorLimit);
+        }
+        return combine(validator, rootValidator);
     }
 
     @SuppressWarnings("unchecked")
@@ -87,7 +104,7 @@ public class TraversingValidatorFactory<N> {
         if (validator != null) {
             return validator;
         }
-        TraversingComplexValueValidator result = new TraversingComplexValueValidator();
+        TraversingComplexValueValidator result = new TraversingComplexValueValidator(this.errorLimit);
         this.traversingComplexValueValidators.put((N) mapping.getDataTypeName(), result);
         Map<FieldDescriptor, Validator> validatorsByFieldDescriptor = new HashMap<FieldDescriptor, Validator>();
         for (NodeMapping<N, ?> nodeMapping : mapping.getNodeMappings()) {
@@ -95,7 +112,7 @@ public class TraversingValidatorFactory<N> {
                 continue;
             }
             if (validatorsByFieldDescriptor.get(nodeMapping.getFieldDescriptor()) == null) {
-                Validator fieldValidator = combine(nodeMapping.getValidator(), create(this.typeMappingRegistry
+                Validator fieldValidator = combine(getFieldValidator(nodeMapping), create(this.typeMappingRegistry
                         .get(nodeMapping.getDataTypeName())));
                 if (fieldValidator != null) {
                     validatorsByFieldDescriptor.put(nodeMapping.getFieldDescriptor(), fieldValidator);
@@ -107,6 +124,17 @@ public class TraversingValidatorFactory<N> {
         return result;
     }
 
+    /**
+     * Returns the validator to apply to the value of the field mapped by the given node mapping of a complex type.
+     * This implementation returns the validator of the node mapping. Subclasses may return null for fields whose
+     * values are already validated elsewhere.
+     * @param nodeMapping the node mapping
+     * @return the field validator or null if the field value should not be validated
+     */
+    protected Validator getFieldValidator(NodeMapping<N, ?> nodeMapping) {
+        return nodeMapping.getValidator();
+    }
+
     @SuppressWarnings("unchecked")
     private Validator createForListType(ListTypeMapping<N, ?, ?> mapping) {
         Map<Class<?>, Validator> validatorsByObjectType = new HashMap<Class<?>, Validator>();
@@ -119,7 +147,7 @@ public class TraversingValidatorFactory<N> {
                 }
             }
         }
-        return new TraversingCollectionValueValidator(validatorsByObjectType);
+        return new TraversingCollectionValueValidator(validatorsByObjectType, this.errorLimit);
     }
 
     @SuppressWarnings("unchecked")
@@ -138,7 +166,7 @@ public class TraversingValidatorFactory<N> {
         Validator keyValidator = combine(keyNodeMapping.getValidator(),
                 create(this.typeMappingRegistry.get((N) keyNodeMapping.getDataTypeName())));
         
-        return new TraversingMapValueValidator(keyValidator, valueValidatorsByObjectType);
+        return new TraversingMapValueValidator(keyValidator, valueValidatorsByObjectType, this.errorLimit);
     }
 
     private Validator combine(Validator validatorA, Validator validatorB) {
@@ -147,7 +175,7 @@ public class TraversingValidatorFactory<N> {
         } else if (validatorB == null) {
             return validatorA;
         } else {
-            return new AndValidator(validatorA, validatorB);
+            return new AndValidator(validatorA, validatorB, this.errorLimit);
         }
     }
 
@@ -156,16 +184,37 @@ public class TraversingValidatorFactory<N> {
 
         private Validator validatorB;
 
-        AndValidator(Validator validatorA, Validator validatorB) {
+        private final int errorLimit;
+
+        AndValidator(Validator validatorA, Validator validatorB, int errorLimit) {
             this.validatorA = validatorA;
             this.validatorB = validatorB;
+            this.errorLimit = errorLimit;
+        }
+
+        public ValidationResult validate(Object value) {
+            ValidationResult resultA = validatorA.validate(value);
+            if (resultA.getErrors().size() >= this.errorLimit) {
+                return ValidationErrors.limit(resultA, this.errorLimit);
+            }
+            return ValidationErrors.limit(ValidationErrors.combine(resultA, validatorB.validate(value)),
+                    this.errorLimit);
+        }
+
+    }
+
+    private static final class LimitingValidator implements Validator {
+        private final Validator validator;
+
+        private final int errorLimit;
+
+        LimitingValidator(Validator validator, int errorLimit) {
+            this.validator = validator;
+            this.errorLimit = errorLimit;
         }
 
         public ValidationResult validate(Object value) {
-            List<ValidationError> errors = new ArrayList<ValidationError>();
-            errors.addAll(validatorA.validate(value).getErrors());
-            errors.addAll(validatorB.validate(value).getErrors());
-            return ValidationResult.create(errors);
+            return ValidationErrors.limit(this.validator.validate(value), this.errorLimit);
         }
 
     }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.common.validator.traversal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jsefa.common.util.ReflectionUtil;
+import org.jsefa.common.validator.ValidationResult;
+import org.jsefa.common.validator.Validator;
+
+/**
+ * Validators by object type. The validator for a given object type is determined with
+ * {@link ReflectionUtil#getNearest(Class, Map)} once and then cached, so that looking it up again is a single
+ * hash lookup.
+ * <p>
+ * It is thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+final class ValidatorsByObjectType {
+
+    private static final Validator NO_VALIDATOR = new Validator() {
+        public ValidationResult validate(Object value) {
+            return ValidationResult.VALID;
+        }
+    };
+
+    private final Map<Class<?>, Validator> validators;
+
+    private final ConcurrentMap<Class<?>, Validator> resolvedValidators;
+
+    ValidatorsByObjectType(Map<Class<?>, Validator> validators) {
+        this.validators = new HashMap<Class<?>, Validator>(validators);
+        this.resolvedValidators = new ConcurrentHashMap<Class<?>, Validator>();
+    }
+
+    /**
+     * Returns the validator for the given object type.
+     * 
+     * @param objectType the object type
+     * @return the validator or null if none
+     */
+    Validator get(Class<?> objectType) {
+        Validator validator = this.resolvedValidators.get(objectType);
+        if (validator == null) {
+            validator = ReflectionUtil.getNearest(objectType, this.validators);
+            if (validator == null) {
+                validator = NO_VALIDATOR;
+            }
+            this.resolvedValidators.putIfAbsent(objectType, validator);
+        }
+        if (validator == NO_VALIDATOR) {
+            return null;
+        }
+        return validator;
+    }
+
+}
@@ -19,6 +19,7 @@ package org.jsefa.csv;
 import java.util.Map;
 
 import org.jsefa.common.mapping.SimpleTypeMapping;
+import org.jsefa.common.validator.CharSequenceValidator;
 import org.jsefa.csv.config.CsvConfiguration;
 import org.jsefa.csv.lowlevel.CsvLowLevelDeserializer;
 import org.jsefa.csv.lowlevel.config.QuoteMode;
@@ -51,9 +52,10 @@ public final class CsvDeserializerImpl extends RbfDeserializerImpl implements Cs
     /**
      * {@inheritDoc}
      */
-    protected Object readSimpleValue(SimpleTypeMapping<?> typeMapping) {
+    protected Object readSimpleValue(SimpleTypeMapping<?> typeMapping, CharSequenceValidator validator) {
         CsvSimpleTypeMapping csvSimpleTypeMapping = (CsvSimpleTypeMapping) typeMapping;
-        String stringValue = this.lowLevelDeserializer.nextField(csvSimpleTypeMapping.getQuoteMode());
+        String stringValue = this.lowLevelDeserializer.nextField(csvSimpleTypeMapping.getQuoteMode(),
+                typeMapping.getObjectType() == String.class);
         if (stringValue == null) {
             // the field does not exist (an empty field would yield an empty string)
             return null;
@@ -61,6 +63,9 @@ public final class CsvDeserializerImpl extends RbfDeserializerImpl implements Cs
         if (stringValue.equals(csvSimpleTypeMapping.getNoValueString())) {
             return null;
         } else {
+            if (validator != null) {
+                assertTextIsValid(validator, stringValue, 0, stringValue.length());
+            }
             return typeMapping.getSimpleTypeConverter().fromString(stringValue);
         }
     }
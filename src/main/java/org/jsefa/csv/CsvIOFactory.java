@@ -20,7 +20,9 @@ import java.lang.reflect.Method;
 
 import org.jsefa.IOFactory;
 import org.jsefa.IOFactoryException;
+import org.jsefa.common.config.IOFactoryCache;
 import org.jsefa.common.config.InitialConfiguration;
+import org.jsefa.common.util.IOInstancePool;
 import org.jsefa.common.util.ReflectionUtil;
 import org.jsefa.csv.annotation.CsvEntryPointFactory;
 import org.jsefa.csv.annotation.CsvTypeMappingFactory;
@@ -43,6 +45,10 @@ import org.jsefa.csv.config.CsvInitialConfigurationParameters;
  */
 public abstract class CsvIOFactory implements IOFactory {
 
+    private static final IOFactoryCache<CsvIOFactory> CACHE = IOFactoryCache.create();
+
+    private final IOInstancePool<CsvSerializer, CsvDeserializer> pool = IOInstancePool.create(this);
+
     /**
      * Creates a new <code>CsvIOFactory</code> for <code>CsvSerializer</code>s and
      * <code>CsvDeserializer</code>s using the given configuration.
@@ -78,13 +84,21 @@ public abstract class CsvIOFactory implements IOFactory {
      * 
      * It creates a new {@link CsvConfiguration} with entry points generated from the annotations found in the
      * given object types.
+     * <p>
+     * The created factory is cached process-wide, i. e. calling this method again with the same object types
+     * returns the same (immutable and thread-safe) factory as long as the initial configuration is unchanged.
      * 
      * @param objectTypes object types for which entry points should be created from annotations
      * @return a <code>CsvIOFactory</code> factory
      * @throws IOFactoryException
      */
     public static CsvIOFactory createFactory(Class<?>... objectTypes) {
-        return createFactory(new CsvConfiguration(), objectTypes);
+        CsvIOFactory factory = CACHE.get(objectTypes);
+        if (factory == null) {
+            factory = createFactory(new CsvConfiguration(), objectTypes);
+            CACHE.put(factory, objectTypes);
+        }
+        return factory;
     }
 
     /**
@@ -124,4 +138,46 @@ public abstract class CsvIOFactory implements IOFactory {
      */
     public abstract CsvDeserializer createDeserializer();
 
+    /**
+     * Returns a <code>CsvSerializer</code> from the pool of this factory or a new one if none is available. The
+     * serializer must be opened before use and should be given back using {@link #release(CsvSerializer)} after
+     * being closed.
+     * 
+     * @return a <code>CsvSerializer</code>
+     */
+    public final CsvSerializer borrowSerializer() {
+        return this.pool.borrowSerializer();
+    }
+
+    /**
+     * Returns a <code>CsvDeserializer</code> from the pool of this factory or a new one if none is available.
+     * The deserializer must be opened before use and should be given back using
+     * {@link #release(CsvDeserializer)} after being closed.
+     * 
+     * @return a <code>CsvDeserializer</code>
+     */
+    public final CsvDeserializer borrowDeserializer() {
+        return this.pool.borrowDeserializer();
+    }
+
+    /**
+     * Gives the serializer back to the pool of this factory. It is closed without closing its writer if this has
+     * not been done before. It must not be used by the caller any more.
+     * 
+     * @param serializer a serializer created by this factory
+     */
+    public final void release(CsvSerializer serializer) {
+        this.pool.release(serializer);
+    }
+
+    /**
+     * Gives the deserializer back to the pool of this factory. It is closed without closing its reader if this has
+     * not been done before. It must not be used by the caller any more.
+     * 
+     * @param deserializer a deserializer created by this factory
+     */
+    public final void release(CsvDeserializer deserializer) {
+        this.pool.release(deserializer);
+    }
+
 }
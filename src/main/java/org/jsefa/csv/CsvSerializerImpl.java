@@ -45,7 +45,7 @@ public final class CsvSerializerImpl extends RbfSerializerImpl<CsvLowLevelSerial
      */
     protected void writeSimpleValue(Object object, SimpleTypeMapping<?> mapping) {
         CsvSimpleTypeMapping csvSimpleTypeMapping = ((CsvSimpleTypeMapping) mapping);
-        String value = mapping.getSimpleTypeConverter().toString(object);
+        CharSequence value = toCharSequence(object, mapping);
         if (value == null) {
             value = csvSimpleTypeMapping.getNoValueString();
         }
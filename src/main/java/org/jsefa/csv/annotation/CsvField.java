@@ -80,6 +80,13 @@ public @interface CsvField {
      * of the annotated java field.
      */
     Class<? extends SimpleTypeConverter> converterType() default NoConverterType.class;
+
+    /**
+     * The maximum number of converted values to cache. A positive value enables the cache, 0 disables it and a
+     * negative value means that the default cache size of the simple type converter provider is used. Only
+     * values of immutable types like <code>String</code>, <code>BigDecimal</code> or enums can be cached.
+     */
+    int cacheSize() default -1;
     
     /**
      * In case of a simple type list this annotation parameter provides details about the list items.
@@ -17,8 +17,8 @@
 package org.jsefa.csv.config;
 
 import org.jsefa.common.config.Configuration;
-import org.jsefa.common.config.InitialConfigurationParameters;
 import org.jsefa.csv.lowlevel.config.CsvLowLevelInitialConfigurationParameters;
+import org.jsefa.rbf.config.RbfInitialConfigurationParameters;
 
 /**
  * A collection of initial configuration parameters for CSV.
@@ -27,7 +27,7 @@ import org.jsefa.csv.lowlevel.config.CsvLowLevelInitialConfigurationParameters;
  * @author Norman Lahme-Huetig
  * 
  */
-public interface CsvInitialConfigurationParameters extends InitialConfigurationParameters {
+public interface CsvInitialConfigurationParameters extends RbfInitialConfigurationParameters {
     /**
      * Configuration parameter for the CsvIOFactory class to use.
      */
@@ -39,4 +39,16 @@ public interface CsvLowLevelDeserializer extends RbfLowLevelDeserializer {
      * @throws LowLevelDeserializationException
      */
     String nextField(QuoteMode quoteMode);
+
+    /**
+     * Returns the next field of the current record like {@link #nextField(QuoteMode)}. If <code>pooled</code> is
+     * true, the value is taken from the string pool (if configured). This should only be requested for values
+     * which are kept as they are, i. e. not converted into another type.
+     * 
+     * @param quoteMode the quote mode
+     * @param pooled true, if the value should be taken from the string pool; false otherwise
+     * @return the field value or null if there is no next field
+     * @throws LowLevelDeserializationException
+     */
+    String nextField(QuoteMode quoteMode, boolean pooled);
 }
@@ -49,16 +49,23 @@ public final class CsvLowLevelDeserializerImpl extends RbfLowLevelDeserializerIm
      * {@inheritDoc}
      */
     public String nextField(QuoteMode quoteMode) {
+        return nextField(quoteMode, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String nextField(QuoteMode quoteMode, boolean pooled) {
         if (!hasNextChar()) {
             return endOfLineField();
         }
         switch (quoteMode) {
         case ALWAYS:
-            return readStringValueUsingQuotes();
+            return readStringValueUsingQuotes(pooled);
         case ON_DEMAND:
-            return readStringValueUsingQuotesOnDemand();
+            return readStringValueUsingQuotesOnDemand(pooled);
         case NEVER:
-            return readStringValueUsingEscapeCharacter();
+            return readStringValueUsingEscapeCharacter(pooled);
         default:
             throw new UnsupportedOperationException("The quote mode is not supported: " + quoteMode);
         }
@@ -77,7 +84,7 @@ public final class CsvLowLevelDeserializerImpl extends RbfLowLevelDeserializerIm
         }
     }
 
-    private String readStringValueUsingQuotes() {
+    private String readStringValueUsingQuotes(boolean pooled) {
         char quoteChar = getConfiguration().getQuoteCharacter();
         char startChar = nextChar();
         if (startChar == getConfiguration().getFieldDelimiter()) {
@@ -90,10 +97,11 @@ public final class CsvLowLevelDeserializerImpl extends RbfLowLevelDeserializerIm
         if (getConfiguration().getQuoteCharacterEscapeMode().equals(EscapeMode.DOUBLING)) {
             escapeCharacter = quoteChar;
         }
-        return readStringValueUsingQuotes(quoteChar, escapeCharacter, getConfiguration().getFieldDelimiter());
+        return readStringValueUsingQuotes(quoteChar, escapeCharacter, getConfiguration().getFieldDelimiter(), pooled);
     }
 
-    private String readStringValueUsingQuotes(char quoteChar, char escapeCharacter, char fieldDelimiter) {
+    private String readStringValueUsingQuotes(char quoteChar, char escapeCharacter, char fieldDelimiter,
+            boolean pooled) {
         StringBuilder result = new StringBuilder(remainingLineLength());
         boolean encoded = false;
         while (true) {
@@ -106,11 +114,11 @@ public final class CsvLowLevelDeserializerImpl extends RbfLowLevelDeserializerIm
                     if (currentChar == quoteChar) {
                         if (!hasNextChar()) {
                             this.lastFieldTerminatedWithDelimiter = false;
-                            return result.toString();
+                            return createString(result, 0, result.length(), pooled);
                         } else if (hasNextChar() && peekChar() == fieldDelimiter) {
                             nextChar();
                             this.lastFieldTerminatedWithDelimiter = true;
-                            return result.toString();
+                            return createString(result, 0, result.length(), pooled);
                         }
                     }
                     if (currentChar == escapeCharacter) {
@@ -126,30 +134,27 @@ public final class CsvLowLevelDeserializerImpl extends RbfLowLevelDeserializerIm
             }
         }
         this.lastFieldTerminatedWithDelimiter = false;
-        return result.toString();
+        return createString(result, 0, result.length(), pooled);
     }
 
-    private String readStringValueUsingQuotesOnDemand() {
+    private String readStringValueUsingQuotesOnDemand(boolean pooled) {
         if (peekChar() == getConfiguration().getQuoteCharacter()) {
-            return readStringValueUsingQuotes();
+            return readStringValueUsingQuotes(pooled);
         } else {
             char fieldDelimiter = getConfiguration().getFieldDelimiter();
-            StringBuilder result = new StringBuilder(remainingLineLength());
+            int start = getColumnIndex();
             while (hasNextChar()) {
-                char currentChar = nextChar();
-                if (currentChar == fieldDelimiter) {
+                if (nextChar() == fieldDelimiter) {
                     this.lastFieldTerminatedWithDelimiter = true;
-                    return result.toString();
-                } else {
-                    result.append(currentChar);
+                    return createString(getCurrentSegmentContent(), start, getColumnIndex() - 1, pooled);
                 }
             }
             this.lastFieldTerminatedWithDelimiter = false;
-            return result.toString();
+            return createString(getCurrentSegmentContent(), start, getColumnIndex(), pooled);
         }
     }
 
-    private String readStringValueUsingEscapeCharacter() {
+    private String readStringValueUsingEscapeCharacter(boolean pooled) {
         char fieldDelimiter = getConfiguration().getFieldDelimiter();
         StringBuilder result = new StringBuilder(remainingLineLength());
         boolean escaped = false;
@@ -168,7 +173,7 @@ public final class CsvLowLevelDeserializerImpl extends RbfLowLevelDeserializerIm
                         escaped = true;
                     } else if (currentChar == fieldDelimiter) {
                         this.lastFieldTerminatedWithDelimiter = true;
-                        return result.toString();
+                        return createString(result, 0, result.length(), pooled);
                     } else {
                         result.append(currentChar);
                     }
@@ -184,7 +189,7 @@ public final class CsvLowLevelDeserializerImpl extends RbfLowLevelDeserializerIm
             break;
         }
         this.lastFieldTerminatedWithDelimiter = false;
-        return result.toString();
+        return createString(result, 0, result.length(), pooled);
     }
 
 }
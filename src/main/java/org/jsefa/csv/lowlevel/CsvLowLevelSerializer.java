@@ -35,6 +35,6 @@ public interface CsvLowLevelSerializer extends RbfLowLevelSerializer {
      * @param quoteMode the quote mode to use
      * @throws LowLevelSerializationException
      */
-    void writeField(String value, QuoteMode quoteMode);
+    void writeField(CharSequence value, QuoteMode quoteMode);
 
 }
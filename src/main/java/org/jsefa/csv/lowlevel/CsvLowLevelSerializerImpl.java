@@ -23,6 +23,10 @@ import org.jsefa.rbf.lowlevel.RbfLowLevelSerializerImpl;
 
 /**
  * Implementation of {@link CsvLowLevelSerializer} based on {@link RbfLowLevelSerializerImpl}.
+ * <p>
+ * A field value is encoded in a single pass: it is copied to a reused buffer in bulk and then scanned in place.
+ * Quotes and escape characters are inserted afterwards only if needed, so that a value which needs no encoding
+ * is written with a single bulk copy.
  * 
  * @author Norman Lahme-Huetig
  */
@@ -33,6 +37,16 @@ public class CsvLowLevelSerializerImpl extends RbfLowLevelSerializerImpl<CsvLowL
 
     private int specialRecordDelimiter;
 
+    private final char fieldDelimiter;
+
+    private final char quoteCharacter;
+
+    private final char escapeCharacter;
+
+    private final char quoteCharacterEscapeCharacter;
+
+    private final String lineBreak;
+
     /**
      * Constructs a new <code>CsvLowLevelSerializerImpl</code>.
      * 
@@ -45,6 +59,15 @@ public class CsvLowLevelSerializerImpl extends RbfLowLevelSerializerImpl<CsvLowL
         } else {
             this.specialRecordDelimiter = -1;
         }
+        this.fieldDelimiter = config.getFieldDelimiter();
+        this.quoteCharacter = config.getQuoteCharacter();
+        this.escapeCharacter = config.getEscapeCharacter();
+        if (config.getQuoteCharacterEscapeMode().equals(EscapeMode.DOUBLING)) {
+            this.quoteCharacterEscapeCharacter = this.quoteCharacter;
+        } else {
+            this.quoteCharacterEscapeCharacter = this.escapeCharacter;
+        }
+        this.lineBreak = config.getLineBreak();
     }
 
     /**
@@ -58,9 +81,9 @@ public class CsvLowLevelSerializerImpl extends RbfLowLevelSerializerImpl<CsvLowL
     /**
      * {@inheritDoc}
      */
-    public void writeField(String value, QuoteMode quoteMode) {
+    public void writeField(CharSequence value, QuoteMode quoteMode) {
         if (this.fieldCount > 0) {
-            writeChar(getConfiguration().getFieldDelimiter());
+            writeChar(this.fieldDelimiter);
         }
         encodeAndWrite(value, quoteMode);
         fieldCount++;
@@ -72,21 +95,21 @@ public class CsvLowLevelSerializerImpl extends RbfLowLevelSerializerImpl<CsvLowL
     @Override
     protected void beforeFinishRecord() {
         if (getConfiguration().getUseDelimiterAfterLastField()) {
-            writeChar(getConfiguration().getFieldDelimiter());
+            writeChar(this.fieldDelimiter);
         }
         this.fieldCount = 0;
     }
 
-    private void encodeAndWrite(String value, QuoteMode quoteMode) {
+    private void encodeAndWrite(CharSequence value, QuoteMode quoteMode) {
         if (value.length() == 0) {
             return;
         }
         switch (quoteMode) {
         case ALWAYS:
-            encodeAndWriteUsingQuotes(value);
+            encodeAndWriteUsingQuotes(value, true);
             break;
         case ON_DEMAND:
-            encodeAndWriteUsingQuotesOnDemand(value);
+            encodeAndWriteUsingQuotes(value, false);
             break;
         case NEVER:
             encodeAndWriteUsingEscapeCharacter(value);
@@ -96,65 +119,91 @@ public class CsvLowLevelSerializerImpl extends RbfLowLevelSerializerImpl<CsvLowL
         }
     }
 
-    private void encodeAndWriteUsingQuotes(String value) {
-        char quoteChar = getConfiguration().getQuoteCharacter();
-        char escapeCharacter = getConfiguration().getEscapeCharacter();
-        if (getConfiguration().getQuoteCharacterEscapeMode().equals(EscapeMode.DOUBLING)) {
-            escapeCharacter = quoteChar;
+    private void encodeAndWriteUsingQuotes(CharSequence value, boolean always) {
+        int length = value.length();
+        // room for the quotes and an escape character for each character
+        char[] buffer = copyToBuffer(value, 1, 2 * length + 2);
+        int end = length + 1;
+        // an empty line break is contained in every value (as with String.contains)
+        boolean needsQuotes = always || buffer[1] == this.quoteCharacter || this.lineBreak.length() == 0;
+        int quoteCount = 0;
+        for (int i = 1; i < end; i++) {
+            char currentChar = buffer[i];
+            if (currentChar == this.quoteCharacter) {
+                quoteCount++;
+            } else if (currentChar == this.escapeCharacter || currentChar == this.fieldDelimiter
+                    || (this.lineBreak.length() > 0 && currentChar == this.lineBreak.charAt(0)
+                            && isLineBreakAt(buffer, i, end))) {
+                needsQuotes = true;
+            }
         }
-        writeChar(quoteChar);
-        int index = 0;
-        while (index < value.length()) {
-            char currentChar = value.charAt(index++);
-            if (currentChar == quoteChar) {
-                writeChar(escapeCharacter);
+        if (!needsQuotes) {
+            writeChars(buffer, 1, end);
+            return;
+        }
+        if (quoteCount > 0) {
+            int source = end;
+            end += quoteCount;
+            int target = end;
+            while (target > source) {
+                char currentChar = buffer[--source];
+                buffer[--target] = currentChar;
+                if (currentChar == this.quoteCharacter) {
+                    buffer[--target] = this.quoteCharacterEscapeCharacter;
+                }
             }
-            writeChar(currentChar);
         }
-        writeChar(getConfiguration().getQuoteCharacter());
+        buffer[0] = this.quoteCharacter;
+        buffer[end] = this.quoteCharacter;
+        writeChars(buffer, 0, end + 1);
     }
 
-    private void encodeAndWriteUsingQuotesOnDemand(String value) {
-        if (needsQuotes(value)) {
-            encodeAndWriteUsingQuotes(value);
-        } else {
-            writeString(value);
+    private void encodeAndWriteUsingEscapeCharacter(CharSequence value) {
+        int length = value.length();
+        // room for an escape character for each character
+        char[] buffer = copyToBuffer(value, 0, 2 * length);
+        int escapeCount = 0;
+        for (int i = 0; i < length; i++) {
+            if (needsEscapeCharacter(buffer[i])) {
+                escapeCount++;
+            }
         }
-    }
-
-    private void encodeAndWriteUsingEscapeCharacter(String value) {
-        int index = 0;
-        while (index < value.length()) {
-            char currentChar = value.charAt(index++);
-            if (currentChar == getConfiguration().getEscapeCharacter()
-                    || currentChar == getConfiguration().getFieldDelimiter()
-                    || currentChar == this.specialRecordDelimiter) {
-                writeChar(getConfiguration().getEscapeCharacter());
-                writeChar(currentChar);
-            } else if (currentChar == '\n') {
-                writeChar(getConfiguration().getEscapeCharacter());
-                writeChar('n');
-            } else {
-                writeChar(currentChar);
+        if (escapeCount > 0) {
+            int source = length;
+            int target = length + escapeCount;
+            while (target > source) {
+                char currentChar = buffer[--source];
+                if (needsEscapeCharacter(currentChar)) {
+                    if (currentChar == '\n' && currentChar != this.escapeCharacter
+                            && currentChar != this.fieldDelimiter && currentChar != this.specialRecordDelimiter) {
+                        buffer[--target] = 'n';
+                    } else {
+                        buffer[--target] = currentChar;
+                    }
+                    buffer[--target] = this.escapeCharacter;
+                } else {
+                    buffer[--target] = currentChar;
+                }
             }
         }
+        writeChars(buffer, 0, length + escapeCount);
+    }
+
+    private boolean needsEscapeCharacter(char currentChar) {
+        return currentChar == this.escapeCharacter || currentChar == this.fieldDelimiter
+                || currentChar == this.specialRecordDelimiter || currentChar == '\n';
     }
 
-    private boolean needsQuotes(String value) {
-        if (value.charAt(0) == getConfiguration().getQuoteCharacter()) {
-            return true;
+    private boolean isLineBreakAt(char[] buffer, int index, int end) {
+        if (index + this.lineBreak.length() > end) {
+            return false;
         }
-        for (int i = 0; i < value.length(); i++) {
-            char currentChar = value.charAt(i);
-            if (currentChar == getConfiguration().getEscapeCharacter()
-                    || currentChar == getConfiguration().getFieldDelimiter()) {
-                return true;
+        for (int i = 1; i < this.lineBreak.length(); i++) {
+            if (buffer[index + i] != this.lineBreak.charAt(i)) {
+                return false;
             }
         }
-        if (value.contains(getConfiguration().getLineBreak())) {
-            return true;
-        }
-        return false;
+        return true;
     }
 
 }
@@ -18,7 +18,9 @@ package org.jsefa.flr;
 
 import java.util.Map;
 
+import org.jsefa.common.converter.CharSequenceConverter;
 import org.jsefa.common.mapping.SimpleTypeMapping;
+import org.jsefa.common.validator.CharSequenceValidator;
 import org.jsefa.flr.config.FlrConfiguration;
 import org.jsefa.flr.lowlevel.Align;
 import org.jsefa.flr.lowlevel.FlrLowLevelDeserializer;
@@ -55,14 +57,22 @@ public final class FlrDeserializerImpl extends RbfDeserializerImpl implements Fl
     /**
      * {@inheritDoc}
      */
-    protected Object readSimpleValue(SimpleTypeMapping<?> typeMapping) {
+    protected Object readSimpleValue(SimpleTypeMapping<?> typeMapping, CharSequenceValidator validator) {
         FlrSimpleTypeMapping flrTypeMapping = (FlrSimpleTypeMapping) typeMapping;
+        if (typeMapping.getSimpleTypeConverter() instanceof CharSequenceConverter) {
+            return this.lowLevelDeserializer.nextField(flrTypeMapping.getLength(), flrTypeMapping.getAlign(),
+                    flrTypeMapping.getPadCharacter(), (CharSequenceConverter) typeMapping.getSimpleTypeConverter(),
+                    validator);
+        }
         String stringValue = this.lowLevelDeserializer.nextField(flrTypeMapping.getLength(), flrTypeMapping
-                .getAlign(), flrTypeMapping.getPadCharacter());
+                .getAlign(), flrTypeMapping.getPadCharacter(), typeMapping.getObjectType() == String.class);
         if (stringValue == null || stringValue.length() == 0) {
             // the field does not exist (null) or is empty
             return null;
         } else {
+            if (validator != null) {
+                assertTextIsValid(validator, stringValue, 0, stringValue.length());
+            }
             return typeMapping.getSimpleTypeConverter().fromString(stringValue);
         }
     }
@@ -20,7 +20,9 @@ import java.lang.reflect.Method;
 
 import org.jsefa.IOFactory;
 import org.jsefa.IOFactoryException;
+import org.jsefa.common.config.IOFactoryCache;
 import org.jsefa.common.config.InitialConfiguration;
+import org.jsefa.common.util.IOInstancePool;
 import org.jsefa.common.util.ReflectionUtil;
 import org.jsefa.flr.annotation.FlrEntryPointFactory;
 import org.jsefa.flr.annotation.FlrTypeMappingFactory;
@@ -43,6 +45,10 @@ import org.jsefa.flr.config.FlrInitialConfigurationParameters;
  */
 public abstract class FlrIOFactory implements IOFactory {
 
+    private static final IOFactoryCache<FlrIOFactory> CACHE = IOFactoryCache.create();
+
+    private final IOInstancePool<FlrSerializer, FlrDeserializer> pool = IOInstancePool.create(this);
+
     /**
      * Creates a new <code>FlrIOFactory</code> for <code>FlrSerializer</code>s and
      * <code>FlrDeserializer</code>s using the given configuration.
@@ -78,13 +84,21 @@ public abstract class FlrIOFactory implements IOFactory {
      * 
      * It creates a new {@link FlrConfiguration} with entry points generated from the annotations found in the
      * given object types.
+     * <p>
+     * The created factory is cached process-wide, i. e. calling this method again with the same object types
+     * returns the same (immutable and thread-safe) factory as long as the initial configuration is unchanged.
      * 
      * @param objectTypes object types for which entry points should be created from annotations
      * @return a <code>FlrIOFactory</code> factory
      * @throws IOFactoryException
      */
     public static FlrIOFactory createFactory(Class<?>... objectTypes) {
-        return createFactory(new FlrConfiguration(), objectTypes);
+        FlrIOFactory factory = CACHE.get(objectTypes);
+        if (factory == null) {
+            factory = createFactory(new FlrConfiguration(), objectTypes);
+            CACHE.put(factory, objectTypes);
+        }
+        return factory;
     }
 
     /**
@@ -124,4 +138,46 @@ public abstract class FlrIOFactory implements IOFactory {
      */
     public abstract FlrDeserializer createDeserializer();
 
+    /**
+     * Returns a <code>FlrSerializer</code> from the pool of this factory or a new one if none is available. The
+     * serializer must be opened before use and should be given back using {@link #release(FlrSerializer)} after
+     * being closed.
+     * 
+     * @return a <code>FlrSerializer</code>
+     */
+    public final FlrSerializer borrowSerializer() {
+        return this.pool.borrowSerializer();
+    }
+
+    /**
+     * Returns a <code>FlrDeserializer</code> from the pool of this factory or a new one if none is available.
+     * The deserializer must be opened before use and should be given back using
+     * {@link #release(FlrDeserializer)} after being closed.
+     * 
+     * @return a <code>FlrDeserializer</code>
+     */
+    public final FlrDeserializer borrowDeserializer() {
+        return this.pool.borrowDeserializer();
+    }
+
+    /**
+     * Gives the serializer back to the pool of this factory. It is closed without closing its writer if this has
+     * not been done before. It must not be used by the caller any more.
+     * 
+     * @param serializer a serializer created by this factory
+     */
+    public final void release(FlrSerializer serializer) {
+        this.pool.release(serializer);
+    }
+
+    /**
+     * Gives the deserializer back to the pool of this factory. It is closed without closing its reader if this has
+     * not been done before. It must not be used by the caller any more.
+     * 
+     * @param deserializer a deserializer created by this factory
+     */
+    public final void release(FlrDeserializer deserializer) {
+        this.pool.release(deserializer);
+    }
+
 }
@@ -45,7 +45,7 @@ public final class FlrSerializerImpl extends RbfSerializerImpl<FlrLowLevelSerial
      */
     protected void writeSimpleValue(Object object, SimpleTypeMapping<?> mapping) {
         FlrSimpleTypeMapping flrMapping = (FlrSimpleTypeMapping) mapping;
-        String value = flrMapping.getSimpleTypeConverter().toString(object);
+        CharSequence value = toCharSequence(object, mapping);
         if (value == null) {
             value = "";
         }
@@ -17,8 +17,8 @@
 package org.jsefa.flr.config;
 
 import org.jsefa.common.config.Configuration;
-import org.jsefa.common.config.InitialConfigurationParameters;
 import org.jsefa.flr.lowlevel.config.FlrLowLevelInitialConfigurationParameters;
+import org.jsefa.rbf.config.RbfInitialConfigurationParameters;
 
 /**
  * A collection of initial configuration parameters for FLR.
@@ -27,7 +27,7 @@ import org.jsefa.flr.lowlevel.config.FlrLowLevelInitialConfigurationParameters;
  * @author Norman Lahme-Huetig
  * 
  */
-public interface FlrInitialConfigurationParameters extends InitialConfigurationParameters {
+public interface FlrInitialConfigurationParameters extends RbfInitialConfigurationParameters {
     /**
      * Configuration parameter for the FlrIOFactory class to use.
      */
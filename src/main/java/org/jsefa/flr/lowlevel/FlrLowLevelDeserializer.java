@@ -16,7 +16,10 @@
 
 package org.jsefa.flr.lowlevel;
 
+import org.jsefa.common.converter.CharSequenceConverter;
 import org.jsefa.common.lowlevel.LowLevelDeserializationException;
+import org.jsefa.common.validator.CharSequenceValidator;
+import org.jsefa.common.validator.ValidationException;
 import org.jsefa.rbf.lowlevel.RbfLowLevelDeserializer;
 
 /**
@@ -38,4 +41,47 @@ public interface FlrLowLevelDeserializer extends RbfLowLevelDeserializer {
      */
     String nextField(int length, Align align, char padCharacter);
 
+    /**
+     * Returns the next field of the current record like {@link #nextField(int, Align, char)}. If
+     * <code>pooled</code> is true, the value is taken from the string pool (if configured). This should only be
+     * requested for values which are kept as they are, i. e. not converted into another type.
+     * 
+     * @param length the length of the field
+     * @param align the alignment
+     * @param padCharacter the pad character
+     * @param pooled true, if the value should be taken from the string pool; false otherwise
+     * @return the field value
+     * @throws LowLevelDeserializationException
+     */
+    String nextField(int length, Align align, char padCharacter, boolean pooled);
+
+    /**
+     * Returns the next field of the current record converted by the given converter directly from the input
+     * buffer, i. e. without creating an intermediate <code>String</code>.
+     * 
+     * @param length the length of the field
+     * @param align the alignment
+     * @param padCharacter the pad character
+     * @param converter the converter
+     * @return the converted field value or null if the field does not exist or is empty
+     * @throws LowLevelDeserializationException
+     */
+    Object nextField(int length, Align align, char padCharacter, CharSequenceConverter converter);
+
+    /**
+     * Returns the next field of the current record converted by the given converter directly from the input
+     * buffer after its text is validated by the given validator.
+     * 
+     * @param length the length of the field
+     * @param align the alignment
+     * @param padCharacter the pad character
+     * @param converter the converter
+     * @param validator the validator for the text of a non empty field or null if the text is not validated
+     * @return the converted field value or null if the field does not exist or is empty
+     * @throws LowLevelDeserializationException
+     * @throws ValidationException if the text of the field is not valid
+     */
+    Object nextField(int length, Align align, char padCharacter, CharSequenceConverter converter,
+            CharSequenceValidator validator);
+
 }
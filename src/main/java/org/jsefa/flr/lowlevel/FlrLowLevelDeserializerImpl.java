@@ -16,6 +16,10 @@
 
 package org.jsefa.flr.lowlevel;
 
+import org.jsefa.common.converter.CharSequenceConverter;
+import org.jsefa.common.validator.CharSequenceValidator;
+import org.jsefa.common.validator.ValidationException;
+import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.flr.lowlevel.config.FlrLowLevelConfiguration;
 import org.jsefa.rbf.lowlevel.RbfLowLevelDeserializerImpl;
 
@@ -40,36 +44,83 @@ public class FlrLowLevelDeserializerImpl extends RbfLowLevelDeserializerImpl<Flr
      * {@inheritDoc}
      */
     public String nextField(int length, Align align, char padCharacter) {
-        return trim(this.nextString(length), align, padCharacter);
+        return nextField(length, align, padCharacter, false);
     }
 
-    private String trim(String stringValue, Align align, char padCharacter) {
-        if (stringValue == null) {
+    /**
+     * {@inheritDoc}
+     */
+    public String nextField(int length, Align align, char padCharacter, boolean pooled) {
+        if (length > 0 && remainingLineLength() <= 0) {
             return null;
         }
-        if (align == Align.LEFT) {
-            int endIndex = stringValue.length() - 1;
-            while ((endIndex >= 0) && (stringValue.charAt(endIndex) == padCharacter)) {
-                endIndex--;
-            }
-            if (endIndex < 0) {
-                return "";
-            } else {
-                return stringValue.substring(0, endIndex + 1);
-            }
-        } else if (align == Align.RIGHT) {
-            int startIndex = 0;
-            while ((startIndex < stringValue.length()) && (stringValue.charAt(startIndex) == padCharacter)) {
-                startIndex++;
+        String content = getCurrentSegmentContent();
+        int start = getColumnIndex();
+        int end = start + skipChars(length);
+        int fieldStart = getFieldStart(content, start, end, align, padCharacter);
+        int fieldEnd = getFieldEnd(content, fieldStart, end, align, padCharacter);
+        return createString(content, fieldStart, fieldEnd, pooled);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object nextField(int length, Align align, char padCharacter, CharSequenceConverter converter) {
+        return nextField(length, align, padCharacter, converter, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object nextField(int length, Align align, char padCharacter, CharSequenceConverter converter,
+            CharSequenceValidator validator) {
+        String content = getCurrentSegmentContent();
+        int start = getColumnIndex();
+        int end = start + skipChars(length);
+        int fieldStart = getFieldStart(content, start, end, align, padCharacter);
+        int fieldEnd = getFieldEnd(content, fieldStart, end, align, padCharacter);
+        if (fieldStart == fieldEnd) {
+            return null;
+        }
+        if (validator != null) {
+            ValidationResult result = validator.validateChars(content, fieldStart, fieldEnd);
+            if (!result.isValid()) {
+                throw new ValidationException(result);
             }
-            if (startIndex == stringValue.length()) {
-                return "";
-            } else {
-                return stringValue.substring(startIndex);
+        }
+        return converter.fromChars(content, fieldStart, fieldEnd);
+    }
+
+    /**
+     * Returns the start index of the field content from <code>start</code> to <code>end</code> without the
+     * leading padding characters.
+     */
+    private static int getFieldStart(String content, int start, int end, Align align, char padCharacter) {
+        if (align == Align.RIGHT) {
+            int fieldStart = start;
+            while (fieldStart < end && content.charAt(fieldStart) == padCharacter) {
+                fieldStart++;
             }
+            return fieldStart;
+        } else if (align == Align.LEFT) {
+            return start;
         } else {
             throw new UnsupportedOperationException("Unknown align type: " + align);
         }
     }
 
+    /**
+     * Returns the end index of the field content from <code>start</code> to <code>end</code> without the
+     * trailing padding characters.
+     */
+    private static int getFieldEnd(String content, int start, int end, Align align, char padCharacter) {
+        int fieldEnd = end;
+        if (align == Align.LEFT) {
+            while (fieldEnd > start && content.charAt(fieldEnd - 1) == padCharacter) {
+                fieldEnd--;
+            }
+        }
+        return fieldEnd;
+    }
+
 }
@@ -35,5 +35,5 @@ public interface FlrLowLevelSerializer extends RbfLowLevelSerializer {
      * @param padCharacter the pad character
      * @throws LowLevelSerializationException
      */
-    void writeField(String value, int length, Align align, char padCharacter);
+    void writeField(CharSequence value, int length, Align align, char padCharacter);
 }
@@ -40,22 +40,22 @@ public class FlrLowLevelSerializerImpl extends RbfLowLevelSerializerImpl<FlrLowL
     /**
      * {@inheritDoc}
      */
-    public void writeField(String value, int length, Align align, char padCharacter) {
+    public void writeField(CharSequence value, int length, Align align, char padCharacter) {
         if (value.length() >= length) {
-            writeString(value.substring(0, length));
+            writeChars(value, 0, length);
         } else {
             if (align == Align.LEFT) {
-                writeString(value);
+                writeChars(value, 0, value.length());
                 writePadCharacters(value, length, padCharacter);
             } else {
                 writePadCharacters(value, length, padCharacter);
-                writeString(value);
+                writeChars(value, 0, value.length());
             }
 
         }
     }
 
-    private void writePadCharacters(String value, int length, char padCharacter) {
+    private void writePadCharacters(CharSequence value, int length, char padCharacter) {
         int padCount = length - value.length();
         for (int i = 0; i < padCount; i++) {
             writeChar(padCharacter);
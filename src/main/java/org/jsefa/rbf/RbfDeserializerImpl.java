@@ -28,6 +28,9 @@ import org.jsefa.common.lowlevel.InputPosition;
 import org.jsefa.common.lowlevel.filter.Line;
 import org.jsefa.common.mapping.SimpleTypeMapping;
 import org.jsefa.common.mapping.TypeMapping;
+import org.jsefa.common.validator.CharSequenceValidator;
+import org.jsefa.common.validator.ValidationBatch;
+import org.jsefa.common.validator.ValidationBatch.EntryReader;
 import org.jsefa.common.validator.ValidationException;
 import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.common.validator.Validator;
@@ -62,6 +65,32 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
 
     private boolean validate;
 
+    private boolean validateRawText;
+
+    private final ValidationBatch validationBatch;
+
+    private final EntryReader entryReader = new EntryReader() {
+        public boolean moveToNextEntry() {
+            return RbfDeserializerImpl.this.currentEntryPoint != null || moveToNextEntryPoint();
+        }
+
+        public Validator getValidator() {
+            return RbfDeserializerImpl.this.currentEntryPoint.getValidator();
+        }
+
+        public Object readEntry() {
+            try {
+                return readValue(getTypeMapping(RbfDeserializerImpl.this.currentEntryPoint.getDataTypeName()));
+            } finally {
+                RbfDeserializerImpl.this.currentEntryPoint = null;
+            }
+        }
+
+        public InputPosition getInputPosition() {
+            return RbfDeserializerImpl.this.getInputPosition();
+        }
+    };
+
     /**
      * Constructs a new <code>AbstractRbfDeserializer</code>.
      * 
@@ -75,6 +104,8 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
         this.entryPoint = null;
         this.validate = config.getValidationMode().equals(ValidationMode.DESERIALIZATION)
                 || config.getValidationMode().equals(ValidationMode.BOTH);
+        this.validateRawText = this.validate && config.getRawTextValidation();
+        this.validationBatch = ValidationBatch.create(config, this.validate);
     }
 
     /**
@@ -90,6 +121,8 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
         this.entryPointsByPrefix = null;
         this.validate = config.getValidationMode().equals(ValidationMode.DESERIALIZATION)
                 || config.getValidationMode().equals(ValidationMode.BOTH);
+        this.validateRawText = this.validate && config.getRawTextValidation();
+        this.validationBatch = ValidationBatch.create(config, this.validate);
     }
 
     /**
@@ -97,6 +130,9 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
      */
     public final void open(Reader reader) {
         this.currentEntryPoint = null;
+        if (this.validationBatch != null) {
+            this.validationBatch.clear();
+        }
         try {
             getLowLevelDeserializer().open(reader);
         } catch (Exception e) {
@@ -108,6 +144,9 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
      * {@inheritDoc}
      */
     public final boolean hasNext() {
+        if (this.validationBatch != null && this.validationBatch.hasNext()) {
+            return true;
+        }
         try {
             if (this.currentEntryPoint == null) {
                 return moveToNextEntryPoint();
@@ -127,6 +166,9 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
      */
     @SuppressWarnings("unchecked")
     public final <T> T next() {
+        if (this.validationBatch != null) {
+            return (T) this.validationBatch.next(this.entryReader);
+        }
         try {
             if (!hasNext()) {
                 return null;
@@ -152,6 +194,10 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
      * {@inheritDoc}
      */
     public final void close(boolean closeReader) {
+        this.currentEntryPoint = null;
+        if (this.validationBatch != null) {
+            this.validationBatch.clear();
+        }
         try {
             getLowLevelDeserializer().close(closeReader);
         } catch (Exception e) {
@@ -177,9 +223,12 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
      * Reads a simple value from the stream using the given type mapping.
      * 
      * @param typeMapping the type mapping
+     * @param validator the validator for the text of the value or null if the text is not validated before
+     *                conversion
      * @return a simple value
+     * @throws ValidationException if the text of the value is not valid
      */
-    protected abstract Object readSimpleValue(SimpleTypeMapping<?> typeMapping);
+    protected abstract Object readSimpleValue(SimpleTypeMapping<?> typeMapping, CharSequenceValidator validator);
 
     /**
      * Reads the prefix of the current record from the stream.
@@ -195,9 +244,29 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
      */
     protected abstract RbfLowLevelDeserializer getLowLevelDeserializer();
 
+    /**
+     * Asserts that the text of a simple value is valid.
+     * 
+     * @param validator the validator
+     * @param chars the character sequence
+     * @param start the start index of the text (inclusive)
+     * @param end the end index of the text (exclusive)
+     * @throws ValidationException if the text is not valid
+     */
+    protected final void assertTextIsValid(CharSequenceValidator validator, CharSequence chars, int start, int end) {
+        ValidationResult result = validator.validateChars(chars, start, end);
+        if (!result.isValid()) {
+            throw new ValidationException(result);
+        }
+    }
+
     private Object readValue(TypeMapping<?> typeMapping) {
+        return readValue(typeMapping, null);
+    }
+
+    private Object readValue(TypeMapping<?> typeMapping, CharSequenceValidator validator) {
         if (typeMapping instanceof SimpleTypeMapping) {
-            return readSimpleValue((SimpleTypeMapping<?>) typeMapping);
+            return readSimpleValue((SimpleTypeMapping<?>) typeMapping, validator);
         } else if (typeMapping instanceof RbfComplexTypeMapping) {
             return readComplexValue((RbfComplexTypeMapping) typeMapping);
         } else {
@@ -227,7 +296,8 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
                     break;
                 }
                 fieldName = nodeMapping.getFieldDescriptor().getName();
-                Object fieldValue = readValue(getTypeMapping(nodeMapping.getDataTypeName()));
+                Object fieldValue = readValue(getTypeMapping(nodeMapping.getDataTypeName()),
+                        getTextValidator(nodeMapping));
                 if (fieldValue != null) {
                     typeMapping.getObjectAccessor().setValue(object, fieldName, fieldValue);
                     hasContent = true;
@@ -343,6 +413,13 @@ public abstract class RbfDeserializerImpl implements RbfDeserializer {
         }
     }
 
+    private CharSequenceValidator getTextValidator(RbfNodeMapping<?> nodeMapping) {
+        if (this.validateRawText && nodeMapping.getValidator() instanceof CharSequenceValidator) {
+            return (CharSequenceValidator) nodeMapping.getValidator();
+        }
+        return null;
+    }
+
     private void assertValueIsValid(Object object, RbfEntryPoint entryPoint) {
         Validator validator = entryPoint.getValidator();
         if (validator != null) {
@@ -26,9 +26,13 @@ import java.util.concurrent.ConcurrentMap;
 import org.jsefa.IOFactory;
 import org.jsefa.IOFactoryException;
 import org.jsefa.common.config.Configuration;
+import org.jsefa.common.mapping.NodeMapping;
+import org.jsefa.common.mapping.SimpleTypeMapping;
 import org.jsefa.common.mapping.TypeMapping;
+import org.jsefa.common.validator.CharSequenceValidator;
 import org.jsefa.common.validator.Validator;
 import org.jsefa.common.validator.traversal.TraversingValidatorFactory;
+import org.jsefa.rbf.config.RbfConfiguration;
 import org.jsefa.rbf.mapping.RbfComplexTypeMapping;
 import org.jsefa.rbf.mapping.RbfEntryPoint;
 import org.jsefa.rbf.mapping.RbfListTypeMapping;
@@ -75,29 +79,30 @@ public abstract class RbfIOFactory<C extends Configuration<RbfTypeMappingRegistr
         this.entryPointsByObjectType = new ConcurrentHashMap<Class<?>, RbfEntryPoint>();
 
         TraversingValidatorFactory<String> traversingValidatorFactory = new TraversingValidatorFactory<String>(
-                config.getTypeMappingRegistry(), config.getObjectAccessorProvider());
+                config.getTypeMappingRegistry(), config.getObjectAccessorProvider(), config.getValidationErrorLimit());
+        TraversingValidatorFactory<String> deserializationValidatorFactory = traversingValidatorFactory;
+        if (config instanceof RbfConfiguration && ((RbfConfiguration<?>) config).getRawTextValidation()) {
+            deserializationValidatorFactory = createRawTextValidatorFactory(config);
+        }
         if (this.withPrefix) {
             this.entryPointsByPrefix = new ConcurrentHashMap<String, RbfEntryPoint>();
             for (RbfEntryPoint anEntryPoint : config.getEntryPoints()) {
-                Validator validator = traversingValidatorFactory.create(anEntryPoint.getDataTypeName(), anEntryPoint
-                        .getValidator());
-                RbfEntryPoint validationEntryPoint = new RbfEntryPoint(anEntryPoint.getDataTypeName(), anEntryPoint
-                        .getDesignator(), validator);
+                RbfEntryPoint validationEntryPoint = createValidationEntryPoint(anEntryPoint,
+                        traversingValidatorFactory);
                 Class objectType = getObjectType(anEntryPoint.getDataTypeName());
                 assertPrefixDeclared(validationEntryPoint, objectType);
                 this.entryPointsByObjectType.put(objectType, validationEntryPoint);
-                this.entryPointsByPrefix.put(anEntryPoint.getDesignator(), validationEntryPoint);
+                this.entryPointsByPrefix.put(anEntryPoint.getDesignator(), createValidationEntryPoint(anEntryPoint,
+                        deserializationValidatorFactory));
             }
             assertPrefixContentualUniqueness(config.getEntryPoints());
             this.entryPoint = null;
         } else {
             RbfEntryPoint configuredEntryPoint = config.getEntryPoints().iterator().next();
-            Validator validator = traversingValidatorFactory.create(configuredEntryPoint.getDataTypeName(),
-                    configuredEntryPoint.getValidator());
-            this.entryPoint = new RbfEntryPoint(configuredEntryPoint.getDataTypeName(), configuredEntryPoint
-                    .getDesignator(), validator);
-            Class objectType = getObjectType(entryPoint.getDataTypeName());
-            this.entryPointsByObjectType.put(objectType, entryPoint);
+            this.entryPoint = createValidationEntryPoint(configuredEntryPoint, deserializationValidatorFactory);
+            Class objectType = getObjectType(configuredEntryPoint.getDataTypeName());
+            this.entryPointsByObjectType.put(objectType, createValidationEntryPoint(configuredEntryPoint,
+                    traversingValidatorFactory));
             this.entryPointsByPrefix = null;
         }
     }
@@ -171,6 +176,34 @@ public abstract class RbfIOFactory<C extends Configuration<RbfTypeMappingRegistr
         }
     }
 
+    private RbfEntryPoint createValidationEntryPoint(RbfEntryPoint entryPoint,
+            TraversingValidatorFactory<String> validatorFactory) {
+        Validator validator = validatorFactory.create(entryPoint.getDataTypeName(), entryPoint.getValidator());
+        return new RbfEntryPoint(entryPoint.getDataTypeName(), entryPoint.getDesignator(), validator);
+    }
+
+    /**
+     * Creates a validator factory for deserialized values whose simple fields are validated on their raw text
+     * already (see {@link RbfConfiguration#getRawTextValidation()}). The validators of these fields are omitted.
+     * 
+     * @param config the configuration
+     * @return a validator factory
+     */
+    private TraversingValidatorFactory<String> createRawTextValidatorFactory(C config) {
+        final RbfTypeMappingRegistry typeMappingRegistry = config.getTypeMappingRegistry();
+        return new TraversingValidatorFactory<String>(typeMappingRegistry, config.getObjectAccessorProvider(),
+                config.getValidationErrorLimit()) {
+            @Override
+            protected Validator getFieldValidator(NodeMapping<String, ?> nodeMapping) {
+                if (nodeMapping.getValidator() instanceof CharSequenceValidator
+                        && typeMappingRegistry.get(nodeMapping.getDataTypeName()) instanceof SimpleTypeMapping) {
+                    return null;
+                }
+                return nodeMapping.getValidator();
+            }
+        };
+    }
+
     private Class<?> getObjectType(String dataTypeName) {
         TypeMapping<?> typeMapping = this.config.getTypeMappingRegistry().get(dataTypeName);
         if (typeMapping == null) {
@@ -24,6 +24,8 @@ import java.util.Map;
 import org.jsefa.SerializationException;
 import org.jsefa.Serializer;
 import org.jsefa.common.config.ValidationMode;
+import org.jsefa.common.converter.AppendingConverter;
+import org.jsefa.common.converter.SimpleTypeConverter;
 import org.jsefa.common.mapping.SimpleTypeMapping;
 import org.jsefa.common.mapping.TypeMapping;
 import org.jsefa.common.util.ReflectionUtil;
@@ -58,6 +60,8 @@ public abstract class RbfSerializerImpl<L extends RbfLowLevelSerializer> impleme
     private L lowLevelSerializer;
 
     private boolean validate;
+
+    private final StringBuilder fieldBuffer;
     
     /**
      * Constructs a new <code>RbfSerializerImpl</code>.
@@ -73,6 +77,7 @@ public abstract class RbfSerializerImpl<L extends RbfLowLevelSerializer> impleme
         this.withPrefix = (entryPoints.values().iterator().next().getDesignator().length() > 0);
         this.complexObjectsOnPath = new IdentityHashMap<Object, Object>();
         this.lowLevelSerializer = lowLevelSerializer;
+        this.fieldBuffer = new StringBuilder();
         this.validate = config.getValidationMode().equals(ValidationMode.SERIALIZATION)
         || config.getValidationMode().equals(ValidationMode.BOTH);
     }
@@ -128,6 +133,8 @@ public abstract class RbfSerializerImpl<L extends RbfLowLevelSerializer> impleme
      * {@inheritDoc}
      */
     public final void close(boolean closeWriter) {
+        this.complexObjectsOnPath.clear();
+        this.fieldBuffer.setLength(0);
         try {
             getLowLevelSerializer().close(closeWriter);
         } catch (Exception e) {
@@ -153,6 +160,25 @@ public abstract class RbfSerializerImpl<L extends RbfLowLevelSerializer> impleme
      */
     protected abstract void writeSimpleValue(Object value, SimpleTypeMapping<?> mapping);
 
+    /**
+     * Converts the given value to its string representation using the converter of the given simple type mapping.
+     * If the converter is an {@link AppendingConverter}, the value is appended to a field buffer which is reused
+     * for every value, so that the result is only valid until this method is called the next time.
+     * 
+     * @param value the value to convert
+     * @param mapping the simple type mapping
+     * @return the string representation or null if the converter returns null
+     */
+    protected final CharSequence toCharSequence(Object value, SimpleTypeMapping<?> mapping) {
+        SimpleTypeConverter converter = mapping.getSimpleTypeConverter();
+        if (value != null && converter instanceof AppendingConverter) {
+            this.fieldBuffer.setLength(0);
+            ((AppendingConverter) converter).appendTo(value, this.fieldBuffer);
+            return this.fieldBuffer;
+        }
+        return converter.toString(value);
+    }
+
     /**
      * Writes the prefix.
      * 
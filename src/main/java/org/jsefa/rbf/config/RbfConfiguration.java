@@ -15,8 +15,14 @@
  */
 package org.jsefa.rbf.config;
 
+import static org.jsefa.rbf.config.RbfConfiguration.Defaults.DEFAULT_RAW_TEXT_VALIDATION;
+import static org.jsefa.rbf.config.RbfInitialConfigurationParameters.RAW_TEXT_VALIDATION;
+
 import org.jsefa.common.config.Configuration;
+import org.jsefa.common.config.InitialConfiguration;
+import org.jsefa.common.config.ValidationMode;
 import org.jsefa.common.lowlevel.filter.LineFilter;
+import org.jsefa.common.validator.CharSequenceValidator;
 import org.jsefa.rbf.lowlevel.config.RbfLowLevelConfiguration;
 import org.jsefa.rbf.mapping.RbfEntryPoint;
 import org.jsefa.rbf.mapping.RbfTypeMappingRegistry;
@@ -31,6 +37,8 @@ public abstract class RbfConfiguration<C extends RbfLowLevelConfiguration>
     extends Configuration<RbfTypeMappingRegistry, RbfEntryPoint> {
     
     private C lowLevelConfiguration;
+
+    private Boolean rawTextValidation;
     
     /**
      * Constructs a new <code>RbfConfiguration</code>.
@@ -47,6 +55,7 @@ public abstract class RbfConfiguration<C extends RbfLowLevelConfiguration>
     protected RbfConfiguration(RbfConfiguration<C> other) {
         super(other);
         setLowLevelConfiguration((C) other.getLowLevelConfiguration().createCopy());
+        setRawTextValidation(other.getRawTextValidation());
     }
     
     /**
@@ -105,6 +114,34 @@ public abstract class RbfConfiguration<C extends RbfLowLevelConfiguration>
     }    
     
 
+    /**
+     * Returns true if the text of a field is validated before it is converted during deserialization.
+     * <p>
+     * This applies to fields with a {@link CharSequenceValidator} only and requires a validation mode including
+     * deserialization (see {@link ValidationMode}). A record with an invalid field text is rejected before the
+     * remaining fields are read and converted. The validator of a field validated this way is not applied again
+     * to the converted value, so every field is validated only once. The validated text is the field value as
+     * passed to the converter, so this should only be used with converters not changing the text of string
+     * values.
+     * 
+     * @return true, if the text of a field is validated before conversion; otherwise false
+     */
+    public boolean getRawTextValidation() {
+        if (this.rawTextValidation == null) {
+            this.rawTextValidation = InitialConfiguration.get(RAW_TEXT_VALIDATION, DEFAULT_RAW_TEXT_VALIDATION);
+        }
+        return this.rawTextValidation;
+    }
+
+    /**
+     * Specifies whether the text of a field is validated before it is converted during deserialization.
+     * 
+     * @param rawTextValidation true, if the text of a field should be validated before conversion; otherwise false
+     */
+    public void setRawTextValidation(boolean rawTextValidation) {
+        this.rawTextValidation = rawTextValidation;
+    }
+
     /**
      * Returns the low level configuration object.
      * 
@@ -141,4 +178,19 @@ public abstract class RbfConfiguration<C extends RbfLowLevelConfiguration>
      */
     protected abstract C createDefaultLowLevelConfiguration();
 
+    /**
+     * Set of default configuration values.
+     * 
+     * @author Norman Lahme-Huetig
+     */
+    public interface Defaults {
+
+        /**
+         * The default value whether to validate the text of a field before conversion if none is explicitly
+         * given.
+         */
+        boolean DEFAULT_RAW_TEXT_VALIDATION = false;
+
+    }
+
 }
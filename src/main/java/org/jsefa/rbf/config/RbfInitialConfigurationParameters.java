@@ -0,0 +1,36 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.rbf.config;
+
+import org.jsefa.common.config.Configuration;
+import org.jsefa.common.config.InitialConfigurationParameters;
+
+/**
+ * A collection of initial configuration parameters common to all RBF format types.
+ * 
+ * @see Configuration
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public interface RbfInitialConfigurationParameters extends InitialConfigurationParameters {
+
+    /**
+     * Configuration parameter for whether the text of a field is validated before it is converted.
+     */
+    String RAW_TEXT_VALIDATION = "jsefa:rbf:rawTextValidation";
+
+}
@@ -31,6 +31,7 @@ import org.jsefa.common.lowlevel.filter.Line;
 import org.jsefa.common.lowlevel.io.LineSegment;
 import org.jsefa.common.lowlevel.io.LineSegmentReader;
 import org.jsefa.common.lowlevel.io.LineSegment.Terminator;
+import org.jsefa.common.util.StringPool;
 import org.jsefa.rbf.lowlevel.config.RbfLowLevelConfiguration;
 
 /**
@@ -56,6 +57,8 @@ public abstract class RbfLowLevelDeserializerImpl<C extends RbfLowLevelConfigura
 
     private int specialTerminator;
 
+    private final StringPool stringPool;
+
     /**
      * Constructs a new <code>RbfLowLevelDeserializerImpl</code>.
      * 
@@ -70,6 +73,11 @@ public abstract class RbfLowLevelDeserializerImpl<C extends RbfLowLevelConfigura
             this.lineFilterLimit = -1;
             this.specialTerminator = -1;
         }
+        if (this.config.getStringPoolSize() > 0) {
+            this.stringPool = StringPool.create(this.config.getStringPoolSize());
+        } else {
+            this.stringPool = null;
+        }
     }
 
     /**
@@ -109,6 +117,9 @@ public abstract class RbfLowLevelDeserializerImpl<C extends RbfLowLevelConfigura
      * {@inheritDoc}
      */
     public final void close(boolean closeReader) {
+        if (this.reader == null) {
+            return;
+        }
         if (closeReader) {
             try {
                 this.reader.close();
@@ -117,6 +128,8 @@ public abstract class RbfLowLevelDeserializerImpl<C extends RbfLowLevelConfigura
             }
         }
         this.reader = null;
+        this.currentSegment = null;
+        this.currentColumnIndex = 0;
     }
 
     /**
@@ -205,6 +218,56 @@ public abstract class RbfLowLevelDeserializerImpl<C extends RbfLowLevelConfigura
         }
     }
 
+    /**
+     * Returns the content of the current line segment. Together with {@link #getColumnIndex()} and
+     * {@link #skipChars(int)} it allows for reading characters without creating intermediate objects.
+     * 
+     * @return the content of the current line segment
+     */
+    protected final String getCurrentSegmentContent() {
+        return this.currentSegment.getContent();
+    }
+
+    /**
+     * Returns the index of the next character to read within the current line segment.
+     * 
+     * @return the column index
+     */
+    protected final int getColumnIndex() {
+        return this.currentColumnIndex;
+    }
+
+    /**
+     * Moves forward the given number of characters or less if the end of the current line segment is reached.
+     * 
+     * @param length the number of characters to skip
+     * @return the number of characters skipped
+     */
+    protected final int skipChars(int length) {
+        int skipped = Math.min(length, remainingLineLength());
+        this.currentColumnIndex += skipped;
+        return skipped;
+    }
+
+    /**
+     * Returns a <code>String</code> consisting of the characters from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive) of the given character sequence. If <code>pooled</code> is true and a string
+     * pool is configured, the canonical instance is returned and a new one is only created if the pool does not
+     * contain it.
+     * 
+     * @param chars the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @param pooled true, if the string pool should be used; false otherwise
+     * @return the string
+     */
+    protected final String createString(CharSequence chars, int start, int end, boolean pooled) {
+        if (pooled && this.stringPool != null) {
+            return this.stringPool.get(chars, start, end);
+        }
+        return chars.subSequence(start, end).toString();
+    }
+
     /**
      * @return the number of remaining characters in the current line segment.
      */
@@ -36,6 +36,8 @@ public class RbfLowLevelSerializerImpl<C extends RbfLowLevelConfiguration> imple
 
     private Writer writer;
 
+    private char[] charBuffer = new char[64];
+
     /**
      * Constructs a new <code>RbfLowLevelSerializerImpl</code>.
      * 
@@ -87,9 +89,14 @@ public class RbfLowLevelSerializerImpl<C extends RbfLowLevelConfiguration> imple
      * {@inheritDoc}
      */
     public final void close(boolean closeWriter) {
+        if (this.writer == null) {
+            return;
+        }
+        Writer writer = this.writer;
+        this.writer = null;
         if (closeWriter) {
             try {
-                this.writer.close();
+                writer.close();
             } catch (IOException e) {
                 throw new LowLevelSerializationException("Error while closing the serialization stream", e);
             }
@@ -144,6 +151,69 @@ public class RbfLowLevelSerializerImpl<C extends RbfLowLevelConfiguration> imple
         }
     }
 
+    /**
+     * Writes the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive) of the given
+     * character sequence as they are to the stream. Other character sequences than <code>String</code>s are
+     * copied to a reused buffer instead of being converted to a <code>String</code>.
+     * 
+     * @param value the character sequence
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     */
+    protected final void writeChars(CharSequence value, int start, int end) {
+        if (value instanceof String) {
+            try {
+                this.writer.write((String) value, start, end - start);
+            } catch (IOException e) {
+                throw new LowLevelSerializationException(e);
+            }
+        } else {
+            writeChars(copyToBuffer(value, 0, value.length()), start, end);
+        }
+    }
+
+    /**
+     * Writes the characters from <code>start</code> (inclusive) to <code>end</code> (exclusive) of the given
+     * array to the stream.
+     * 
+     * @param chars the characters
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     */
+    protected final void writeChars(char[] chars, int start, int end) {
+        try {
+            this.writer.write(chars, start, end - start);
+        } catch (IOException e) {
+            throw new LowLevelSerializationException(e);
+        }
+    }
+
+    /**
+     * Copies the given character sequence to a buffer which is reused for every call, starting at the given
+     * offset. The returned buffer has at least the given capacity. Its content is only valid until this method is
+     * called the next time.
+     * 
+     * @param value the character sequence to copy
+     * @param offset the index of the buffer to copy the first character to
+     * @param capacity the minimum capacity of the buffer (at least <code>offset + value.length()</code>)
+     * @return the buffer
+     */
+    protected final char[] copyToBuffer(CharSequence value, int offset, int capacity) {
+        if (this.charBuffer.length < capacity) {
+            this.charBuffer = new char[Math.max(capacity, 2 * this.charBuffer.length)];
+        }
+        if (value instanceof String) {
+            ((String) value).getChars(0, value.length(), this.charBuffer, offset);
+        } else if (value instanceof StringBuilder) {
+            ((StringBuilder) value).getChars(0, value.length(), this.charBuffer, offset);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                this.charBuffer[offset + i] = value.charAt(i);
+            }
+        }
+        return this.charBuffer;
+    }
+
     private void writeLineBreak() {
         try {
             this.writer.write(this.config.getLineBreak());
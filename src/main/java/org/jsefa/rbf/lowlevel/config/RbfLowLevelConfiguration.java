@@ -17,7 +17,9 @@
 package org.jsefa.rbf.lowlevel.config;
 
 import static org.jsefa.rbf.lowlevel.config.RbfLowLevelInitialConfigurationParameters.LINE_FILTER_LIMIT;
+import static org.jsefa.rbf.lowlevel.config.RbfLowLevelInitialConfigurationParameters.STRING_POOL_SIZE;
 import static org.jsefa.rbf.lowlevel.config.RbfLowLevelConfiguration.Defaults.DEFAULT_LINE_FILTER_LIMIT;
+import static org.jsefa.rbf.lowlevel.config.RbfLowLevelConfiguration.Defaults.DEFAULT_STRING_POOL_SIZE;
 
 import org.jsefa.common.config.InitialConfiguration;
 import org.jsefa.common.lowlevel.config.LowLevelConfiguration;
@@ -36,6 +38,8 @@ public abstract class RbfLowLevelConfiguration extends LowLevelConfiguration {
 
     private Integer lineFilterLimit;
 
+    private Integer stringPoolSize;
+
     /**
      * Constructs a new <code>RbfLowLevelConfiguration</code>.
      */
@@ -52,6 +56,7 @@ public abstract class RbfLowLevelConfiguration extends LowLevelConfiguration {
         setLineFilter(other.getLineFilter());
         setLineFilterLimit(other.getLineFilterLimit());
         setSpecialRecordDelimiter(other.getSpecialRecordDelimiter());
+        setStringPoolSize(other.getStringPoolSize());
     }
 
     /**
@@ -113,6 +118,32 @@ public abstract class RbfLowLevelConfiguration extends LowLevelConfiguration {
         this.lineFilterLimit = lineFilterLimit;
     }
 
+    /**
+     * Returns the size of the string pool each deserializer uses to deduplicate the field values it reads.
+     * <p>
+     * Values read repeatedly (e. g. currency or status codes) are then represented by the same
+     * <code>String</code> instance, which reduces the memory consumption when holding many deserialized objects.
+     * Only the values of fields mapped to <code>String</code> are pooled. The values of other fields are converted
+     * right away, so they would only displace the repeating text values from the pool.
+     * 
+     * @return the string pool size. 0 means that no pool is used.
+     */
+    public Integer getStringPoolSize() {
+        if (this.stringPoolSize == null) {
+            this.stringPoolSize = InitialConfiguration.get(STRING_POOL_SIZE, DEFAULT_STRING_POOL_SIZE);
+        }
+        return this.stringPoolSize;
+    }
+
+    /**
+     * Sets the size of the string pool each deserializer uses to deduplicate the field values it reads.
+     * 
+     * @param stringPoolSize the string pool size. 0 means that no pool is used.
+     */
+    public void setStringPoolSize(Integer stringPoolSize) {
+        this.stringPoolSize = stringPoolSize;
+    }
+
     /**
      * Set of default configuration values.
      * 
@@ -125,6 +156,11 @@ public abstract class RbfLowLevelConfiguration extends LowLevelConfiguration {
          * special record delimiter is set.
          */
         Integer DEFAULT_LINE_FILTER_LIMIT = 256;
+
+        /**
+         * The default size of the string pool of a deserializer. No pool is used by default.
+         */
+        Integer DEFAULT_STRING_POOL_SIZE = 0;
     }
 
 }
@@ -35,4 +35,10 @@ public interface RbfLowLevelInitialConfigurationParameters extends LowLevelIniti
      */
     String LINE_FILTER_LIMIT = "jsefa:rbf:lowlevel:lineFilterLimit";
 
+    /**
+     * Configuration parameter for the size of the string pool each deserializer uses to deduplicate the field
+     * values it reads. 0 means that no pool is used.
+     */
+    String STRING_POOL_SIZE = "jsefa:rbf:lowlevel:stringPoolSize";
+
 }
@@ -18,7 +18,9 @@ package org.jsefa.xml;
 
 import java.io.Reader;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.jsefa.DeserializationException;
 import org.jsefa.ObjectPathElement;
@@ -26,6 +28,8 @@ import org.jsefa.common.accessor.ObjectAccessor;
 import org.jsefa.common.config.ValidationMode;
 import org.jsefa.common.lowlevel.InputPosition;
 import org.jsefa.common.mapping.TypeMapping;
+import org.jsefa.common.validator.ValidationBatch;
+import org.jsefa.common.validator.ValidationBatch.EntryReader;
 import org.jsefa.common.validator.ValidationException;
 import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.common.validator.Validator;
@@ -37,7 +41,6 @@ import org.jsefa.xml.lowlevel.model.ElementStart;
 import org.jsefa.xml.lowlevel.model.TextContent;
 import org.jsefa.xml.lowlevel.model.XmlItem;
 import org.jsefa.xml.lowlevel.model.XmlItemType;
-import org.jsefa.xml.mapping.AttributeDescriptor;
 import org.jsefa.xml.mapping.AttributeMapping;
 import org.jsefa.xml.mapping.ElementDescriptor;
 import org.jsefa.xml.mapping.ElementMapping;
@@ -49,6 +52,7 @@ import org.jsefa.xml.mapping.XmlMapTypeMapping;
 import org.jsefa.xml.mapping.XmlNodeMapping;
 import org.jsefa.xml.mapping.XmlSimpleTypeMapping;
 import org.jsefa.xml.mapping.XmlTypeMappingRegistry;
+import org.jsefa.xml.mapping.XmlTypeMappingUtil;
 import org.jsefa.xml.namespace.QName;
 
 /**
@@ -62,19 +66,57 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
 
     private final Map<ElementDescriptor, ElementMapping> entryElementMappings;
 
+    private final Set<QName> entryElementNames;
+
+    private final Map<QName, ElementMapping> entryElementMappingsByName;
+
+    private final QName[] entryPath;
+
     private final XmlLowLevelDeserializer lowLevelDeserializer;
 
     private ElementMapping currentEntryElementMapping;
 
     private boolean validate;
 
+    private final ValidationBatch validationBatch;
+
+    private final EntryReader entryReader = new EntryReader() {
+        public boolean moveToNextEntry() {
+            return XmlDeserializerImpl.this.lowLevelDeserializer.hasNext()
+                    && (XmlDeserializerImpl.this.currentEntryElementMapping != null || moveToNextEntryElement());
+        }
+
+        public Validator getValidator() {
+            return XmlDeserializerImpl.this.currentEntryElementMapping.getValidator();
+        }
+
+        public Object readEntry() {
+            try {
+                return deserializeElement(XmlDeserializerImpl.this.currentEntryElementMapping.getDataTypeName());
+            } finally {
+                XmlDeserializerImpl.this.currentEntryElementMapping = null;
+            }
+        }
+
+        public InputPosition getInputPosition() {
+            return XmlDeserializerImpl.this.getInputPosition();
+        }
+    };
+
     XmlDeserializerImpl(XmlConfiguration config, Map<ElementDescriptor, ElementMapping> entryElementMappings,
-            XmlLowLevelDeserializer lowLevelDeserializer) {
+            QName[] entryPath, XmlLowLevelDeserializer lowLevelDeserializer) {
         this.typeMappingRegistry = config.getTypeMappingRegistry();
         this.entryElementMappings = entryElementMappings;
+        this.entryElementNames = new HashSet<QName>();
+        for (ElementDescriptor elementDescriptor : entryElementMappings.keySet()) {
+            this.entryElementNames.add(elementDescriptor.getName());
+        }
+        this.entryElementMappingsByName = XmlTypeMappingUtil.createElementMappingsByNameMap(entryElementMappings);
+        this.entryPath = entryPath;
         this.lowLevelDeserializer = lowLevelDeserializer;
         this.validate = config.getValidationMode().equals(ValidationMode.DESERIALIZATION)
                 || config.getValidationMode().equals(ValidationMode.BOTH);
+        this.validationBatch = ValidationBatch.create(config, this.validate);
     }
 
     /**
@@ -89,6 +131,9 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
      */
     public void open(Reader reader, String baseURI) {
         this.currentEntryElementMapping = null;
+        if (this.validationBatch != null) {
+            this.validationBatch.clear();
+        }
         try {
             this.lowLevelDeserializer.open(reader, baseURI);
         } catch (Exception e) {
@@ -100,6 +145,9 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
      * {@inheritDoc}
      */
     public boolean hasNext() {
+        if (this.validationBatch != null && this.validationBatch.hasNext()) {
+            return true;
+        }
         try {
             if (!this.lowLevelDeserializer.hasNext()) {
                 return false;
@@ -121,6 +169,9 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
      */
     @SuppressWarnings("unchecked")
     public <T> T next() {
+        if (this.validationBatch != null) {
+            return (T) this.validationBatch.next(this.entryReader);
+        }
         try {
             if (!hasNext()) {
                 return null;
@@ -143,6 +194,10 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
      * {@inheritDoc}
      */
     public void close(boolean closeReader) {
+        this.currentEntryElementMapping = null;
+        if (this.validationBatch != null) {
+            this.validationBatch.clear();
+        }
         try {
             this.lowLevelDeserializer.close(closeReader);
         } catch (Exception e) {
@@ -184,8 +239,7 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
         Object object = objectAccessor.createObject();
         ElementStart elementStart = getCurrentXmlItem();
         for (Attribute attribute : elementStart.getAttributes()) {
-            AttributeDescriptor attributeDescriptor = new AttributeDescriptor(attribute.getName());
-            AttributeMapping attributeMapping = typeMapping.getNodeMapping(attributeDescriptor);
+            AttributeMapping attributeMapping = typeMapping.getAttributeMapping(attribute.getName());
             try {
                 if (attributeMapping != null) {
                     XmlSimpleTypeMapping attributeTypeMapping = getSimpleTypeMapping(attributeMapping
@@ -215,7 +269,9 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
         } else {
             int childDepth = getCurrentDepth() + 1;
             while (moveToNextElement(childDepth)) {
-                ElementMapping childElementMapping = typeMapping.getNodeMapping(getCurrentElementDescriptor());
+                ElementStart childElementStart = getCurrentXmlItem();
+                ElementMapping childElementMapping = typeMapping.getElementMapping(childElementStart.getName(),
+                        childElementStart.getDataTypeName());
                 if (childElementMapping != null) {
                     String fieldName = childElementMapping.getFieldDescriptor().getName();
                     try {
@@ -244,6 +300,8 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
                     } catch (Exception e) {
                         throw createException(e, typeMapping, fieldName);
                     }
+                } else {
+                    skipElement();
                 }
             }
         }
@@ -254,14 +312,16 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
     private Collection<Object> deserializeListElement(XmlListTypeMapping typeMapping) {
         Collection<Object> listValue = (Collection<Object>) typeMapping.getObjectAccessor().createObject();
         if (typeMapping.isImplicit()) {
-            XmlNodeMapping<?> listItemNodeMapping = typeMapping.getNodeMapping(getCurrentElementDescriptor());
+            XmlNodeMapping<?> listItemNodeMapping = getListItemMapping(typeMapping);
             listValue.add(deserializeElement(listItemNodeMapping.getDataTypeName()));
         } else {
             int childDepth = getCurrentDepth() + 1;
             while (moveToNextElement(childDepth)) {
-                XmlNodeMapping<?> listItemNodeMapping = typeMapping.getNodeMapping(getCurrentElementDescriptor());
+                XmlNodeMapping<?> listItemNodeMapping = getListItemMapping(typeMapping);
                 if (listItemNodeMapping != null) {
                     listValue.add(deserializeElement(listItemNodeMapping.getDataTypeName()));
+                } else {
+                    skipElement();
                 }
             }
         }
@@ -272,14 +332,16 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
     private Map<?, ?> deserializeMapElement(XmlMapTypeMapping typeMapping) {
         Map<Object, Object> map = (Map<Object, Object>) typeMapping.getObjectAccessor().createObject();
         if (typeMapping.isImplicit()) {
-            XmlNodeMapping<?> valueNodeMapping = typeMapping.getValueNodeMapping(getCurrentElementDescriptor());
+            XmlNodeMapping<?> valueNodeMapping = getMapValueMapping(typeMapping);
             map.put(deserializeMapKey(typeMapping), deserializeElement(valueNodeMapping.getDataTypeName()));
         } else {
             int childDepth = getCurrentDepth() + 1;
             while (moveToNextElement(childDepth)) {
-                XmlNodeMapping<?> valueNodeMapping = typeMapping.getValueNodeMapping(getCurrentElementDescriptor());
+                XmlNodeMapping<?> valueNodeMapping = getMapValueMapping(typeMapping);
                 if (valueNodeMapping != null) {
                     map.put(deserializeMapKey(typeMapping), deserializeElement(valueNodeMapping.getDataTypeName()));
+                } else {
+                    skipElement();
                 }
             }
         }
@@ -299,9 +361,14 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
         throw new DeserializationException("No attribute " + keyName + " serving as key for map entry found");
     }
 
-    private ElementDescriptor getCurrentElementDescriptor() {
+    private ElementMapping getListItemMapping(XmlListTypeMapping typeMapping) {
+        ElementStart elementStart = getCurrentXmlItem();
+        return typeMapping.getElementMapping(elementStart.getName(), elementStart.getDataTypeName());
+    }
+
+    private ElementMapping getMapValueMapping(XmlMapTypeMapping typeMapping) {
         ElementStart elementStart = getCurrentXmlItem();
-        return new ElementDescriptor(elementStart.getName(), elementStart.getDataTypeName());
+        return typeMapping.getValueElementMapping(elementStart.getName(), elementStart.getDataTypeName());
     }
 
     private String getText() {
@@ -313,6 +380,10 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
         }
     }
 
+    private void skipElement() {
+        this.lowLevelDeserializer.skipSubtree();
+    }
+
     private void moveToNextXmlItem() {
         this.lowLevelDeserializer.moveToNext();
     }
@@ -346,14 +417,44 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
     private boolean moveToNextEntryElement() {
         this.currentEntryElementMapping = null;
         while (moveToNextElement()) {
-            this.currentEntryElementMapping = this.entryElementMappings.get(getCurrentElementDescriptor());
+            ElementStart elementStart = getCurrentXmlItem();
+            if (this.entryPath != null) {
+                int depth = elementStart.getDepth();
+                if (!isOnEntryPath(elementStart.getName(), depth)) {
+                    skipElement();
+                    continue;
+                }
+                if (depth < this.entryPath.length - 1) {
+                    continue;
+                }
+            }
+            if (elementStart.getDataTypeName() == null) {
+                this.currentEntryElementMapping = this.entryElementMappingsByName.get(elementStart.getName());
+            } else if (this.entryElementNames.contains(elementStart.getName())) {
+                this.currentEntryElementMapping = this.entryElementMappings.get(new ElementDescriptor(elementStart
+                        .getName(), elementStart.getDataTypeName()));
+            }
             if (this.currentEntryElementMapping != null) {
                 return true;
             }
+            if (this.entryPath != null) {
+                skipElement();
+            }
         }
         return false;
     }
 
+    /**
+     * Returns true if an element with the given name and depth matches the entry path. As non-matching elements
+     * are skipped together with their subtrees, the ancestors of the element are known to match.
+     */
+    private boolean isOnEntryPath(QName name, int depth) {
+        if (depth >= this.entryPath.length) {
+            return false;
+        }
+        return this.entryPath[depth] == null || this.entryPath[depth].equals(name);
+    }
+
     @SuppressWarnings("unchecked")
     private void assertValueIsValid(Object object, XmlNodeMapping nodeMapping) {
         Validator validator = nodeMapping.getValidator();
@@ -390,5 +491,4 @@ public final class XmlDeserializerImpl implements XmlDeserializer {
             return new DeserializationException(cause).setInputPosition(getInputPosition()).add(elem);
         }
     }
-
 }
@@ -21,7 +21,9 @@ import java.lang.reflect.Method;
 import org.jsefa.IOFactory;
 import org.jsefa.IOFactoryException;
 import org.jsefa.common.annotation.ValidatorFactory;
+import org.jsefa.common.config.IOFactoryCache;
 import org.jsefa.common.config.InitialConfiguration;
+import org.jsefa.common.util.IOInstancePool;
 import org.jsefa.common.util.ReflectionUtil;
 import org.jsefa.xml.annotation.XmlEntryPointFactory;
 import org.jsefa.xml.annotation.XmlTypeMappingFactory;
@@ -44,6 +46,10 @@ import org.jsefa.xml.config.XmlInitialConfigurationParameters;
  */
 public abstract class XmlIOFactory implements IOFactory {
 
+    private static final IOFactoryCache<XmlIOFactory> CACHE = IOFactoryCache.create();
+
+    private final IOInstancePool<XmlSerializer, XmlDeserializer> pool = IOInstancePool.create(this);
+
     /**
      * Creates a new <code>XmlIOFactory</code> for <code>XmlSerializer</code>s and
      * <code>XmlDeserializer</code>s using the given configuration.
@@ -79,13 +85,21 @@ public abstract class XmlIOFactory implements IOFactory {
      * 
      * It creates a new {@link XmlConfiguration} with entry points generated from the annotations found in the
      * given object types.
+     * <p>
+     * The created factory is cached process-wide, i. e. calling this method again with the same object types
+     * returns the same (immutable and thread-safe) factory as long as the initial configuration is unchanged.
      * 
      * @param objectTypes object types for which entry points should be created from annotations
      * @return a <code>XmlIOFactory</code> factory
      * @throws IOFactoryException
      */
     public static XmlIOFactory createFactory(Class<?>... objectTypes) {
-        return createFactory(new XmlConfiguration(), objectTypes);
+        XmlIOFactory factory = CACHE.get(objectTypes);
+        if (factory == null) {
+            factory = createFactory(new XmlConfiguration(), objectTypes);
+            CACHE.put(factory, objectTypes);
+        }
+        return factory;
     }
 
     /**
@@ -127,4 +141,46 @@ public abstract class XmlIOFactory implements IOFactory {
      */
     public abstract XmlDeserializer createDeserializer();
 
+    /**
+     * Returns a <code>XmlSerializer</code> from the pool of this factory or a new one if none is available. The
+     * serializer must be opened before use and should be given back using {@link #release(XmlSerializer)} after
+     * being closed.
+     * 
+     * @return a <code>XmlSerializer</code>
+     */
+    public final XmlSerializer borrowSerializer() {
+        return this.pool.borrowSerializer();
+    }
+
+    /**
+     * Returns a <code>XmlDeserializer</code> from the pool of this factory or a new one if none is available.
+     * The deserializer must be opened before use and should be given back using
+     * {@link #release(XmlDeserializer)} after being closed.
+     * 
+     * @return a <code>XmlDeserializer</code>
+     */
+    public final XmlDeserializer borrowDeserializer() {
+        return this.pool.borrowDeserializer();
+    }
+
+    /**
+     * Gives the serializer back to the pool of this factory. It is closed without closing its writer if this has
+     * not been done before. It must not be used by the caller any more.
+     * 
+     * @param serializer a serializer created by this factory
+     */
+    public final void release(XmlSerializer serializer) {
+        this.pool.release(serializer);
+    }
+
+    /**
+     * Gives the deserializer back to the pool of this factory. It is closed without closing its reader if this has
+     * not been done before. It must not be used by the caller any more.
+     * 
+     * @param deserializer a deserializer created by this factory
+     */
+    public final void release(XmlDeserializer deserializer) {
+        this.pool.release(deserializer);
+    }
+
 }
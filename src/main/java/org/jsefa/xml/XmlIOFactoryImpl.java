@@ -16,8 +16,13 @@
 
 package org.jsefa.xml;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jsefa.IOFactoryException;
 import org.jsefa.common.mapping.TypeMapping;
@@ -25,12 +30,19 @@ import org.jsefa.common.validator.Validator;
 import org.jsefa.common.validator.traversal.TraversingValidatorFactory;
 import org.jsefa.xml.config.XmlConfiguration;
 import org.jsefa.xml.lowlevel.XmlLowLevelIOFactory;
+import org.jsefa.xml.mapping.AttributeDescriptor;
 import org.jsefa.xml.mapping.ElementDescriptor;
 import org.jsefa.xml.mapping.ElementMapping;
 import org.jsefa.xml.mapping.ElementMappingsBuilder;
+import org.jsefa.xml.mapping.XmlComplexTypeMapping;
 import org.jsefa.xml.mapping.XmlEntryPoint;
+import org.jsefa.xml.mapping.XmlListTypeMapping;
+import org.jsefa.xml.mapping.XmlMapTypeMapping;
+import org.jsefa.xml.mapping.XmlNodeMapping;
 import org.jsefa.xml.mapping.XmlTypeMappingUtil;
+import org.jsefa.xml.namespace.NamespaceConstants;
 import org.jsefa.xml.namespace.QName;
+import org.jsefa.xml.namespace.QNameTable;
 
 /**
  * Default implementation of {@link XmlIOFactory}.
@@ -49,6 +61,10 @@ public class XmlIOFactoryImpl extends XmlIOFactory {
 
     private final XmlLowLevelIOFactory lowLevelIOFactory;
 
+    private final QName[] entryPath;
+
+    private final QNameTable qNameTable;
+
     /**
      * Creates a new <code>XmlIOFactory</code> for <code>XmlSerializer</code>s and
      * <code>XmlDeserializer</code>s using the given configuration.
@@ -66,6 +82,8 @@ public class XmlIOFactoryImpl extends XmlIOFactory {
         this.entryElementMappingsByElementDescriptor = createEntryElementMappingsByElementDescriptor();
         this.entryElementMappingsByObjectType = createEntryElementMappingsByObjectType();
         this.lowLevelIOFactory = XmlLowLevelIOFactory.createFactory(config.getLowLevelConfiguration());
+        this.entryPath = parseEntryPath(config.getEntryPath());
+        this.qNameTable = createQNameTable();
     }
 
     /**
@@ -80,14 +98,14 @@ public class XmlIOFactoryImpl extends XmlIOFactory {
      * {@inheritDoc}
      */
     public XmlDeserializer createDeserializer() {
-        return new XmlDeserializerImpl(this.config, entryElementMappingsByElementDescriptor,
-                this.lowLevelIOFactory.createDeserializer());
+        return new XmlDeserializerImpl(this.config, entryElementMappingsByElementDescriptor, this.entryPath,
+                this.lowLevelIOFactory.createDeserializer(this.qNameTable));
     }
 
     private Map<ElementDescriptor, ElementMapping> createEntryElementMappingsByElementDescriptor() {
         ElementMappingsBuilder elementMappingsBuilder = new ElementMappingsBuilder();
         TraversingValidatorFactory<QName> deepValidatorFactory = new TraversingValidatorFactory<QName>(config
-                .getTypeMappingRegistry(), config.getObjectAccessorProvider());
+                .getTypeMappingRegistry(), config.getObjectAccessorProvider(), config.getValidationErrorLimit());
         for (XmlEntryPoint entryPoint : config.getEntryPoints()) {
             TypeMapping<?> typeMapping = config.getTypeMappingRegistry().get(entryPoint.getDataTypeName());
             if (typeMapping == null) {
@@ -103,6 +121,95 @@ public class XmlIOFactoryImpl extends XmlIOFactory {
         return XmlTypeMappingUtil.createNodeMappingsByNodeDescriptorMap(elementMappingsBuilder.getResult());
     }
 
+    /**
+     * Creates a symbol table with all names of elements, attributes and data types reachable from the entry
+     * points.
+     */
+    private QNameTable createQNameTable() {
+        Set<QName> names = new HashSet<QName>();
+        for (ElementDescriptor elementDescriptor : this.entryElementMappingsByElementDescriptor.keySet()) {
+            names.add(elementDescriptor.getName());
+            addNames(elementDescriptor.getDataTypeName(), names);
+        }
+        return QNameTable.create(names);
+    }
+
+    private void addNames(QName dataTypeName, Set<QName> names) {
+        if (dataTypeName == null || !names.add(dataTypeName)) {
+            return;
+        }
+        TypeMapping<QName> typeMapping = this.config.getTypeMappingRegistry().get(dataTypeName);
+        if (typeMapping instanceof XmlComplexTypeMapping) {
+            addNames(((XmlComplexTypeMapping) typeMapping).getNodeMappings(), names);
+        } else if (typeMapping instanceof XmlListTypeMapping) {
+            addNames(((XmlListTypeMapping) typeMapping).getNodeMappings(), names);
+        } else if (typeMapping instanceof XmlMapTypeMapping) {
+            XmlMapTypeMapping mapTypeMapping = (XmlMapTypeMapping) typeMapping;
+            names.add(mapTypeMapping.getKeyNodeMapping().getNodeDescriptor().getName());
+            addNames(mapTypeMapping.getValueNodeMappings(), names);
+        }
+    }
+
+    private void addNames(Collection<? extends XmlNodeMapping<?>> nodeMappings, Set<QName> names) {
+        for (XmlNodeMapping<?> nodeMapping : nodeMappings) {
+            if (nodeMapping.getNodeDescriptor() instanceof ElementDescriptor) {
+                ElementDescriptor elementDescriptor = (ElementDescriptor) nodeMapping.getNodeDescriptor();
+                names.add(elementDescriptor.getName());
+                addNames(elementDescriptor.getDataTypeName(), names);
+            } else if (nodeMapping.getNodeDescriptor() instanceof AttributeDescriptor) {
+                names.add(((AttributeDescriptor) nodeMapping.getNodeDescriptor()).getName());
+            }
+            addNames(nodeMapping.getDataTypeName(), names);
+        }
+    }
+
+    /**
+     * Parses the given entry path into the names of its elements. A wildcard is represented by null.
+     */
+    private static QName[] parseEntryPath(String entryPath) {
+        if (entryPath == null) {
+            return null;
+        }
+        if (!entryPath.startsWith("/") || entryPath.length() == 1) {
+            throw new IOFactoryException("The entry path must be absolute and not empty: " + entryPath);
+        }
+        List<QName> names = new ArrayList<QName>();
+        int start = 1;
+        while (start <= entryPath.length()) {
+            int searchStart = start;
+            if (entryPath.startsWith("{", start)) {
+                searchStart = entryPath.indexOf('}', start);
+                if (searchStart == -1) {
+                    throw new IOFactoryException("Missing } in entry path " + entryPath);
+                }
+            }
+            int end = entryPath.indexOf('/', searchStart);
+            if (end == -1) {
+                end = entryPath.length();
+            }
+            names.add(parseEntryPathStep(entryPath, entryPath.substring(start, end)));
+            start = end + 1;
+        }
+        return names.toArray(new QName[names.size()]);
+    }
+
+    private static QName parseEntryPathStep(String entryPath, String step) {
+        if ("*".equals(step)) {
+            return null;
+        }
+        String uri = NamespaceConstants.NO_NAMESPACE_URI;
+        String localName = step;
+        if (step.startsWith("{")) {
+            int uriEnd = step.indexOf('}');
+            uri = step.substring(1, uriEnd);
+            localName = step.substring(uriEnd + 1);
+        }
+        if (localName.length() == 0) {
+            throw new IOFactoryException("Empty element name in entry path " + entryPath);
+        }
+        return QName.create(uri, localName);
+    }
+
     private Map<Class<?>, ElementMapping> createEntryElementMappingsByObjectType() {
         Map<Class<?>, ElementMapping> elementMappings = new HashMap<Class<?>, ElementMapping>();
         for (ElementMapping elementMapping : this.entryElementMappingsByElementDescriptor.values()) {
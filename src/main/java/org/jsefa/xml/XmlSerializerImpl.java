@@ -121,6 +121,7 @@ public final class XmlSerializerImpl implements XmlSerializer {
      * {@inheritDoc}
      */
     public void close(boolean closeWriter) {
+        this.complexObjectsOnPath.clear();
         try {
             this.lowLevelSerializer.close(closeWriter);
         } catch (Exception e) {
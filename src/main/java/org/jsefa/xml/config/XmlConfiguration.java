@@ -43,6 +43,8 @@ public final class XmlConfiguration extends Configuration<XmlTypeMappingRegistry
 
     private XmlLowLevelConfiguration lowLevelConfiguration;
 
+    private String entryPath;
+
     /**
      * Constructs a new <code>XmlConfiguration</code>.
      */
@@ -53,6 +55,7 @@ public final class XmlConfiguration extends Configuration<XmlTypeMappingRegistry
         super(other);
         setDataTypeDefaultNameRegistry(other.getDataTypeDefaultNameRegistry().createCopy());
         setLowLevelConfiguration(other.getLowLevelConfiguration().createCopy());
+        setEntryPath(other.getEntryPath());
     }
 
     /**
@@ -138,6 +141,16 @@ public final class XmlConfiguration extends Configuration<XmlTypeMappingRegistry
         return getLowLevelConfiguration().getLineIndentation();
     }
 
+    /**
+     * Returns the path of the entry elements or null if entry elements are searched for in the whole document.
+     * 
+     * @return the entry path or null
+     * @see #setEntryPath
+     */
+    public String getEntryPath() {
+        return this.entryPath;
+    }
+
     /**
      * Sets the data type default name registry.
      * 
@@ -187,6 +200,23 @@ public final class XmlConfiguration extends Configuration<XmlTypeMappingRegistry
         getLowLevelConfiguration().setLineBreak(lineBreak);
     }
 
+    /**
+     * Sets the path of the entry elements to be used for deserializing. If a path is given, only the elements at
+     * the end of the path are considered as entry elements and all branches of the document not matching the path
+     * are skipped without being examined. This is much faster for large documents with deeply nested entry
+     * elements.
+     * <p>
+     * The path is an absolute sequence of element names starting with the root element, e. g.
+     * <code>/Batch/Payments/Payment</code>. A name may be given with a namespace uri in the form
+     * <code>{uri}localName</code>; a name without uri denotes an element with no namespace. The name
+     * <code>*</code> matches any element.
+     * 
+     * @param entryPath the entry path or null if entry elements should be searched for in the whole document
+     */
+    public void setEntryPath(String entryPath) {
+        this.entryPath = entryPath;
+    }
+
     /**
      * {@inheritDoc}
      */
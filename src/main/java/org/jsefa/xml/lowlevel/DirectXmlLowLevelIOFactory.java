@@ -0,0 +1,79 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.xml.lowlevel;
+
+import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+import org.jsefa.xml.namespace.QNameTable;
+
+/**
+ * Implementation of {@link XmlLowLevelIOFactory} creating {@link DirectXmlLowLevelSerializer}s. The deserializers
+ * are created by the default factory of this platform (Stax or XmlPull based).
+ * <p>
+ * To use it for all XML IO factories, set the initial configuration parameter
+ * {@link org.jsefa.xml.lowlevel.config.XmlLowLevelInitialConfigurationParameters#LOW_LEVEL_IO_FACTORY_CLASS} to
+ * this class.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public final class DirectXmlLowLevelIOFactory extends XmlLowLevelIOFactory {
+
+    private final XmlLowLevelConfiguration config;
+
+    private final XmlLowLevelIOFactory deserializerFactory;
+
+    /**
+     * Creates a new <code>DirectXmlLowLevelIOFactory</code> for <code>XmlLowLevelSerializer</code>s and
+     * <code>XmlLowLevelDeserializer</code>s using the given configuration.
+     * 
+     * @param config the configuration object.
+     * @return a <code>DirectXmlLowLevelIOFactory</code> factory
+     */
+    public static DirectXmlLowLevelIOFactory createFactory(XmlLowLevelConfiguration config) {
+        return new DirectXmlLowLevelIOFactory(config);
+    }
+
+    DirectXmlLowLevelIOFactory(XmlLowLevelConfiguration config) {
+        this.config = config;
+        this.deserializerFactory = createDefaultFactory(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public XmlLowLevelDeserializer createDeserializer() {
+        return this.deserializerFactory.createDeserializer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public XmlLowLevelDeserializer createDeserializer(QNameTable qNameTable) {
+        return this.deserializerFactory.createDeserializer(qNameTable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public XmlLowLevelSerializer createSerializer() {
+        return new DirectXmlLowLevelSerializer(this.config);
+    }
+
+}
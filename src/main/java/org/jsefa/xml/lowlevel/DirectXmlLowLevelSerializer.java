@@ -0,0 +1,505 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.xml.lowlevel;
+
+import static org.jsefa.xml.namespace.NamespaceConstants.DEFAULT_NAMESPACE_PREFIX;
+import static org.jsefa.xml.namespace.NamespaceConstants.NO_NAMESPACE_URI;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jsefa.common.lowlevel.LowLevelSerializationException;
+import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+import org.jsefa.xml.namespace.NamespaceScopeStack;
+import org.jsefa.xml.namespace.QName;
+
+/**
+ * Implementation of {@link XmlLowLevelSerializer} which writes the markup directly into a character buffer
+ * instead of using a general purpose XML writer.
+ * <p>
+ * The start and end tags of the elements and the leading parts of the attributes are computed once per name and
+ * prefix and reused afterwards. Text and attribute values are escaped using a lookup table. Line breaks and
+ * indentation are written the same way as by the {@link StaxBasedXmlLowLevelSerializer}.
+ * <p>
+ * Unlike a general purpose XML writer, it does not check the order of the calls. Characters which are not allowed
+ * in XML documents (control characters other than tab, line feed and carriage return) cause a
+ * {@link LowLevelSerializationException}.
+ * 
+ * @author Norman Lahme-Huetig
+ */
+public final class DirectXmlLowLevelSerializer implements XmlLowLevelSerializer {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final char[] INVALID_CHARACTER = new char[0];
+
+    private static final char[][] TEXT_ESCAPES = createEscapes(false);
+
+    private static final char[][] ATTRIBUTE_ESCAPES = createEscapes(true);
+
+    private final XmlLowLevelConfiguration config;
+
+    private final char[] lineBreak;
+
+    private final char[] lineIndentation;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private final Map<QName, Markup> elementMarkups = new HashMap<QName, Markup>();
+
+    private final Map<QName, Markup> attributeMarkups = new HashMap<QName, Markup>();
+
+    private Markup[] openElements = new Markup[16];
+
+    private int position;
+
+    private Writer writer;
+
+    private int depth = -1;
+
+    private boolean lastWasStartElement;
+
+    private boolean startTagOpen;
+
+    private NamespaceScopeStack namespaceScopes;
+
+    /**
+     * Constructs a new <code>DirectXmlLowLevelSerializer</code>.
+     * 
+     * @param config the configuration object
+     */
+    public DirectXmlLowLevelSerializer(XmlLowLevelConfiguration config) {
+        this.config = config;
+        this.lineBreak = config.getLineBreak().toCharArray();
+        this.lineIndentation = config.getLineIndentation().toCharArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void open(Writer writer) {
+        this.writer = writer;
+        this.position = 0;
+        this.depth = -1;
+        this.lastWasStartElement = false;
+        this.startTagOpen = false;
+        this.namespaceScopes = NamespaceScopeStack.create(this.config.getNamespaceManager());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void writeXmlDeclaration(String version, String encoding) {
+        try {
+            write("<?xml version=\"");
+            write(version);
+            if (encoding != null) {
+                write("\" encoding=\"");
+                write(encoding);
+            }
+            write("\"?>");
+            writeLineBreak();
+        } catch (IOException e) {
+            throw new LowLevelSerializationException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void writeDocTypeDeclaration(QName rootElementName, String publicId, String systemId) {
+        try {
+            write("<!DOCTYPE ");
+            if (!hasNamespace(rootElementName)) {
+                write(rootElementName.getLocalName());
+            } else {
+                String prefix = this.namespaceScopes.getPrefix(rootElementName.getUri(), true);
+                if (prefix == null) {
+                    prefix = this.namespaceScopes.createPrefix(rootElementName.getUri(), true);
+                    // do not register the prefix. Otherwise no xmlns attribute will be written when writing the
+                    // root element start tag.
+                }
+                write(this.namespaceScopes.getQualifiedName(prefix, rootElementName));
+            }
+            if (publicId != null) {
+                write(" PUBLIC \"");
+                write(publicId);
+                write("\" \"");
+            } else {
+                write(" SYSTEM \"");
+            }
+            write(systemId);
+            write("\">");
+            writeLineBreak();
+        } catch (IOException e) {
+            throw new LowLevelSerializationException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void writeStartElement(QName name) {
+        writeStartElement(name, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void writeStartElement(QName name, QName dataTypeName) {
+        this.depth++;
+        this.namespaceScopes.pushScope();
+        try {
+            if (this.lastWasStartElement) {
+                writeLineBreak();
+            } else {
+                this.lastWasStartElement = true;
+            }
+            writeIdent();
+            closeStartTag();
+            Markup markup;
+            if (!hasNamespace(name)) {
+                markup = getElementMarkup(DEFAULT_NAMESPACE_PREFIX, name);
+                write(markup.open);
+                if (defaultNamespaceExists()) {
+                    this.namespaceScopes.registerPrefix(DEFAULT_NAMESPACE_PREFIX, NO_NAMESPACE_URI);
+                    writeNamespace(DEFAULT_NAMESPACE_PREFIX, NO_NAMESPACE_URI);
+                }
+            } else {
+                String prefix = this.namespaceScopes.getPrefix(name.getUri(), true);
+                boolean createNamespace = (prefix == null);
+                if (prefix == null) {
+                    prefix = this.namespaceScopes.createPrefix(name.getUri(), true);
+                    this.namespaceScopes.registerPrefix(prefix, name.getUri());
+                }
+                markup = getElementMarkup(prefix, name);
+                write(markup.open);
+                if (createNamespace) {
+                    writeNamespace(prefix, name.getUri());
+                }
+            }
+            if (this.depth == this.openElements.length) {
+                Markup[] newOpenElements = new Markup[this.openElements.length * 2];
+                System.arraycopy(this.openElements, 0, newOpenElements, 0, this.depth);
+                this.openElements = newOpenElements;
+            }
+            this.openElements[this.depth] = markup;
+            this.startTagOpen = true;
+            if (dataTypeName != null) {
+                String value = dataTypeName.getLocalName();
+                if (hasNamespace(dataTypeName)) {
+                    String prefix = this.namespaceScopes.getPrefix(dataTypeName.getUri(), true);
+                    if (prefix == null) {
+                        prefix = this.namespaceScopes.createPrefix(dataTypeName.getUri(), true);
+                        this.namespaceScopes.registerPrefix(prefix, dataTypeName.getUri());
+                        writeNamespace(prefix, dataTypeName.getUri());
+                    }
+                    value = this.namespaceScopes.getQualifiedName(prefix, dataTypeName);
+                }
+                writeAttribute(this.config.getDataTypeAttributeName(), value);
+            }
+        } catch (IOException e) {
+            throw new LowLevelSerializationException("Unable to write element " + name, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void writeAttribute(QName name, String value) {
+        if (value == null) {
+            return;
+        }
+        if (!this.startTagOpen) {
+            throw new LowLevelSerializationException("Unable to write attribute " + name
+                    + " as there is no open start tag");
+        }
+        try {
+            Markup markup;
+            if (!hasNamespace(name)) {
+                markup = getAttributeMarkup(DEFAULT_NAMESPACE_PREFIX, name);
+            } else {
+                String prefix = this.namespaceScopes.getPrefix(name.getUri(), false);
+                if (prefix == null) {
+                    prefix = this.namespaceScopes.createPrefix(name.getUri(), false);
+                    this.namespaceScopes.registerPrefix(prefix, name.getUri());
+                    writeNamespace(prefix, name.getUri());
+                }
+                markup = getAttributeMarkup(prefix, name);
+            }
+            write(markup.open);
+            writeEscaped(value, ATTRIBUTE_ESCAPES);
+            write('"');
+        } catch (IOException e) {
+            throw new LowLevelSerializationException("Unable to write attribute " + name, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void writeText(String text, TextMode textMode) {
+        if (text != null && text.length() != 0) {
+            try {
+                closeStartTag();
+                if (TextMode.CDATA.equals(textMode)) {
+                    int index = text.indexOf("]]>");
+                    int lastIndex = 0;
+                    while (index > -1) {
+                        writeCData(text, lastIndex, index + 2);
+                        lastIndex = index + 2;
+                        index = text.indexOf("]]>", index + 1);
+                    }
+                    writeCData(text, lastIndex, text.length());
+                } else {
+                    writeEscaped(text, TEXT_ESCAPES);
+                }
+            } catch (IOException e) {
+                throw new LowLevelSerializationException("Unable to write text", e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void writeEndElement() {
+        try {
+            closeStartTag();
+            if (!this.lastWasStartElement) {
+                writeIdent();
+            }
+            this.lastWasStartElement = false;
+            write(this.openElements[this.depth].close);
+            this.openElements[this.depth] = null;
+            writeLineBreak();
+        } catch (IOException e) {
+            throw new LowLevelSerializationException("Unable to finish element", e);
+        }
+        this.namespaceScopes.popScope();
+        this.depth--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void flush() {
+        try {
+            flushBuffer();
+            this.writer.flush();
+        } catch (Exception e) {
+            throw new LowLevelSerializationException("Error while flushing the serialization stream", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close(boolean closeWriter) {
+        if (this.writer == null) {
+            return;
+        }
+        try {
+            flushBuffer();
+            if (closeWriter) {
+                this.writer.close();
+            } else {
+                this.writer.flush();
+            }
+        } catch (Exception e) {
+            throw new LowLevelSerializationException("Error while closing the serialization stream", e);
+        } finally {
+            this.writer = null;
+            this.namespaceScopes = null;
+            this.position = 0;
+        }
+    }
+
+    private Markup getElementMarkup(String prefix, QName name) {
+        Markup markup = this.elementMarkups.get(name);
+        if (markup == null || !markup.prefix.equals(prefix)) {
+            String qualifiedName = this.namespaceScopes.getQualifiedName(prefix, name);
+            markup = new Markup(prefix, "<" + qualifiedName, "</" + qualifiedName + ">");
+            this.elementMarkups.put(name, markup);
+        }
+        return markup;
+    }
+
+    private Markup getAttributeMarkup(String prefix, QName name) {
+        Markup markup = this.attributeMarkups.get(name);
+        if (markup == null || !markup.prefix.equals(prefix)) {
+            String qualifiedName = this.namespaceScopes.getQualifiedName(prefix, name);
+            markup = new Markup(prefix, " " + qualifiedName + "=\"", null);
+            this.attributeMarkups.put(name, markup);
+        }
+        return markup;
+    }
+
+    private void writeNamespace(String prefix, String uri) throws IOException {
+        if (prefix.length() == 0) {
+            write(" xmlns=\"");
+        } else {
+            write(" xmlns:");
+            write(prefix);
+            write("=\"");
+        }
+        writeEscaped(uri, ATTRIBUTE_ESCAPES);
+        write('"');
+    }
+
+    private void writeCData(String text, int beginIndex, int endIndex) throws IOException {
+        write("<![CDATA[");
+        write(text, beginIndex, endIndex);
+        write("]]>");
+    }
+
+    private void writeLineBreak() throws IOException {
+        closeStartTag();
+        write(this.lineBreak);
+    }
+
+    private void writeIdent() throws IOException {
+        if (this.lineIndentation.length > 0) {
+            closeStartTag();
+            for (int i = 0; i < this.depth; i++) {
+                write(this.lineIndentation);
+            }
+        }
+    }
+
+    private void closeStartTag() throws IOException {
+        if (this.startTagOpen) {
+            write('>');
+            this.startTagOpen = false;
+        }
+    }
+
+    private void writeEscaped(String text, char[][] escapes) throws IOException {
+        int length = text.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < escapes.length && escapes[c] != null) {
+                char[] escape = escapes[c];
+                if (escape == INVALID_CHARACTER) {
+                    throw new LowLevelSerializationException("The character 0x" + Integer.toHexString(c)
+                            + " is not allowed in XML documents");
+                }
+                write(text, start, i);
+                write(escape);
+                start = i + 1;
+            }
+        }
+        write(text, start, length);
+    }
+
+    private void write(char c) throws IOException {
+        if (this.position == BUFFER_SIZE) {
+            flushBuffer();
+        }
+        this.buffer[this.position++] = c;
+    }
+
+    private void write(char[] chars) throws IOException {
+        if (chars.length > BUFFER_SIZE - this.position) {
+            flushBuffer();
+            if (chars.length > BUFFER_SIZE) {
+                this.writer.write(chars);
+                return;
+            }
+        }
+        System.arraycopy(chars, 0, this.buffer, this.position, chars.length);
+        this.position += chars.length;
+    }
+
+    private void write(String text) throws IOException {
+        write(text, 0, text.length());
+    }
+
+    private void write(String text, int beginIndex, int endIndex) throws IOException {
+        int index = beginIndex;
+        while (index < endIndex) {
+            if (this.position == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            int count = Math.min(endIndex - index, BUFFER_SIZE - this.position);
+            text.getChars(index, index + count, this.buffer, this.position);
+            this.position += count;
+            index += count;
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (this.position > 0) {
+            this.writer.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+    private boolean hasNamespace(QName name) {
+        return !NO_NAMESPACE_URI.equals(name.getUri());
+    }
+
+    private boolean defaultNamespaceExists() {
+        String registeredUri = this.namespaceScopes.getUri(DEFAULT_NAMESPACE_PREFIX);
+        return registeredUri != null && !registeredUri.equals(NO_NAMESPACE_URI);
+    }
+
+    private static char[][] createEscapes(boolean forAttributes) {
+        char[][] escapes = new char['>' + 1][];
+        for (char c = 0; c < ' '; c++) {
+            escapes[c] = INVALID_CHARACTER;
+        }
+        escapes['&'] = "&amp;".toCharArray();
+        escapes['<'] = "&lt;".toCharArray();
+        escapes['>'] = "&gt;".toCharArray();
+        if (forAttributes) {
+            escapes['"'] = "&quot;".toCharArray();
+            escapes['\t'] = "&#9;".toCharArray();
+            escapes['\n'] = "&#10;".toCharArray();
+            escapes['\r'] = "&#13;".toCharArray();
+        } else {
+            escapes['\t'] = null;
+            escapes['\n'] = null;
+            escapes['\r'] = null;
+        }
+        return escapes;
+    }
+
+    /**
+     * The precomputed markup for a name and a prefix.
+     */
+    private static final class Markup {
+        private final String prefix;
+
+        private final char[] open;
+
+        private final char[] close;
+
+        Markup(String prefix, String open, String close) {
+            this.prefix = prefix;
+            this.open = open.toCharArray();
+            if (close != null) {
+                this.close = close.toCharArray();
+            } else {
+                this.close = null;
+            }
+        }
+    }
+
+}
@@ -41,6 +41,7 @@ import org.jsefa.xml.lowlevel.model.XmlItem;
 import org.jsefa.xml.lowlevel.model.XmlItemType;
 import org.jsefa.xml.namespace.NamespaceConstants;
 import org.jsefa.xml.namespace.QName;
+import org.jsefa.xml.namespace.QNameTable;
 
 /**
  * Stax based implementation of {@link XmlLowLevelDeserializer}.
@@ -52,6 +53,12 @@ import org.jsefa.xml.namespace.QName;
 public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeserializer {
     private final XmlLowLevelConfiguration config;
 
+    private static final Attribute[] NO_ATTRIBUTES = new Attribute[0];
+
+    private final XMLInputFactory inputFactory;
+
+    private final QNameTable qNameTable;
+
     private Reader reader;
 
     private XMLStreamReader streamReader;
@@ -72,7 +79,32 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
      * @param config the configuration object
      */
     public StaxBasedXmlLowLevelDeserializer(XmlLowLevelConfiguration config) {
+        this(config, StaxBasedXmlLowLevelIOFactory.getInputFactory(config));
+    }
+
+    /**
+     * Constructs a new <code>StaxBasedXmlLowLevelDeserializer</code> using the given input factory.
+     * 
+     * @param config the configuration object
+     * @param inputFactory the factory for creating the stream readers
+     */
+    public StaxBasedXmlLowLevelDeserializer(XmlLowLevelConfiguration config, XMLInputFactory inputFactory) {
+        this(config, inputFactory, QNameTable.EMPTY);
+    }
+
+    /**
+     * Constructs a new <code>StaxBasedXmlLowLevelDeserializer</code> using the given input factory and resolving
+     * the names read using the given symbol table.
+     * 
+     * @param config the configuration object
+     * @param inputFactory the factory for creating the stream readers
+     * @param qNameTable the symbol table for the names to read
+     */
+    public StaxBasedXmlLowLevelDeserializer(XmlLowLevelConfiguration config, XMLInputFactory inputFactory,
+            QNameTable qNameTable) {
         this.config = config;
+        this.inputFactory = inputFactory;
+        this.qNameTable = qNameTable;
     }
 
     /**
@@ -91,12 +123,11 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
         } else {
             this.reader = new BufferedReader(reader);
         }
-        XMLInputFactory factory = XMLInputFactory.newInstance();
         try {
             if (systemId != null) {
-                this.streamReader = factory.createXMLStreamReader(systemId, this.reader);
+                this.streamReader = this.inputFactory.createXMLStreamReader(systemId, this.reader);
             } else {
-                this.streamReader = factory.createXMLStreamReader(this.reader);
+                this.streamReader = this.inputFactory.createXMLStreamReader(this.reader);
             }
         } catch (XMLStreamException e) {
             throw new LowLevelDeserializationException("Error while opening the deserialization stream", e);
@@ -164,6 +195,41 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public void skipSubtree() {
+        if (this.currentItemType != XmlItemType.ELEMENT_START) {
+            return;
+        }
+        try {
+            int level = 1;
+            while (level > 0) {
+                int event;
+                if (this.eventPrefetched) {
+                    event = this.streamReader.getEventType();
+                    this.eventPrefetched = false;
+                } else if (this.streamReader.hasNext()) {
+                    event = this.streamReader.next();
+                } else {
+                    this.currentItemType = XmlItemType.NONE;
+                    this.currentItem = null;
+                    return;
+                }
+                if (event == START_ELEMENT) {
+                    level++;
+                } else if (event == END_ELEMENT) {
+                    level--;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new LowLevelDeserializationException(e);
+        }
+        this.currentItemType = XmlItemType.ELEMENT_END;
+        this.currentItem = null;
+        this.decreaseDepthOnNextEvent = true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -227,6 +293,9 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
      * {@inheritDoc}
      */
     public void close(boolean closeReader) {
+        if (this.reader == null) {
+            return;
+        }
         try {
             this.streamReader.close();
             if (closeReader) {
@@ -236,6 +305,7 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
             throw new LowLevelDeserializationException("Error while closing the deserialization stream", e);
         }
         this.reader = null;
+        this.streamReader = null;
     }
 
     /**
@@ -256,7 +326,8 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
     }
 
     private QName getElementName() {
-        return QName.create(normalizeURI(this.streamReader.getNamespaceURI()), this.streamReader.getLocalName());
+        return this.qNameTable.get(normalizeURI(this.streamReader.getNamespaceURI()), this.streamReader
+                .getLocalName());
     }
 
     private QName getDataTypeName() {
@@ -266,7 +337,8 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
         if (dataTypeNameStr != null) {
             int delimiterPos = dataTypeNameStr.indexOf(":");
             if (delimiterPos == -1) {
-                dataTypeName = QName.create(normalizeURI(this.streamReader.getNamespaceURI("")), dataTypeNameStr);
+                dataTypeName = this.qNameTable.get(normalizeURI(this.streamReader.getNamespaceURI("")),
+                        dataTypeNameStr);
             } else {
                 String prefix = dataTypeNameStr.substring(0, delimiterPos);
                 String uri = this.streamReader.getNamespaceURI(prefix);
@@ -274,7 +346,7 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
                 if (delimiterPos < dataTypeNameStr.length() - 1) {
                     localName = dataTypeNameStr.substring(delimiterPos + 1);
                 }
-                dataTypeName = QName.create(normalizeURI(uri), localName);
+                dataTypeName = this.qNameTable.get(normalizeURI(uri), localName);
             }
         }
         return dataTypeName;
@@ -282,10 +354,13 @@ public final class StaxBasedXmlLowLevelDeserializer implements XmlLowLevelDeseri
 
     private Attribute[] getAttributes() {
         int attributeCount = this.streamReader.getAttributeCount();
+        if (attributeCount == 0) {
+            return NO_ATTRIBUTES;
+        }
         Attribute[] attributes = new Attribute[attributeCount];
         for (int i = 0; i < attributeCount; i++) {
-            QName name = QName.create(normalizeURI(this.streamReader.getAttributeNamespace(i)), this.streamReader
-                    .getAttributeLocalName(i));
+            QName name = this.qNameTable.get(normalizeURI(this.streamReader.getAttributeNamespace(i)),
+                    this.streamReader.getAttributeLocalName(i));
             String value = this.streamReader.getAttributeValue(i);
             attributes[i] = new AttributeImpl(name, value);
         }
@@ -16,11 +16,18 @@
 
 package org.jsefa.xml.lowlevel;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+
 import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+import org.jsefa.xml.namespace.QNameTable;
 
 /**
  * Stax-based implementation of {@link XmlLowLevelIOFactory}.
  * <p>
+ * The <code>XMLInputFactory</code> and <code>XMLOutputFactory</code> are taken from the configuration. If none is
+ * given, default factories are created once per process and shared, as creating them requires a service lookup.
+ * <p>
  * Instances of this class are immutable and thread-safe.
  * 
  * @author Norman Lahme-Huetig
@@ -30,6 +37,10 @@ public final class StaxBasedXmlLowLevelIOFactory extends XmlLowLevelIOFactory {
 
     private final XmlLowLevelConfiguration config;
 
+    private final XMLInputFactory inputFactory;
+
+    private final XMLOutputFactory outputFactory;
+
     /**
      * Creates a new <code>StaxBasedXmlLowLevelIOFactory</code> for <code>XmlLowLevelSerializer</code>s and
      * <code>XmlLowLevelDeserializer</code>s using the given configuration.
@@ -43,20 +54,78 @@ public final class StaxBasedXmlLowLevelIOFactory extends XmlLowLevelIOFactory {
 
     StaxBasedXmlLowLevelIOFactory(XmlLowLevelConfiguration config) {
         this.config = config;
+        this.inputFactory = getInputFactory(config);
+        this.outputFactory = getOutputFactory(config);
     }
 
     /**
      * {@inheritDoc}
      */
     public XmlLowLevelDeserializer createDeserializer() {
-        return new StaxBasedXmlLowLevelDeserializer(this.config);
+        return new StaxBasedXmlLowLevelDeserializer(this.config, this.inputFactory, QNameTable.EMPTY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public XmlLowLevelDeserializer createDeserializer(QNameTable qNameTable) {
+        return new StaxBasedXmlLowLevelDeserializer(this.config, this.inputFactory, qNameTable);
     }
 
     /**
      * {@inheritDoc}
      */
     public XmlLowLevelSerializer createSerializer() {
-        return new StaxBasedXmlLowLevelSerializer(this.config);
+        return new StaxBasedXmlLowLevelSerializer(this.config, this.outputFactory);
+    }
+
+    /**
+     * Returns the input factory of the given configuration or the shared default one if none is given.
+     * 
+     * @param config the configuration
+     * @return an input factory
+     */
+    static XMLInputFactory getInputFactory(XmlLowLevelConfiguration config) {
+        if (config.getInputFactory() != null) {
+            return (XMLInputFactory) config.getInputFactory();
+        }
+        return DefaultInputFactoryHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the output factory of the given configuration or the shared default one if none is given.
+     * 
+     * @param config the configuration
+     * @return an output factory
+     */
+    static XMLOutputFactory getOutputFactory(XmlLowLevelConfiguration config) {
+        if (config.getOutputFactory() != null) {
+            return (XMLOutputFactory) config.getOutputFactory();
+        }
+        return DefaultOutputFactoryHolder.INSTANCE;
+    }
+
+    private static final class DefaultInputFactoryHolder {
+        static final XMLInputFactory INSTANCE = XMLInputFactory.newInstance();
+
+        private DefaultInputFactoryHolder() {
+        }
+    }
+
+    private static final class DefaultOutputFactoryHolder {
+        static final XMLOutputFactory INSTANCE = createOutputFactory();
+
+        private static XMLOutputFactory createOutputFactory() {
+            XMLOutputFactory factory = XMLOutputFactory.newInstance();
+            if (factory.isPropertySupported("com.ctc.wstx.outputEscapeCr")) {
+                factory.setProperty("com.ctc.wstx.outputEscapeCr", Boolean.FALSE);
+            }
+            return factory;
+        }
+
+        private DefaultOutputFactoryHolder() {
+        }
     }
 
 }
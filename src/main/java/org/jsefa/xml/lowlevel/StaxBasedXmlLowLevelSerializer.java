@@ -27,7 +27,7 @@ import javax.xml.stream.XMLStreamWriter;
 
 import org.jsefa.common.lowlevel.LowLevelSerializationException;
 import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
-import org.jsefa.xml.namespace.NamespaceManager;
+import org.jsefa.xml.namespace.NamespaceScopeStack;
 import org.jsefa.xml.namespace.QName;
 
 /**
@@ -39,6 +39,8 @@ import org.jsefa.xml.namespace.QName;
 public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializer {
     private final XmlLowLevelConfiguration config;
 
+    private final XMLOutputFactory outputFactory;
+
     private Writer writer;
 
     private XMLStreamWriter streamWriter;
@@ -47,7 +49,7 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
 
     private boolean lastWasStartElement;
 
-    private NamespaceManager namespaceManager;
+    private NamespaceScopeStack namespaceScopes;
 
     /**
      * Constructs a new <code>StaxBasedXmlLowLevelSerializer</code>.
@@ -55,7 +57,18 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
      * @param config the configuration object
      */
     public StaxBasedXmlLowLevelSerializer(XmlLowLevelConfiguration config) {
+        this(config, StaxBasedXmlLowLevelIOFactory.getOutputFactory(config));
+    }
+
+    /**
+     * Constructs a new <code>StaxBasedXmlLowLevelSerializer</code> using the given output factory.
+     * 
+     * @param config the configuration object
+     * @param outputFactory the factory for creating the stream writers
+     */
+    public StaxBasedXmlLowLevelSerializer(XmlLowLevelConfiguration config, XMLOutputFactory outputFactory) {
         this.config = config;
+        this.outputFactory = outputFactory;
     }
 
     /**
@@ -63,17 +76,13 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
      */
     public void open(Writer writer) {
         this.writer = writer;
-        XMLOutputFactory factory = XMLOutputFactory.newInstance();
-        if (factory.isPropertySupported("com.ctc.wstx.outputEscapeCr")) {
-            factory.setProperty("com.ctc.wstx.outputEscapeCr", Boolean.FALSE);
-        }
         try {
-            this.streamWriter = factory.createXMLStreamWriter(writer);
+            this.streamWriter = this.outputFactory.createXMLStreamWriter(writer);
         } catch (XMLStreamException e) {
             throw new LowLevelSerializationException("Error while opening the serialization stream", e);
         }
         this.depth = -1;
-        this.namespaceManager = this.config.getNamespaceManager();
+        this.namespaceScopes = NamespaceScopeStack.create(this.config.getNamespaceManager());
     }
 
     /**
@@ -96,10 +105,9 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
         if (!hasNamespace(rootElementName)) {
             dtd.append(rootElementName.getLocalName());
         } else {
-            this.namespaceManager = NamespaceManager.createWithParent(this.namespaceManager);
-            String prefix = this.namespaceManager.getPrefix(rootElementName.getUri(), true);
+            String prefix = this.namespaceScopes.getPrefix(rootElementName.getUri(), true);
             if (prefix == null) {
-                prefix = this.namespaceManager.createPrefix(rootElementName.getUri(), true);
+                prefix = this.namespaceScopes.createPrefix(rootElementName.getUri(), true);
                 // do not register the prefix. Otherwise no xmlns attribute will be written when writing the root
                 // element start tag.
             }
@@ -133,7 +141,7 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
      */
     public void writeStartElement(QName name, QName dataTypeName) {
         this.depth++;
-        this.namespaceManager = NamespaceManager.createWithParent(this.namespaceManager);
+        this.namespaceScopes.pushScope();
         try {
             if (this.lastWasStartElement) {
                 writeLineBreak();
@@ -144,15 +152,15 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
             if (!hasNamespace(name)) {
                 this.streamWriter.writeStartElement(name.getLocalName());
                 if (defaultNamespaceExists()) {
-                    this.namespaceManager.registerPrefix(DEFAULT_NAMESPACE_PREFIX, NO_NAMESPACE_URI);
+                    this.namespaceScopes.registerPrefix(DEFAULT_NAMESPACE_PREFIX, NO_NAMESPACE_URI);
                     this.streamWriter.writeNamespace(DEFAULT_NAMESPACE_PREFIX, NO_NAMESPACE_URI);
                 }
             } else {
-                String prefix = this.namespaceManager.getPrefix(name.getUri(), true);
+                String prefix = this.namespaceScopes.getPrefix(name.getUri(), true);
                 boolean createNamespace = (prefix == null);
                 if (prefix == null) {
-                    prefix = this.namespaceManager.createPrefix(name.getUri(), true);
-                    this.namespaceManager.registerPrefix(prefix, name.getUri());
+                    prefix = this.namespaceScopes.createPrefix(name.getUri(), true);
+                    this.namespaceScopes.registerPrefix(prefix, name.getUri());
                 }
                 this.streamWriter.writeStartElement(prefix, name.getLocalName(), name.getUri());
                 if (createNamespace) {
@@ -162,15 +170,13 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
             if (dataTypeName != null) {
                 String value = dataTypeName.getLocalName();
                 if (hasNamespace(dataTypeName)) {
-                    String prefix = this.namespaceManager.getPrefix(dataTypeName.getUri(), true);
+                    String prefix = this.namespaceScopes.getPrefix(dataTypeName.getUri(), true);
                     if (prefix == null) {
-                        prefix = this.namespaceManager.createPrefix(dataTypeName.getUri(), true);
-                        this.namespaceManager.registerPrefix(prefix, dataTypeName.getUri());
+                        prefix = this.namespaceScopes.createPrefix(dataTypeName.getUri(), true);
+                        this.namespaceScopes.registerPrefix(prefix, dataTypeName.getUri());
                         this.streamWriter.writeNamespace(prefix, dataTypeName.getUri());
                     }
-                    if (prefix.length() > 0) {
-                        value = prefix + ":" + value;
-                    }
+                    value = this.namespaceScopes.getQualifiedName(prefix, dataTypeName);
                 }
                 writeAttribute(this.config.getDataTypeAttributeName(), value);
             }
@@ -190,10 +196,10 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
             if (!hasNamespace(name)) {
                 this.streamWriter.writeAttribute(name.getLocalName(), value);
             } else {
-                String prefix = this.namespaceManager.getPrefix(name.getUri(), false);
+                String prefix = this.namespaceScopes.getPrefix(name.getUri(), false);
                 if (prefix == null) {
-                    prefix = this.namespaceManager.createPrefix(name.getUri(), false);
-                    this.namespaceManager.registerPrefix(prefix, name.getUri());
+                    prefix = this.namespaceScopes.createPrefix(name.getUri(), false);
+                    this.namespaceScopes.registerPrefix(prefix, name.getUri());
                     this.streamWriter.writeNamespace(prefix, name.getUri());
                 }
                 this.streamWriter.writeAttribute(prefix, name.getUri(), name.getLocalName(), value);
@@ -241,7 +247,7 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
         } catch (XMLStreamException e) {
             throw new LowLevelSerializationException("Unable to finish element", e);
         }
-        this.namespaceManager = this.namespaceManager.getParent();
+        this.namespaceScopes.popScope();
         this.depth--;
     }
 
@@ -260,6 +266,9 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
      * {@inheritDoc}
      */
     public void close(boolean closeWriter) {
+        if (this.writer == null) {
+            return;
+        }
         try {
             this.streamWriter.close();
             if (closeWriter) {
@@ -267,6 +276,10 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
             }
         } catch (Exception e) {
             throw new LowLevelSerializationException("Error while closing the serialization stream", e);
+        } finally {
+            this.writer = null;
+            this.streamWriter = null;
+            this.namespaceScopes = null;
         }
     }
 
@@ -288,7 +301,7 @@ public final class StaxBasedXmlLowLevelSerializer implements XmlLowLevelSerializ
     }
 
     private boolean defaultNamespaceExists() {
-        String registeredUri = this.namespaceManager.getUri(DEFAULT_NAMESPACE_PREFIX);
+        String registeredUri = this.namespaceScopes.getUri(DEFAULT_NAMESPACE_PREFIX);
         return registeredUri != null && !registeredUri.equals(NO_NAMESPACE_URI);
     }
 
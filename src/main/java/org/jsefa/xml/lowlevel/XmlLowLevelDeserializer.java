@@ -55,6 +55,16 @@ public interface XmlLowLevelDeserializer extends LowLevelDeserializer {
      */
     void moveToNext();
 
+    /**
+     * Skips the subtree of the current element if the current xml item is an element start. Afterwards the current
+     * xml item is the end of this element. No xml items are created for the skipped content.
+     * <p>
+     * If the current xml item is not an element start, nothing happens.
+     * 
+     * @throws LowLevelDeserializationException
+     */
+    void skipSubtree();
+
     /**
      * Returns the type of the current xml item. See {@link XmlItemType} for the different values allowed.
      * 
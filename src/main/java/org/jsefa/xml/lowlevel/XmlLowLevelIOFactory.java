@@ -24,6 +24,7 @@ import org.jsefa.common.lowlevel.LowLevelIOFactory;
 import org.jsefa.common.util.ReflectionUtil;
 import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
 import org.jsefa.xml.lowlevel.config.XmlLowLevelInitialConfigurationParameters;
+import org.jsefa.xml.namespace.QNameTable;
 
 /**
  * Factory for creating {@link XmlLowLevelDeserializer}s and {@link XmlLowLevelSerializer}s.
@@ -48,18 +49,34 @@ public abstract class XmlLowLevelIOFactory implements LowLevelIOFactory {
      * @throws IOFactoryException
      */
     public static XmlLowLevelIOFactory createFactory(XmlLowLevelConfiguration config) {
-        Class<?> ioFactoryClass = null;
+        Class<XmlLowLevelIOFactory> factoryClass = InitialConfiguration.get(
+                XmlLowLevelInitialConfigurationParameters.LOW_LEVEL_IO_FACTORY_CLASS, getDefaultFactoryClass());
+        return createFactory(factoryClass, config);
+    }
+
+    /**
+     * Creates a new instance of the default <code>XmlLowLevelIOFactory</code> of this platform (Stax or XmlPull
+     * based) ignoring the initial configuration parameter
+     * {@link XmlLowLevelInitialConfigurationParameters#LOW_LEVEL_IO_FACTORY_CLASS}.
+     * 
+     * @param config the configuration object.
+     * @return an <code>XmlLowLevelIOFactory</code> factory
+     * @throws IOFactoryException
+     */
+    static XmlLowLevelIOFactory createDefaultFactory(XmlLowLevelConfiguration config) {
+        return createFactory(getDefaultFactoryClass(), config);
+    }
+
+    private static Class<?> getDefaultFactoryClass() {
         if (ReflectionUtil.hasClass("org.jsefa.xml.lowlevel.StaxBasedXmlLowLevelIOFactory")) {
-            ioFactoryClass = ReflectionUtil.getClass("org.jsefa.xml.lowlevel.StaxBasedXmlLowLevelIOFactory");
+            return ReflectionUtil.getClass("org.jsefa.xml.lowlevel.StaxBasedXmlLowLevelIOFactory");
         } else if (ReflectionUtil.hasClass("org.jsefa.xml.lowlevel.XmlPullBasedXmlLowLevelIOFactory")) {
-            ioFactoryClass = ReflectionUtil.getClass("org.jsefa.xml.lowlevel.XmlPullBasedXmlLowLevelIOFactory");
+            return ReflectionUtil.getClass("org.jsefa.xml.lowlevel.XmlPullBasedXmlLowLevelIOFactory");
         }
+        throw new IOFactoryException("Failed to create an XmlLowLevelIOFactory");
+    }
 
-        if (ioFactoryClass == null) {
-            throw new IOFactoryException("Failed to create an XmlLowLevelIOFactory");
-        }
-        Class<XmlLowLevelIOFactory> factoryClass = InitialConfiguration.get(
-                XmlLowLevelInitialConfigurationParameters.LOW_LEVEL_IO_FACTORY_CLASS, ioFactoryClass);
+    private static XmlLowLevelIOFactory createFactory(Class<?> factoryClass, XmlLowLevelConfiguration config) {
         Method createMethod = ReflectionUtil.getMethod(factoryClass, "createFactory", XmlLowLevelConfiguration.class);
         if (createMethod == null) {
             throw new IOFactoryException("Failed to create an XmlLowLevelIOFactory. The factory " + factoryClass
@@ -81,4 +98,17 @@ public abstract class XmlLowLevelIOFactory implements LowLevelIOFactory {
      * {@inheritDoc}
      */
     public abstract XmlLowLevelDeserializer createDeserializer();
+
+    /**
+     * Creates a new <code>XmlLowLevelDeserializer</code> which resolves the names it reads using the given symbol
+     * table, so that no new <code>QName</code> is created for a name contained in it.
+     * <p>
+     * This default implementation ignores the table and calls {@link #createDeserializer()}.
+     * 
+     * @param qNameTable the symbol table for the names to read
+     * @return a <code>XmlLowLevelDeserializer</code>
+     */
+    public XmlLowLevelDeserializer createDeserializer(QNameTable qNameTable) {
+        return createDeserializer();
+    }
 }
@@ -32,6 +32,7 @@ import org.jsefa.xml.lowlevel.model.XmlItem;
 import org.jsefa.xml.lowlevel.model.XmlItemType;
 import org.jsefa.xml.namespace.NamespaceConstants;
 import org.jsefa.xml.namespace.QName;
+import org.jsefa.xml.namespace.QNameTable;
 import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
 import org.xmlpull.v1.XmlPullParserFactory;
@@ -61,13 +62,29 @@ public final class XmlPullBasedXmlLowLevelDeserializer implements XmlLowLevelDes
 
     private int                            prefetchedEvent = -1;
 
+    private static final Attribute[]       NO_ATTRIBUTES = new Attribute[0];
+
+    private final QNameTable               qNameTable;
+
     /**
      * Constructs a new <code>StaxBasedXmlLowLevelDeserializer</code>.
      * 
      * @param config the configuration object
      */
     public XmlPullBasedXmlLowLevelDeserializer(final XmlLowLevelConfiguration config) {
+        this(config, QNameTable.EMPTY);
+    }
+
+    /**
+     * Constructs a new <code>XmlPullBasedXmlLowLevelDeserializer</code> resolving the names read using the given
+     * symbol table.
+     * 
+     * @param config the configuration object
+     * @param qNameTable the symbol table for the names to read
+     */
+    public XmlPullBasedXmlLowLevelDeserializer(final XmlLowLevelConfiguration config, final QNameTable qNameTable) {
         this.config = config;
+        this.qNameTable = qNameTable;
     }
 
     /**
@@ -169,6 +186,44 @@ public final class XmlPullBasedXmlLowLevelDeserializer implements XmlLowLevelDes
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public void skipSubtree() {
+        if (this.currentItemType != XmlItemType.ELEMENT_START) {
+            return;
+        }
+        try {
+            int level = 1;
+            while (level > 0) {
+                int event;
+                if (this.eventPrefetched) {
+                    event = this.prefetchedEvent;
+                    this.eventPrefetched = false;
+                    this.prefetchedEvent = -1;
+                } else {
+                    event = this.pullParser.next();
+                }
+                if (event == XmlPullParser.START_TAG) {
+                    level++;
+                } else if (event == XmlPullParser.END_TAG) {
+                    level--;
+                } else if (event == XmlPullParser.END_DOCUMENT) {
+                    this.currentItemType = XmlItemType.NONE;
+                    this.currentItem = null;
+                    return;
+                }
+            }
+        } catch (final XmlPullParserException e) {
+            throw new LowLevelDeserializationException(e);
+        } catch (final IOException e) {
+            throw new LowLevelDeserializationException(e);
+        }
+        this.currentItemType = XmlItemType.ELEMENT_END;
+        this.currentItem = null;
+        this.decreaseDepthOnNextEvent = true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -208,6 +263,9 @@ public final class XmlPullBasedXmlLowLevelDeserializer implements XmlLowLevelDes
      * {@inheritDoc}
      */
     public void close(final boolean closeReader) {
+        if (this.reader == null) {
+            return;
+        }
         try {
             //            this.pullParser.close(); // There is no XmlPullParser.close() method
             if (closeReader) {
@@ -236,7 +294,7 @@ public final class XmlPullBasedXmlLowLevelDeserializer implements XmlLowLevelDes
     }
 
     private QName getElementName() {
-        return QName.create(this.normalizeURI(this.pullParser.getNamespace()), this.pullParser.getName());
+        return this.qNameTable.get(this.normalizeURI(this.pullParser.getNamespace()), this.pullParser.getName());
     }
 
     private QName getDataTypeName() {
@@ -246,7 +304,8 @@ public final class XmlPullBasedXmlLowLevelDeserializer implements XmlLowLevelDes
         if (dataTypeNameStr != null) {
             final int delimiterPos = dataTypeNameStr.indexOf(":");
             if (delimiterPos == -1) {
-                dataTypeName = QName.create(this.normalizeURI(this.pullParser.getNamespace("")), dataTypeNameStr);
+                dataTypeName = this.qNameTable.get(this.normalizeURI(this.pullParser.getNamespace("")),
+                        dataTypeNameStr);
             } else {
                 final String prefix = dataTypeNameStr.substring(0, delimiterPos);
                 final String uri = this.pullParser.getNamespace(prefix);
@@ -254,7 +313,7 @@ public final class XmlPullBasedXmlLowLevelDeserializer implements XmlLowLevelDes
                 if (delimiterPos < dataTypeNameStr.length() - 1) {
                     localName = dataTypeNameStr.substring(delimiterPos + 1);
                 }
-                dataTypeName = QName.create(this.normalizeURI(uri), localName);
+                dataTypeName = this.qNameTable.get(this.normalizeURI(uri), localName);
             }
         }
         return dataTypeName;
@@ -262,9 +321,12 @@ public final class XmlPullBasedXmlLowLevelDeserializer implements XmlLowLevelDes
 
     private Attribute[] getAttributes() {
         final int attributeCount = this.pullParser.getAttributeCount();
+        if (attributeCount == 0) {
+            return NO_ATTRIBUTES;
+        }
         final Attribute[] attributes = new Attribute[attributeCount];
         for (int i = 0; i < attributeCount; i++) {
-            final QName name = QName.create(this.normalizeURI(this.pullParser.getAttributeNamespace(i)),
+            final QName name = this.qNameTable.get(this.normalizeURI(this.pullParser.getAttributeNamespace(i)),
                     this.pullParser.getAttributeName(i));
             final String value = this.pullParser.getAttributeValue(i);
             attributes[i] = new AttributeImpl(name, value);
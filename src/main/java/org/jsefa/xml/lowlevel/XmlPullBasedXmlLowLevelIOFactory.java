@@ -17,6 +17,7 @@
 package org.jsefa.xml.lowlevel;
 
 import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+import org.jsefa.xml.namespace.QNameTable;
 
 /**
  * XmlPull-based implementation of {@link XmlLowLevelIOFactory}.
@@ -53,6 +54,14 @@ public class XmlPullBasedXmlLowLevelIOFactory extends XmlLowLevelIOFactory {
         return new XmlPullBasedXmlLowLevelDeserializer(this.config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public XmlLowLevelDeserializer createDeserializer(final QNameTable qNameTable) {
+        return new XmlPullBasedXmlLowLevelDeserializer(this.config, qNameTable);
+    }
+
     /**
      * {@inheritDoc}
      */
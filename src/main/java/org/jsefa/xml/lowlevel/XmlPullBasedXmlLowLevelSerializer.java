@@ -24,7 +24,7 @@ import java.io.Writer;
 
 import org.jsefa.common.lowlevel.LowLevelSerializationException;
 import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
-import org.jsefa.xml.namespace.NamespaceManager;
+import org.jsefa.xml.namespace.NamespaceScopeStack;
 import org.jsefa.xml.namespace.QName;
 import org.xmlpull.v1.XmlPullParserException;
 import org.xmlpull.v1.XmlPullParserFactory;
@@ -80,7 +80,7 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
         }
 
         this.depth = -1;
-        this.namespaceManager = this.config.getNamespaceManager();
+        this.namespaceScopes = NamespaceScopeStack.create(this.config.getNamespaceManager());
     }
 
     /**
@@ -107,10 +107,9 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
         if (!this.hasNamespace(rootElementName)) {
             dtd.append(rootElementName.getLocalName());
         } else {
-            this.namespaceManager = NamespaceManager.createWithParent(this.namespaceManager);
-            String prefix = this.namespaceManager.getPrefix(rootElementName.getUri(), true);
+            String prefix = this.namespaceScopes.getPrefix(rootElementName.getUri(), true);
             if (prefix == null) {
-                prefix = this.namespaceManager.createPrefix(rootElementName.getUri(), true);
+                prefix = this.namespaceScopes.createPrefix(rootElementName.getUri(), true);
                 // do not register the prefix. Otherwise no xmlns attribute will be written when writing the root
                 // element start tag.
             }
@@ -149,7 +148,7 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
      */
     public void writeStartElement(final QName name, final QName dataTypeName) {
         this.depth++;
-        this.namespaceManager = NamespaceManager.createWithParent(this.namespaceManager);
+        this.namespaceScopes.pushScope();
         try {
             if (this.lastWasStartElement) {
                 this.writeLineBreak();
@@ -162,16 +161,16 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
                 if (this.defaultNamespaceExists()) {
                     this.serializer.setPrefix(DEFAULT_NAMESPACE_PREFIX, NO_NAMESPACE_URI);
                     this.serializer.startTag(NO_NAMESPACE_URI, name.getLocalName());
-                    this.namespaceManager.registerPrefix(DEFAULT_NAMESPACE_PREFIX, NO_NAMESPACE_URI);
+                    this.namespaceScopes.registerPrefix(DEFAULT_NAMESPACE_PREFIX, NO_NAMESPACE_URI);
                 }
 
                 this.serializer.startTag(null, name.getLocalName());
 
             } else {
-                String prefix = this.namespaceManager.getPrefix(name.getUri(), true);
+                String prefix = this.namespaceScopes.getPrefix(name.getUri(), true);
                 if (prefix == null) {
-                    prefix = this.namespaceManager.createPrefix(name.getUri(), true);
-                    this.namespaceManager.registerPrefix(prefix, name.getUri());
+                    prefix = this.namespaceScopes.createPrefix(name.getUri(), true);
+                    this.namespaceScopes.registerPrefix(prefix, name.getUri());
                 }
 
                 this.serializer.setPrefix(prefix, name.getUri());
@@ -180,15 +179,13 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
             if (dataTypeName != null) {
                 String value = dataTypeName.getLocalName();
                 if (this.hasNamespace(dataTypeName)) {
-                    String prefix = this.namespaceManager.getPrefix(dataTypeName.getUri(), true);
+                    String prefix = this.namespaceScopes.getPrefix(dataTypeName.getUri(), true);
                     if (prefix == null) {
-                        prefix = this.namespaceManager.createPrefix(dataTypeName.getUri(), true);
-                        this.namespaceManager.registerPrefix(prefix, dataTypeName.getUri());
+                        prefix = this.namespaceScopes.createPrefix(dataTypeName.getUri(), true);
+                        this.namespaceScopes.registerPrefix(prefix, dataTypeName.getUri());
                         this.serializer.setPrefix(prefix, dataTypeName.getUri());
                     }
-                    if (prefix.length() > 0) {
-                        value = prefix + ":" + value;
-                    }
+                    value = this.namespaceScopes.getQualifiedName(prefix, dataTypeName);
                 }
                 this.writeAttribute(this.config.getDataTypeAttributeName(), value);
             }
@@ -212,10 +209,10 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
             if (!this.hasNamespace(name)) {
                 this.serializer.attribute(null, name.getLocalName(), value);
             } else {
-                String prefix = this.namespaceManager.getPrefix(name.getUri(), false);
+                String prefix = this.namespaceScopes.getPrefix(name.getUri(), false);
                 if (prefix == null) {
-                    prefix = this.namespaceManager.createPrefix(name.getUri(), false);
-                    this.namespaceManager.registerPrefix(prefix, name.getUri());
+                    prefix = this.namespaceScopes.createPrefix(name.getUri(), false);
+                    this.namespaceScopes.registerPrefix(prefix, name.getUri());
                     this.serializer.setPrefix(prefix, name.getUri());
                 }
                 this.serializer.attribute(name.getUri(), name.getLocalName(), value);
@@ -275,7 +272,7 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
         } catch (final IOException e) {
             throw new LowLevelSerializationException("Unable to finish element", e);
         }
-        this.namespaceManager = this.namespaceManager.getParent();
+        this.namespaceScopes.popScope();
         this.depth--;
     }
 
@@ -294,6 +291,9 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
      * {@inheritDoc}
      */
     public void close(final boolean closeWriter) {
+        if (this.writer == null) {
+            return;
+        }
         try {
             this.serializer.flush();
             if (closeWriter) {
@@ -301,6 +301,10 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
             }
         } catch (final Exception e) {
             throw new LowLevelSerializationException("Error while closing the serialization stream", e);
+        } finally {
+            this.writer = null;
+            this.serializer = null;
+            this.namespaceScopes = null;
         }
     }
 
@@ -322,7 +326,7 @@ public final class XmlPullBasedXmlLowLevelSerializer implements XmlLowLevelSeria
     }
 
     private boolean defaultNamespaceExists() {
-        final String registeredUri = this.namespaceManager.getUri(DEFAULT_NAMESPACE_PREFIX);
+        final String registeredUri = this.namespaceScopes.getUri(DEFAULT_NAMESPACE_PREFIX);
         return registeredUri != null && !registeredUri.equals(NO_NAMESPACE_URI);
     }
 
@@ -35,6 +35,9 @@ import org.jsefa.xml.namespace.QName;
 /**
  * Configuration object for creating a {@link XmlLowLevelSerializer} or {@link XmlLowLevelDeserializer}. It uses
  * lazy initialization.
+ * <p>
+ * The input and output factories are typed as <code>Object</code> as their types depend on the low level
+ * implementation in use.
  * 
  * @author Norman Lahme-Huetig
  * 
@@ -46,6 +49,10 @@ public final class XmlLowLevelConfiguration extends LowLevelConfiguration {
 
     private String lineIndentation;
 
+    private Object inputFactory;
+
+    private Object outputFactory;
+
     /**
      * Constructs a new <code>XmlLowLevelConfig</code>.
      */
@@ -58,6 +65,8 @@ public final class XmlLowLevelConfiguration extends LowLevelConfiguration {
         setDataTypeAttributeName(other.getDataTypeAttributeName());
         setLineBreak(other.getLineBreak());
         setLineIndentation(other.getLineIndentation());
+        setInputFactory(other.getInputFactory());
+        setOutputFactory(other.getOutputFactory());
     }
 
     /**
@@ -108,6 +117,26 @@ public final class XmlLowLevelConfiguration extends LowLevelConfiguration {
         return this.lineIndentation;
     }
 
+    /**
+     * Returns the factory used for creating the underlying XML readers or null if the default one of the low level
+     * implementation is used. For the StAX based implementation this is a <code>XMLInputFactory</code>.
+     * 
+     * @return the input factory or null
+     */
+    public Object getInputFactory() {
+        return this.inputFactory;
+    }
+
+    /**
+     * Returns the factory used for creating the underlying XML writers or null if the default one of the low level
+     * implementation is used. For the StAX based implementation this is a <code>XMLOutputFactory</code>.
+     * 
+     * @return the output factory or null
+     */
+    public Object getOutputFactory() {
+        return this.outputFactory;
+    }
+
     /**
      * Sets the namespace manager.
      * 
@@ -135,6 +164,28 @@ public final class XmlLowLevelConfiguration extends LowLevelConfiguration {
         this.lineIndentation = lineIndentation;
     }
 
+    /**
+     * Sets the factory used for creating the underlying XML readers. It is shared by all deserializers created
+     * with this configuration and its copies, so it must not be changed afterwards. For the StAX based
+     * implementation it must be a <code>XMLInputFactory</code> supporting namespaces.
+     * 
+     * @param inputFactory the input factory or null for the default one
+     */
+    public void setInputFactory(Object inputFactory) {
+        this.inputFactory = inputFactory;
+    }
+
+    /**
+     * Sets the factory used for creating the underlying XML writers. It is shared by all serializers created with
+     * this configuration and its copies, so it must not be changed afterwards. For the StAX based implementation
+     * it must be a <code>XMLOutputFactory</code>.
+     * 
+     * @param outputFactory the output factory or null for the default one
+     */
+    public void setOutputFactory(Object outputFactory) {
+        this.outputFactory = outputFactory;
+    }
+
     /**
      * Set of default configuration values.
      * 
@@ -37,6 +37,10 @@ import org.jsefa.xml.namespace.QName;
 public final class XmlComplexTypeMapping extends ComplexTypeMapping<QName, XmlNodeDescriptor, XmlNodeMapping<?>> {
     private final boolean textContentAllowed;
 
+    private final Map<QName, ElementMapping> elementMappingsByName;
+
+    private final Map<QName, AttributeMapping> attributeMappingsByName;
+
     /**
      * Constructs a new <code>XmlComplexTypeMapping</code>.
      * 
@@ -50,6 +54,37 @@ public final class XmlComplexTypeMapping extends ComplexTypeMapping<QName, XmlNo
             Collection<XmlNodeMapping<?>> nodeMappings, Validator validator) {
         super(objectType, dataTypeName, nodeMappings, objectAccessor, validator);
         this.textContentAllowed = !getFieldNames(XmlNodeType.TEXT_CONTENT).isEmpty();
+        Map<XmlNodeDescriptor, XmlNodeMapping<?>> nodeMappingsByNodeDescriptor
+            = createNodeMappingsByNodeDescriptorMap(getNodeMappings());
+        this.elementMappingsByName = XmlTypeMappingUtil.createElementMappingsByNameMap(nodeMappingsByNodeDescriptor);
+        this.attributeMappingsByName = XmlTypeMappingUtil
+                .createAttributeMappingsByNameMap(nodeMappingsByNodeDescriptor);
+    }
+
+    /**
+     * Returns the element mapping for the element with the given name and data type name. This is the same as
+     * {@link #getNodeMapping(org.jsefa.common.mapping.NodeDescriptor)} with an <code>ElementDescriptor</code> but
+     * creates no descriptor if the data type name is null.
+     * 
+     * @param name the element name
+     * @param dataTypeName the data type name or null
+     * @return the element mapping or null if none exists
+     */
+    public ElementMapping getElementMapping(QName name, QName dataTypeName) {
+        if (dataTypeName == null) {
+            return this.elementMappingsByName.get(name);
+        }
+        return getNodeMapping(new ElementDescriptor(name, dataTypeName));
+    }
+
+    /**
+     * Returns the attribute mapping for the attribute with the given name.
+     * 
+     * @param name the attribute name
+     * @return the attribute mapping or null if none exists
+     */
+    public AttributeMapping getAttributeMapping(QName name) {
+        return this.attributeMappingsByName.get(name);
     }
 
     /**
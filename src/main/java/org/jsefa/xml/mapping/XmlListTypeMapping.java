@@ -37,6 +37,8 @@ public final class XmlListTypeMapping extends ListTypeMapping<QName, ElementDesc
 
     private final boolean implicit;
 
+    private final Map<QName, ElementMapping> elementMappingsByName;
+
     /**
      * Constructs a new <code>XmlListTypeMapping</code>.
      * 
@@ -49,6 +51,23 @@ public final class XmlListTypeMapping extends ListTypeMapping<QName, ElementDesc
             ObjectAccessor objectAccessor) {
         super(Collection.class, dataTypeName, elementMappings, objectAccessor);
         this.implicit = implicit;
+        this.elementMappingsByName = XmlTypeMappingUtil
+                .createElementMappingsByNameMap(createNodeMappingsByNodeDescriptorMap(elementMappings));
+    }
+
+    /**
+     * Returns the list item mapping for the element with the given name and data type name. This is the same as
+     * {@link #getNodeMapping(ElementDescriptor)} but creates no descriptor if the data type name is null.
+     * 
+     * @param name the element name
+     * @param dataTypeName the data type name or null
+     * @return the element mapping or null if none exists
+     */
+    public ElementMapping getElementMapping(QName name, QName dataTypeName) {
+        if (dataTypeName == null) {
+            return this.elementMappingsByName.get(name);
+        }
+        return getNodeMapping(new ElementDescriptor(name, dataTypeName));
     }
 
     /**
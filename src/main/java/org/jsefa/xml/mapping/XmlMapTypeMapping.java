@@ -37,6 +37,8 @@ public final class XmlMapTypeMapping extends MapTypeMapping<QName, AttributeMapp
 
     private final boolean implicit;
 
+    private final Map<QName, ElementMapping> elementMappingsByName;
+
     /**
      * Constructs a new <code>XmlMapTypeMapping</code>.
      * 
@@ -50,6 +52,23 @@ public final class XmlMapTypeMapping extends MapTypeMapping<QName, AttributeMapp
             Collection<ElementMapping> valueMappings, ObjectAccessor objectAccessor) {
         super(Collection.class, dataTypeName, keyMapping, valueMappings, objectAccessor);
         this.implicit = implicit;
+        this.elementMappingsByName = XmlTypeMappingUtil
+                .createElementMappingsByNameMap(createValueNodeMappingsByNodeDescriptorMap(valueMappings));
+    }
+
+    /**
+     * Returns the value mapping for the element with the given name and data type name. This is the same as
+     * {@link #getValueNodeMapping(ElementDescriptor)} but creates no descriptor if the data type name is null.
+     * 
+     * @param name the element name
+     * @param dataTypeName the data type name or null
+     * @return the element mapping or null if none exists
+     */
+    public ElementMapping getValueElementMapping(QName name, QName dataTypeName) {
+        if (dataTypeName == null) {
+            return this.elementMappingsByName.get(name);
+        }
+        return getValueNodeMapping(new ElementDescriptor(name, dataTypeName));
     }
 
     /**
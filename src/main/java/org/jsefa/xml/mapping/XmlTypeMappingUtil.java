@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.jsefa.IOFactoryException;
+import org.jsefa.xml.namespace.QName;
 
 /**
  * Utility class providing methods used in different type mapping contexts.
@@ -68,6 +69,46 @@ public final class XmlTypeMappingUtil {
         return result;
     }
 
+    /**
+     * Creates a map of those element mappings of the given map whose element descriptor has no data type name.
+     * The element names are the keys, so that an element mapping can be found without creating a descriptor.
+     * 
+     * @param nodeMappingsByNodeDescriptor a map of node mappings with node descriptors as keys
+     * @return a map of element mappings with element names as keys
+     */
+    public static Map<QName, ElementMapping> createElementMappingsByNameMap(
+            Map<? extends XmlNodeDescriptor, ? extends XmlNodeMapping<?>> nodeMappingsByNodeDescriptor) {
+        Map<QName, ElementMapping> result = new HashMap<QName, ElementMapping>();
+        for (Map.Entry<? extends XmlNodeDescriptor, ? extends XmlNodeMapping<?>> entry : nodeMappingsByNodeDescriptor
+                .entrySet()) {
+            if (entry.getKey() instanceof ElementDescriptor) {
+                ElementDescriptor elementDescriptor = (ElementDescriptor) entry.getKey();
+                if (elementDescriptor.getDataTypeName() == null) {
+                    result.put(elementDescriptor.getName(), (ElementMapping) entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a map of the attribute mappings of the given map with the attribute names as keys.
+     * 
+     * @param nodeMappingsByNodeDescriptor a map of node mappings with node descriptors as keys
+     * @return a map of attribute mappings with attribute names as keys
+     */
+    public static Map<QName, AttributeMapping> createAttributeMappingsByNameMap(
+            Map<? extends XmlNodeDescriptor, ? extends XmlNodeMapping<?>> nodeMappingsByNodeDescriptor) {
+        Map<QName, AttributeMapping> result = new HashMap<QName, AttributeMapping>();
+        for (Map.Entry<? extends XmlNodeDescriptor, ? extends XmlNodeMapping<?>> entry : nodeMappingsByNodeDescriptor
+                .entrySet()) {
+            if (entry.getKey() instanceof AttributeDescriptor) {
+                result.put(((AttributeDescriptor) entry.getKey()).getName(), (AttributeMapping) entry.getValue());
+            }
+        }
+        return result;
+    }
+
     private XmlTypeMappingUtil() {
 
     }
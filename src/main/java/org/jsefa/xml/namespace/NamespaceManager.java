@@ -264,6 +264,16 @@ public final class NamespaceManager {
         return uri;
     }
 
+    /**
+     * Returns the preferred prefix registered for the given URI.
+     * 
+     * @param uri the uri
+     * @return the preferred prefix or null if none is registered
+     */
+    String getPreferredPrefix(String uri) {
+        return this.preferredPrefixes.get(uri);
+    }
+
     private void createOwnRegistries() {
         this.prefixes = new HashMap<String, String>();
         this.uris = new HashMap<String, String>();
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.xml.namespace;
+
+import static org.jsefa.xml.namespace.NamespaceConstants.DEFAULT_NAMESPACE_PREFIX;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A <code>NamespaceScopeStack</code> keeps track of the prefixes bound during serialization. It is the flat
+ * counterpart of a chain of {@link NamespaceManager}s created with {@link NamespaceManager#createWithParent}: the
+ * bindings of all open scopes are kept in arrays which grow and shrink in place when a scope is pushed or popped,
+ * so that no objects are created per element.
+ * <p>
+ * Requests which can not be answered by the bindings of the open scopes are delegated to the root namespace
+ * manager, which is also used for the preferred prefixes.
+ * <p>
+ * The results of {@link #getPrefix} are cached until the bindings change. As the bindings of a document are
+ * normally declared at its root element, the cache stays valid for nearly the whole document.
+ * <p>
+ * Note: Instances of this class are intentionally not thread-safe.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public final class NamespaceScopeStack {
+    private static final int CACHE_SIZE = 8;
+
+    private final NamespaceManager rootManager;
+
+    private String[] prefixes = new String[8];
+
+    private String[] uris = new String[8];
+
+    private int bindingCount;
+
+    private int[] scopeStarts = new int[16];
+
+    private int scopeCount;
+
+    private final String[] cachedUris = new String[CACHE_SIZE];
+
+    private final boolean[] cachedDefaultAllowed = new boolean[CACHE_SIZE];
+
+    private final String[] cachedPrefixes = new String[CACHE_SIZE];
+
+    private int cacheCount;
+
+    private final Map<QName, String[]> qualifiedNames = new HashMap<QName, String[]>();
+
+    /**
+     * Creates a new <code>NamespaceScopeStack</code> without any open scope.
+     * 
+     * @param rootManager the root namespace manager to delegate to
+     * @return a <code>NamespaceScopeStack</code>
+     */
+    public static NamespaceScopeStack create(NamespaceManager rootManager) {
+        return new NamespaceScopeStack(rootManager);
+    }
+
+    private NamespaceScopeStack(NamespaceManager rootManager) {
+        this.rootManager = rootManager;
+    }
+
+    /**
+     * Opens a new scope. Subsequent registrations belong to this scope until it is closed.
+     */
+    public void pushScope() {
+        if (this.scopeCount == this.scopeStarts.length) {
+            int[] newScopeStarts = new int[this.scopeStarts.length * 2];
+            System.arraycopy(this.scopeStarts, 0, newScopeStarts, 0, this.scopeCount);
+            this.scopeStarts = newScopeStarts;
+        }
+        this.scopeStarts[this.scopeCount++] = this.bindingCount;
+    }
+
+    /**
+     * Closes the current scope and removes all of its bindings.
+     */
+    public void popScope() {
+        int scopeStart = this.scopeStarts[--this.scopeCount];
+        if (scopeStart != this.bindingCount) {
+            for (int i = scopeStart; i < this.bindingCount; i++) {
+                this.prefixes[i] = null;
+                this.uris[i] = null;
+            }
+            this.bindingCount = scopeStart;
+            this.cacheCount = 0;
+        }
+    }
+
+    /**
+     * Registers the given prefix for the given namespace uri within the current scope.
+     * 
+     * @param prefix the prefix
+     * @param uri the uri
+     * @throws NullPointerException if one of the arguments is null
+     * @throws NamespaceRegistrationException if the prefix is already bound to another uri within the current
+     *                 scope
+     */
+    public void registerPrefix(String prefix, String uri) {
+        if (prefix == null || uri == null) {
+            throw new NullPointerException("The parameters prefix and uri must not be null");
+        }
+        for (int i = getScopeStart(this.scopeCount); i < this.bindingCount; i++) {
+            if (prefix.equals(this.prefixes[i])) {
+                if (uri.equals(this.uris[i])) {
+                    return;
+                }
+                throw new NamespaceRegistrationException("The prefix " + prefix + " is already bound to the uri "
+                        + this.uris[i] + " and can not be bound to " + uri);
+            }
+        }
+        if (this.bindingCount == this.prefixes.length) {
+            String[] newPrefixes = new String[this.prefixes.length * 2];
+            String[] newUris = new String[this.uris.length * 2];
+            System.arraycopy(this.prefixes, 0, newPrefixes, 0, this.bindingCount);
+            System.arraycopy(this.uris, 0, newUris, 0, this.bindingCount);
+            this.prefixes = newPrefixes;
+            this.uris = newUris;
+        }
+        this.prefixes[this.bindingCount] = prefix;
+        this.uris[this.bindingCount] = uri;
+        this.bindingCount++;
+        this.cacheCount = 0;
+    }
+
+    /**
+     * Returns the prefix which is bound to the given namespace uri at the current point. A prefix bound within an
+     * outer scope is not returned if it is bound to another uri within an inner scope.
+     * 
+     * @param uri the namespace uri
+     * @param defaultAllowed true, if the prefix may be the default one.
+     * @return the prefix or null if none is bound to the given uri.
+     */
+    public String getPrefix(String uri, boolean defaultAllowed) {
+        for (int i = 0; i < this.cacheCount; i++) {
+            if (this.cachedDefaultAllowed[i] == defaultAllowed && uri.equals(this.cachedUris[i])) {
+                return this.cachedPrefixes[i];
+            }
+        }
+        String prefix = resolvePrefix(uri, defaultAllowed);
+        if (this.cacheCount < CACHE_SIZE) {
+            this.cachedUris[this.cacheCount] = uri;
+            this.cachedDefaultAllowed[this.cacheCount] = defaultAllowed;
+            this.cachedPrefixes[this.cacheCount] = prefix;
+            this.cacheCount++;
+        }
+        return prefix;
+    }
+
+    /**
+     * Creates a new prefix for the given URI. A preferred prefix is returned if it exists for the given URI and if
+     * the prefix is not already bound to another URI.
+     * 
+     * @param uri the uri to get a prefix for (not null)
+     * @param defaultAllowed true, if the prefix may be the default one.
+     * @return the prefix
+     */
+    public String createPrefix(String uri, boolean defaultAllowed) {
+        if (uri == null) {
+            throw new NullPointerException("The parameter uri must not be null");
+        }
+        String prefix = this.rootManager.getPreferredPrefix(uri);
+        if (prefix != null && getUri(prefix) != null) {
+            prefix = null;
+        }
+        if (prefix == null) {
+            prefix = DEFAULT_NAMESPACE_PREFIX;
+            if (!defaultAllowed || getUri(prefix) != null) {
+                int no = 1;
+                do {
+                    prefix = "ns" + no++;
+                } while (getUri(prefix) != null);
+            }
+        }
+        return prefix;
+    }
+
+    /**
+     * Returns the namespace uri the given prefix is bound to at the current point.
+     * 
+     * @param prefix the prefix
+     * @return the uri or null if none is bound to the given prefix
+     */
+    public String getUri(String prefix) {
+        for (int i = this.bindingCount - 1; i >= 0; i--) {
+            if (prefix.equals(this.prefixes[i])) {
+                return this.uris[i];
+            }
+        }
+        return this.rootManager.getUri(prefix);
+    }
+
+    /**
+     * Returns the qualified name <code>prefix:localName</code> of the given name. The result is cached per name
+     * and prefix.
+     * 
+     * @param prefix the prefix to use
+     * @param name the name
+     * @return the local name if the prefix is the default one; the qualified name otherwise
+     */
+    public String getQualifiedName(String prefix, QName name) {
+        if (prefix.length() == 0) {
+            return name.getLocalName();
+        }
+        String[] entry = this.qualifiedNames.get(name);
+        if (entry == null || !prefix.equals(entry[0])) {
+            entry = new String[] {prefix, prefix + ":" + name.getLocalName()};
+            this.qualifiedNames.put(name, entry);
+        }
+        return entry[1];
+    }
+
+    private String resolvePrefix(String uri, boolean defaultAllowed) {
+        int scopeEnd = this.bindingCount;
+        for (int scope = this.scopeCount; scope >= 0; scope--) {
+            int scopeStart = getScopeStart(scope);
+            String prefix = null;
+            for (int i = scopeStart; i < scopeEnd; i++) {
+                if (uri.equals(this.uris[i])) {
+                    if (this.prefixes[i].length() > 0) {
+                        if (prefix == null) {
+                            prefix = this.prefixes[i];
+                        }
+                    } else if (defaultAllowed) {
+                        prefix = this.prefixes[i];
+                        break;
+                    }
+                }
+            }
+            if (prefix != null) {
+                return isShadowed(prefix, scopeEnd) ? null : prefix;
+            }
+            scopeEnd = scopeStart;
+        }
+        String prefix = this.rootManager.getPrefix(uri, defaultAllowed);
+        if (prefix != null && isShadowed(prefix, 0)) {
+            return null;
+        }
+        return prefix;
+    }
+
+    private boolean isShadowed(String prefix, int fromIndex) {
+        for (int i = fromIndex; i < this.bindingCount; i++) {
+            if (prefix.equals(this.prefixes[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int getScopeStart(int scope) {
+        if (scope == 0) {
+            return 0;
+        }
+        return this.scopeStarts[scope - 1];
+    }
+
+}
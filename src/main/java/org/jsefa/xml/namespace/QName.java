@@ -65,7 +65,11 @@ public final class QName {
         }
         this.uri = uri;
         this.localName = localName;
-        this.hashCode = 37 * (17 + this.uri.hashCode()) + this.localName.hashCode();
+        this.hashCode = hashCode(uri, localName);
+    }
+
+    static int hashCode(String uri, String localName) {
+        return 37 * (17 + uri.hashCode()) + localName.hashCode();
     }
 
     /**
@@ -91,6 +95,9 @@ public final class QName {
      */
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (obj == null || !(obj instanceof QName)) {
             return false;
         }
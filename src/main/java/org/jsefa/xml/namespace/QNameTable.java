@@ -0,0 +1,96 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.xml.namespace;
+
+import java.util.Collection;
+
+/**
+ * A symbol table of qualified names. It returns the same <code>QName</code> instance for each name it contains,
+ * so that names read by a parser can be resolved without creating new objects. Names not contained are created
+ * on each request.
+ * <p>
+ * The lookup compares the namespace uri and the local name without creating a key object.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public final class QNameTable {
+
+    /**
+     * A table containing no names.
+     */
+    public static final QNameTable EMPTY = new QNameTable(new QName[1]);
+
+    private final QName[] names;
+
+    private final int mask;
+
+    /**
+     * Creates a new <code>QNameTable</code> containing the given names.
+     * 
+     * @param names the names
+     * @return a table
+     */
+    public static QNameTable create(Collection<QName> names) {
+        int capacity = 2;
+        while (capacity < names.size() * 2) {
+            capacity *= 2;
+        }
+        QName[] table = new QName[capacity];
+        for (QName name : names) {
+            if (name != null) {
+                int index = name.hashCode() & (capacity - 1);
+                while (table[index] != null && !table[index].equals(name)) {
+                    index = (index + 1) & (capacity - 1);
+                }
+                if (table[index] == null) {
+                    table[index] = name;
+                }
+            }
+        }
+        return new QNameTable(table);
+    }
+
+    private QNameTable(QName[] names) {
+        this.names = names;
+        this.mask = names.length - 1;
+    }
+
+    /**
+     * Returns the qualified name with the given namespace uri and local name. This is the instance contained in
+     * this table if any; otherwise a new one.
+     * 
+     * @param uri the namespace uri (not null)
+     * @param localName the local name
+     * @return the name
+     */
+    public QName get(String uri, String localName) {
+        int index = QName.hashCode(uri, localName) & this.mask;
+        QName name = this.names[index];
+        while (name != null) {
+            if (name.getLocalName().equals(localName) && name.getUri().equals(uri)) {
+                return name;
+            }
+            index = (index + 1) & this.mask;
+            name = this.names[index];
+        }
+        return QName.create(uri, localName);
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.FLR;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.converter.AppendingConverter;
+import org.jsefa.common.converter.BigDecimalConverter;
+import org.jsefa.common.converter.BigIntegerConverter;
+import org.jsefa.common.converter.ByteConverter;
+import org.jsefa.common.converter.DateConverter;
+import org.jsefa.common.converter.DoubleConverter;
+import org.jsefa.common.converter.FloatConverter;
+import org.jsefa.common.converter.IntegerConverter;
+import org.jsefa.common.converter.LongConverter;
+import org.jsefa.common.converter.PrimitiveArrayConverter;
+import org.jsefa.common.converter.ShortConverter;
+import org.jsefa.common.converter.SimpleListConverter;
+import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
+import org.jsefa.common.converter.XmlDateTimeConverter;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.test.common.JSefaTestUtil.FormatType;
+
+/**
+ * Tests to test that {@link AppendingConverter}s append the same characters as returned by
+ * <code>toString</code> and that the serializers write them correctly.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class AppendingConverterTest extends TestCase {
+
+    /**
+     * Tests the converters for numbers.
+     */
+    public void testNumbers() {
+        Random random = new Random(4711);
+        for (int i = 0; i < 1000; i++) {
+            assertAppendsAsToString(IntegerConverter.create(), random.nextInt());
+            assertAppendsAsToString(LongConverter.create(), random.nextLong());
+            assertAppendsAsToString(ShortConverter.create(), (short) random.nextInt());
+            assertAppendsAsToString(ByteConverter.create(), (byte) random.nextInt());
+            assertAppendsAsToString(DoubleConverter.create(), random.nextGaussian() * Math.pow(10, i % 40 - 20));
+            assertAppendsAsToString(FloatConverter.create(), random.nextFloat() * (i - 500));
+            assertAppendsAsToString(BigIntegerConverter.create(), new BigInteger(i % 100 + 1, random));
+            assertAppendsAsToString(BigIntegerConverter.create(), new BigInteger(i % 100 + 1, random).negate());
+        }
+        assertAppendsAsToString(LongConverter.create(), Long.MIN_VALUE);
+        assertAppendsAsToString(DoubleConverter.create(), Double.NaN);
+        assertAppendsAsToString(BigIntegerConverter.create(), BigInteger.valueOf(Long.MIN_VALUE));
+    }
+
+    /**
+     * Tests the converter for <code>BigDecimal</code> with plain and other patterns.
+     */
+    public void testBigDecimal() {
+        Random random = new Random(4711);
+        for (String pattern : new String[]{"#0.00", "#0.####", "000.0", "#,##0.00"}) {
+            BigDecimalConverter converter = BigDecimalConverter.create(SimpleTypeConverterConfiguration.create(
+                    BigDecimal.class, new String[]{"de", pattern}));
+            DecimalFormat decimalFormat = new DecimalFormat(pattern, new DecimalFormatSymbols(new Locale("de")));
+            for (int i = 0; i < 1000; i++) {
+                BigDecimal value = new BigDecimal(new BigInteger(i % 90 + 1, random), i % 12 - 3);
+                if (i % 2 == 0) {
+                    value = value.negate();
+                }
+                assertAppendsAsToString(converter, value);
+                assertEquals(decimalFormat.format(value), converter.toString(value));
+            }
+            assertAppendsAsToString(converter, BigDecimal.ZERO);
+            assertAppendsAsToString(converter, new BigDecimal("-0.001"));
+        }
+    }
+
+    /**
+     * Tests the converters for dates.
+     */
+    public void testDate() {
+        String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+        DateConverter converter = DateConverter.create(SimpleTypeConverterConfiguration.create(Date.class,
+                new String[]{pattern}));
+        XmlDateTimeConverter xmlConverter = XmlDateTimeConverter.create(SimpleTypeConverterConfiguration.EMPTY);
+        SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
+        Random random = new Random(4711);
+        for (int i = 0; i < 1000; i++) {
+            Date value = new Date((random.nextLong() % 300000000000000L));
+            assertAppendsAsToString(converter, value);
+            assertEquals(dateFormat.format(value), converter.toString(value));
+            assertAppendsAsToString(xmlConverter, value);
+        }
+    }
+
+    /**
+     * Tests the converters for lists and arrays.
+     */
+    public void testLists() {
+        PrimitiveArrayConverter arrayConverter = PrimitiveArrayConverter.create(SimpleTypeConverterConfiguration
+                .create(long[].class, new String[]{"; "}));
+        assertAppendsAsToString(arrayConverter, new long[]{1, -2, Long.MAX_VALUE});
+        assertAppendsAsToString(arrayConverter, new long[0]);
+        SimpleListConverter listConverter = SimpleListConverter.create(SimpleTypeConverterConfiguration.create(
+                List.class, new String[]{"|"}, BigDecimalConverter.create(SimpleTypeConverterConfiguration
+                        .create(BigDecimal.class, null))));
+        assertAppendsAsToString(listConverter, Arrays.asList(new BigDecimal("1.5"), new BigDecimal("-22")));
+    }
+
+    /**
+     * Tests the round trip (CSV).
+     */
+    public void testCSV() {
+        check(CSV);
+    }
+
+    /**
+     * Tests the round trip (FLR).
+     */
+    public void testFLR() {
+        check(FLR);
+    }
+
+    private void check(FormatType formatType) {
+        Random random = new Random(4711);
+        ValueDTO[] dtos = new ValueDTO[100];
+        for (int i = 0; i < dtos.length; i++) {
+            dtos[i] = new ValueDTO();
+            dtos[i].intField = random.nextInt(100000) - 50000;
+            dtos[i].longField = (long) random.nextInt();
+            dtos[i].bigDecimalField = BigDecimal.valueOf(random.nextInt(10000000), 2).negate();
+            dtos[i].dateField = new Date(random.nextInt(100000) * 86400000L);
+            dtos[i].stringField = "a;b\"c" + i;
+        }
+        dtos[0].longField = null;
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(formatType, dtos);
+    }
+
+    private void assertAppendsAsToString(AppendingConverter converter, Object value) {
+        StringBuilder target = new StringBuilder("prefix");
+        converter.appendTo(value, target);
+        assertEquals("prefix" + converter.toString(value), target.toString());
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    static final class ValueDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 6)
+        int intField;
+
+        @CsvField(pos = 2)
+        @FlrField(pos = 2, length = 11)
+        Long longField;
+
+        @CsvField(pos = 3)
+        @FlrField(pos = 3, length = 10)
+        BigDecimal bigDecimalField;
+
+        @CsvField(pos = 4, format = "dd.MM.yyyy")
+        @FlrField(pos = 4, length = 10, format = "dd.MM.yyyy")
+        Date dateField;
+
+        @CsvField(pos = 5)
+        @FlrField(pos = 5, length = 12)
+        String stringField;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.FLR;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.jsefa.DeserializationException;
+import org.jsefa.Deserializer;
+import org.jsefa.common.config.Configuration;
+import org.jsefa.common.config.ValidationMode;
+import org.jsefa.common.validator.BatchValidator;
+import org.jsefa.common.validator.StringValidator;
+import org.jsefa.common.validator.ValidationException;
+import org.jsefa.common.validator.ValidationResult;
+import org.jsefa.common.validator.Validator;
+import org.jsefa.common.validator.ValidatorConfiguration;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.test.common.JSefaTestUtil.FormatType;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test the validation of deserialized values in parallel batches.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class BatchValidationTest extends TestCase {
+
+    private static final int RECORD_COUNT = 50;
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() {
+        this.executor = Executors.newFixedThreadPool(4);
+    }
+
+    @Override
+    protected void tearDown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Tests that the results are returned in the order of the values.
+     */
+    public void testBatchValidator() {
+        StringValidator validator = createPatternValidator();
+        List<String> values = new ArrayList<String>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            values.add(i % 3 == 0 ? "not valid " + i : "valid" + i);
+        }
+        List<ValidationResult> results = BatchValidator.create(this.executor, 4).validate(values, validator);
+        assertEquals(RECORD_COUNT, results.size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            assertEquals(i % 3 != 0, results.get(i).isValid());
+        }
+        List<Validator> validators = Arrays.asList(null, validator);
+        results = BatchValidator.create(this.executor, 1).validate(Arrays.asList("not valid", "not valid"),
+                validators);
+        assertTrue(results.get(0).isValid());
+        assertFalse(results.get(1).isValid());
+    }
+
+    /**
+     * Tests that an exception thrown by a validator is rethrown.
+     */
+    public void testBatchValidatorFailure() {
+        Validator failingValidator = new Validator() {
+            public ValidationResult validate(Object value) {
+                throw new IllegalStateException(value.toString());
+            }
+        };
+        try {
+            BatchValidator.create(this.executor, 2).validate(Arrays.asList("a", "b", "c", "d", "e"),
+                    failingValidator);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("a", e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that the calling thread runs the tasks an executor without free workers does not start.
+     */
+    public void testSaturatedExecutor() {
+        final List<Runnable> queuedTasks = new ArrayList<Runnable>();
+        Executor saturatedExecutor = new Executor() {
+            public void execute(Runnable command) {
+                queuedTasks.add(command);
+            }
+        };
+        List<ValidationResult> results = BatchValidator.create(saturatedExecutor, 1).validate(
+                Arrays.asList("valid", "not valid", "valid"), createPatternValidator());
+        assertTrue(results.get(0).isValid());
+        assertFalse(results.get(1).isValid());
+        assertTrue(results.get(2).isValid());
+        assertEquals(2, queuedTasks.size());
+        for (Runnable task : queuedTasks) {
+            task.run();
+        }
+    }
+
+    /**
+     * Tests that a validation started by the only worker of an executor does not wait for itself.
+     * 
+     * @throws Exception if the validation fails or does not finish in time
+     */
+    public void testNestedValidation() throws Exception {
+        final ExecutorService singleExecutor = Executors.newFixedThreadPool(1);
+        try {
+            Future<List<ValidationResult>> future = singleExecutor.submit(new Callable<List<ValidationResult>>() {
+                public List<ValidationResult> call() {
+                    return BatchValidator.create(singleExecutor, 1).validate(Arrays.asList("a", "b", "c", "d"),
+                            createPatternValidator());
+                }
+            });
+            assertEquals(4, future.get(10, TimeUnit.SECONDS).size());
+        } finally {
+            singleExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests the deserialization with batch validation (CSV).
+     */
+    public void testCSV() {
+        check(CSV);
+    }
+
+    /**
+     * Tests the deserialization with batch validation (FLR).
+     */
+    public void testFLR() {
+        check(FLR);
+    }
+
+    /**
+     * Tests the deserialization with batch validation (XML).
+     */
+    public void testXML() {
+        check(XML);
+    }
+
+    private StringValidator createPatternValidator() {
+        Map<String, String> constraints = new HashMap<String, String>();
+        constraints.put("pattern", "\\w*");
+        return StringValidator.create(ValidatorConfiguration.create(String.class, constraints));
+    }
+
+    private void check(FormatType formatType) {
+        Configuration<?, ?> serializationConfig = JSefaTestUtil.createConfiguration(formatType);
+        serializationConfig.setValidationMode(ValidationMode.NONE);
+        List<RecordDTO> dtos = new ArrayList<RecordDTO>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            RecordDTO dto = new RecordDTO();
+            dto.stringField = i % 7 == 0 ? "not valid" : "valid" + i;
+            dtos.add(dto);
+        }
+        String input = JSefaTestUtil.serialize(formatType, serializationConfig, dtos.toArray());
+
+        Configuration<?, ?> config = JSefaTestUtil.createConfiguration(formatType);
+        config.setValidationExecutor(this.executor);
+        config.setValidationBatchSize(8);
+        config.setValidationTaskSize(3);
+        Deserializer deserializer = JSefaTestUtil.createIOFactory(formatType, config, RecordDTO.class)
+                .createDeserializer();
+        deserializer.open(new StringReader(input));
+        int index = 0;
+        while (deserializer.hasNext()) {
+            try {
+                RecordDTO dto = deserializer.next();
+                assertTrue(index % 7 != 0);
+                assertEquals(dtos.get(index), dto);
+            } catch (DeserializationException e) {
+                assertTrue(index % 7 == 0);
+                assertTrue(e.getCause() instanceof ValidationException);
+                assertNotNull(e.getInputPosition());
+            }
+            index++;
+        }
+        deserializer.close(true);
+        assertEquals(RECORD_COUNT, index);
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class RecordDTO extends AbstractTestDTO {
+        @CsvField(pos = 0, constraints = "pattern=\\w*")
+        @FlrField(pos = 0, length = 10, constraints = "pattern=\\w*")
+        @XmlElement(constraints = "pattern=\\w*")
+        String stringField;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.converter.BigDecimalConverter;
+import org.jsefa.common.converter.ConversionException;
+import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
+
+/**
+ * Tests to test that the <code>BigDecimalConverter</code> yields the same results as <code>DecimalFormat</code>
+ * for plain and other patterns.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class BigDecimalConverterTest extends TestCase {
+
+    private static final String[][] FORMATS = { {"en", "#0.00"}, {"en", "#0.####"}, {"de", "#0.00"},
+            {"en", "#.00"}, {"en", "00.0"}, {"en", "#0"}, {"en", "#,##0.00"}, {"en", "0.00E0"}};
+
+    private static final String[] VALUES = {"0", "0.00", "-0.001", "0.005", "0.015", "1.005", "-2.5", "1E+3",
+            "123456789012345678901234567890.123456789", "-0.0000001", "99.995", "7", "-7.1", "0E+3",
+            "0E+20"};
+
+    private static final String[] INPUTS = {"1.50", "1.5", "001.500", "-0.00", "0", ".5", "5.", "-", ".", "",
+            "1E3", "1,000.5", "1.5x", "+1.5", "1.23456789", "1234567890123456789.5", "1,5", "-1,5"};
+
+    /**
+     * Tests formatting of special and random values.
+     */
+    public void testFormat() {
+        Random random = new Random(4711);
+        for (String[] format : FORMATS) {
+            BigDecimalConverter converter = createConverter(format);
+            DecimalFormat decimalFormat = createDecimalFormat(format);
+            for (String value : VALUES) {
+                assertEquals(decimalFormat.format(new BigDecimal(value)), converter.toString(new BigDecimal(value)));
+            }
+            for (int i = 0; i < 1000; i++) {
+                BigDecimal value = new BigDecimal(BigInteger.valueOf(random.nextLong()), random.nextInt(12) - 2);
+                assertEquals(decimalFormat.format(value), converter.toString(value));
+            }
+        }
+    }
+
+    /**
+     * Tests that a zero with a negative scale is not padded with trailing integer zeros.
+     */
+    public void testFormatZeroWithNegativeScale() {
+        BigDecimal zero = new BigDecimal(BigInteger.ZERO, -3);
+        assertEquals("0", createConverter(new String[] {"en", "#0"}).toString(zero));
+        assertEquals("0.00", createConverter(new String[] {"en", "#0.00"}).toString(zero));
+        assertEquals(".00", createConverter(new String[] {"en", "#.00"}).toString(zero));
+    }
+
+    /**
+     * Tests parsing of special inputs.
+     */
+    public void testParse() {
+        for (String[] format : FORMATS) {
+            BigDecimalConverter converter = createConverter(format);
+            DecimalFormat decimalFormat = createDecimalFormat(format);
+            for (String input : INPUTS) {
+                Object expected;
+                try {
+                    expected = decimalFormat.parseObject(input);
+                } catch (Exception e) {
+                    expected = null;
+                }
+                try {
+                    BigDecimal result = converter.fromString(input);
+                    if (input.length() > 0) {
+                        assertEquals(expected, result);
+                    }
+                } catch (ConversionException e) {
+                    assertNull(expected);
+                }
+            }
+        }
+    }
+
+    private BigDecimalConverter createConverter(String[] format) {
+        return BigDecimalConverter.create(SimpleTypeConverterConfiguration.create(BigDecimal.class, format));
+    }
+
+    private DecimalFormat createDecimalFormat(String[] format) {
+        DecimalFormat decimalFormat = new DecimalFormat(format[1], new DecimalFormatSymbols(new Locale(format[0])));
+        decimalFormat.setParseBigDecimal(true);
+        return decimalFormat;
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.FLR;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.annotation.AnnotationException;
+import org.jsefa.common.converter.CachingConverter;
+import org.jsefa.common.converter.ConversionException;
+import org.jsefa.common.converter.DateConverter;
+import org.jsefa.common.converter.IntegerConverter;
+import org.jsefa.common.converter.SimpleTypeConverter;
+import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
+import org.jsefa.common.converter.StringConverter;
+import org.jsefa.common.mapping.SimpleTypeMapping;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.csv.annotation.CsvTypeMappingFactory;
+import org.jsefa.csv.config.CsvConfiguration;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test the {@link CachingConverter}.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class CachingConverterTest extends TestCase {
+
+    /**
+     * Tests that repeated values are answered from the cache.
+     */
+    public void testHitRatio() {
+        CachingConverter converter = CachingConverter.create(IntegerConverter.create(), Integer.class, 16);
+        assertEquals(0.0, converter.getHitRatio());
+        assertEquals(Integer.valueOf(7), converter.fromString("7"));
+        assertEquals(Integer.valueOf(7), converter.fromString("7"));
+        assertEquals(Integer.valueOf(7), converter.fromChars("x7x", 1, 2));
+        assertEquals(Integer.valueOf(8), converter.fromChars("x8x", 1, 2));
+        assertEquals(2, converter.getHitCount());
+        assertEquals(2, converter.getMissCount());
+        assertEquals(0.5, converter.getHitRatio());
+        assertEquals("7", converter.toString(7));
+    }
+
+    /**
+     * Tests that the counts of all threads using the converter are summed up.
+     * 
+     * @throws InterruptedException if interrupted
+     */
+    public void testConcurrentCounts() throws InterruptedException {
+        final CachingConverter converter = CachingConverter.create(IntegerConverter.create(), Integer.class, 16);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        converter.fromString(String.valueOf(j % 10));
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4000, converter.getHitCount() + converter.getMissCount());
+        assertTrue(converter.getHitCount() >= 4000 - 4 * 10);
+    }
+
+    /**
+     * Tests that colliding keys replace each other without returning wrong values.
+     */
+    public void testCollisions() {
+        CachingConverter converter = CachingConverter.create(StringConverter.create(), String.class, 1);
+        for (int i = 0; i < 100; i++) {
+            String value = "v" + (i % 3);
+            assertEquals(value, converter.fromString(value));
+            assertEquals(value, converter.fromChars("[" + value + "]", 1, value.length() + 1));
+        }
+    }
+
+    /**
+     * Tests that cached dates can not be modified by the caller.
+     */
+    public void testDateCopies() {
+        SimpleTypeConverter dateConverter = DateConverter.create(SimpleTypeConverterConfiguration.create(
+                Date.class, new String[]{"yyyy-MM-dd"}));
+        CachingConverter converter = CachingConverter.create(dateConverter, Date.class, 16);
+        Date first = (Date) converter.fromString("2008-01-01");
+        long time = first.getTime();
+        first.setTime(0);
+        Date second = (Date) converter.fromString("2008-01-01");
+        assertEquals(time, second.getTime());
+        assertNotSame(second, converter.fromString("2008-01-01"));
+        assertEquals(2, converter.getHitCount());
+    }
+
+    /**
+     * Tests that mutable types are rejected.
+     */
+    public void testNotCacheable() {
+        assertFalse(CachingConverter.isCacheable(StringBuilder.class));
+        try {
+            CachingConverter.create(StringConverter.create(), StringBuilder.class, 16);
+            fail();
+        } catch (ConversionException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests the per field and the global configuration.
+     */
+    public void testConfiguration() {
+        CsvConfiguration config = new CsvConfiguration();
+        createTypeMappings(config, CacheDTO.class);
+        assertTrue(getConverter(config, "currency") instanceof CachingConverter);
+        assertFalse(getConverter(config, "amount") instanceof CachingConverter);
+        assertFalse(getConverter(config, "name") instanceof CachingConverter);
+
+        config = new CsvConfiguration();
+        config.getSimpleTypeConverterProvider().setConverterCacheSize(64);
+        createTypeMappings(config, CacheDTO.class);
+        assertTrue(getConverter(config, "currency") instanceof CachingConverter);
+        assertTrue(getConverter(config, "amount") instanceof CachingConverter);
+        assertFalse(getConverter(config, "name") instanceof CachingConverter);
+    }
+
+    /**
+     * Tests that a cache size for a field with a mutable type is rejected.
+     */
+    public void testNotCacheableField() {
+        try {
+            CsvConfiguration config = new CsvConfiguration();
+            config.getSimpleTypeConverterProvider().registerConverterType(StringBuilder.class,
+                    StringConverter.class);
+            createTypeMappings(config, NotCacheableDTO.class);
+            fail();
+        } catch (AnnotationException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests the round trip with cached converters.
+     */
+    public void testRoundTrip() {
+        CacheDTO[] dtos = new CacheDTO[20];
+        for (int i = 0; i < dtos.length; i++) {
+            dtos[i] = new CacheDTO();
+            dtos[i].currency = (i % 2 == 0) ? "EUR" : "USD";
+            dtos[i].amount = new BigDecimal(i % 3).setScale(2);
+            dtos[i].name = "name" + i;
+        }
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(CSV, (Object[]) dtos);
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(FLR, (Object[]) dtos);
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(XML, (Object[]) dtos);
+    }
+
+    private void createTypeMappings(CsvConfiguration config, Class<?> objectType) {
+        new CsvTypeMappingFactory(config.getTypeMappingRegistry(), config.getSimpleTypeConverterProvider(), config
+                .getValidatorProvider(), config.getObjectAccessorProvider(), config.getDefaultQuoteMode(), config
+                .getDefaultNoValueString()).createIfAbsent(objectType);
+    }
+
+    private SimpleTypeConverter getConverter(CsvConfiguration config, String fieldName) {
+        return ((SimpleTypeMapping<?>) config.getTypeMappingRegistry().get(
+                CacheDTO.class.getName() + "." + fieldName)).getSimpleTypeConverter();
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class CacheDTO extends AbstractTestDTO {
+        @CsvField(pos = 1, cacheSize = 8)
+        @FlrField(pos = 1, length = 3, cacheSize = 8)
+        @XmlElement(cacheSize = 8)
+        String currency;
+
+        @CsvField(pos = 2)
+        @FlrField(pos = 2, length = 5)
+        @XmlElement()
+        BigDecimal amount;
+
+        @CsvField(pos = 3, cacheSize = 0)
+        @FlrField(pos = 3, length = 10, cacheSize = 0)
+        @XmlElement(cacheSize = 0)
+        String name;
+    }
+
+    @CsvDataType()
+    static final class NotCacheableDTO extends AbstractTestDTO {
+        @CsvField(pos = 1, cacheSize = 8)
+        StringBuilder value;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.converter.BigDecimalConverter;
+import org.jsefa.common.converter.DateConverter;
+import org.jsefa.common.converter.SimpleTypeConverter;
+import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
+
+/**
+ * Tests to test that converters shared by several threads convert correctly.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ */
+public class ConverterConcurrencyTest extends TestCase {
+
+    private static final int THREAD_COUNT = 4;
+
+    private static final int ITERATION_COUNT = 2000;
+
+    /**
+     * Tests the <code>DateConverter</code>.
+     *
+     * @throws Exception
+     */
+    public void testDateConverter() throws Exception {
+        final SimpleTypeConverter converter = DateConverter.create(SimpleTypeConverterConfiguration.create(
+                Date.class, new String[]{"yyyy-MM-dd HH:mm:ss"}));
+        check(converter, new ValueFactory() {
+            public Object create(int threadIndex, int iteration) {
+                return new Date((threadIndex * 1000000L + iteration) * 1000L);
+            }
+        });
+    }
+
+    /**
+     * Tests the <code>BigDecimalConverter</code>.
+     *
+     * @throws Exception
+     */
+    public void testBigDecimalConverter() throws Exception {
+        final SimpleTypeConverter converter = BigDecimalConverter.create(SimpleTypeConverterConfiguration.create(
+                BigDecimal.class, null));
+        check(converter, new ValueFactory() {
+            public Object create(int threadIndex, int iteration) {
+                return BigDecimal.valueOf(threadIndex * 1000000L + iteration, 2);
+            }
+        });
+    }
+
+    private void check(final SimpleTypeConverter converter, final ValueFactory valueFactory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                final int threadIndex = i;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() {
+                        for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+                            Object value = valueFactory.create(threadIndex, iteration);
+                            if (!value.equals(converter.fromString(converter.toString(value)))) {
+                                return Boolean.FALSE;
+                            }
+                        }
+                        return Boolean.TRUE;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get().booleanValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private interface ValueFactory {
+        Object create(int threadIndex, int iteration);
+    }
+
+}
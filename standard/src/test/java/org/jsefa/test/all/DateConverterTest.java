@@ -0,0 +1,113 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.converter.ConversionException;
+import org.jsefa.common.converter.DateConverter;
+import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
+
+/**
+ * Tests to test that the <code>DateConverter</code> yields the same results as <code>SimpleDateFormat</code> for
+ * fixed width and other formats.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class DateConverterTest extends TestCase {
+
+    private static final String[] PATTERNS = {"dd.MM.yyyy", "yyyyMMdd", "yyyy-MM-dd'T'HH:mm:ss",
+            "yyyy-MM-dd HH:mm:ss.SSS", "''yyyy''", "dd MMM yyyy", "d.M.yy"};
+
+    private TimeZone defaultTimeZone;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void setUp() {
+        this.defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void tearDown() {
+        TimeZone.setDefault(this.defaultTimeZone);
+    }
+
+    /**
+     * Tests formatting and parsing of random dates.
+     * 
+     * @throws Exception
+     */
+    public void testRandomDates() throws Exception {
+        Random random = new Random(4711);
+        for (String pattern : PATTERNS) {
+            DateConverter converter = createConverter(pattern);
+            SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
+            for (int i = 0; i < 1000; i++) {
+                Date date = new Date((long) (random.nextDouble() * 4000000000000L) - 1000000000000L);
+                String expected = dateFormat.format(date);
+                assertEquals(expected, converter.toString(date));
+                assertEquals(dateFormat.parse(expected), converter.fromString(expected));
+            }
+        }
+    }
+
+    /**
+     * Tests the lenient parsing and input not matching the fixed layout.
+     * 
+     * @throws Exception
+     */
+    public void testSpecialInput() throws Exception {
+        assertSameResult("dd.MM.yyyy", "31.02.2007");
+        assertSameResult("dd.MM.yyyy", "1.2.2007");
+        assertSameResult("dd.MM.yyyy", "01.02.2007 trailing text");
+        assertSameResult("yyyy-MM-dd'T'HH:mm:ss", "2007-03-25T02:30:00");
+        assertSameResult("yyyy-MM-dd'T'HH:mm:ss", "2007-10-28T02:30:00");
+        assertSameResult("yyyyMMdd", "00000101");
+        assertEquals("31.12.10000", createConverter("dd.MM.yyyy").toString(
+                new SimpleDateFormat("dd.MM.yyyy").parse("31.12.10000")));
+        try {
+            createConverter("dd.MM.yyyy").fromString("xx.02.2007");
+            fail();
+        } catch (ConversionException e) {
+            // expected
+        }
+        assertEquals(createConverter("yyyyMMdd").fromString("20070228"), createConverter("yyyyMMdd").fromChars(
+                "[20070228]", 1, 9));
+    }
+
+    private void assertSameResult(String pattern, String input) throws ParseException {
+        assertEquals(new SimpleDateFormat(pattern).parse(input), createConverter(pattern).fromString(input));
+    }
+
+    private DateConverter createConverter(String pattern) {
+        return DateConverter.create(SimpleTypeConverterConfiguration.create(Date.class, new String[]{pattern}));
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.converter.ConversionException;
+import org.jsefa.common.converter.EnumConstant;
+import org.jsefa.common.converter.EnumConverter;
+import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
+
+/**
+ * Tests to test the {@link EnumConverter}.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class EnumConverterTest extends TestCase {
+
+    enum Status {
+        @EnumConstant("active")
+        ACTIVE,
+        INACTIVE,
+        DELETED;
+    }
+
+    /**
+     * Tests the conversion with display names and format mappings.
+     */
+    public void testConversion() {
+        EnumConverter converter = createConverter("DELETED=gone");
+        assertEquals("active", converter.toString(Status.ACTIVE));
+        assertEquals("INACTIVE", converter.toString(Status.INACTIVE));
+        assertEquals("gone", converter.toString(Status.DELETED));
+        assertNull(converter.toString(null));
+        assertSame(Status.ACTIVE, converter.fromString("active"));
+        assertSame(Status.ACTIVE, converter.fromString("ACTIVE"));
+        assertSame(Status.INACTIVE, converter.fromString("INACTIVE"));
+        assertSame(Status.DELETED, converter.fromString("gone"));
+        assertSame(Status.DELETED, converter.fromChars("[gone]", 1, 5));
+        assertNull(converter.fromString(""));
+        assertNull(converter.fromString(null));
+    }
+
+    /**
+     * Tests that an alias takes precedence over the name of another constant.
+     */
+    public void testAliasPrecedence() {
+        EnumConverter converter = createConverter("INACTIVE=DELETED", "DELETED=INACTIVE");
+        assertSame(Status.INACTIVE, converter.fromString("DELETED"));
+        assertSame(Status.DELETED, converter.fromString("INACTIVE"));
+    }
+
+    /**
+     * Tests unknown values.
+     */
+    public void testUnknownValue() {
+        EnumConverter converter = createConverter();
+        assertNull(converter.lookup("UNKNOWN", 0, 7));
+        assertNull(converter.lookup("ACTIVEX", 0, 7));
+        try {
+            converter.fromString("UNKNOWN");
+            fail();
+        } catch (ConversionException e) {
+            assertTrue(e.getMessage().indexOf("UNKNOWN") >= 0);
+        }
+    }
+
+    private EnumConverter createConverter(String... format) {
+        return EnumConverter.create(SimpleTypeConverterConfiguration.create(Status.class, format));
+    }
+
+}
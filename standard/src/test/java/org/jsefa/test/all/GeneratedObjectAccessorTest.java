@@ -0,0 +1,163 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.FLR;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.accessor.GeneratedObjectAccessorProvider;
+import org.jsefa.common.accessor.ObjectAccessor;
+import org.jsefa.common.accessor.ReflectionBasedObjectAccessorProvider;
+import org.jsefa.common.config.Configuration;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.test.common.JSefaTestUtil.FormatType;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test that generated object accessors are used if present.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ */
+public class GeneratedObjectAccessorTest extends TestCase {
+
+    private static final AtomicInteger ACCESS_COUNT = new AtomicInteger();
+
+    /**
+     * Tests that the generated accessor is found.
+     */
+    public void testProvider() {
+        assertTrue(new GeneratedObjectAccessorProvider().get(AccessorDTO.class) instanceof AccessorDTO_JSefaAccessor);
+        assertFalse(new GeneratedObjectAccessorProvider().get(NoAccessorDTO.class)
+                instanceof AccessorDTO_JSefaAccessor);
+    }
+
+    /**
+     * Tests that the reflection based accessor is used by default.
+     */
+    public void testDefault() {
+        assertFalse(JSefaTestUtil.createConfiguration(CSV).getObjectAccessorProvider()
+                instanceof GeneratedObjectAccessorProvider);
+    }
+
+    /**
+     * Tests the round trip using the generated accessor (CSV).
+     */
+    public void testCSV() {
+        check(CSV);
+    }
+
+    /**
+     * Tests the round trip using the generated accessor (FLR).
+     */
+    public void testFLR() {
+        check(FLR);
+    }
+
+    /**
+     * Tests the round trip using the generated accessor (XML).
+     */
+    public void testXML() {
+        check(XML);
+    }
+
+    private void check(FormatType formatType) {
+        AccessorDTO dto = new AccessorDTO();
+        dto.stringField = "value";
+        dto.intField = 42;
+        int countBefore = ACCESS_COUNT.get();
+        Configuration config = JSefaTestUtil.createConfiguration(formatType);
+        config.setObjectAccessorProvider(new GeneratedObjectAccessorProvider());
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(formatType, config, dto);
+        assertTrue(ACCESS_COUNT.get() > countBefore);
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class AccessorDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 10)
+        @XmlElement()
+        String stringField;
+
+        @CsvField(pos = 2)
+        @FlrField(pos = 2, length = 5)
+        @XmlElement()
+        int intField;
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class NoAccessorDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 10)
+        @XmlElement()
+        String stringField;
+    }
+
+    /**
+     * Hand written equivalent of the accessor the annotation processor generates for {@link AccessorDTO}. Its
+     * binary name is the binary name of <code>AccessorDTO</code> plus the generated accessor suffix.
+     */
+    public static final class AccessorDTO_JSefaAccessor implements ObjectAccessor {
+        private final ObjectAccessor fallback = new ReflectionBasedObjectAccessorProvider().get(AccessorDTO.class);
+
+        public Object createObject() {
+            ACCESS_COUNT.incrementAndGet();
+            return new AccessorDTO();
+        }
+
+        public Object getValue(Object object, String fieldName) {
+            ACCESS_COUNT.incrementAndGet();
+            AccessorDTO target = (AccessorDTO) object;
+            if ("stringField".equals(fieldName)) {
+                return target.stringField;
+            }
+            if ("intField".equals(fieldName)) {
+                return target.intField;
+            }
+            return this.fallback.getValue(object, fieldName);
+        }
+
+        public void setValue(Object object, String fieldName, Object value) {
+            ACCESS_COUNT.incrementAndGet();
+            AccessorDTO target = (AccessorDTO) object;
+            if ("stringField".equals(fieldName)) {
+                target.stringField = (String) value;
+                return;
+            }
+            if ("intField".equals(fieldName)) {
+                target.intField = (Integer) value;
+                return;
+            }
+            this.fallback.setValue(object, fieldName, value);
+        }
+    }
+}
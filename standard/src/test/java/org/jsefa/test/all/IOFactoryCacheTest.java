@@ -0,0 +1,156 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.config.InitialConfiguration;
+import org.jsefa.csv.CsvIOFactory;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.flr.FlrIOFactory;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.xml.XmlIOFactory;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test the process-wide cache of factories created for annotated object types.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ */
+public class IOFactoryCacheTest extends TestCase {
+
+    /**
+     * Tests the cache of <code>CsvIOFactory</code>.
+     */
+    public void testCSV() {
+        assertSame(CsvIOFactory.createFactory(CacheDTO.class), CsvIOFactory.createFactory(CacheDTO.class));
+        assertNotSame(CsvIOFactory.createFactory(CacheDTO.class), CsvIOFactory.createFactory(OtherCacheDTO.class));
+    }
+
+    /**
+     * Tests the cache of <code>FlrIOFactory</code>.
+     */
+    public void testFLR() {
+        assertSame(FlrIOFactory.createFactory(CacheDTO.class), FlrIOFactory.createFactory(CacheDTO.class));
+        assertNotSame(FlrIOFactory.createFactory(CacheDTO.class), FlrIOFactory.createFactory(OtherCacheDTO.class));
+    }
+
+    /**
+     * Tests the cache of <code>XmlIOFactory</code>.
+     */
+    public void testXML() {
+        assertSame(XmlIOFactory.createFactory(CacheDTO.class), XmlIOFactory.createFactory(CacheDTO.class));
+        assertNotSame(XmlIOFactory.createFactory(CacheDTO.class), XmlIOFactory.createFactory(OtherCacheDTO.class));
+    }
+
+    /**
+     * Tests that a change of the initial configuration is detected.
+     */
+    public void testInitialConfigurationChange() {
+        CsvIOFactory factory = CsvIOFactory.createFactory(CacheDTO.class);
+        InitialConfiguration.set(IOFactoryCacheTest.class.getName(), Boolean.TRUE);
+        assertNotSame(factory, CsvIOFactory.createFactory(CacheDTO.class));
+    }
+
+    /**
+     * Tests that factories for types of a class loader unknown to JSefa are not cached.
+     */
+    public void testForeignClassLoader() throws Exception {
+        Class<?> foreignType = new ChildClassLoader(getClass().getClassLoader()).load(CacheDTO.class);
+        assertNotSame(CacheDTO.class, foreignType);
+        assertNotSame(CsvIOFactory.createFactory(foreignType), CsvIOFactory.createFactory(foreignType));
+    }
+
+    /**
+     * Class loader defining its own copies of this test class and its nested classes instead of delegating to its
+     * parent.
+     */
+    private static final class ChildClassLoader extends ClassLoader {
+        ChildClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> load(Class<?> type) throws ClassNotFoundException {
+            return loadClass(type.getName());
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(IOFactoryCacheTest.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            Class<?> type = findLoadedClass(name);
+            if (type == null) {
+                if (getParent().getResource(name.replace('.', '/') + ".class") == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                try {
+                    byte[] bytes = readClassFile(name);
+                    type = defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+            return type;
+        }
+
+        private byte[] readClassFile(String name) throws IOException {
+            InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class");
+            try {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                int count;
+                while ((count = input.read(buffer)) != -1) {
+                    output.write(buffer, 0, count);
+                }
+                return output.toByteArray();
+            } finally {
+                input.close();
+            }
+        }
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class CacheDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 10)
+        @XmlElement()
+        String stringField;
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class OtherCacheDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 10)
+        @XmlElement()
+        String stringField;
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.FLR;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.converter.BigIntegerConverter;
+import org.jsefa.common.converter.ByteConverter;
+import org.jsefa.common.converter.CharacterConverter;
+import org.jsefa.common.converter.ConversionException;
+import org.jsefa.common.converter.DoubleConverter;
+import org.jsefa.common.converter.FloatConverter;
+import org.jsefa.common.converter.ShortConverter;
+import org.jsefa.common.converter.SimpleTypeConverter;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.test.common.JSefaTestUtil.FormatType;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test the converters for <code>double</code>, <code>float</code>, <code>short</code>,
+ * <code>byte</code>, <code>char</code> and <code>BigInteger</code>.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class NumberConverterTest extends TestCase {
+
+    /**
+     * Tests that doubles are parsed exactly as by <code>Double.parseDouble</code>.
+     */
+    public void testDouble() {
+        DoubleConverter converter = DoubleConverter.create();
+        String[] values = {"0", "-0", "0.0", "1", "-1.5", "+2.25", "0.1", "0.3", ".5", "5.", "1e22", "1e23",
+                "1.7976931348623157E308", "4.9E-324", "123456789012345", "1234567890123456789", "0.000001",
+                "1E-5", "NaN", "-Infinity", "1d", " 7 ", "0x1p3"};
+        for (String value : values) {
+            assertEquals(value, Double.valueOf(Double.parseDouble(value)), converter.fromString(value));
+        }
+        Random random = new Random(4711);
+        for (int i = 0; i < 10000; i++) {
+            String value = createDecimal(random);
+            assertEquals(value, Double.valueOf(Double.parseDouble(value)), converter.fromString(value));
+        }
+        assertEquals(Double.valueOf(2.5), converter.fromChars("[2.5]", 1, 4));
+        assertNull(converter.fromString(""));
+        assertEquals("0.1", converter.toString(0.1));
+        assertInvalid(converter, "1.2.3");
+        assertInvalid(converter, "1e");
+        assertInvalid(converter, "-");
+    }
+
+    /**
+     * Tests that floats are parsed exactly as by <code>Float.parseFloat</code>.
+     */
+    public void testFloat() {
+        FloatConverter converter = FloatConverter.create();
+        Random random = new Random(815);
+        for (int i = 0; i < 10000; i++) {
+            String value = createDecimal(random);
+            assertEquals(value, Float.valueOf(Float.parseFloat(value)), converter.fromString(value));
+        }
+        assertEquals("0.1", converter.toString(0.1f));
+        assertInvalid(converter, "x");
+    }
+
+    /**
+     * Tests the integral types.
+     */
+    public void testIntegralTypes() {
+        assertEquals(Short.valueOf((short) -32768), ShortConverter.create().fromString("-32768"));
+        assertInvalid(ShortConverter.create(), "32768");
+        assertEquals(Byte.valueOf((byte) 127), ByteConverter.create().fromString("127"));
+        assertInvalid(ByteConverter.create(), "128");
+        assertEquals(BigInteger.valueOf(-42), BigIntegerConverter.create().fromString("-42"));
+        String big = "123456789012345678901234567890";
+        assertEquals(new BigInteger(big), BigIntegerConverter.create().fromString(big));
+        assertEquals(big, BigIntegerConverter.create().toString(new BigInteger(big)));
+        assertInvalid(BigIntegerConverter.create(), "12a");
+        assertInvalid(BigIntegerConverter.create(), big + "a");
+    }
+
+    /**
+     * Tests the character type.
+     */
+    public void testCharacter() {
+        assertEquals(Character.valueOf('x'), CharacterConverter.create().fromString("x"));
+        assertEquals("x", CharacterConverter.create().toString('x'));
+        assertNull(CharacterConverter.create().fromString(""));
+        assertInvalid(CharacterConverter.create(), "xy");
+    }
+
+    /**
+     * Tests the round trip (CSV).
+     */
+    public void testCSV() {
+        check(CSV);
+    }
+
+    /**
+     * Tests the round trip (FLR).
+     */
+    public void testFLR() {
+        check(FLR);
+    }
+
+    /**
+     * Tests the round trip (XML).
+     */
+    public void testXML() {
+        check(XML);
+    }
+
+    private void check(FormatType formatType) {
+        NumberDTO dto = new NumberDTO();
+        dto.doubleField = -0.1;
+        dto.doubleObjectField = 1e100;
+        dto.floatField = 3.25f;
+        dto.shortField = -7;
+        dto.byteField = 8;
+        dto.charField = 'c';
+        dto.bigIntegerField = new BigInteger("98765432109876543210");
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(formatType, dto);
+    }
+
+    private String createDecimal(Random random) {
+        StringBuilder result = new StringBuilder();
+        if (random.nextBoolean()) {
+            result.append('-');
+        }
+        int digits = 1 + random.nextInt(20);
+        int point = random.nextInt(digits + 1);
+        for (int i = 0; i < digits; i++) {
+            if (i == point) {
+                result.append('.');
+            }
+            result.append(random.nextInt(10));
+        }
+        if (random.nextInt(3) == 0) {
+            result.append('e').append(random.nextInt(60) - 30);
+        }
+        return result.toString();
+    }
+
+    private void assertInvalid(SimpleTypeConverter converter, String value) {
+        try {
+            converter.fromString(value);
+            fail(value);
+        } catch (ConversionException e) {
+            // expected
+        }
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class NumberDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 10)
+        @XmlElement()
+        double doubleField;
+
+        @CsvField(pos = 2)
+        @FlrField(pos = 2, length = 10)
+        @XmlElement()
+        Double doubleObjectField;
+
+        @CsvField(pos = 3)
+        @FlrField(pos = 3, length = 10)
+        @XmlElement()
+        float floatField;
+
+        @CsvField(pos = 4)
+        @FlrField(pos = 4, length = 10)
+        @XmlElement()
+        short shortField;
+
+        @CsvField(pos = 5)
+        @FlrField(pos = 5, length = 10)
+        @XmlElement()
+        byte byteField;
+
+        @CsvField(pos = 6)
+        @FlrField(pos = 6, length = 1)
+        @XmlElement()
+        char charField;
+
+        @CsvField(pos = 7)
+        @FlrField(pos = 7, length = 30)
+        @XmlElement()
+        BigInteger bigIntegerField;
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import junit.framework.TestCase;
+
+import org.jsefa.csv.CsvDeserializer;
+import org.jsefa.csv.CsvIOFactory;
+import org.jsefa.csv.CsvSerializer;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.csv.config.CsvConfiguration;
+import org.jsefa.flr.FlrDeserializer;
+import org.jsefa.flr.FlrIOFactory;
+import org.jsefa.flr.FlrSerializer;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.xml.XmlDeserializer;
+import org.jsefa.xml.XmlIOFactory;
+import org.jsefa.xml.XmlSerializer;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test the reuse of pooled serializers and deserializers.
+ *
+ * @author Norman Lahme-Huetig
+ *
+ */
+public class PooledSerializerTest extends TestCase {
+
+    /**
+     * Tests pooled CSV serializers and deserializers.
+     */
+    public void testCSV() {
+        CsvIOFactory factory = CsvIOFactory.createFactory(PoolDTO.class);
+        String first = null;
+        for (int i = 0; i < 3; i++) {
+            CsvSerializer serializer = factory.borrowSerializer();
+            StringWriter writer = new StringWriter();
+            serializer.open(writer);
+            serializer.write(createDTO(i));
+            serializer.close(true);
+            factory.release(serializer);
+            if (first == null) {
+                first = writer.toString();
+            }
+
+            CsvDeserializer deserializer = factory.borrowDeserializer();
+            deserializer.open(new StringReader(writer.toString()));
+            assertEquals(createDTO(i), deserializer.next());
+            assertFalse(deserializer.hasNext());
+            deserializer.close(true);
+            factory.release(deserializer);
+        }
+        CsvSerializer serializer = factory.borrowSerializer();
+        StringWriter writer = new StringWriter();
+        serializer.open(writer);
+        serializer.write(createDTO(0));
+        serializer.close(true);
+        assertEquals(first, writer.toString());
+    }
+
+    /**
+     * Tests pooled FLR serializers and deserializers.
+     */
+    public void testFLR() {
+        FlrIOFactory factory = FlrIOFactory.createFactory(PoolDTO.class);
+        FlrSerializer serializer = factory.borrowSerializer();
+        factory.release(serializer);
+        assertSame(serializer, factory.borrowSerializer());
+        for (int i = 0; i < 3; i++) {
+            StringWriter writer = new StringWriter();
+            serializer.open(writer);
+            serializer.write(createDTO(i));
+            serializer.close(true);
+
+            FlrDeserializer deserializer = factory.borrowDeserializer();
+            deserializer.open(new StringReader(writer.toString()));
+            assertEquals(createDTO(i), deserializer.next());
+            deserializer.close(true);
+            factory.release(deserializer);
+        }
+        factory.release(serializer);
+    }
+
+    /**
+     * Tests pooled XML serializers and deserializers.
+     */
+    public void testXML() {
+        XmlIOFactory factory = XmlIOFactory.createFactory(PoolDTO.class);
+        XmlDeserializer deserializer = factory.borrowDeserializer();
+        factory.release(deserializer);
+        assertSame(deserializer, factory.borrowDeserializer());
+        for (int i = 0; i < 3; i++) {
+            XmlSerializer serializer = factory.borrowSerializer();
+            StringWriter writer = new StringWriter();
+            serializer.open(writer);
+            serializer.write(createDTO(i));
+            serializer.close(true);
+            factory.release(serializer);
+
+            deserializer.open(new StringReader(writer.toString()));
+            assertEquals(createDTO(i), deserializer.next());
+            deserializer.close(true);
+        }
+        factory.release(deserializer);
+    }
+
+    /**
+     * Tests that serializers and deserializers given back without being closed are reset by the pool.
+     */
+    public void testReleaseWithoutClose() {
+        XmlIOFactory factory = XmlIOFactory.createFactory(PoolDTO.class);
+        XmlSerializer serializer = factory.borrowSerializer();
+        StringWriter writer = new StringWriter();
+        serializer.open(writer);
+        serializer.write(createDTO(0));
+        factory.release(serializer);
+        assertTrue(writer.toString().contains("value0"));
+        assertSame(serializer, factory.borrowSerializer());
+        serializer.close(true);
+
+        CsvIOFactory csvFactory = CsvIOFactory.createFactory(PoolDTO.class);
+        CsvDeserializer deserializer = csvFactory.borrowDeserializer();
+        deserializer.open(new StringReader("value0;0\nvalue1;1\n"));
+        assertEquals(createDTO(0), deserializer.next());
+        csvFactory.release(deserializer);
+        assertSame(deserializer, csvFactory.borrowDeserializer());
+        deserializer.open(new StringReader("value2;2\n"));
+        assertEquals(createDTO(2), deserializer.next());
+        assertFalse(deserializer.hasNext());
+        deserializer.close(true);
+    }
+
+    /**
+     * Tests that releasing an instance twice or releasing an instance not borrowed from the pool is ignored.
+     */
+    public void testInvalidRelease() {
+        CsvIOFactory factory = CsvIOFactory.createFactory(new CsvConfiguration(), PoolDTO.class);
+        CsvSerializer serializer = factory.borrowSerializer();
+        factory.release(serializer);
+        factory.release(serializer);
+        assertSame(serializer, factory.borrowSerializer());
+        assertNotSame(serializer, factory.borrowSerializer());
+
+        CsvDeserializer foreignDeserializer = factory.createDeserializer();
+        factory.release(foreignDeserializer);
+        assertNotSame(foreignDeserializer, factory.borrowDeserializer());
+    }
+
+    /**
+     * Tests that a released deserializer does not keep the position of its previous use.
+     */
+    public void testReleaseResetsPosition() {
+        CsvIOFactory factory = CsvIOFactory.createFactory(new CsvConfiguration(), PoolDTO.class);
+        CsvDeserializer deserializer = factory.borrowDeserializer();
+        deserializer.open(new StringReader("value0;0\nvalue1;1\n"));
+        assertEquals(createDTO(0), deserializer.next());
+        factory.release(deserializer);
+        assertSame(deserializer, factory.borrowDeserializer());
+        assertNull(deserializer.getInputPosition());
+    }
+
+    private PoolDTO createDTO(int index) {
+        PoolDTO dto = new PoolDTO();
+        dto.stringField = "value" + index;
+        dto.intField = index;
+        return dto;
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class PoolDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 10)
+        @XmlElement()
+        String stringField;
+
+        @CsvField(pos = 2)
+        @FlrField(pos = 2, length = 5)
+        @XmlElement()
+        Integer intField;
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.FLR;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.converter.ConversionException;
+import org.jsefa.common.converter.IntegerConverter;
+import org.jsefa.common.converter.PrimitiveArrayConverter;
+import org.jsefa.common.converter.SimpleListConverter;
+import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.test.common.JSefaTestUtil.FormatType;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test fields with primitive array types and the item parsing of simple lists.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class PrimitiveArrayTest extends TestCase {
+
+    /**
+     * Tests the conversion of <code>int</code> arrays.
+     */
+    public void testIntArray() {
+        PrimitiveArrayConverter converter = createConverter(int[].class, "::");
+        assertTrue(Arrays.equals(new int[]{1, -2, 2147483647}, (int[]) converter.fromString("1::-2::2147483647")));
+        assertTrue(Arrays.equals(new int[]{7}, (int[]) converter.fromChars("[7]", 1, 2)));
+        assertEquals(0, ((int[]) converter.fromString("")).length);
+        assertNull(converter.fromString(null));
+        assertEquals("1::-2::3", converter.toString(new int[]{1, -2, 3}));
+        assertEquals("", converter.toString(new int[0]));
+        assertInvalid(converter, "1::::3");
+        assertInvalid(converter, "1::2147483648");
+    }
+
+    /**
+     * Tests the conversion of <code>long</code> and <code>double</code> arrays.
+     */
+    public void testLongAndDoubleArray() {
+        PrimitiveArrayConverter converter = createConverter(long[].class, null);
+        assertTrue(Arrays.equals(new long[]{1, 9223372036854775807L}, (long[]) converter
+                .fromString("1,9223372036854775807")));
+        assertEquals("1,-5", converter.toString(new long[]{1, -5}));
+        converter = createConverter(double[].class, ";");
+        assertTrue(Arrays.equals(new double[]{1.5, -0.25, 1E10}, (double[]) converter.fromString("1.5;-0.25;1E10")));
+        assertEquals("1.5;-0.25", converter.toString(new double[]{1.5, -0.25}));
+        assertInvalid(converter, "1.5;x");
+    }
+
+    /**
+     * Tests that unsupported types are rejected.
+     */
+    public void testUnsupportedType() {
+        try {
+            createConverter(String[].class, null);
+            fail();
+        } catch (ConversionException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests the item parsing of the <code>SimpleListConverter</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public void testSimpleList() {
+        SimpleListConverter converter = SimpleListConverter.create(SimpleTypeConverterConfiguration.create(
+                List.class, new String[]{"--"}, IntegerConverter.create()));
+        assertEquals(Arrays.asList(1, 2, 3), converter.fromString("1--2--3"));
+        assertEquals(Arrays.asList(5), converter.fromChars("x5x", 1, 2));
+        assertTrue(((List) converter.fromString("")).isEmpty());
+        assertEquals("1--2--3", converter.toString(Arrays.asList(1, 2, 3)));
+        converter = SimpleListConverter.create(SimpleTypeConverterConfiguration.create(Set.class, null,
+                IntegerConverter.create()));
+        assertEquals(3, ((Set) converter.fromString("1,2,3,2")).size());
+    }
+
+    /**
+     * Tests the round trip (CSV).
+     */
+    public void testCSV() {
+        check(CSV);
+    }
+
+    /**
+     * Tests the round trip (FLR).
+     */
+    public void testFLR() {
+        check(FLR);
+    }
+
+    /**
+     * Tests the round trip (XML).
+     */
+    public void testXML() {
+        check(XML);
+    }
+
+    private void check(FormatType formatType) {
+        ArrayDTO dto = new ArrayDTO();
+        dto.intArray = new int[]{1, 2, 3};
+        dto.longArray = new long[]{-4, 5};
+        dto.doubleArray = new double[]{0.5, 1.25};
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(formatType, dto);
+    }
+
+    private PrimitiveArrayConverter createConverter(Class<?> objectType, String delimiter) {
+        String[] format = null;
+        if (delimiter != null) {
+            format = new String[]{delimiter};
+        }
+        return PrimitiveArrayConverter.create(SimpleTypeConverterConfiguration.create(objectType, format));
+    }
+
+    private void assertInvalid(PrimitiveArrayConverter converter, String value) {
+        try {
+            converter.fromString(value);
+            fail();
+        } catch (ConversionException e) {
+            // expected
+        }
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class ArrayDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 10)
+        @XmlElement()
+        int[] intArray;
+
+        @CsvField(pos = 2, format = ";")
+        @FlrField(pos = 2, length = 10, format = ";")
+        @XmlElement(format = ";")
+        long[] longArray;
+
+        @CsvField(pos = 3, format = "|")
+        @FlrField(pos = 3, length = 10, format = "|")
+        @XmlElement(format = "|")
+        double[] doubleArray;
+    }
+
+}
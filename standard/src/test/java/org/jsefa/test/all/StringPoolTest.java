@@ -0,0 +1,151 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import java.io.StringReader;
+
+import junit.framework.TestCase;
+
+import org.jsefa.Deserializer;
+import org.jsefa.common.util.StringPool;
+import org.jsefa.csv.CsvIOFactory;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.csv.config.CsvConfiguration;
+import org.jsefa.flr.FlrIOFactory;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.flr.config.FlrConfiguration;
+import org.jsefa.test.common.AbstractTestDTO;
+
+/**
+ * Tests to test the deduplication of deserialized strings using a {@link StringPool}.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class StringPoolTest extends TestCase {
+
+    /**
+     * Tests that equal character ranges yield the same instance.
+     */
+    public void testPool() {
+        StringPool pool = StringPool.create(16);
+        String first = pool.get("xEURx", 1, 4);
+        assertEquals("EUR", first);
+        assertSame(first, pool.get("-EUR-", 1, 4));
+        assertSame(first, pool.get(new String("EUR")));
+        assertEquals("", pool.get("abc", 1, 1));
+        assertNull(pool.get(null));
+    }
+
+    /**
+     * Tests that colliding values replace each other without returning wrong values.
+     */
+    public void testCollisions() {
+        StringPool pool = StringPool.create(1);
+        for (int i = 0; i < 100; i++) {
+            String value = "v" + (i % 3);
+            assertEquals(value, pool.get("[" + value + "]", 1, value.length() + 1));
+        }
+    }
+
+    /**
+     * Tests the deduplication of CSV fields.
+     */
+    public void testCSV() {
+        CsvConfiguration config = new CsvConfiguration();
+        config.getLowLevelConfiguration().setStringPoolSize(64);
+        check(CsvIOFactory.createFactory(config, PoolDTO.class).createDeserializer(), "EUR;Bonn\nEUR;\"Bonn\"\n",
+                true);
+        check(CsvIOFactory.createFactory(PoolDTO.class).createDeserializer(), "EUR;Bonn\nEUR;Bonn\n", false);
+    }
+
+    /**
+     * Tests the deduplication of FLR fields.
+     */
+    public void testFLR() {
+        FlrConfiguration config = new FlrConfiguration();
+        config.getLowLevelConfiguration().setStringPoolSize(64);
+        check(FlrIOFactory.createFactory(config, PoolDTO.class).createDeserializer(), "EURBonn  \nEURBonn  \n",
+                true);
+        check(FlrIOFactory.createFactory(PoolDTO.class).createDeserializer(), "EURBonn  \nEURBonn  \n", false);
+    }
+
+    /**
+     * Tests that only fields mapped to <code>String</code> are pooled, so that converted fields do not displace
+     * them. The pool has a single slot, so each pooled value would replace the previous one.
+     */
+    public void testStringFieldsOnly() {
+        CsvConfiguration csvConfig = new CsvConfiguration();
+        csvConfig.getLowLevelConfiguration().setStringPoolSize(1);
+        checkStringFieldsOnly(CsvIOFactory.createFactory(csvConfig, FlagDTO.class).createDeserializer(),
+                "EUR;true\nEUR;false\n");
+        FlrConfiguration flrConfig = new FlrConfiguration();
+        flrConfig.getLowLevelConfiguration().setStringPoolSize(1);
+        checkStringFieldsOnly(FlrIOFactory.createFactory(flrConfig, FlagDTO.class).createDeserializer(),
+                "EURtrue \nEURfalse\n");
+    }
+
+    private void checkStringFieldsOnly(Deserializer deserializer, String input) {
+        deserializer.open(new StringReader(input));
+        FlagDTO first = deserializer.next();
+        FlagDTO second = deserializer.next();
+        deserializer.close(true);
+        assertEquals("EUR", first.currency);
+        assertEquals(Boolean.TRUE, first.flag);
+        assertEquals(Boolean.FALSE, second.flag);
+        assertSame(first.currency, second.currency);
+    }
+
+    private void check(Deserializer deserializer, String input, boolean pooled) {
+        deserializer.open(new StringReader(input));
+        PoolDTO first = deserializer.next();
+        PoolDTO second = deserializer.next();
+        deserializer.close(true);
+        assertEquals("EUR", first.currency);
+        assertEquals("Bonn", first.city);
+        assertEquals(first, second);
+        assertEquals(pooled, first.currency == second.currency);
+        assertEquals(pooled, first.city == second.city);
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    static final class PoolDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 3)
+        String currency;
+
+        @CsvField(pos = 2)
+        @FlrField(pos = 2, length = 6)
+        String city;
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    static final class FlagDTO extends AbstractTestDTO {
+        @CsvField(pos = 1)
+        @FlrField(pos = 1, length = 3)
+        String currency;
+
+        @CsvField(pos = 2)
+        @FlrField(pos = 2, length = 5)
+        Boolean flag;
+    }
+
+}
@@ -19,9 +19,15 @@ package org.jsefa.test.all;
 import static org.jsefa.test.all.ValidatorTestUtil.Mode.INVALID;
 import static org.jsefa.test.all.ValidatorTestUtil.Mode.VALID;
 import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.util.HashMap;
+import java.util.Map;
+
 import junit.framework.TestCase;
 
 import org.jsefa.common.validator.StringValidator;
+import org.jsefa.common.validator.ValidationResult;
+import org.jsefa.common.validator.ValidatorConfiguration;
 import org.jsefa.test.common.AbstractTestDTO;
 import org.jsefa.xml.annotation.XmlDataType;
 import org.jsefa.xml.annotation.XmlElement;
@@ -67,6 +73,25 @@ public class StringValidatorTest extends TestCase {
         ValidatorTestUtil.check(XML, new LengthDTO("abc"), VALID);
     }
 
+    /**
+     * Tests the error texts for a range of characters.
+     */
+    public void testErrorTextOfCharRange() {
+        Map<String, String> constraints = new HashMap<String, String>();
+        constraints.put("pattern", "\\w+");
+        StringValidator validator = StringValidator.create(ValidatorConfiguration.create(String.class, constraints));
+        ValidationResult result = validator.validateChars("[a b]", 1, 4);
+        assertEquals("The value a b does not match the pattern \\w+", result.getErrors().iterator().next()
+                .getErrorText());
+
+        StringBuilder buffer = new StringBuilder("[a b]");
+        result = validator.validateChars(buffer, 1, 4);
+        buffer.setLength(0);
+        buffer.append("[xyz]");
+        assertEquals("The value a b does not match the pattern \\w+", result.getErrors().iterator().next()
+                .getErrorText());
+    }
+
     @XmlDataType()
     static final class PatternDTO extends AbstractTestDTO {
         @XmlElement(constraints = {"pattern=\\w+"})
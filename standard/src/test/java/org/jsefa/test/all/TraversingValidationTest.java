@@ -0,0 +1,152 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.jsefa.SerializationException;
+import org.jsefa.common.validator.IntegerValidator;
+import org.jsefa.common.validator.StringValidator;
+import org.jsefa.common.validator.ValidationResult;
+import org.jsefa.common.validator.ValidatorConfiguration;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test the validation of valid values, the traversal of object graphs and the detection of cycles.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class TraversingValidationTest extends TestCase {
+
+    /**
+     * Tests that the single valid result is returned for valid values.
+     */
+    public void testValidResult() {
+        Map<String, String> constraints = new HashMap<String, String>();
+        constraints.put("pattern", "\\w*");
+        constraints.put("maxLength", "5");
+        StringValidator stringValidator = StringValidator.create(ValidatorConfiguration.create(String.class,
+                constraints));
+        assertSame(ValidationResult.VALID, stringValidator.validate("abc"));
+        assertEquals(2, stringValidator.validate("a b c d").getErrors().size());
+
+        constraints.clear();
+        constraints.put("min", "1");
+        constraints.put("max", "10");
+        IntegerValidator integerValidator = IntegerValidator.create(ValidatorConfiguration.create(Integer.class,
+                constraints));
+        assertSame(ValidationResult.VALID, integerValidator.validate(5));
+        assertEquals(1, integerValidator.validate(11).getErrors().size());
+    }
+
+    /**
+     * Tests that a nested object equal to, but not the same as, an object on the path is validated.
+     */
+    public void testEqualObjectOnPath() {
+        NodeDTO root = new NodeDTO("root");
+        root.child = new NodeDTO("root");
+        JSefaTestUtil.serialize(XML, root);
+        root.child.name = "not valid";
+        try {
+            JSefaTestUtil.serialize(XML, root);
+            fail();
+        } catch (SerializationException e) {
+            return;
+        }
+    }
+
+    /**
+     * Tests that the validation stops at cycles.
+     */
+    public void testCycle() {
+        NodeDTO root = new NodeDTO("root");
+        root.child = new NodeDTO("child");
+        root.child.child = root;
+        try {
+            JSefaTestUtil.serialize(XML, root);
+            fail();
+        } catch (SerializationException e) {
+            assertTrue(e.getMessage().indexOf("Cycle") >= 0);
+        }
+    }
+
+    /**
+     * Tests the validation of records with constraints on simple fields.
+     */
+    public void testValidRecords() {
+        RecordDTO[] records = new RecordDTO[100];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new RecordDTO();
+            records[i].name = "name" + i;
+            records[i].count = i;
+        }
+        JSefaTestUtil.serialize(CSV, (Object[]) records);
+        records[50].count = 1000;
+        try {
+            JSefaTestUtil.serialize(CSV, (Object[]) records);
+            fail();
+        } catch (SerializationException e) {
+            return;
+        }
+    }
+
+    @XmlDataType()
+    static final class NodeDTO {
+        @XmlElement(constraints = "pattern=\\w*")
+        String name;
+
+        @XmlElement()
+        NodeDTO child;
+
+        NodeDTO() {
+        }
+
+        NodeDTO(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof NodeDTO;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    @CsvDataType()
+    static final class RecordDTO {
+        @CsvField(pos = 1, constraints = "pattern=\\w*")
+        String name;
+
+        @CsvField(pos = 2, constraints = {"min=0", "max=99"})
+        int count;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.FLR;
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.jsefa.SerializationException;
+import org.jsefa.common.config.Configuration;
+import org.jsefa.common.config.ValidationErrorMode;
+import org.jsefa.common.validator.StringValidator;
+import org.jsefa.common.validator.ValidationError;
+import org.jsefa.common.validator.ValidationErrorCodes;
+import org.jsefa.common.validator.ValidationException;
+import org.jsefa.common.validator.ValidationResult;
+import org.jsefa.common.validator.ValidatorConfiguration;
+import org.jsefa.csv.annotation.CsvDataType;
+import org.jsefa.csv.annotation.CsvField;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.test.common.JSefaTestUtil.FormatType;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+
+/**
+ * Tests to test the validation error modes and the lazily created error texts.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class ValidationErrorModeTest extends TestCase {
+
+    /**
+     * Tests that the error text is created as before.
+     */
+    public void testErrorText() {
+        Map<String, String> constraints = new HashMap<String, String>();
+        constraints.put("maxLength", "2");
+        StringValidator validator = StringValidator.create(ValidatorConfiguration.create(String.class,
+                constraints));
+        ValidationResult result = validator.validate("abc");
+        assertEquals(1, result.getErrors().size());
+        ValidationError error = result.getErrors().iterator().next();
+        assertEquals(ValidationErrorCodes.WRONG_LENGTH, error.getErrorCode());
+        assertEquals("The value abc is longer than the maximum length of 2", error.getErrorText());
+        assertSame(error.getErrorText(), error.getErrorText());
+    }
+
+    /**
+     * Tests all validation error modes (CSV).
+     */
+    public void testCSV() {
+        check(CSV);
+    }
+
+    /**
+     * Tests all validation error modes (FLR).
+     */
+    public void testFLR() {
+        check(FLR);
+    }
+
+    /**
+     * Tests all validation error modes (XML).
+     */
+    public void testXML() {
+        check(XML);
+    }
+
+    private void check(FormatType formatType) {
+        assertEquals(4, getErrorCount(formatType, ValidationErrorMode.ALL, 1));
+        assertEquals(1, getErrorCount(formatType, ValidationErrorMode.FAIL_FAST, 3));
+        assertEquals(2, getErrorCount(formatType, ValidationErrorMode.ERROR_BUDGET, 2));
+        assertEquals(4, getErrorCount(formatType, ValidationErrorMode.ERROR_BUDGET, 10));
+    }
+
+    private int getErrorCount(FormatType formatType, ValidationErrorMode mode, int errorBudget) {
+        Configuration<?, ?> config = JSefaTestUtil.createConfiguration(formatType);
+        config.setValidationErrorMode(mode);
+        config.setValidationErrorBudget(errorBudget);
+        InvalidDTO dto = new InvalidDTO();
+        dto.field1 = "a b";
+        dto.field2 = "c d";
+        dto.field3 = "e f";
+        dto.field4 = "g h";
+        try {
+            JSefaTestUtil.serialize(formatType, config, dto);
+            fail();
+        } catch (SerializationException e) {
+            assertTrue(e.getCause() instanceof ValidationException);
+            return ((ValidationException) e.getCause()).getValidationResult().getErrors().size();
+        }
+        return 0;
+    }
+
+    @CsvDataType()
+    @FlrDataType()
+    @XmlDataType()
+    static final class InvalidDTO {
+        @CsvField(pos = 1, constraints = "pattern=\\w*")
+        @FlrField(pos = 1, length = 5, constraints = "pattern=\\w*")
+        @XmlElement(pos = 1, constraints = "pattern=\\w*")
+        String field1;
+
+        @CsvField(pos = 2, constraints = "pattern=\\w*")
+        @FlrField(pos = 2, length = 5, constraints = "pattern=\\w*")
+        @XmlElement(pos = 2, constraints = "pattern=\\w*")
+        String field2;
+
+        @CsvField(pos = 3, constraints = "pattern=\\w*")
+        @FlrField(pos = 3, length = 5, constraints = "pattern=\\w*")
+        @XmlElement(pos = 3, constraints = "pattern=\\w*")
+        String field3;
+
+        @CsvField(pos = 4, constraints = "pattern=\\w*")
+        @FlrField(pos = 4, length = 5, constraints = "pattern=\\w*")
+        @XmlElement(pos = 4, constraints = "pattern=\\w*")
+        String field4;
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.all;
+
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.converter.ConversionException;
+import org.jsefa.common.converter.SimpleTypeConverterConfiguration;
+import org.jsefa.common.converter.XMLGregorianCalendarConverter;
+import org.jsefa.common.converter.XmlDateTimeConverter;
+
+/**
+ * Tests to test that the {@link XmlDateTimeConverter} and the {@link XMLGregorianCalendarConverter} behave like
+ * a <code>DatatypeFactory</code>.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class XmlDateTimeConverterTest extends TestCase {
+
+    private static final String[] TIME_ZONES = {"GMT", "Europe/Berlin", "America/New_York", "Asia/Kolkata"};
+
+    private static final long MIN_TIME = -11676096000000L;
+
+    private static final long MAX_TIME = 253402300799999L;
+
+    private TimeZone defaultTimeZone;
+
+    private DatatypeFactory factory;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void setUp() throws Exception {
+        this.defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        this.factory = DatatypeFactory.newInstance();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void tearDown() throws Exception {
+        TimeZone.setDefault(this.defaultTimeZone);
+    }
+
+    /**
+     * Tests that dates are formatted as by a <code>DatatypeFactory</code>.
+     */
+    public void testFormat() {
+        Random random = new Random(4711);
+        for (String timeZoneId : TIME_ZONES) {
+            XmlDateTimeConverter converter = createConverter(timeZoneId);
+            for (int i = 0; i < 2000; i++) {
+                Date date = new Date(MIN_TIME + (long) (random.nextDouble() * (MAX_TIME - MIN_TIME)));
+                assertEquals(format(date, timeZoneId), converter.toString(date));
+                assertEquals(date, converter.fromString(converter.toString(date)));
+            }
+            Date early = new Date(-62135769600000L);
+            assertEquals(format(early, timeZoneId), converter.toString(early));
+        }
+    }
+
+    /**
+     * Tests that values are parsed as by a <code>DatatypeFactory</code>.
+     */
+    public void testParse() {
+        XmlDateTimeConverter converter = createConverter("GMT");
+        String[] values = {"2008-01-31T12:00:00Z", "2008-02-29T23:59:59.999+14:00", "2008-03-09T02:30:00",
+                "2008-11-02T01:30:00", "2008-01-31", "2008-01-31Z", "2008-01-31-05:00", "1500-01-01T00:00:00Z",
+                "0001-01-01T00:00:00Z", "2008-01-31T12:00:00.1234567-03:30", "2008-01-31T24:00:00Z",
+                "12008-01-31T12:00:00Z", "2008-01-31T12:00:00.5"};
+        for (String value : values) {
+            assertEquals(value, parse(value), converter.fromString(value));
+        }
+        Random random = new Random(815);
+        for (int i = 0; i < 2000; i++) {
+            String value = createValue(random);
+            assertEquals(value, parse(value), converter.fromString(value));
+        }
+        String[] invalidValues = {"2008-02-30T12:00:00Z", "2008-01-31T12:60:00Z", "2008-01-31T12:00:00+15:00",
+                "2008-01-31T12:00", "2008-1-31", "2008-01-31T12:00:00.Z"};
+        for (String value : invalidValues) {
+            try {
+                converter.fromString(value);
+                fail(value);
+            } catch (ConversionException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Tests that <code>XMLGregorianCalendar</code> values are parsed as by a <code>DatatypeFactory</code>.
+     */
+    public void testXMLGregorianCalendar() {
+        XMLGregorianCalendarConverter converter = XMLGregorianCalendarConverter.create();
+        String[] values = {"2008-01-31T12:00:00Z", "2008-01-31T12:00:00.000Z", "2008-01-31T12:00:00.5+01:00",
+                "2008-01-31", "2008-01-31Z", "2008-01-31T12:00:00", "12008-01-31T12:00:00Z"};
+        for (String value : values) {
+            XMLGregorianCalendar calendar = (XMLGregorianCalendar) converter.fromString(value);
+            assertEquals(value, this.factory.newXMLGregorianCalendar(value), calendar);
+            assertEquals(value, calendar.toXMLFormat());
+            assertEquals(value, converter.toString(calendar));
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String value = createValue(random);
+            XMLGregorianCalendar calendar = (XMLGregorianCalendar) converter.fromString(value);
+            assertEquals(value, this.factory.newXMLGregorianCalendar(value).toXMLFormat(), calendar.toXMLFormat());
+        }
+    }
+
+    private XmlDateTimeConverter createConverter(String timeZoneId) {
+        return XmlDateTimeConverter.create(SimpleTypeConverterConfiguration.create(Date.class,
+                new String[]{timeZoneId}));
+    }
+
+    private String format(Date date, String timeZoneId) {
+        GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone(timeZoneId));
+        calendar.setTime(date);
+        return this.factory.newXMLGregorianCalendar(calendar).toString();
+    }
+
+    private Date parse(String value) {
+        return this.factory.newXMLGregorianCalendar(value).toGregorianCalendar().getTime();
+    }
+
+    private String createValue(Random random) {
+        StringBuilder result = new StringBuilder();
+        result.append(1000 + random.nextInt(9000)).append('-');
+        append(result, 1 + random.nextInt(12)).append('-');
+        append(result, 1 + random.nextInt(28));
+        if (random.nextInt(4) > 0) {
+            result.append('T');
+            append(result, random.nextInt(24)).append(':');
+            append(result, random.nextInt(60)).append(':');
+            append(result, random.nextInt(60));
+            if (random.nextBoolean()) {
+                result.append('.').append(100 + random.nextInt(900));
+            }
+        }
+        switch (random.nextInt(3)) {
+        case 0:
+            result.append('Z');
+            break;
+        case 1:
+            result.append(random.nextBoolean() ? '+' : '-');
+            append(result, random.nextInt(14)).append(':');
+            append(result, random.nextInt(4) * 15);
+            break;
+        default:
+            break;
+        }
+        return result.toString();
+    }
+
+    private StringBuilder append(StringBuilder builder, int value) {
+        if (value < 10) {
+            builder.append('0');
+        }
+        return builder.append(value);
+    }
+
+}
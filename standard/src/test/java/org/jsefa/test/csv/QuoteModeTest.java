@@ -17,11 +17,17 @@
 package org.jsefa.test.csv;
 
 import static org.jsefa.test.common.JSefaTestUtil.FormatType.CSV;
+
+import java.io.StringWriter;
+
 import junit.framework.TestCase;
 
 import org.jsefa.csv.annotation.CsvDataType;
 import org.jsefa.csv.annotation.CsvField;
 import org.jsefa.csv.config.CsvConfiguration;
+import org.jsefa.csv.lowlevel.CsvLowLevelSerializer;
+import org.jsefa.csv.lowlevel.CsvLowLevelSerializerImpl;
+import org.jsefa.csv.lowlevel.config.CsvLowLevelConfiguration;
 import org.jsefa.csv.lowlevel.config.EscapeMode;
 import org.jsefa.csv.lowlevel.config.QuoteMode;
 import org.jsefa.test.common.AbstractTestDTO;
@@ -240,6 +246,54 @@ public class QuoteModeTest extends TestCase {
         JSefaTestUtil.assertRepeatedRoundTripSucceeds(CSV, config, obj);
     }
 
+    /**
+     * Tests the exact encoding of single fields.
+     */
+    public void testEncoding() {
+        CsvLowLevelConfiguration config = new CsvLowLevelConfiguration();
+        config.setLineBreak("\r\n");
+        config.setQuoteCharacterEscapeMode(EscapeMode.DOUBLING);
+        assertEncoding(config, QuoteMode.ON_DEMAND, "plain", "plain");
+        assertEncoding(config, QuoteMode.ON_DEMAND, "a\"b", "a\"b");
+        assertEncoding(config, QuoteMode.ON_DEMAND, "\"a\"b\"", "\"\"\"a\"\"b\"\"\"");
+        assertEncoding(config, QuoteMode.ON_DEMAND, "a;\"b", "\"a;\"\"b\"");
+        assertEncoding(config, QuoteMode.ON_DEMAND, "a\rb\n", "a\rb\n");
+        assertEncoding(config, QuoteMode.ON_DEMAND, "a\r\n", "\"a\r\n\"");
+        assertEncoding(config, QuoteMode.ON_DEMAND, "a\\b", "\"a\\b\"");
+        assertEncoding(config, QuoteMode.ALWAYS, "", "");
+        assertEncoding(config, QuoteMode.ALWAYS, "a", "\"a\"");
+        assertEncoding(config, QuoteMode.ALWAYS, "\"", "\"\"\"\"");
+        config.setQuoteCharacterEscapeMode(EscapeMode.ESCAPE_CHARACTER);
+        assertEncoding(config, QuoteMode.ALWAYS, "a\"b\"", "\"a\\\"b\\\"\"");
+        config.setSpecialRecordDelimiter('?');
+        assertEncoding(config, QuoteMode.NEVER, "plain", "plain");
+        assertEncoding(config, QuoteMode.NEVER, "a;b\\c?\n", "a\\;b\\\\c\\?\\n");
+    }
+
+    /**
+     * Tests the encoding of single fields with an empty line break.
+     */
+    public void testEncodingWithEmptyLineBreak() {
+        CsvLowLevelConfiguration config = new CsvLowLevelConfiguration();
+        config.setLineBreak("");
+        config.setQuoteCharacterEscapeMode(EscapeMode.DOUBLING);
+        assertEncoding(config, QuoteMode.ON_DEMAND, "plain", "\"plain\"");
+        assertEncoding(config, QuoteMode.ON_DEMAND, "a\"b", "\"a\"\"b\"");
+        assertEncoding(config, QuoteMode.ALWAYS, "a", "\"a\"");
+        assertEncoding(config, QuoteMode.NEVER, "a;b", "a\\;b");
+    }
+
+    private void assertEncoding(CsvLowLevelConfiguration config, QuoteMode quoteMode, String value,
+            String expected) {
+        StringWriter writer = new StringWriter();
+        CsvLowLevelSerializer serializer = new CsvLowLevelSerializerImpl(config);
+        serializer.open(writer);
+        serializer.writeField(value, quoteMode);
+        serializer.writeField(new StringBuilder(value), quoteMode);
+        serializer.close(true);
+        assertEquals(expected + ";" + expected, writer.toString());
+    }
+
     private CsvConfiguration createConfig(EscapeMode escapeMode) {
         CsvConfiguration config = new CsvConfiguration();
         config.setQuoteCharacterEscapeMode(escapeMode);
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.flr;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.FLR;
+import junit.framework.TestCase;
+
+import org.jsefa.DeserializationException;
+import org.jsefa.common.converter.ConversionException;
+import org.jsefa.common.converter.IntegerConverter;
+import org.jsefa.common.converter.LongConverter;
+import org.jsefa.flr.annotation.FlrDataType;
+import org.jsefa.flr.annotation.FlrField;
+import org.jsefa.flr.lowlevel.Align;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+
+/**
+ * Tests to test the FLR deserialization of padded numeric fields which are converted directly from the input
+ * buffer.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class NumericFieldTest extends TestCase {
+
+    /**
+     * Tests padded and signed values.
+     */
+    public void testPaddedValues() {
+        NumericDTO dto = JSefaTestUtil.deserialize(FLR, "  +42-7   00000000012345", NumericDTO.class);
+        assertEquals(Integer.valueOf(42), dto.intField);
+        assertEquals(-7, dto.primitiveIntField);
+        assertEquals(Long.valueOf(12345), dto.longField);
+    }
+
+    /**
+     * Tests empty fields.
+     */
+    public void testEmptyValues() {
+        NumericDTO dto = JSefaTestUtil.deserialize(FLR, "     0    00000000000000", NumericDTO.class);
+        assertNull(dto.intField);
+        assertNull(dto.longField);
+    }
+
+    /**
+     * Tests the round trip.
+     */
+    public void testRoundTrip() {
+        NumericDTO dto = new NumericDTO();
+        dto.intField = Integer.valueOf(-1234);
+        dto.primitiveIntField = 99999;
+        dto.longField = Long.valueOf(Long.MAX_VALUE / 100000);
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(FLR, dto);
+    }
+
+    /**
+     * Tests that invalid values lead to an exception.
+     */
+    public void testInvalidValue() {
+        try {
+            JSefaTestUtil.deserialize(FLR, "  4x2-7   00000000012345", NumericDTO.class);
+            fail();
+        } catch (DeserializationException e) {
+            assertTrue(e.getCause() instanceof ConversionException);
+        }
+    }
+
+    /**
+     * Tests the conversion of character ranges including the limits of the value ranges.
+     */
+    public void testConverters() {
+        String input = "x-2147483648x";
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), IntegerConverter.create().fromChars(input, 1, 12));
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), IntegerConverter.create().fromString("+2147483647"));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), LongConverter.create().fromString("-9223372036854775808"));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), LongConverter.create().fromString("9223372036854775807"));
+        assertNull(IntegerConverter.create().fromString(""));
+        assertConversionFails("2147483648");
+        assertConversionFails("-2147483649");
+        assertConversionFails("+");
+        assertConversionFails("-");
+        assertConversionFails("1 ");
+        assertConversionFails("--1");
+        try {
+            LongConverter.create().fromString("9223372036854775808");
+            fail();
+        } catch (ConversionException e) {
+            // expected
+        }
+    }
+
+    private void assertConversionFails(String value) {
+        try {
+            IntegerConverter.create().fromString(value);
+            fail();
+        } catch (ConversionException e) {
+            // expected
+        }
+    }
+
+    @FlrDataType()
+    static final class NumericDTO extends AbstractTestDTO {
+        @FlrField(pos = 1, length = 5, align = Align.RIGHT)
+        Integer intField;
+
+        @FlrField(pos = 2, length = 5)
+        int primitiveIntField;
+
+        @FlrField(pos = 3, length = 14, align = Align.RIGHT, padCharacter = '0')
+        Long longField;
+    }
+
+}
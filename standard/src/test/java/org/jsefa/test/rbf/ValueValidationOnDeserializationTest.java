@@ -23,6 +23,7 @@ import static org.jsefa.test.rbf.ValueValidationOnDeserializationTest.Mode.VALID
 import static org.jsefa.test.rbf.ValueValidationOnDeserializationTest.Mode.VALIDATION_OFF;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import junit.framework.TestCase;
 
@@ -30,9 +31,13 @@ import org.jsefa.DeserializationException;
 import org.jsefa.common.annotation.SimpleListItem;
 import org.jsefa.common.config.Configuration;
 import org.jsefa.common.config.ValidationMode;
+import org.jsefa.common.validator.CharSequenceValidator;
 import org.jsefa.common.validator.ValidationError;
+import org.jsefa.common.validator.ValidationErrorCodes;
+import org.jsefa.common.validator.ValidationException;
 import org.jsefa.common.validator.ValidationResult;
 import org.jsefa.common.validator.Validator;
+import org.jsefa.common.validator.ValidatorConfiguration;
 import org.jsefa.csv.annotation.CsvDataType;
 import org.jsefa.csv.annotation.CsvField;
 import org.jsefa.csv.annotation.CsvSubRecord;
@@ -42,6 +47,7 @@ import org.jsefa.flr.annotation.FlrField;
 import org.jsefa.flr.annotation.FlrSubRecord;
 import org.jsefa.flr.annotation.FlrSubRecordList;
 import org.jsefa.rbf.annotation.Record;
+import org.jsefa.rbf.config.RbfConfiguration;
 import org.jsefa.test.common.AbstractTestDTO;
 import org.jsefa.test.common.JSefaTestUtil;
 import org.jsefa.test.common.JSefaTestUtil.FormatType;
@@ -146,6 +152,74 @@ public class ValueValidationOnDeserializationTest extends TestCase {
                 VALIDATION_OFF);
     }
 
+    /**
+     * Tests that the text of a field is validated before conversion if raw text validation is enabled (CSV). Some
+     * of the invalid texts can not be converted at all, so the expected errors prove that the validation happens
+     * before conversion.
+     */
+    public void testRawTextValidationCSV() {
+        checkRawTextValidation(CSV, "abc;42", null);
+        checkRawTextValidation(CSV, "abcd;x", ValidationErrorCodes.WRONG_LENGTH);
+        checkRawTextValidation(CSV, "abc;100", ValidationErrorCodes.OUT_OF_RANGE);
+        checkRawTextValidation(CSV, "abc;-1", ValidationErrorCodes.OUT_OF_RANGE);
+        checkRawTextValidation(CSV, "abc;12345678901234567890", ValidationErrorCodes.OUT_OF_RANGE);
+        checkRawTextValidation(CSV, "abc;-00012345678901234567890", ValidationErrorCodes.OUT_OF_RANGE);
+    }
+
+    /**
+     * Tests that the text of a field is validated before conversion if raw text validation is enabled (FLR).
+     */
+    public void testRawTextValidationFLR() {
+        checkRawTextValidation(FLR, "abc  42                       ", null);
+        checkRawTextValidation(FLR, "abcd x                        ", ValidationErrorCodes.WRONG_LENGTH);
+        checkRawTextValidation(FLR, "abc  100                      ", ValidationErrorCodes.OUT_OF_RANGE);
+        checkRawTextValidation(FLR, "abc  12345678901234567890     ", ValidationErrorCodes.OUT_OF_RANGE);
+    }
+
+    /**
+     * Tests that a field validated on its raw text is not validated again after conversion (CSV).
+     */
+    public void testRawTextValidatedOnceCSV() {
+        checkRawTextValidatedOnce(CSV, "abc;42");
+    }
+
+    /**
+     * Tests that a field validated on its raw text is not validated again after conversion (FLR).
+     */
+    public void testRawTextValidatedOnceFLR() {
+        checkRawTextValidatedOnce(FLR, "abc  42                       ");
+    }
+
+    private void checkRawTextValidatedOnce(FormatType formatType, String inputString) {
+        for (boolean rawTextValidation : new boolean[] {true, false}) {
+            RbfConfiguration<?> config = (RbfConfiguration<?>) JSefaTestUtil.createConfiguration(formatType);
+            config.setRawTextValidation(rawTextValidation);
+            config.getValidatorProvider().registerValidatorType(String.class, CountingValidator.class);
+            int charCountBefore = CountingValidator.CHAR_COUNT.get();
+            int objectCountBefore = CountingValidator.OBJECT_COUNT.get();
+            JSefaTestUtil.deserialize(formatType, config, inputString, RawTextTestDTO.class);
+            int expectedCharCount = rawTextValidation ? 1 : 0;
+            assertEquals(expectedCharCount, CountingValidator.CHAR_COUNT.get() - charCountBefore);
+            assertEquals(1 - expectedCharCount, CountingValidator.OBJECT_COUNT.get() - objectCountBefore);
+        }
+    }
+
+    private void checkRawTextValidation(FormatType formatType, String inputString, String errorCode) {
+        RbfConfiguration<?> config = (RbfConfiguration<?>) JSefaTestUtil.createConfiguration(formatType);
+        config.setRawTextValidation(true);
+        try {
+            RawTextTestDTO dto = JSefaTestUtil.deserialize(formatType, config, inputString, RawTextTestDTO.class);
+            assertNull(errorCode);
+            assertEquals("abc", dto.stringField);
+            assertEquals(Integer.valueOf(42), dto.intField);
+        } catch (DeserializationException e) {
+            assertNotNull(errorCode);
+            assertTrue(e.getCause() instanceof ValidationException);
+            ValidationResult result = ((ValidationException) e.getCause()).getValidationResult();
+            assertEquals(errorCode, result.getErrors().iterator().next().getErrorCode());
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void check(FormatType formatType, String inputString, Class<?> objectType, Mode mode) {
         Configuration config = JSefaTestUtil.createConfiguration(formatType);
@@ -202,6 +276,18 @@ public class ValueValidationOnDeserializationTest extends TestCase {
         String stringField3;
     }
 
+    @CsvDataType()
+    @FlrDataType()
+    static final class RawTextTestDTO extends AbstractTestDTO {
+        @CsvField(pos = 0, constraints = "maxLength=3")
+        @FlrField(pos = 0, length = 5, constraints = "maxLength=3")
+        String stringField;
+
+        @CsvField(pos = 1, constraints = {"min=0", "max=99"})
+        @FlrField(pos = 1, length = 25, constraints = {"min=0", "max=99"})
+        Integer intField;
+    }
+
     @CsvDataType(defaultPrefix = "MR")
     @FlrDataType(defaultPrefix = "MR")
     static final class SubRecordTestDTO extends AbstractTestDTO {
@@ -226,6 +312,28 @@ public class ValueValidationOnDeserializationTest extends TestCase {
         List<ComplexElementDTO> listField;
     }
 
+    private static final class CountingValidator implements CharSequenceValidator {
+
+        static final AtomicInteger CHAR_COUNT = new AtomicInteger();
+
+        static final AtomicInteger OBJECT_COUNT = new AtomicInteger();
+
+        static CountingValidator create(ValidatorConfiguration configuration) {
+            return new CountingValidator();
+        }
+
+        public ValidationResult validate(Object value) {
+            OBJECT_COUNT.incrementAndGet();
+            return ValidationResult.VALID;
+        }
+
+        public ValidationResult validateChars(CharSequence chars, int start, int end) {
+            CHAR_COUNT.incrementAndGet();
+            return ValidationResult.VALID;
+        }
+
+    }
+
     private static final class ComplexElementDTOValidator implements Validator {
 
         static ComplexElementDTOValidator create() {
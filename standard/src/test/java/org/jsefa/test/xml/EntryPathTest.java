@@ -0,0 +1,128 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.xml;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.jsefa.Deserializer;
+import org.jsefa.IOFactoryException;
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+import org.jsefa.xml.config.XmlConfiguration;
+
+/**
+ * Tests to test the selection of entry elements by an entry path.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class EntryPathTest extends TestCase {
+
+    private static final String INPUT = "<Batch>" + "<Payment><id>outside</id></Payment>"
+            + "<Header><Payment><id>header</id></Payment></Header>"
+            + "<Payments><Payment><id>a</id></Payment><Other><Payment><id>nested</id></Payment></Other>"
+            + "<Payment><id>b</id></Payment></Payments>"
+            + "<Payments><Payment><id>c</id></Payment></Payments>" + "</Batch>";
+
+    /**
+     * Tests that all entry elements are found if no entry path is given.
+     */
+    public void testNoPath() {
+        assertEquals(6, deserialize(null).size());
+    }
+
+    /**
+     * Tests that only the entry elements at the end of the path are found.
+     */
+    public void testPath() {
+        List<String> ids = deserialize("/Batch/Payments/Payment");
+        assertEquals(3, ids.size());
+        assertEquals("a", ids.get(0));
+        assertEquals("b", ids.get(1));
+        assertEquals("c", ids.get(2));
+    }
+
+    /**
+     * Tests the wildcard.
+     */
+    public void testWildcard() {
+        List<String> ids = deserialize("/*/*/Payment");
+        assertEquals(4, ids.size());
+        assertEquals("header", ids.get(0));
+        assertEquals(1, deserialize("/Batch/Payment").size());
+    }
+
+    /**
+     * Tests a path with namespace uris.
+     */
+    public void testNamespaces() {
+        String input = "<b:Batch xmlns:b=\"http://b\"><b:Payments><Payment><id>a</id></Payment>"
+                + "<Payment><id>b</id></Payment></b:Payments></b:Batch>";
+        assertEquals(2, deserialize("/{http://b}Batch/{http://b}Payments/Payment", input).size());
+        assertEquals(0, deserialize("/{http://b}Batch/Payments/Payment", input).size());
+    }
+
+    /**
+     * Tests that invalid paths are rejected.
+     */
+    public void testInvalidPath() {
+        String[] invalidPaths = {"", "/", "Batch/Payment", "/Batch//Payment", "/Batch/", "/{http://b"};
+        for (String invalidPath : invalidPaths) {
+            XmlConfiguration config = new XmlConfiguration();
+            config.setEntryPath(invalidPath);
+            try {
+                JSefaTestUtil.createIOFactory(XML, config, PaymentDTO.class);
+                fail(invalidPath);
+            } catch (IOFactoryException e) {
+                continue;
+            }
+        }
+    }
+
+    private List<String> deserialize(String entryPath) {
+        return deserialize(entryPath, INPUT);
+    }
+
+    private List<String> deserialize(String entryPath, String input) {
+        XmlConfiguration config = new XmlConfiguration();
+        config.setEntryPath(entryPath);
+        Deserializer deserializer = JSefaTestUtil.createIOFactory(XML, config, PaymentDTO.class)
+                .createDeserializer();
+        deserializer.open(new StringReader(input));
+        List<String> ids = new ArrayList<String>();
+        while (deserializer.hasNext()) {
+            PaymentDTO dto = deserializer.next();
+            ids.add(dto.id);
+        }
+        deserializer.close(true);
+        return ids;
+    }
+
+    @XmlDataType(defaultElementName = "Payment")
+    static final class PaymentDTO extends AbstractTestDTO {
+        @XmlElement()
+        String id;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.xml.lowlevel;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import junit.framework.TestCase;
+
+import org.jsefa.common.lowlevel.LowLevelSerializationException;
+import org.jsefa.xml.lowlevel.DirectXmlLowLevelIOFactory;
+import org.jsefa.xml.lowlevel.DirectXmlLowLevelSerializer;
+import org.jsefa.xml.lowlevel.TextMode;
+import org.jsefa.xml.lowlevel.XmlLowLevelDeserializer;
+import org.jsefa.xml.lowlevel.XmlLowLevelSerializer;
+import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+import org.jsefa.xml.lowlevel.model.ElementStart;
+import org.jsefa.xml.lowlevel.model.TextContent;
+import org.jsefa.xml.lowlevel.model.XmlItemType;
+import org.jsefa.xml.namespace.QName;
+
+/**
+ * Tests to test the {@link DirectXmlLowLevelSerializer}.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class DirectXmlLowLevelSerializerTest extends TestCase {
+
+    /**
+     * Tests the output including line breaks and indentation.
+     */
+    public void testOutput() {
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<!DOCTYPE a:root SYSTEM \"http://a/root.dtd\">\n"
+                + "<a:root xmlns:a=\"http://a\" id=\"1 &lt; 2 &amp; &quot;3&quot;\">\n"
+                + "  <a:child xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"a:type\""
+                + " xmlns:ns1=\"http://b\" ns1:attribute=\"b\">a &lt; b &amp; c &gt; d</a:child>\n"
+                + "  <child>\n"
+                + "    <empty xmlns=\"http://c\"></empty>\n"
+                + "    <cdata><![CDATA[x]]]]><![CDATA[>y]]></cdata>\n"
+                + "  </child>\n"
+                + "  <a:child xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"a:type\">"
+                + "</a:child>\n"
+                + "</a:root>\n", write(createConfiguration("\n", "  ")));
+    }
+
+    /**
+     * Tests the output without line breaks and indentation.
+     */
+    public void testOutputWithoutLineBreaks() {
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<!DOCTYPE a:root SYSTEM \"http://a/root.dtd\">"
+                + "<a:root xmlns:a=\"http://a\" id=\"1 &lt; 2 &amp; &quot;3&quot;\">"
+                + "<a:child xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"a:type\""
+                + " xmlns:ns1=\"http://b\" ns1:attribute=\"b\">a &lt; b &amp; c &gt; d</a:child>"
+                + "<child><empty xmlns=\"http://c\"></empty><cdata><![CDATA[x]]]]><![CDATA[>y]]></cdata></child>"
+                + "<a:child xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"a:type\">"
+                + "</a:child>"
+                + "</a:root>", write(createConfiguration("", "")));
+    }
+
+    /**
+     * Tests that escaped text and attribute values are read as written.
+     */
+    public void testEscaping() {
+        String value = "a<b>&\"c\"\td\ne\r\nf";
+        StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            longText.append("x&");
+        }
+        XmlLowLevelConfiguration config = new XmlLowLevelConfiguration();
+        DirectXmlLowLevelSerializer serializer = new DirectXmlLowLevelSerializer(config);
+        StringWriter writer = new StringWriter();
+        serializer.open(writer);
+        serializer.writeStartElement(QName.create("root"));
+        serializer.writeAttribute(QName.create("attribute"), value);
+        serializer.writeStartElement(QName.create("text"));
+        serializer.writeText(value, TextMode.IMPLICIT);
+        serializer.writeEndElement();
+        serializer.writeStartElement(QName.create("long"));
+        serializer.writeText(longText.toString(), TextMode.IMPLICIT);
+        serializer.writeEndElement();
+        serializer.writeEndElement();
+        serializer.close(true);
+
+        XmlLowLevelDeserializer deserializer = DirectXmlLowLevelIOFactory.createFactory(config).createDeserializer();
+        deserializer.open(new StringReader(writer.toString()));
+        deserializer.moveToNext();
+        assertEquals(value, ((ElementStart) deserializer.current()).getAttributes()[0].getValue());
+        assertEquals(value.replace("\r\n", "\n"), readText(deserializer, "text"));
+        assertEquals(longText.toString(), readText(deserializer, "long"));
+        deserializer.close(true);
+    }
+
+    /**
+     * Tests that characters not allowed in XML documents are rejected.
+     */
+    public void testInvalidCharacter() {
+        DirectXmlLowLevelSerializer serializer = new DirectXmlLowLevelSerializer(new XmlLowLevelConfiguration());
+        serializer.open(new StringWriter());
+        serializer.writeStartElement(QName.create("root"));
+        try {
+            serializer.writeText("a\u0001b", TextMode.IMPLICIT);
+            fail();
+        } catch (LowLevelSerializationException e) {
+            // expected
+        }
+    }
+
+    private String readText(XmlLowLevelDeserializer deserializer, String elementName) {
+        do {
+            deserializer.moveToNext();
+        } while (deserializer.currentType() != XmlItemType.ELEMENT_START
+                || !((ElementStart) deserializer.current()).getName().getLocalName().equals(elementName));
+        StringBuilder text = new StringBuilder();
+        deserializer.moveToNext();
+        while (deserializer.currentType() == XmlItemType.TEXT_CONTENT) {
+            text.append(((TextContent) deserializer.current()).getText());
+            deserializer.moveToNext();
+        }
+        return text.toString();
+    }
+
+    private XmlLowLevelConfiguration createConfiguration(String lineBreak, String lineIndentation) {
+        XmlLowLevelConfiguration config = new XmlLowLevelConfiguration();
+        config.getNamespaceManager().registerPreferredPrefix("a", "http://a");
+        config.setLineBreak(lineBreak);
+        config.setLineIndentation(lineIndentation);
+        return config;
+    }
+
+    private String write(XmlLowLevelConfiguration config) {
+        XmlLowLevelSerializer serializer = new DirectXmlLowLevelSerializer(config);
+        QName root = QName.create("http://a", "root");
+        StringWriter writer = new StringWriter();
+        serializer.open(writer);
+        serializer.writeXmlDeclaration("1.0", "UTF-8");
+        serializer.writeDocTypeDeclaration(root, null, "http://a/root.dtd");
+        serializer.writeStartElement(root);
+        serializer.writeAttribute(QName.create("id"), "1 < 2 & \"3\"");
+        serializer.writeStartElement(QName.create("http://a", "child"), QName.create("http://a", "type"));
+        serializer.writeAttribute(QName.create("http://b", "attribute"), "b");
+        serializer.writeText("a < b & c > d", TextMode.IMPLICIT);
+        serializer.writeEndElement();
+        serializer.writeStartElement(QName.create("child"));
+        serializer.writeStartElement(QName.create("http://c", "empty"));
+        serializer.writeEndElement();
+        serializer.writeStartElement(QName.create("cdata"));
+        serializer.writeText("x]]>y", TextMode.CDATA);
+        serializer.writeEndElement();
+        serializer.writeText("", TextMode.IMPLICIT);
+        serializer.writeEndElement();
+        serializer.writeStartElement(QName.create("http://a", "child"), QName.create("http://a", "type"));
+        serializer.writeEndElement();
+        serializer.writeEndElement();
+        serializer.close(true);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.xml.lowlevel;
+
+import java.io.StringWriter;
+
+import junit.framework.TestCase;
+
+import org.jsefa.xml.lowlevel.StaxBasedXmlLowLevelSerializer;
+import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+import org.jsefa.xml.namespace.NamespaceManager;
+import org.jsefa.xml.namespace.NamespaceScopeStack;
+import org.jsefa.xml.namespace.QName;
+
+/**
+ * Tests to test the {@link NamespaceScopeStack}.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class NamespaceScopeStackTest extends TestCase {
+
+    /**
+     * Tests that bindings are removed when their scope is popped.
+     */
+    public void testPushAndPop() {
+        NamespaceScopeStack stack = NamespaceScopeStack.create(NamespaceManager.create());
+        stack.pushScope();
+        stack.registerPrefix("a", "http://a");
+        stack.pushScope();
+        stack.registerPrefix("b", "http://b");
+        assertEquals("a", stack.getPrefix("http://a", true));
+        assertEquals("b", stack.getPrefix("http://b", true));
+        stack.popScope();
+        assertNull(stack.getPrefix("http://b", true));
+        assertNull(stack.getUri("b"));
+        assertEquals("http://a", stack.getUri("a"));
+        stack.popScope();
+        assertNull(stack.getPrefix("http://a", true));
+    }
+
+    /**
+     * Tests that a prefix rebound within an inner scope is not returned for the uri of an outer scope.
+     */
+    public void testShadowedPrefix() {
+        NamespaceScopeStack stack = NamespaceScopeStack.create(NamespaceManager.create());
+        stack.pushScope();
+        stack.registerPrefix("", "http://a");
+        stack.registerPrefix("a", "http://a");
+        assertEquals("", stack.getPrefix("http://a", true));
+        assertEquals("a", stack.getPrefix("http://a", false));
+        stack.pushScope();
+        stack.registerPrefix("", "http://b");
+        assertNull(stack.getPrefix("http://a", true));
+        assertEquals("a", stack.getPrefix("http://a", false));
+        stack.registerPrefix("a", "http://c");
+        assertNull(stack.getPrefix("http://a", false));
+        stack.popScope();
+        assertEquals("", stack.getPrefix("http://a", true));
+    }
+
+    /**
+     * Tests that the root namespace manager is used for bindings and preferred prefixes.
+     */
+    public void testRootManager() {
+        NamespaceManager rootManager = NamespaceManager.create();
+        rootManager.registerPreferredPrefix("p", "http://p");
+        NamespaceScopeStack stack = NamespaceScopeStack.create(rootManager);
+        stack.pushScope();
+        assertEquals("xml", stack.getPrefix("http://www.w3.org/XML/1998/namespace", false));
+        assertEquals("p", stack.createPrefix("http://p", true));
+        assertEquals("", stack.createPrefix("http://q", true));
+        assertEquals("ns1", stack.createPrefix("http://q", false));
+        stack.registerPrefix("p", "http://other");
+        assertEquals("ns1", stack.createPrefix("http://p", false));
+    }
+
+    /**
+     * Tests the qualified names.
+     */
+    public void testQualifiedName() {
+        NamespaceScopeStack stack = NamespaceScopeStack.create(NamespaceManager.create());
+        QName name = QName.create("http://a", "type");
+        assertEquals("type", stack.getQualifiedName("", name));
+        String qualifiedName = stack.getQualifiedName("a", name);
+        assertEquals("a:type", qualifiedName);
+        assertSame(qualifiedName, stack.getQualifiedName("a", name));
+        assertEquals("b:type", stack.getQualifiedName("b", name));
+    }
+
+    /**
+     * Tests that namespace declarations are written only where needed.
+     */
+    public void testSerializer() {
+        XmlLowLevelConfiguration config = new XmlLowLevelConfiguration();
+        config.setLineBreak("");
+        config.setLineIndentation("");
+        config.getNamespaceManager().registerPreferredPrefix("a", "http://a");
+        StaxBasedXmlLowLevelSerializer serializer = new StaxBasedXmlLowLevelSerializer(config);
+        StringWriter writer = new StringWriter();
+        serializer.open(writer);
+        serializer.writeStartElement(QName.create("http://a", "root"));
+        serializer.writeStartElement(QName.create("http://a", "child"), QName.create("http://a", "type"));
+        serializer.writeEndElement();
+        serializer.writeStartElement(QName.create("http://b", "child"));
+        serializer.writeEndElement();
+        serializer.writeStartElement(QName.create("http://b", "child"));
+        serializer.writeEndElement();
+        serializer.writeEndElement();
+        serializer.close(true);
+        String xml = writer.toString();
+        assertTrue(xml, xml.startsWith("<a:root xmlns:a=\"http://a\"><a:child"));
+        assertTrue(xml, xml.contains(" xsi:type=\"a:type\""));
+        assertTrue(xml, xml.contains("<child xmlns=\"http://b\""));
+        assertEquals(xml, 2, xml.split("xmlns=\"http://b\"").length - 1);
+        assertEquals(xml, 1, xml.split("xmlns:a=").length - 1);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.xml.lowlevel;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import javax.xml.stream.XMLInputFactory;
+
+import junit.framework.TestCase;
+
+import org.jsefa.xml.lowlevel.StaxBasedXmlLowLevelDeserializer;
+import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+import org.jsefa.xml.lowlevel.model.ElementStart;
+import org.jsefa.xml.lowlevel.model.XmlItemType;
+import org.jsefa.xml.namespace.QName;
+import org.jsefa.xml.namespace.QNameTable;
+
+/**
+ * Tests to test the resolution of names using a {@link QNameTable}.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class QNameTableTest extends TestCase {
+
+    /**
+     * Tests that contained names are returned as is and others are created.
+     */
+    public void testGet() {
+        QName a = QName.create("a");
+        QName b = QName.create("http://b", "b");
+        QNameTable table = QNameTable.create(Arrays.asList(a, b, QName.create("a")));
+        assertSame(a, table.get("", "a"));
+        assertSame(b, table.get("http://b", "b"));
+        assertEquals(QName.create("b"), table.get("", "b"));
+        assertEquals(QName.create("http://c", "c"), QNameTable.EMPTY.get("http://c", "c"));
+    }
+
+    /**
+     * Tests that the low level deserializer resolves element and attribute names using the table.
+     */
+    public void testDeserializer() {
+        QName element = QName.create("http://x", "element");
+        QName attribute = QName.create("attribute");
+        QNameTable table = QNameTable.create(Arrays.asList(element, attribute));
+        StaxBasedXmlLowLevelDeserializer deserializer = new StaxBasedXmlLowLevelDeserializer(
+                new XmlLowLevelConfiguration(), XMLInputFactory.newInstance(), table);
+        deserializer.open(new StringReader("<x:element xmlns:x=\"http://x\" attribute=\"1\"><other/></x:element>"));
+        deserializer.moveToNext();
+        assertEquals(XmlItemType.ELEMENT_START, deserializer.currentType());
+        ElementStart elementStart = (ElementStart) deserializer.current();
+        assertSame(element, elementStart.getName());
+        assertSame(attribute, elementStart.getAttributes()[0].getName());
+        deserializer.moveToNext();
+        assertEquals(QName.create("other"), ((ElementStart) deserializer.current()).getName());
+        assertEquals(0, ((ElementStart) deserializer.current()).getAttributes().length);
+        deserializer.close(true);
+    }
+}
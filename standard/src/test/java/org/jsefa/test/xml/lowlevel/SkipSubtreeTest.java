@@ -0,0 +1,91 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.xml.lowlevel;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.io.StringReader;
+
+import junit.framework.TestCase;
+
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+import org.jsefa.xml.lowlevel.StaxBasedXmlLowLevelDeserializer;
+import org.jsefa.xml.lowlevel.XmlLowLevelDeserializer;
+import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+import org.jsefa.xml.lowlevel.model.ElementStart;
+import org.jsefa.xml.lowlevel.model.XmlItemType;
+
+/**
+ * Tests to test the skipping of subtrees ({@link XmlLowLevelDeserializer#skipSubtree()}).
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class SkipSubtreeTest extends TestCase {
+
+    /**
+     * Tests that the subtree is skipped and the depth is kept consistent.
+     */
+    public void testSkipSubtree() {
+        String testXml = "<a><b><c>text</c><b>nested</b><d/></b><e/></a>";
+        XmlLowLevelDeserializer deserializer = new StaxBasedXmlLowLevelDeserializer(new XmlLowLevelConfiguration());
+        deserializer.open(new StringReader(testXml));
+        assertEquals("a", nextElementStart(deserializer).getName().getLocalName());
+        assertEquals("b", nextElementStart(deserializer).getName().getLocalName());
+        deserializer.skipSubtree();
+        assertEquals(XmlItemType.ELEMENT_END, deserializer.currentType());
+        assertEquals(1, deserializer.currentDepth());
+        ElementStart elementStart = nextElementStart(deserializer);
+        assertEquals("e", elementStart.getName().getLocalName());
+        assertEquals(1, elementStart.getDepth());
+        deserializer.moveToNext();
+        assertEquals(XmlItemType.ELEMENT_END, deserializer.currentType());
+        deserializer.skipSubtree();
+        assertEquals(XmlItemType.ELEMENT_END, deserializer.currentType());
+        deserializer.close(true);
+    }
+
+    /**
+     * Tests that unmapped child elements with deep subtrees are skipped during deserialization.
+     */
+    public void testUnmappedChildren() {
+        String input = "<Person><unmapped><name>wrong</name><x><name>wrong</name></x></unmapped>"
+                + "<name>right</name><other a=\"1\"><name>wrong</name></other></Person>";
+        PersonDTO dto = JSefaTestUtil.deserialize(XML, input, PersonDTO.class);
+        assertEquals("right", dto.name);
+    }
+
+    private ElementStart nextElementStart(XmlLowLevelDeserializer deserializer) {
+        while (deserializer.hasNext()) {
+            deserializer.moveToNext();
+            if (deserializer.currentType() == XmlItemType.ELEMENT_START) {
+                return (ElementStart) deserializer.current();
+            }
+        }
+        fail();
+        return null;
+    }
+
+    @XmlDataType(defaultElementName = "Person")
+    static final class PersonDTO extends AbstractTestDTO {
+        @XmlElement()
+        String name;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2007 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsefa.test.xml.lowlevel;
+
+import static org.jsefa.test.common.JSefaTestUtil.FormatType.XML;
+
+import java.io.OutputStream;
+import java.io.Writer;
+
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Result;
+
+import junit.framework.TestCase;
+
+import org.jsefa.test.common.AbstractTestDTO;
+import org.jsefa.test.common.JSefaTestUtil;
+import org.jsefa.xml.annotation.XmlDataType;
+import org.jsefa.xml.annotation.XmlElement;
+import org.jsefa.xml.config.XmlConfiguration;
+import org.jsefa.xml.lowlevel.StaxBasedXmlLowLevelIOFactory;
+import org.jsefa.xml.lowlevel.config.XmlLowLevelConfiguration;
+
+/**
+ * Tests to test that the StAX factories given by the configuration are used and shared.
+ * 
+ * @author Norman Lahme-Huetig
+ * 
+ */
+public class StaxFactoryTest extends TestCase {
+
+    /**
+     * Tests that the given factories are used for every serializer and deserializer.
+     */
+    public void testGivenFactories() {
+        CountingOutputFactory outputFactory = new CountingOutputFactory();
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        XmlConfiguration config = new XmlConfiguration();
+        config.getLowLevelConfiguration().setOutputFactory(outputFactory);
+        config.getLowLevelConfiguration().setInputFactory(inputFactory);
+
+        TestDTO dto = new TestDTO();
+        dto.text = "a & b";
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(XML, config, dto);
+        JSefaTestUtil.assertRepeatedRoundTripSucceeds(XML, config, dto);
+        assertEquals(2, outputFactory.count);
+
+        XmlLowLevelConfiguration copy = config.createCopy().getLowLevelConfiguration();
+        assertSame(outputFactory, copy.getOutputFactory());
+        assertSame(inputFactory, copy.getInputFactory());
+    }
+
+    /**
+     * Tests that the default factories are used if none are given.
+     */
+    public void testDefaultFactories() {
+        XmlLowLevelConfiguration config = new XmlLowLevelConfiguration();
+        assertNull(config.getInputFactory());
+        assertNull(config.getOutputFactory());
+        StaxBasedXmlLowLevelIOFactory factory = StaxBasedXmlLowLevelIOFactory.createFactory(config);
+        assertNotNull(factory.createSerializer());
+        assertNotNull(factory.createDeserializer());
+    }
+
+    @XmlDataType()
+    static final class TestDTO extends AbstractTestDTO {
+        @XmlElement()
+        String text;
+    }
+
+    static final class CountingOutputFactory extends XMLOutputFactory {
+        private final XMLOutputFactory delegate = XMLOutputFactory.newInstance();
+
+        private int count;
+
+        @Override
+        public XMLStreamWriter createXMLStreamWriter(Writer stream) throws XMLStreamException {
+            this.count++;
+            return this.delegate.createXMLStreamWriter(stream);
+        }
+
+        @Override
+        public XMLStreamWriter createXMLStreamWriter(OutputStream stream) throws XMLStreamException {
+            this.count++;
+            return this.delegate.createXMLStreamWriter(stream);
+        }
+
+        @Override
+        public XMLStreamWriter createXMLStreamWriter(OutputStream stream, String encoding)
+                throws XMLStreamException {
+            this.count++;
+            return this.delegate.createXMLStreamWriter(stream, encoding);
+        }
+
+        @Override
+        public XMLStreamWriter createXMLStreamWriter(Result result) throws XMLStreamException {
+            this.count++;
+            return this.delegate.createXMLStreamWriter(result);
+        }
+
+        @Override
+        public XMLEventWriter createXMLEventWriter(Result result) throws XMLStreamException {
+            return this.delegate.createXMLEventWriter(result);
+        }
+
+        @Override
+        public XMLEventWriter createXMLEventWriter(OutputStream stream) throws XMLStreamException {
+            return this.delegate.createXMLEventWriter(stream);
+        }
+
+        @Override
+        public XMLEventWriter createXMLEventWriter(OutputStream stream, String encoding)
+                throws XMLStreamException {
+            return this.delegate.createXMLEventWriter(stream, encoding);
+        }
+
+        @Override
+        public XMLEventWriter createXMLEventWriter(Writer stream) throws XMLStreamException {
+            return this.delegate.createXMLEventWriter(stream);
+        }
+
+        @Override
+        public void setProperty(String name, Object value) {
+            this.delegate.setProperty(name, value);
+        }
+
+        @Override
+        public Object getProperty(String name) {
+            return this.delegate.getProperty(name);
+        }
+
+        @Override
+        public boolean isPropertySupported(String name) {
+            return this.delegate.isPropertySupported(name);
+        }
+    }
+}